@@ -1,25 +1,38 @@
 package com.druvu.acc.api;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Lot;
 import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.ScheduledTransaction;
 import com.druvu.acc.api.entity.Split;
 import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.entity.Vendor;
 import com.druvu.acc.api.entity.CommodityId;
 
 /**
  * Interface representing an abstraction of storing account entities to underlying backend storage.
  * <p>
  * This is the main entry point for working with accounting data. Implementations may use
- * different backends (XML files, SQL databases, etc.).
+ * different backends (XML files, SQL databases, etc.). Stores holding external resources, such as a database
+ * connection, release them on {@link #close()}.
  *
  * @author Deniss Larka
  *         <br/>on 11 Jan 2026
  */
-public interface AccStore {
+public interface AccStore extends AutoCloseable {
 
 	// ========== Book Metadata ==========
 
@@ -28,6 +41,35 @@ public interface AccStore {
 	 */
 	String id();
 
+	/**
+	 * Estimates the heap retained by this store.
+	 * <p>
+	 * Implementations compute the estimate cheaply from entity counts, it does not walk the object graph.
+	 *
+	 * @return the estimated footprint
+	 */
+	StoreFootprint footprint();
+
+	/**
+	 * Revision of the store content, changing whenever the content changes.
+	 * <p>
+	 * Data derived from the store can be cached as long as the revision stays the same. Writable stores advance
+	 * it by one per write. Stores that are never modified after loading keep the default of 0.
+	 *
+	 * @return the content revision
+	 */
+	default long revision() {
+		return 0;
+	}
+
+	/**
+	 * Releases the resources held by the store. The store must not be used afterwards.
+	 * <p>
+	 * The default does nothing, stores loaded fully into memory hold no resources.
+	 */
+	@Override
+	default void close() {
+	}
 
 	// ========== Commodities ==========
 
@@ -36,6 +78,17 @@ public interface AccStore {
 	 */
 	List<CommodityId> commodities();
 
+	/**
+	 * The smallest unit of a commodity as the denominator of its amounts, e.g. 100 for a currency traded in
+	 * cents. The default does not know the fractions, writers then fall back to the usual unit of the commodity.
+	 *
+	 * @param commodity the commodity
+	 * @return the fraction if the store keeps it
+	 */
+	default Optional<Integer> commodityFraction(CommodityId commodity) {
+		return Optional.empty();
+	}
+
 	// ========== Prices ==========
 
 	/**
@@ -71,6 +124,40 @@ public interface AccStore {
 	 */
 	Optional<Account> accountByName(String qualifiedName);
 
+	/**
+	 * The smallest unit of amounts in an account, the fraction of its commodity unless the account uses a
+	 * non-standard unit. The default does not know the units.
+	 *
+	 * @param accountId the account ID
+	 * @return the fraction if the store keeps it
+	 */
+	default Optional<Integer> accountFraction(String accountId) {
+		return Optional.empty();
+	}
+
+	/**
+	 * Gets the qualified name of an account, the inverse of {@link #accountByName(String)}.
+	 * <p>
+	 * The default builds {@link AccountPaths} on each call. Stores override it to keep the paths.
+	 *
+	 * @param accountId the account ID
+	 * @return the qualified name (e.g., "Assets:Bank:Checking"), empty if the account is unknown
+	 */
+	default Optional<String> qualifiedName(String accountId) {
+		return AccountPaths.of(accounts()).qualifiedName(accountId);
+	}
+
+	/**
+	 * Numbers the accounts in preorder, so that subtrees are ranges of numbers.
+	 * <p>
+	 * The default builds the tree on each call. Stores override it to keep the tree.
+	 *
+	 * @return the account tree
+	 */
+	default AccountTree accountTree() {
+		return AccountTree.of(accounts());
+	}
+
 	/**
 	 * Fetches the IDs of child accounts for a given account.
 	 *
@@ -94,6 +181,17 @@ public interface AccStore {
 	 */
 	Optional<Transaction> transactionById(String id);
 
+	/**
+	 * The time a transaction was entered, as opposed to the date it is posted on. The default does not know
+	 * the entry times.
+	 *
+	 * @param transactionId the transaction ID
+	 * @return the entry time if the store keeps it
+	 */
+	default Optional<LocalDateTime> dateEntered(String transactionId) {
+		return Optional.empty();
+	}
+
 	/**
 	 * Gets transactions in a date range.
 	 *
@@ -103,6 +201,20 @@ public interface AccStore {
 	 */
 	List<Transaction> transactions(LocalDate from, LocalDate to);
 
+	/**
+	 * Streams transactions in a date range in date order.
+	 * <p>
+	 * Database-backed stores fetch the transactions page by page as the stream is consumed, so large ranges
+	 * are never held in memory at once. The default streams {@link #transactions(LocalDate, LocalDate)}.
+	 *
+	 * @param from start date (inclusive)
+	 * @param to   end date (inclusive)
+	 * @return transactions in the range
+	 */
+	default Stream<Transaction> streamTransactions(LocalDate from, LocalDate to) {
+		return transactions(from, to).stream();
+	}
+
 	/**
 	 * Gets all transactions affecting a specific account.
 	 *
@@ -111,6 +223,19 @@ public interface AccStore {
 	 */
 	List<Transaction> transactionsForAccount(String accountId);
 
+	/**
+	 * Adds new transactions as one batch: either all of them are added or, if any is invalid, none.
+	 * <p>
+	 * Each transaction must have a new ID, balanced split values and splits in existing accounts. The
+	 * revision changes once per batch. The default rejects the batch, stores loaded read-only keep it.
+	 *
+	 * @param transactions the transactions to add
+	 * @throws UnsupportedOperationException if the store is read-only
+	 */
+	default void addTransactions(List<Transaction> transactions) {
+		throw new UnsupportedOperationException("Store is read-only: " + id());
+	}
+
 	// ========== Splits ==========
 
 	/**
@@ -120,4 +245,143 @@ public interface AccStore {
 	 * @return splits affecting the account
 	 */
 	List<Split> splitsForAccount(String accountId);
+
+	/**
+	 * Gets all splits assigned to a lot.
+	 *
+	 * @param lotId the lot ID
+	 * @return splits of the lot sorted by date
+	 */
+	List<Split> splitsForLot(String lotId);
+
+	/**
+	 * Gets the splits of an account and all its descendants posted in a date range.
+	 * <p>
+	 * The default queries the accounts of the {@link #accountTree()} subtree with {@link #query()}. Stores
+	 * override it to test each split's account against the preorder interval of the subtree instead.
+	 *
+	 * @param accountId the root of the subtree
+	 * @param from      earliest date posted (inclusive), null for no lower bound
+	 * @param to        latest date posted (inclusive), null for no upper bound
+	 * @return splits of the subtree in date order, empty if the account is unknown
+	 */
+	default List<Split> splitsForSubtree(String accountId, LocalDate from, LocalDate to) {
+		List<String> subtree = accountTree().subtree(accountId);
+		if (subtree.isEmpty()) {
+			return List.of();
+		}
+		return query().accounts(subtree).between(from, to).list();
+	}
+
+	/**
+	 * Sets the reconcile state and date of splits as one batch: either all of them are updated or, if any ID is
+	 * unknown, none.
+	 * <p>
+	 * The revision changes once per batch. The default rejects the batch, stores loaded read-only keep it.
+	 *
+	 * @param splitIds      the splits to update
+	 * @param state         the new reconcile state
+	 * @param reconcileDate the new reconcile date, null to remove it
+	 * @throws UnsupportedOperationException if the store is read-only
+	 */
+	default void reconcileSplits(Collection<String> splitIds, ReconcileState state, LocalDate reconcileDate) {
+		throw new UnsupportedOperationException("Store is read-only: " + id());
+	}
+
+	/**
+	 * Starts a split query combining account, date, reconcile state and amount predicates.
+	 *
+	 * @return a new query, see {@link SplitQuery}
+	 */
+	default SplitQuery query() {
+		return new SplitQuery(this);
+	}
+
+	/**
+	 * Plans a split filter against the indexes of the store.
+	 * <p>
+	 * The default plan drives from {@link #splitsForAccount(String)} or the transactions and applies all
+	 * predicates in memory. Stores with their own indexes override it to start from the most selective one.
+	 *
+	 * @param filter the predicates
+	 * @return the plan, executed lazily
+	 */
+	default QueryPlan plan(SplitFilter filter) {
+		return QueryPlan.scan(this, filter);
+	}
+
+	// ========== Lots ==========
+
+	/**
+	 * @return all lots of all accounts
+	 */
+	List<Lot> lots();
+
+	/**
+	 * Gets the lots of an account.
+	 *
+	 * @param accountId the account ID
+	 * @return lots held by the account (empty if none)
+	 */
+	List<Lot> lotsForAccount(String accountId);
+
+	// ========== Scheduled Transactions ==========
+
+	/**
+	 * @return all scheduled transactions, including disabled ones
+	 */
+	List<ScheduledTransaction> scheduledTransactions();
+
+	// ========== Budgets ==========
+
+	/**
+	 * @return all budgets
+	 */
+	List<Budget> budgets();
+
+	// ========== Business Objects ==========
+
+	/**
+	 * @return all customers
+	 */
+	List<Customer> customers();
+
+	/**
+	 * @return all vendors
+	 */
+	List<Vendor> vendors();
+
+	/**
+	 * @return all jobs
+	 */
+	List<Job> jobs();
+
+	/**
+	 * @return all invoices, bills and vouchers, including drafts
+	 */
+	List<Invoice> invoices();
+
+	/**
+	 * Gets the invoices of a business party.
+	 *
+	 * @param ownerId the customer, vendor, employee or job ID
+	 * @return invoices billed to the owner directly or, for customers and vendors, through one of their jobs
+	 */
+	List<Invoice> invoicesForOwner(String ownerId);
+
+	/**
+	 * Finds the invoice posted by a transaction.
+	 *
+	 * @param transactionId the posting transaction ID
+	 * @return the invoice if the transaction posted one
+	 */
+	Optional<Invoice> invoiceForTransaction(String transactionId);
+
+	/**
+	 * Gets the lines of an invoice.
+	 *
+	 * @param invoiceId the invoice ID
+	 * @return lines of the invoice (empty if none)
+	 */
+	List<InvoiceEntry> entriesForInvoice(String invoiceId);
 }
@@ -0,0 +1,17 @@
+package com.druvu.acc.api;
+
+/**
+ * A way for a store to enumerate candidate splits of a {@link SplitFilter}, with its estimated cost.
+ *
+ * @param name          the index or scan used, e.g. {@code "account index"}
+ * @param estimatedRows number of splits the path yields before the remaining predicates are applied
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record AccessPath(String name, long estimatedRows) {
+
+	@Override
+	public String toString() {
+		return name + " (~" + estimatedRows + " splits)";
+	}
+}
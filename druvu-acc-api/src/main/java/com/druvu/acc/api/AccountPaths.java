@@ -0,0 +1,165 @@
+package com.druvu.acc.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.druvu.acc.api.entity.Account;
+
+import lombok.NonNull;
+
+/**
+ * Qualified account names such as {@code "Root Account:Assets:Bank:Checking"}, resolved in both directions.
+ * <p>
+ * Account names form a trie from the root accounts down, each node keeping the names of its children sorted.
+ * A qualified name is resolved segment by segment with a binary search that compares the segment in place, so
+ * resolving costs O(depth) and allocates nothing. Qualified names of all accounts are built once, so looking
+ * one up is a hash lookup. Accounts not reachable from a root account have no qualified name.
+ * <p>
+ * Instances are immutable and thread-safe; stores build them once and keep them.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class AccountPaths {
+
+	public static final char SEPARATOR = ':';
+
+	private final Node root;
+	private final Map<String, Optional<String>> names;
+
+	private AccountPaths(Node root, Map<String, Optional<String>> names) {
+		this.root = root;
+		this.names = names;
+	}
+
+	/**
+	 * @param accounts all accounts of a book
+	 * @return the paths of the accounts
+	 */
+	public static AccountPaths of(@NonNull List<Account> accounts) {
+		Map<String, List<Account>> children = new HashMap<>();
+		List<Account> roots = new ArrayList<>();
+		for (Account account : accounts) {
+			account.parentId().ifPresentOrElse(
+					parentId -> children.computeIfAbsent(parentId, _ -> new ArrayList<>()).add(account),
+					() -> roots.add(account));
+		}
+		Map<String, Optional<String>> names = HashMap.newHashMap(accounts.size());
+		Node root = node(null, List.of(), roots, "", children, names);
+		return new AccountPaths(root, names);
+	}
+
+	/**
+	 * Finds an account by its qualified name, trailing separators being ignored.
+	 *
+	 * @param qualifiedName names from a root account down, joined by {@value #SEPARATOR}
+	 * @return the account if found
+	 * @throws IllegalStateException if a segment names several sibling accounts
+	 */
+	public Optional<Account> resolve(@NonNull String qualifiedName) {
+		int length = qualifiedName.length();
+		while (length > 0 && qualifiedName.charAt(length - 1) == SEPARATOR) {
+			length--;
+		}
+		Node node = root;
+		int start = 0;
+		while (true) {
+			int end = qualifiedName.indexOf(SEPARATOR, start);
+			if (end < 0 || end > length) {
+				end = length;
+			}
+			Node child = node.child(qualifiedName, start, end);
+			if (child == null) {
+				return Optional.empty();
+			}
+			if (child.ambiguous) {
+				throw new IllegalStateException("Multiple accounts found with name: " + child.name);
+			}
+			if (end == length) {
+				return child.account;
+			}
+			node = child;
+			start = end + 1;
+		}
+	}
+
+	/**
+	 * @param accountId the account ID
+	 * @return names from the root account down to the account, joined by {@value #SEPARATOR}; empty for unknown
+	 * accounts and accounts not reachable from a root account
+	 */
+	public Optional<String> qualifiedName(@NonNull String accountId) {
+		return names.getOrDefault(accountId, Optional.empty());
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * Builds the node of one name, given all accounts of that name under the same parent.
+	 */
+	private static Node node(String name, List<Account> accounts, List<Account> children, String path,
+			Map<String, List<Account>> childrenByParent, Map<String, Optional<String>> names) {
+		Map<String, List<Account>> byName = new LinkedHashMap<>();
+		for (Account child : children) {
+			byName.computeIfAbsent(child.name(), _ -> new ArrayList<>(1)).add(child);
+		}
+		String[] childNames = byName.keySet().toArray(String[]::new);
+		Arrays.sort(childNames);
+		Node[] childNodes = new Node[childNames.length];
+		for (int i = 0; i < childNames.length; i++) {
+			List<Account> named = byName.get(childNames[i]);
+			String childPath = path.isEmpty() ? childNames[i] : path + SEPARATOR + childNames[i];
+			List<Account> grandChildren = new ArrayList<>();
+			for (Account account : named) {
+				names.put(account.id(), Optional.of(childPath));
+				grandChildren.addAll(childrenByParent.getOrDefault(account.id(), List.of()));
+			}
+			childNodes[i] = node(childNames[i], named, grandChildren, childPath, childrenByParent, names);
+		}
+		return new Node(name, accounts.size() == 1 ? Optional.of(accounts.getFirst()) : Optional.empty(), accounts.size() > 1, childNames, childNodes);
+	}
+
+	/**
+	 * Compares a name with a region of a text the way {@link String#compareTo(String)} compares strings.
+	 */
+	private static int compare(String name, String text, int start, int end) {
+		int length = Math.min(name.length(), end - start);
+		for (int i = 0; i < length; i++) {
+			int diff = name.charAt(i) - text.charAt(start + i);
+			if (diff != 0) {
+				return diff;
+			}
+		}
+		return name.length() - (end - start);
+	}
+
+	/**
+	 * Accounts of one name under one parent: a single account, or several sibling accounts sharing the name.
+	 */
+	private record Node(String name, Optional<Account> account, boolean ambiguous, String[] childNames, Node[] children) {
+
+		Node child(String text, int start, int end) {
+			int low = 0;
+			int high = childNames.length - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int cmp = compare(childNames[mid], text, start, end);
+				if (cmp < 0) {
+					low = mid + 1;
+				}
+				else if (cmp > 0) {
+					high = mid - 1;
+				}
+				else {
+					return children[mid];
+				}
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package com.druvu.acc.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.druvu.acc.api.entity.Account;
+
+import lombok.NonNull;
+
+/**
+ * Accounts numbered in preorder, so that every subtree is a contiguous range of numbers.
+ * <p>
+ * Each account gets an interval: its own preorder number as inclusive start and the number following its last
+ * descendant as exclusive end. An account lies in the subtree of another when its number falls in the other's
+ * interval, which is two integer comparisons, and the IDs of a subtree are a slice of the preorder list.
+ * Children are numbered in the order of the account list. Accounts whose parent is missing, and accounts
+ * on a parent cycle, are numbered as roots of their own, so every account has an interval.
+ * <p>
+ * Instances are immutable and thread-safe; stores build them once and keep them.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class AccountTree {
+
+	private static final int UNKNOWN = -1;
+
+	private final List<String> preorder;
+	private final Map<String, Integer> numbers;
+	private final int[] ends;
+	private final int[][] children;
+
+	private AccountTree(List<String> preorder, Map<String, Integer> numbers, int[] ends, int[][] children) {
+		this.preorder = preorder;
+		this.numbers = numbers;
+		this.ends = ends;
+		this.children = children;
+	}
+
+	/**
+	 * @param accounts all accounts of a book
+	 * @return the numbered tree
+	 */
+	public static AccountTree of(@NonNull List<Account> accounts) {
+		Map<String, Integer> positions = HashMap.newHashMap(accounts.size());
+		for (int i = 0; i < accounts.size(); i++) {
+			positions.putIfAbsent(accounts.get(i).id(), i);
+		}
+		List<List<Integer>> childPositions = new ArrayList<>(accounts.size());
+		for (int i = 0; i < accounts.size(); i++) {
+			childPositions.add(new ArrayList<>());
+		}
+		List<Integer> roots = new ArrayList<>();
+		for (int i = 0; i < accounts.size(); i++) {
+			if (positions.get(accounts.get(i).id()) != i) {
+				continue;
+			}
+			Integer parent = accounts.get(i).parentId().map(positions::get).orElse(null);
+			if (parent == null) {
+				roots.add(i);
+			}
+			else {
+				childPositions.get(parent).add(i);
+			}
+		}
+
+		int[] numberOf = new int[accounts.size()];
+		Arrays.fill(numberOf, UNKNOWN);
+		String[] preorder = new String[positions.size()];
+		int[] ends = new int[positions.size()];
+		int next = 0;
+		for (int root : roots) {
+			next = number(root, accounts, childPositions, numberOf, preorder, ends, next);
+		}
+		// accounts on parent cycles are not reachable from any root
+		for (int i = 0; i < accounts.size(); i++) {
+			if (numberOf[i] == UNKNOWN && positions.get(accounts.get(i).id()) == i) {
+				next = number(i, accounts, childPositions, numberOf, preorder, ends, next);
+			}
+		}
+
+		Map<String, Integer> numbers = HashMap.newHashMap(preorder.length);
+		int[][] children = new int[preorder.length][];
+		for (int i = 0; i < accounts.size(); i++) {
+			int number = numberOf[i];
+			if (number != UNKNOWN) {
+				numbers.put(preorder[number], number);
+				children[number] = childPositions.get(i).stream()
+						.mapToInt(child -> numberOf[child])
+						.filter(child -> child != UNKNOWN && child > number)
+						.toArray();
+			}
+		}
+		return new AccountTree(List.of(preorder), numbers, ends, children);
+	}
+
+	/**
+	 * @param accountId the account ID
+	 * @return preorder number of the account, -1 if unknown
+	 */
+	public int enter(@NonNull String accountId) {
+		return numbers.getOrDefault(accountId, UNKNOWN);
+	}
+
+	/**
+	 * @param accountId the account ID
+	 * @return the number following the last descendant of the account, -1 if unknown
+	 */
+	public int exit(@NonNull String accountId) {
+		int number = enter(accountId);
+		return number == UNKNOWN ? UNKNOWN : ends[number];
+	}
+
+	/**
+	 * @param ancestorId the root of the subtree
+	 * @param accountId  the account to test
+	 * @return whether the account is the ancestor or one of its descendants
+	 */
+	public boolean inSubtree(@NonNull String ancestorId, @NonNull String accountId) {
+		int ancestor = enter(ancestorId);
+		int number = enter(accountId);
+		return ancestor != UNKNOWN && number >= ancestor && number < ends[ancestor];
+	}
+
+	/**
+	 * @param accountId the root of the subtree
+	 * @return IDs of the account and all its descendants in preorder, empty if unknown
+	 */
+	public List<String> subtree(@NonNull String accountId) {
+		int number = enter(accountId);
+		return number == UNKNOWN ? List.of() : preorder.subList(number, ends[number]);
+	}
+
+	/**
+	 * @param accountId the parent account ID
+	 * @return IDs of the direct children, empty if unknown
+	 */
+	public List<String> children(@NonNull String accountId) {
+		int number = enter(accountId);
+		if (number == UNKNOWN) {
+			return List.of();
+		}
+		List<String> result = new ArrayList<>(children[number].length);
+		for (int child : children[number]) {
+			result.add(preorder.get(child));
+		}
+		return result;
+	}
+
+	/**
+	 * @return IDs of all accounts in preorder
+	 */
+	public List<String> preorder() {
+		return preorder;
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * Numbers a subtree in preorder with an explicit stack, so deep trees do not overflow the call stack.
+	 *
+	 * @return the next free number
+	 */
+	private static int number(int root, List<Account> accounts, List<List<Integer>> childPositions, int[] numberOf,
+			String[] preorder, int[] ends, int next) {
+		// positions entered but not left, children are pushed in reverse to be numbered in list order
+		Deque<Integer> stack = new ArrayDeque<>();
+		Deque<Integer> open = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			int position = stack.pop();
+			if (position < 0) {
+				int closed = open.pop();
+				ends[numberOf[closed]] = next;
+				continue;
+			}
+			if (numberOf[position] != UNKNOWN) {
+				continue;
+			}
+			numberOf[position] = next;
+			preorder[next++] = accounts.get(position).id();
+			open.push(position);
+			stack.push(-1);
+			List<Integer> children = childPositions.get(position);
+			for (int i = children.size() - 1; i >= 0; i--) {
+				stack.push(children.get(i));
+			}
+		}
+		return next;
+	}
+}
@@ -0,0 +1,114 @@
+package com.druvu.acc.api;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.druvu.acc.api.entity.Split;
+
+import lombok.NonNull;
+
+/**
+ * Execution plan of a {@link SplitFilter} chosen by a store.
+ * <p>
+ * The plan names the access paths the store considered and the one it chose, normally the one yielding the
+ * fewest candidates; all predicates are still applied to the candidates. Plans are cheap to create and are
+ * executed lazily, each {@link #execute()} reads the store again.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class QueryPlan {
+
+	private final SplitFilter filter;
+	private final AccessPath access;
+	private final List<AccessPath> considered;
+	private final Supplier<List<Split>> executor;
+
+	/**
+	 * @param filter     the planned filter
+	 * @param access     the chosen access path
+	 * @param considered all access paths considered, including the chosen one
+	 * @param executor   returns the matching splits in date order
+	 */
+	public QueryPlan(@NonNull SplitFilter filter, @NonNull AccessPath access, @NonNull List<AccessPath> considered,
+			@NonNull Supplier<List<Split>> executor) {
+		this.filter = filter;
+		this.access = access;
+		this.considered = List.copyOf(considered);
+		this.executor = executor;
+	}
+
+	/**
+	 * Plans a filter with the fixed {@link AccStore} queries: the splits of the filtered accounts, else the
+	 * transactions of the date range, else all transactions.
+	 *
+	 * @param store  the store
+	 * @param filter the filter
+	 * @return the plan
+	 */
+	public static QueryPlan scan(@NonNull AccStore store, @NonNull SplitFilter filter) {
+		AccessPath access;
+		Supplier<List<Split>> candidates;
+		if (!filter.accountIds().isEmpty()) {
+			access = new AccessPath("splits for accounts", -1);
+			candidates = () -> filter.accountIds().stream()
+					.flatMap(accountId -> store.splitsForAccount(accountId).stream())
+					.sorted(Comparator.comparing(Split::datePosted))
+					.toList();
+		} else if (filter.from() != null || filter.to() != null) {
+			access = new AccessPath("transactions in date range", -1);
+			candidates = () -> (filter.from() != null && filter.to() != null
+					? store.transactions(filter.from(), filter.to())
+					: store.transactions()).stream()
+					.flatMap(transaction -> transaction.splits().stream())
+					.toList();
+		} else {
+			access = new AccessPath("full scan", -1);
+			candidates = () -> store.transactions().stream()
+					.flatMap(transaction -> transaction.splits().stream())
+					.toList();
+		}
+		return new QueryPlan(filter, access, List.of(access),
+				() -> candidates.get().stream().filter(filter::matches).toList());
+	}
+
+	public SplitFilter filter() {
+		return filter;
+	}
+
+	public AccessPath access() {
+		return access;
+	}
+
+	public List<AccessPath> considered() {
+		return considered;
+	}
+
+	/**
+	 * @return splits matching the filter, in date order
+	 */
+	public List<Split> execute() {
+		return executor.get();
+	}
+
+	/**
+	 * Describes the plan for diagnostics, one line per considered access path.
+	 *
+	 * @return the description
+	 */
+	public String explain() {
+		StringBuilder builder = new StringBuilder().append(filter);
+		for (AccessPath path : considered) {
+			builder.append(System.lineSeparator())
+					.append(path.equals(access) ? "  -> " : "     ")
+					.append(path.estimatedRows() < 0 ? path.name() : path.toString());
+		}
+		return builder.toString();
+	}
+
+	@Override
+	public String toString() {
+		return explain();
+	}
+}
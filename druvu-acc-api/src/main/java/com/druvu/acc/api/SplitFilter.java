@@ -0,0 +1,79 @@
+package com.druvu.acc.api;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Split;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/**
+ * Conjunction of split predicates, planned by {@link AccStore#plan(SplitFilter)}.
+ * <p>
+ * Unset predicates match every split. Build filters with {@link AccStore#query()} or the builder.
+ *
+ * @param accountIds      accounts the split posts to, empty for any account
+ * @param from            earliest date posted (inclusive), null for no lower bound
+ * @param to              latest date posted (inclusive), null for no upper bound
+ * @param reconcileStates accepted reconcile states, empty for any state
+ * @param amountAbove     exclusive lower bound of the absolute split value, null for any value
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Builder(toBuilder = true)
+public record SplitFilter(
+		@NonNull
+		Set<String> accountIds,
+		LocalDate from,
+		LocalDate to,
+		@NonNull
+		Set<ReconcileState> reconcileStates,
+		BigDecimal amountAbove
+) {
+
+	public static final SplitFilter ALL = new SplitFilter(Set.of(), null, null, Set.of(), null);
+
+	public SplitFilter {
+		accountIds = Set.copyOf(accountIds);
+		reconcileStates = Set.copyOf(reconcileStates);
+		if (from != null && to != null && from.isAfter(to)) {
+			throw new IllegalArgumentException("Date range ends before it starts: " + from + " to " + to);
+		}
+	}
+
+	/**
+	 * @param split the split
+	 * @return whether the split satisfies all predicates
+	 */
+	public boolean matches(@NonNull Split split) {
+		return (accountIds.isEmpty() || accountIds.contains(split.accountId()))
+				&& (from == null || !split.datePosted().isBefore(from))
+				&& (to == null || !split.datePosted().isAfter(to))
+				&& (reconcileStates.isEmpty() || reconcileStates.contains(split.reconcileState()))
+				&& (amountAbove == null || split.value().abs().compareTo(amountAbove) > 0);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("filter[");
+		if (!accountIds.isEmpty()) {
+			builder.append("accounts=").append(accountIds.stream().sorted().toList()).append(", ");
+		}
+		if (from != null || to != null) {
+			builder.append("dates=").append(from == null ? "*" : from).append("..").append(to == null ? "*" : to).append(", ");
+		}
+		if (!reconcileStates.isEmpty()) {
+			builder.append("reconcileStates=").append(reconcileStates.stream().sorted().toList()).append(", ");
+		}
+		if (amountAbove != null) {
+			builder.append("amountAbove=").append(amountAbove.toPlainString()).append(", ");
+		}
+		if (builder.charAt(builder.length() - 1) == ' ') {
+			builder.setLength(builder.length() - 2);
+		}
+		return builder.append(']').toString();
+	}
+}
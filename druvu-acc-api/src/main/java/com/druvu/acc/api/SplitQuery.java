@@ -0,0 +1,130 @@
+package com.druvu.acc.api;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Split;
+
+import lombok.NonNull;
+
+/**
+ * Fluent split query of a store, see {@link AccStore#query()}.
+ * <p>
+ * Each call narrows the query; the predicates are combined into a {@link SplitFilter} and pushed down to the
+ * store, which picks its most selective index:
+ * <pre>{@code
+ * List<Split> open = store.query()
+ *         .accounts(checking.id(), savings.id())
+ *         .between(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))
+ *         .reconcileState(ReconcileState.NOT_RECONCILED)
+ *         .amountAbove(new BigDecimal("1000"))
+ *         .list();
+ * }</pre>
+ * Queries are not thread-safe.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class SplitQuery {
+
+	private final AccStore store;
+	private final Set<String> accountIds = new LinkedHashSet<>();
+	private final Set<ReconcileState> reconcileStates = EnumSet.noneOf(ReconcileState.class);
+	private LocalDate from;
+	private LocalDate to;
+	private BigDecimal amountAbove;
+
+	SplitQuery(AccStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Restricts the query to splits of any of the given accounts.
+	 *
+	 * @param ids account IDs
+	 * @return this query
+	 */
+	public SplitQuery accounts(@NonNull String... ids) {
+		return accounts(List.of(ids));
+	}
+
+	/**
+	 * Restricts the query to splits of any of the given accounts.
+	 *
+	 * @param ids account IDs
+	 * @return this query
+	 */
+	public SplitQuery accounts(@NonNull Collection<String> ids) {
+		accountIds.addAll(ids);
+		return this;
+	}
+
+	/**
+	 * Restricts the query to splits posted in a date range.
+	 *
+	 * @param from earliest date (inclusive), null for no lower bound
+	 * @param to   latest date (inclusive), null for no upper bound
+	 * @return this query
+	 */
+	public SplitQuery between(LocalDate from, LocalDate to) {
+		this.from = from;
+		this.to = to;
+		return this;
+	}
+
+	/**
+	 * Restricts the query to splits in any of the given reconcile states.
+	 *
+	 * @param states accepted states
+	 * @return this query
+	 */
+	public SplitQuery reconcileState(@NonNull ReconcileState... states) {
+		reconcileStates.addAll(List.of(states));
+		return this;
+	}
+
+	/**
+	 * Restricts the query to splits whose absolute value exceeds an amount.
+	 *
+	 * @param amount exclusive lower bound
+	 * @return this query
+	 */
+	public SplitQuery amountAbove(@NonNull BigDecimal amount) {
+		this.amountAbove = amount;
+		return this;
+	}
+
+	/**
+	 * @return the predicates collected so far
+	 */
+	public SplitFilter filter() {
+		return new SplitFilter(accountIds, from, to, reconcileStates, amountAbove);
+	}
+
+	/**
+	 * @return the plan the store chooses for this query
+	 */
+	public QueryPlan plan() {
+		return store.plan(filter());
+	}
+
+	/**
+	 * @return the matching splits in date order
+	 */
+	public List<Split> list() {
+		return plan().execute();
+	}
+
+	/**
+	 * @return the plan description, see {@link QueryPlan#explain()}
+	 */
+	public String explain() {
+		return plan().explain();
+	}
+}
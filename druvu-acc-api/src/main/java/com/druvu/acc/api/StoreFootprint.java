@@ -0,0 +1,40 @@
+package com.druvu.acc.api;
+
+/**
+ * Estimated retained heap size of a loaded {@link AccStore}, in bytes.
+ * <p>
+ * Estimates are derived from entity counts and per-structure constants of the implementation,
+ * they are meant for budgeting (e.g. cache sizing), not for exact accounting.
+ *
+ * @param accounts     bytes retained by accounts
+ * @param transactions bytes retained by transactions, excluding their splits
+ * @param splits       bytes retained by splits
+ * @param prices       bytes retained by price quotes
+ * @param indexes      bytes retained by lookup indexes and caches
+ * @param other        bytes retained by everything else (book metadata, commodities, ...)
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record StoreFootprint(
+		long accounts,
+		long transactions,
+		long splits,
+		long prices,
+		long indexes,
+		long other
+) {
+
+	/**
+	 * @return total estimated bytes
+	 */
+	public long total() {
+		return accounts + transactions + splits + prices + indexes + other;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("footprint[total=%d, accounts=%d, transactions=%d, splits=%d, prices=%d, indexes=%d, other=%d]",
+				total(), accounts, transactions, splits, prices, indexes, other);
+	}
+}
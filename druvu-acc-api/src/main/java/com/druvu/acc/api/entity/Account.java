@@ -1,5 +1,6 @@
 package com.druvu.acc.api.entity;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import com.druvu.acc.api.AccStore;
@@ -17,6 +18,7 @@ import com.druvu.acc.api.AccStore;
  * @param description optional description
  * @param commodity   account commodity (currency)
  * @param parentId    ID of a parent account, empty for root accounts
+ * @param slots       account metadata, not compared by {@link #equals(Object)}
  *
  * @author Deniss Larka
  *         <br/>on 10 Jan 2026
@@ -28,9 +30,30 @@ public record Account(
 		Optional<String> code,
 		Optional<String> description,
 		Optional<CommodityId> commodity,
-		Optional<String> parentId
+		Optional<String> parentId,
+		Slots slots
 ) {
 
+	/**
+	 * Compares all components except the slots, which are a lazy view and not resolved for comparison.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof Account account
+				&& Objects.equals(id, account.id)
+				&& Objects.equals(name, account.name)
+				&& type == account.type
+				&& Objects.equals(code, account.code)
+				&& Objects.equals(description, account.description)
+				&& Objects.equals(commodity, account.commodity)
+				&& Objects.equals(parentId, account.parentId);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, name, type, code, description, commodity, parentId);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
@@ -0,0 +1,29 @@
+package com.druvu.acc.api.entity;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Budget data entity - amounts planned per account for a series of consecutive periods.
+ * <p>
+ * Period {@code i} starts on occurrence {@code i} of the recurrence and ends the day before the next one.
+ *
+ * @param id          unique ID
+ * @param name        budget name
+ * @param description optional description
+ * @param periods     number of periods
+ * @param recurrence  length and start of the periods
+ * @param amounts     budgeted amounts, only for the account and period combinations that were set
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Budget(
+		String id,
+		String name,
+		Optional<String> description,
+		int periods,
+		Recurrence recurrence,
+		List<BudgetAmount> amounts
+) {
+}
@@ -0,0 +1,20 @@
+package com.druvu.acc.api.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * Amount budgeted for one account in one budget period.
+ *
+ * @param accountId the account ID
+ * @param period    zero-based index of the period
+ * @param amount    the budgeted amount
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record BudgetAmount(
+		String accountId,
+		int period,
+		BigDecimal amount
+) {
+}
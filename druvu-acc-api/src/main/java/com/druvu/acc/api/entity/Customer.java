@@ -0,0 +1,26 @@
+package com.druvu.acc.api.entity;
+
+import java.util.Optional;
+
+/**
+ * Customer data entity.
+ *
+ * @param id       unique ID
+ * @param number   customer number shown to the user
+ * @param name     customer name
+ * @param active   whether the customer is active
+ * @param currency currency of the customer's invoices
+ * @param notes    optional notes
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Customer(
+		String id,
+		String number,
+		String name,
+		boolean active,
+		CommodityId currency,
+		Optional<String> notes
+) {
+}
@@ -0,0 +1,72 @@
+package com.druvu.acc.api.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shared view without slots.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+enum EmptySlots implements Slots {
+	INSTANCE;
+
+	@Override
+	public boolean isEmpty() {
+		return true;
+	}
+
+	@Override
+	public List<String> keys() {
+		return List.of();
+	}
+
+	@Override
+	public Slots literalKeys() {
+		return this;
+	}
+
+	@Override
+	public Optional<SlotType> type(String path) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<String> string(String path) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<Long> integer(String path) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<BigDecimal> numeric(String path) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<LocalDate> date(String path) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<LocalDateTime> timestamp(String path) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<Slots> frame(String path) {
+		return Optional.empty();
+	}
+
+	@Override
+	public String toString() {
+		return "Slots[]";
+	}
+}
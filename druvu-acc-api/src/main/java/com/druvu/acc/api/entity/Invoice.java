@@ -0,0 +1,47 @@
+package com.druvu.acc.api.entity;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Invoice data entity - a customer invoice, a vendor bill or an employee voucher.
+ * <p>
+ * Posting an invoice creates a transaction and opens a lot in the receivable or payable account; payments
+ * are later added to the same lot, so the lot balance is the amount still due.
+ *
+ * @param id                unique ID
+ * @param number            invoice number shown to the user
+ * @param owner             customer, vendor, employee or job the invoice is billed to
+ * @param opened            date the invoice was opened
+ * @param posted            date the invoice was posted, empty while it is a draft
+ * @param postTransactionId ID of the posting transaction
+ * @param postLotId         ID of the lot opened by the posting
+ * @param postAccountId     ID of the receivable or payable account posted to
+ * @param currency          invoice currency
+ * @param notes             optional notes
+ * @param active            whether the invoice is active
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Invoice(
+		String id,
+		String number,
+		Owner owner,
+		LocalDate opened,
+		Optional<LocalDate> posted,
+		Optional<String> postTransactionId,
+		Optional<String> postLotId,
+		Optional<String> postAccountId,
+		CommodityId currency,
+		Optional<String> notes,
+		boolean active
+) {
+
+	/**
+	 * @return true if the invoice has been posted
+	 */
+	public boolean isPosted() {
+		return posted.isPresent();
+	}
+}
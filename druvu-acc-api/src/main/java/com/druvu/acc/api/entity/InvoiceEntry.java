@@ -0,0 +1,42 @@
+package com.druvu.acc.api.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Invoice line data entity.
+ * <p>
+ * Account and price are those of the invoice side for customer invoices and of the bill side for vendor bills.
+ * Discounts and taxes are not applied.
+ *
+ * @param id          unique ID
+ * @param invoiceId   ID of the invoice or bill holding the line
+ * @param date        line date
+ * @param description optional description
+ * @param action      optional action, e.g. "Hours" or "Material"
+ * @param quantity    quantity
+ * @param price       unit price
+ * @param accountId   ID of the income or expense account, if set
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record InvoiceEntry(
+		String id,
+		String invoiceId,
+		LocalDate date,
+		Optional<String> description,
+		Optional<String> action,
+		BigDecimal quantity,
+		BigDecimal price,
+		Optional<String> accountId
+) {
+
+	/**
+	 * @return quantity times price
+	 */
+	public BigDecimal amount() {
+		return quantity.multiply(price);
+	}
+}
@@ -0,0 +1,26 @@
+package com.druvu.acc.api.entity;
+
+import java.util.Optional;
+
+/**
+ * Job data entity - a project of a customer or a vendor that invoices can be filed under.
+ *
+ * @param id        unique ID
+ * @param number    job number shown to the user
+ * @param name      job name
+ * @param reference optional external reference
+ * @param owner     customer or vendor owning the job
+ * @param active    whether the job is active
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Job(
+		String id,
+		String number,
+		String name,
+		Optional<String> reference,
+		Owner owner,
+		boolean active
+) {
+}
@@ -0,0 +1,25 @@
+package com.druvu.acc.api.entity;
+
+import java.util.Optional;
+
+/**
+ * Lot data entity - a group of splits in one account that open and close a position, e.g. shares bought
+ * together and the sales drawing from them.
+ * <p>
+ * Splits refer to their lot with {@link Split#lotId()}.
+ *
+ * @param id        unique ID
+ * @param accountId ID of the account holding the lot
+ * @param title     optional lot title
+ * @param notes     optional notes
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Lot(
+		String id,
+		String accountId,
+		Optional<String> title,
+		Optional<String> notes
+) {
+}
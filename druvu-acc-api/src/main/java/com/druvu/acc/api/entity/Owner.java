@@ -0,0 +1,16 @@
+package com.druvu.acc.api.entity;
+
+/**
+ * Reference to the business party owning an invoice or a job.
+ *
+ * @param type kind of owner
+ * @param id   ID of the customer, vendor, employee or job
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Owner(
+		OwnerType type,
+		String id
+) {
+}
@@ -0,0 +1,48 @@
+package com.druvu.acc.api.entity;
+
+/**
+ * Kind of business party owning an {@link Invoice} or a {@link Job}.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public enum OwnerType {
+	/**
+	 * Customer, owns invoices posted to accounts receivable
+	 */
+	CUSTOMER("gncCustomer"),
+
+	/**
+	 * Vendor, owns bills posted to accounts payable
+	 */
+	VENDOR("gncVendor"),
+
+	/**
+	 * Employee, owns expense vouchers
+	 */
+	EMPLOYEE("gncEmployee"),
+
+	/**
+	 * Job, itself owned by a customer or a vendor
+	 */
+	JOB("gncJob");
+
+	private final String code;
+
+	OwnerType(String code) {
+		this.code = code;
+	}
+
+	public String code() {
+		return code;
+	}
+
+	public static OwnerType fromCode(String code) {
+		for (OwnerType type : values()) {
+			if (type.code.equals(code)) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException("Unknown owner type: " + code);
+	}
+}
@@ -0,0 +1,22 @@
+package com.druvu.acc.api.entity;
+
+import java.time.LocalDate;
+
+/**
+ * Recurrence rule of a scheduled transaction, e.g. every 2 months starting on 31 Jan 2026.
+ *
+ * @param multiplier    number of periods between occurrences, at least 1
+ * @param period        the period unit
+ * @param start         date of the first occurrence, also the anchor for the day of month or weekday
+ * @param weekendAdjust how occurrences falling on a weekend are moved
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Recurrence(
+		int multiplier,
+		RecurrencePeriod period,
+		LocalDate start,
+		WeekendAdjust weekendAdjust
+) {
+}
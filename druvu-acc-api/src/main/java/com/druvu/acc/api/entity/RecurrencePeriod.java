@@ -0,0 +1,68 @@
+package com.druvu.acc.api.entity;
+
+/**
+ * Period unit of a {@link Recurrence}.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public enum RecurrencePeriod {
+	/**
+	 * Occurs only on the start date
+	 */
+	ONCE("once"),
+
+	/**
+	 * Every n days
+	 */
+	DAY("day"),
+
+	/**
+	 * Every n weeks, on the weekday of the start date
+	 */
+	WEEK("week"),
+
+	/**
+	 * Every n months, on the day of month of the start date
+	 */
+	MONTH("month"),
+
+	/**
+	 * Every n months, on the last day of the month
+	 */
+	END_OF_MONTH("end of month"),
+
+	/**
+	 * Every n months, on the same weekday occurrence as the start date (e.g. the second Tuesday)
+	 */
+	NTH_WEEKDAY("nth weekday"),
+
+	/**
+	 * Every n months, on the last occurrence of the weekday of the start date
+	 */
+	LAST_WEEKDAY("last weekday"),
+
+	/**
+	 * Every n years, on the date of the start date
+	 */
+	YEAR("year");
+
+	private final String code;
+
+	RecurrencePeriod(String code) {
+		this.code = code;
+	}
+
+	public String code() {
+		return code;
+	}
+
+	public static RecurrencePeriod fromCode(String code) {
+		for (RecurrencePeriod period : values()) {
+			if (period.code.equals(code)) {
+				return period;
+			}
+		}
+		throw new IllegalArgumentException("Unknown recurrence period: " + code);
+	}
+}
@@ -0,0 +1,21 @@
+package com.druvu.acc.api.entity;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Template split of a scheduled transaction.
+ *
+ * @param accountId ID of the account the created split will affect
+ * @param memo      optional memo
+ * @param amount    the amount, positive for debits and negative for credits
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record ScheduledSplit(
+		String accountId,
+		Optional<String> memo,
+		BigDecimal amount
+) {
+}
@@ -0,0 +1,36 @@
+package com.druvu.acc.api.entity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Scheduled transaction data entity - a template transaction created repeatedly according to recurrence rules.
+ *
+ * @param id                   unique ID
+ * @param name                 schedule name
+ * @param enabled              whether the schedule creates transactions
+ * @param start                first date an occurrence may fall on
+ * @param end                  last date an occurrence may fall on, empty for open-ended schedules
+ * @param lastOccurrence       date of the last occurrence already created, empty if none was created yet
+ * @param remainingOccurrences number of occurrences still to be created, empty if not limited by count
+ * @param recurrences          recurrence rules, an occurrence is due whenever any of them is due
+ * @param description          description of the created transactions
+ * @param splits               template splits of the created transactions
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record ScheduledTransaction(
+		String id,
+		String name,
+		boolean enabled,
+		LocalDate start,
+		Optional<LocalDate> end,
+		Optional<LocalDate> lastOccurrence,
+		Optional<Integer> remainingOccurrences,
+		List<Recurrence> recurrences,
+		String description,
+		List<ScheduledSplit> splits
+) {
+}
@@ -0,0 +1,39 @@
+package com.druvu.acc.api.entity;
+
+/**
+ * Type of a slot value.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public enum SlotType {
+	INTEGER("integer"),
+	DOUBLE("double"),
+	NUMERIC("numeric"),
+	STRING("string"),
+	GUID("guid"),
+	TIMESPEC("timespec"),
+	GDATE("gdate"),
+	BINARY("binary"),
+	LIST("list"),
+	FRAME("frame");
+
+	private final String code;
+
+	SlotType(String code) {
+		this.code = code;
+	}
+
+	public String code() {
+		return code;
+	}
+
+	public static SlotType fromCode(String code) {
+		for (SlotType type : values()) {
+			if (type.code.equals(code)) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException("Unknown slot type: " + code);
+	}
+}
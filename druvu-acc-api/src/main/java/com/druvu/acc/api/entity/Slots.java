@@ -0,0 +1,108 @@
+package com.druvu.acc.api.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Key-value metadata attached to an entity, e.g. notes, online IDs or import matching rules.
+ * <p>
+ * Implementations are lazy views over the backing store: nothing is converted until a key is read, and only
+ * the slots on the requested path are visited. Paths separate nested frame keys with {@code /}, as in
+ * {@code "import-map-bayes/Groceries"}.
+ * <p>
+ * Typed accessors return empty when the path does not exist and throw {@link IllegalStateException} when
+ * it holds a value of another type. {@link #string(String)} accepts every scalar type and returns the stored text.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public interface Slots {
+
+	/**
+	 * @return a view without slots
+	 */
+	static Slots empty() {
+		return EmptySlots.INSTANCE;
+	}
+
+	/**
+	 * @param values string values by top-level key
+	 * @return a view of the values, in map order
+	 */
+	static Slots strings(Map<String, String> values) {
+		return values.isEmpty() ? empty() : new StringSlots(values);
+	}
+
+	/**
+	 * @return true if there are no slots
+	 */
+	boolean isEmpty();
+
+	/**
+	 * @return top-level keys in store order
+	 */
+	List<String> keys();
+
+	/**
+	 * A view of the same slots whose accessors take a top-level key as is, without splitting it at {@code /}.
+	 * Use it to read keys returned by {@link #keys()}, which may themselves contain {@code /}; frames returned by
+	 * the view take paths again.
+	 *
+	 * @return the literal-key view
+	 */
+	Slots literalKeys();
+
+	/**
+	 * @param path the slot path
+	 * @return the type of the value at the path
+	 */
+	Optional<SlotType> type(String path);
+
+	/**
+	 * @param path the slot path
+	 * @return true if a value exists at the path
+	 */
+	default boolean contains(String path) {
+		return type(path).isPresent();
+	}
+
+	/**
+	 * @param path the slot path
+	 * @return the text of a scalar value
+	 */
+	Optional<String> string(String path);
+
+	/**
+	 * @param path the slot path
+	 * @return the value of an integer slot
+	 */
+	Optional<Long> integer(String path);
+
+	/**
+	 * @param path the slot path
+	 * @return the value of a numeric, integer or double slot
+	 */
+	Optional<BigDecimal> numeric(String path);
+
+	/**
+	 * @param path the slot path
+	 * @return the value of a gdate slot
+	 */
+	Optional<LocalDate> date(String path);
+
+	/**
+	 * @param path the slot path
+	 * @return the value of a timespec slot
+	 */
+	Optional<LocalDateTime> timestamp(String path);
+
+	/**
+	 * @param path the slot path
+	 * @return a view of a nested frame
+	 */
+	Optional<Slots> frame(String path);
+}
@@ -2,6 +2,7 @@ package com.druvu.acc.api.entity;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -14,6 +15,9 @@ import java.util.Optional;
  * @param reconcileDate  date when this split was reconciled
  * @param value          the value in transaction currency
  * @param quantity       the quantity in account currency
+ * @param memo           optional split memo
+ * @param lotId          ID of the lot this split belongs to, empty for splits outside lots
+ * @param slots          split metadata, not compared by {@link #equals(Object)}
  * @author Deniss Larka
  *         <br/>on 10 Jan 2026
  */
@@ -25,9 +29,35 @@ public record Split(
 		ReconcileState reconcileState,
 		Optional<LocalDate> reconcileDate,
 		BigDecimal value,
-		BigDecimal quantity
+		BigDecimal quantity,
+		Optional<String> memo,
+		Optional<String> lotId,
+		Slots slots
 ) {
 
+	/**
+	 * Compares all components except the slots, which are a lazy view and not resolved for comparison.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof Split split
+				&& Objects.equals(id, split.id)
+				&& Objects.equals(transactionId, split.transactionId)
+				&& Objects.equals(accountId, split.accountId)
+				&& Objects.equals(datePosted, split.datePosted)
+				&& reconcileState == split.reconcileState
+				&& Objects.equals(reconcileDate, split.reconcileDate)
+				&& Objects.equals(value, split.value)
+				&& Objects.equals(quantity, split.quantity)
+				&& Objects.equals(memo, split.memo)
+				&& Objects.equals(lotId, split.lotId);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, transactionId, accountId, datePosted, reconcileState, reconcileDate, value, quantity, memo, lotId);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
@@ -0,0 +1,87 @@
+package com.druvu.acc.api.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Top-level string slots of a new entity, e.g. the online ID of an imported split.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class StringSlots implements Slots {
+
+	private final Map<String, String> values;
+
+	StringSlots(Map<String, String> values) {
+		this.values = new LinkedHashMap<>(values);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+
+	@Override
+	public List<String> keys() {
+		return List.copyOf(values.keySet());
+	}
+
+	@Override
+	public Slots literalKeys() {
+	// keys are never split, so the view is this
+		return this;
+	}
+
+	@Override
+	public Optional<SlotType> type(String path) {
+		return values.containsKey(path) ? Optional.of(SlotType.STRING) : Optional.empty();
+	}
+
+	@Override
+	public Optional<String> string(String path) {
+		return Optional.ofNullable(values.get(path));
+	}
+
+	@Override
+	public Optional<Long> integer(String path) {
+		return typed(path, SlotType.INTEGER);
+	}
+
+	@Override
+	public Optional<BigDecimal> numeric(String path) {
+		return typed(path, SlotType.NUMERIC);
+	}
+
+	@Override
+	public Optional<LocalDate> date(String path) {
+		return typed(path, SlotType.GDATE);
+	}
+
+	@Override
+	public Optional<LocalDateTime> timestamp(String path) {
+		return typed(path, SlotType.TIMESPEC);
+	}
+
+	@Override
+	public Optional<Slots> frame(String path) {
+		return typed(path, SlotType.FRAME);
+	}
+
+	private <T> Optional<T> typed(String path, SlotType expected) {
+		if (values.containsKey(path)) {
+			throw new IllegalStateException("Slot " + path + " holds " + SlotType.STRING.code() + ", not " + expected.code());
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public String toString() {
+		return "Slots" + values.keySet();
+	}
+}
@@ -2,6 +2,7 @@ package com.druvu.acc.api.entity;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -13,6 +14,7 @@ import java.util.Optional;
  * @param datePosted  date the transaction was posted
  * @param description transaction description
  * @param splits      splits in this transaction
+ * @param slots       transaction metadata, not compared by {@link #equals(Object)}
  * @author Deniss Larka
  *         <br/>on 10 Jan 2026
  */
@@ -22,7 +24,8 @@ public record Transaction(
 		Optional<String> number,
 		LocalDate datePosted,
 		String description,
-		List<Split> splits
+		List<Split> splits,
+		Slots slots
 ) implements Comparable<Transaction> {
 
 	@Override
@@ -30,6 +33,25 @@ public record Transaction(
 		return datePosted().compareTo(other.datePosted());
 	}
 
+	/**
+	 * Compares all components except the slots, which are a lazy view and not resolved for comparison.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof Transaction transaction
+				&& Objects.equals(id, transaction.id)
+				&& Objects.equals(currency, transaction.currency)
+				&& Objects.equals(number, transaction.number)
+				&& Objects.equals(datePosted, transaction.datePosted)
+				&& Objects.equals(description, transaction.description)
+				&& Objects.equals(splits, transaction.splits);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, currency, number, datePosted, description, splits);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
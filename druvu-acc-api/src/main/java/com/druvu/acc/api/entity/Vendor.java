@@ -0,0 +1,22 @@
+package com.druvu.acc.api.entity;
+
+/**
+ * Vendor data entity.
+ *
+ * @param id       unique ID
+ * @param number   vendor number shown to the user
+ * @param name     vendor name
+ * @param active   whether the vendor is active
+ * @param currency currency of the vendor's bills
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Vendor(
+		String id,
+		String number,
+		String name,
+		boolean active,
+		CommodityId currency
+) {
+}
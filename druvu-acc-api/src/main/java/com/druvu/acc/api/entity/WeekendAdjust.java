@@ -0,0 +1,43 @@
+package com.druvu.acc.api.entity;
+
+/**
+ * How a {@link Recurrence} moves occurrences falling on a weekend.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public enum WeekendAdjust {
+	/**
+	 * Keep the weekend date
+	 */
+	NONE("none"),
+
+	/**
+	 * Move to the preceding Friday
+	 */
+	BACK("back"),
+
+	/**
+	 * Move to the following Monday
+	 */
+	FORWARD("forward");
+
+	private final String code;
+
+	WeekendAdjust(String code) {
+		this.code = code;
+	}
+
+	public String code() {
+		return code;
+	}
+
+	public static WeekendAdjust fromCode(String code) {
+		for (WeekendAdjust adjust : values()) {
+			if (adjust.code.equals(code)) {
+				return adjust;
+			}
+		}
+		return NONE;
+	}
+}
@@ -0,0 +1,17 @@
+package com.druvu.acc.api.export;
+
+import lombok.NonNull;
+
+/**
+ * Name and value type of a column of an exported table.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Column(
+		@NonNull
+		String name,
+		@NonNull
+		ColumnType type
+) {
+}
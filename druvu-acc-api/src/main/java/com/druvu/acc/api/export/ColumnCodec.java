@@ -0,0 +1,59 @@
+package com.druvu.acc.api.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Varint, zigzag and text encodings shared by {@link ColumnarWriter} and {@link ColumnarTable}.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@UtilityClass
+final class ColumnCodec {
+
+	static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7fL) != 0) {
+			out.write((int) (value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	static void writeSigned(ByteArrayOutputStream out, long value) {
+		writeVarint(out, (value << 1) ^ (value >> 63));
+	}
+
+	static void writeText(ByteArrayOutputStream out, String text) {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		writeVarint(out, bytes.length);
+		out.writeBytes(bytes);
+	}
+
+	static long readVarint(DataInput in) throws IOException {
+		long value = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = in.readByte();
+			value |= (long) (b & 0x7f) << shift;
+			shift += 7;
+		} while (b < 0);
+		return value;
+	}
+
+	static long readSigned(DataInput in) throws IOException {
+		long value = readVarint(in);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	static String readText(DataInput in) throws IOException {
+		byte[] bytes = new byte[Math.toIntExact(readVarint(in))];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,66 @@
+package com.druvu.acc.api.export;
+
+/**
+ * Value types of the columns of an exported table and their encoding in a row group.
+ * <p>
+ * Varints are unsigned LEB128, signed values are zigzag encoded first. Nullable types reserve 0 for null and
+ * store everything else shifted by one.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public enum ColumnType {
+
+	/**
+	 * Repeated text such as IDs, written as the distinct values of the row group followed by a varint index
+	 * into them per row. Nullable.
+	 */
+	DICTIONARY(1),
+
+	/**
+	 * Free text, written as a varint byte length and UTF-8 bytes per row. Nullable.
+	 */
+	STRING(2),
+
+	/**
+	 * Amounts as {@link java.math.BigDecimal}, written as one scale byte for the row group, the largest scale
+	 * of its values, and a signed varint unscaled value per row. A row group with an amount that does not fit
+	 * a long at that scale is written with the scale byte 255 and a signed varint scale and unscaled
+	 * two's-complement bytes per row instead. Fractions that do not terminate are rounded to at most 18 decimals.
+	 */
+	DECIMAL(3),
+
+	/**
+	 * {@link java.time.LocalDate} as a signed varint of the epoch day. Nullable.
+	 */
+	DATE(4),
+
+	/**
+	 * {@link java.time.LocalDateTime} as a signed varint of the epoch second in UTC. Nullable.
+	 */
+	TIMESTAMP(5),
+
+	/**
+	 * Counts as a signed varint {@code long}.
+	 */
+	INTEGER(6);
+
+	private final int code;
+
+	ColumnType(int code) {
+		this.code = code;
+	}
+
+	public int code() {
+		return code;
+	}
+
+	public static ColumnType fromCode(int code) {
+		for (ColumnType type : values()) {
+			if (type.code == code) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException("Unknown column type: " + code);
+	}
+}
@@ -0,0 +1,181 @@
+package com.druvu.acc.api.export;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exports accounts, transactions, splits and prices of a store into one columnar file per table, for loading
+ * into analytics tools.
+ * <p>
+ * Each table is written in row groups, see {@link ColumnarWriter}: IDs and other repeated text are dictionary
+ * encoded per row group, amounts are scaled decimals and dates are epoch days. Transactions are streamed with
+ * {@link AccStore#streamTransactions(LocalDate, LocalDate)} and written to the transactions and splits tables in
+ * the same pass, so memory stays bounded by the row group size. Files are read back with
+ * {@link ColumnarTable#read(Path)}.
+ * <p>
+ * Commodities are written as {@code namespace:id}, reconcile states as their GnuCash codes.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+public final class ColumnarExport {
+
+	public static final String EXTENSION = ".dcol";
+	public static final int DEFAULT_ROW_GROUP_SIZE = 65_536;
+
+	public static final String ACCOUNTS = "accounts";
+	public static final String TRANSACTIONS = "transactions";
+	public static final String SPLITS = "splits";
+	public static final String PRICES = "prices";
+
+	private static final List<Column> ACCOUNT_COLUMNS = List.of(
+			new Column("id", ColumnType.STRING),
+			new Column("name", ColumnType.STRING),
+			new Column("type", ColumnType.DICTIONARY),
+			new Column("code", ColumnType.STRING),
+			new Column("description", ColumnType.STRING),
+			new Column("commodity", ColumnType.DICTIONARY),
+			new Column("parent_id", ColumnType.DICTIONARY));
+
+	private static final List<Column> TRANSACTION_COLUMNS = List.of(
+			new Column("id", ColumnType.STRING),
+			new Column("currency", ColumnType.DICTIONARY),
+			new Column("number", ColumnType.STRING),
+			new Column("date_posted", ColumnType.DATE),
+			new Column("description", ColumnType.STRING),
+			new Column("split_count", ColumnType.INTEGER));
+
+	private static final List<Column> SPLIT_COLUMNS = List.of(
+			new Column("id", ColumnType.STRING),
+			new Column("transaction_id", ColumnType.DICTIONARY),
+			new Column("account_id", ColumnType.DICTIONARY),
+			new Column("date_posted", ColumnType.DATE),
+			new Column("reconcile_state", ColumnType.DICTIONARY),
+			new Column("reconcile_date", ColumnType.DATE),
+			new Column("value", ColumnType.DECIMAL),
+			new Column("quantity", ColumnType.DECIMAL),
+			new Column("memo", ColumnType.STRING),
+			new Column("lot_id", ColumnType.DICTIONARY));
+
+	private static final List<Column> PRICE_COLUMNS = List.of(
+			new Column("id", ColumnType.STRING),
+			new Column("commodity", ColumnType.DICTIONARY),
+			new Column("currency", ColumnType.DICTIONARY),
+			new Column("time", ColumnType.TIMESTAMP),
+			new Column("source", ColumnType.DICTIONARY),
+			new Column("type", ColumnType.DICTIONARY),
+			new Column("value", ColumnType.DECIMAL));
+
+	private final AccStore store;
+	private final int rowGroupSize;
+
+	private ColumnarExport(AccStore store, int rowGroupSize) {
+		this.store = store;
+		this.rowGroupSize = rowGroupSize;
+	}
+
+	public static ColumnarExport create(@NonNull AccStore store) {
+		return create(store, DEFAULT_ROW_GROUP_SIZE);
+	}
+
+	/**
+	 * @param store        the store to export
+	 * @param rowGroupSize number of rows buffered per table before they are encoded and written
+	 * @return the export
+	 */
+	public static ColumnarExport create(@NonNull AccStore store, int rowGroupSize) {
+		if (rowGroupSize < 1) {
+			throw new IllegalArgumentException("Row group size must be positive: " + rowGroupSize);
+		}
+		return new ColumnarExport(store, rowGroupSize);
+	}
+
+	/**
+	 * Writes the tables into a directory, replacing existing table files.
+	 *
+	 * @param directory the target directory, created if missing
+	 * @return rows written per table name
+	 */
+	public Map<String, Long> export(@NonNull Path directory) {
+		Map<String, Long> rows = new LinkedHashMap<>();
+		try {
+			Files.createDirectories(directory);
+			try (ColumnarWriter accounts = writer(directory, ACCOUNTS, ACCOUNT_COLUMNS)) {
+				for (Account account : store.accounts()) {
+					accounts.row(account.id(), account.name(), account.type().name(), account.code().orElse(null),
+							account.description().orElse(null), account.commodity().map(ColumnarExport::commodity).orElse(null),
+							account.parentId().orElse(null));
+				}
+				rows.put(ACCOUNTS, accounts.rowCount());
+			}
+			try (ColumnarWriter transactions = writer(directory, TRANSACTIONS, TRANSACTION_COLUMNS);
+					ColumnarWriter splits = writer(directory, SPLITS, SPLIT_COLUMNS);
+					Stream<Transaction> stream = store.streamTransactions(LocalDate.MIN, LocalDate.MAX)) {
+				Iterator<Transaction> iterator = stream.iterator();
+				while (iterator.hasNext()) {
+					Transaction transaction = iterator.next();
+					transactions.row(transaction.id(), commodity(transaction.currency()), transaction.number().orElse(null),
+							transaction.datePosted(), transaction.description(), (long) transaction.splits().size());
+					for (Split split : transaction.splits()) {
+						splits.row(split.id(), split.transactionId(), split.accountId(), split.datePosted(),
+								split.reconcileState().code(), split.reconcileDate().orElse(null), split.value(), split.quantity(),
+								split.memo().orElse(null), split.lotId().orElse(null));
+					}
+				}
+				rows.put(TRANSACTIONS, transactions.rowCount());
+				rows.put(SPLITS, splits.rowCount());
+			}
+			try (ColumnarWriter prices = writer(directory, PRICES, PRICE_COLUMNS)) {
+				for (Price price : store.prices()) {
+					prices.row(price.id(), commodity(price.commodity()), commodity(price.currency()), price.time(),
+							price.source(), price.type().orElse(null), price.value());
+				}
+				rows.put(PRICES, prices.rowCount());
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to export book " + store.id() + " to " + directory, e);
+		}
+		log.info("Exported book {} to {}: {}", store.id(), directory, rows);
+		return rows;
+	}
+
+	/**
+	 * @param directory the export directory
+	 * @param table     the table name
+	 * @return the file of the table
+	 */
+	public static Path file(Path directory, String table) {
+		return directory.resolve(table + EXTENSION);
+	}
+
+	// ========== Helper Methods ==========
+
+	private ColumnarWriter writer(Path directory, String table, List<Column> columns) throws IOException {
+		return new ColumnarWriter(new BufferedOutputStream(Files.newOutputStream(file(directory, table))), table, columns, rowGroupSize);
+	}
+
+	private static String commodity(CommodityId commodity) {
+		return commodity.namespace() + ":" + commodity.id();
+	}
+}
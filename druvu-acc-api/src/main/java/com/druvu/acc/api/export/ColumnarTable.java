@@ -0,0 +1,210 @@
+package com.druvu.acc.api.export;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import lombok.NonNull;
+
+/**
+ * A table read back from a file written by {@link ColumnarExport}, values held column by column.
+ * <p>
+ * Values are {@link String}, {@link BigDecimal}, {@link LocalDate}, {@link LocalDateTime} or {@link Long}
+ * following the {@link ColumnType} of the column; nullable types hold null.
+ *
+ * @param name    the table name
+ * @param columns the columns read, in file order
+ * @param values  the values of each column, in the order of {@code columns}
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record ColumnarTable(
+		@NonNull
+		String name,
+		@NonNull
+		List<Column> columns,
+		@NonNull
+		List<List<Object>> values
+) {
+
+	/**
+	 * Reads all columns of a table file.
+	 *
+	 * @param path the file
+	 * @return the table
+	 */
+	public static ColumnarTable read(@NonNull Path path) {
+		return read(path, Set.of());
+	}
+
+	/**
+	 * Reads some columns of a table file, skipping the bytes of the others.
+	 *
+	 * @param path    the file
+	 * @param columns names of the columns to read, all if empty
+	 * @return the table with the requested columns
+	 */
+	public static ColumnarTable read(@NonNull Path path, @NonNull Set<String> columns) {
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+			return read(new DataInputStream(in), columns);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read columnar table: " + path, e);
+		}
+	}
+
+	/**
+	 * @return number of rows
+	 */
+	public int rowCount() {
+		return values.isEmpty() ? 0 : values.getFirst().size();
+	}
+
+	/**
+	 * @param column the column name
+	 * @return the values of the column
+	 */
+	public List<Object> values(String column) {
+		for (int i = 0; i < columns.size(); i++) {
+			if (columns.get(i).name().equals(column)) {
+				return values.get(i);
+			}
+		}
+		throw new IllegalArgumentException("No column " + column + " in table " + name);
+	}
+
+	// ========== Decoding ==========
+
+	private static ColumnarTable read(DataInputStream in, Set<String> names) throws IOException {
+		byte[] magic = new byte[ColumnarWriter.MAGIC.length];
+		in.readFully(magic);
+		if (!Arrays.equals(magic, ColumnarWriter.MAGIC)) {
+			throw new IllegalArgumentException("Not a columnar table file");
+		}
+		int version = in.readUnsignedByte();
+		if (version < 1 || version > ColumnarWriter.VERSION) {
+			throw new IllegalArgumentException("Unsupported columnar table version: " + version);
+		}
+		String table = ColumnCodec.readText(in);
+		int count = Math.toIntExact(ColumnCodec.readVarint(in));
+		List<Column> all = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			all.add(new Column(ColumnCodec.readText(in), ColumnType.fromCode(in.readUnsignedByte())));
+		}
+
+		List<Column> selected = new ArrayList<>();
+		List<List<Object>> values = new ArrayList<>();
+		for (Column column : all) {
+			if (names.isEmpty() || names.contains(column.name())) {
+				selected.add(column);
+				values.add(new ArrayList<>());
+			}
+		}
+		int rows;
+		while ((rows = Math.toIntExact(ColumnCodec.readVarint(in))) > 0) {
+			int target = 0;
+			for (Column column : all) {
+				int length = Math.toIntExact(ColumnCodec.readVarint(in));
+				if (target < selected.size() && selected.get(target) == column) {
+					byte[] chunk = new byte[length];
+					in.readFully(chunk);
+					decode(column.type(), rows, new DataInputStream(new ByteArrayInputStream(chunk)), values.get(target));
+					target++;
+				}
+				else {
+					in.skipNBytes(length);
+				}
+			}
+		}
+		List<List<Object>> columnValues = new ArrayList<>(values.size());
+		for (List<Object> column : values) {
+			columnValues.add(Collections.unmodifiableList(column));
+		}
+		return new ColumnarTable(table, List.copyOf(selected), List.copyOf(columnValues));
+	}
+
+	private static void decode(ColumnType type, int rows, DataInputStream in, List<Object> values) throws IOException {
+		switch (type) {
+			case DICTIONARY -> {
+				String[] dictionary = new String[Math.toIntExact(ColumnCodec.readVarint(in))];
+				for (int i = 0; i < dictionary.length; i++) {
+					dictionary[i] = ColumnCodec.readText(in);
+				}
+				for (int row = 0; row < rows; row++) {
+					int code = Math.toIntExact(ColumnCodec.readVarint(in));
+					values.add(code == 0 ? null : dictionary[code - 1]);
+				}
+			}
+			case STRING -> {
+				for (int row = 0; row < rows; row++) {
+					int length = Math.toIntExact(ColumnCodec.readVarint(in));
+					if (length == 0) {
+						values.add(null);
+					}
+					else {
+						byte[] bytes = new byte[length - 1];
+						in.readFully(bytes);
+						values.add(new String(bytes, StandardCharsets.UTF_8));
+					}
+				}
+			}
+			case DECIMAL -> {
+				int scale = in.readUnsignedByte();
+				for (int row = 0; row < rows; row++) {
+					if (scale == ColumnarWriter.UNSCALED) {
+						int valueScale = Math.toIntExact(ColumnCodec.readSigned(in));
+						byte[] bytes = new byte[Math.toIntExact(ColumnCodec.readVarint(in))];
+						in.readFully(bytes);
+						values.add(new BigDecimal(new BigInteger(bytes), valueScale));
+					}
+					else {
+						values.add(BigDecimal.valueOf(ColumnCodec.readSigned(in), scale));
+					}
+				}
+			}
+			case DATE -> {
+				for (int row = 0; row < rows; row++) {
+					Long day = readNullable(in);
+					values.add(day == null ? null : LocalDate.ofEpochDay(day));
+				}
+			}
+			case TIMESTAMP -> {
+				for (int row = 0; row < rows; row++) {
+					Long second = readNullable(in);
+					values.add(second == null ? null : LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC));
+				}
+			}
+			case INTEGER -> {
+				for (int row = 0; row < rows; row++) {
+					values.add(ColumnCodec.readSigned(in));
+				}
+			}
+		}
+	}
+
+	private static Long readNullable(DataInputStream in) throws IOException {
+		long value = ColumnCodec.readVarint(in);
+		if (value == 0) {
+			return null;
+		}
+		value--;
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
@@ -0,0 +1,221 @@
+package com.druvu.acc.api.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes one table in the columnar layout read by {@link ColumnarTable}.
+ * <p>
+ * Rows are buffered column by column until a row group is full, then every column of the group is encoded and
+ * written with its byte length, so readers can skip the columns they do not need. Only one row group is held
+ * in memory; dictionaries are built per row group.
+ * <p>
+ * File layout: the magic {@code DCOL}, a version byte, the table name, the column count and each column as
+ * name and type code, then the row groups as row count and column chunks, ended by a row count of 0.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class ColumnarWriter implements Closeable {
+
+	static final byte[] MAGIC = {'D', 'C', 'O', 'L'};
+	static final int VERSION = 2;
+	// scale byte of a decimal chunk written as a scale and unscaled bytes per value
+	static final int UNSCALED = 0xff;
+	// decimals of fractions that do not terminate are rounded to this scale
+	private static final int MAX_SCALE = 18;
+
+	private final OutputStream out;
+	private final List<Column> columns;
+	private final Object[][] group;
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+	private int rows;
+	private long rowCount;
+
+	ColumnarWriter(OutputStream out, String table, List<Column> columns, int rowGroupSize) throws IOException {
+		this.out = out;
+		this.columns = List.copyOf(columns);
+		this.group = new Object[columns.size()][rowGroupSize];
+		out.write(MAGIC);
+		out.write(VERSION);
+		ColumnCodec.writeText(buffer, table);
+		ColumnCodec.writeVarint(buffer, columns.size());
+		for (Column column : columns) {
+			ColumnCodec.writeText(buffer, column.name());
+			buffer.write(column.type().code());
+		}
+		buffer.writeTo(out);
+		buffer.reset();
+	}
+
+	/**
+	 * Adds a row, writing the row group when it is full.
+	 *
+	 * @param values one value per column, in column order
+	 */
+	void row(Object... values) throws IOException {
+		if (values.length != columns.size()) {
+			throw new IllegalArgumentException("Expected " + columns.size() + " values, got " + values.length);
+		}
+		for (int column = 0; column < values.length; column++) {
+			group[column][rows] = values[column];
+		}
+		rows++;
+		rowCount++;
+		if (rows == group[0].length) {
+			flush();
+		}
+	}
+
+	/**
+	 * @return rows written so far
+	 */
+	long rowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Writes the last row group and the end marker and closes the stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		try (out) {
+			flush();
+			ColumnCodec.writeVarint(buffer, 0);
+			buffer.writeTo(out);
+			buffer.reset();
+		}
+	}
+
+	// ========== Encoding ==========
+
+	private void flush() throws IOException {
+		if (rows == 0) {
+			return;
+		}
+		ColumnCodec.writeVarint(buffer, rows);
+		for (int column = 0; column < columns.size(); column++) {
+			encode(columns.get(column), group[column]);
+			ColumnCodec.writeVarint(buffer, chunk.size());
+			chunk.writeTo(buffer);
+			chunk.reset();
+			Arrays.fill(group[column], 0, rows, null);
+		}
+		buffer.writeTo(out);
+		buffer.reset();
+		rows = 0;
+	}
+
+	private void encode(Column column, Object[] values) {
+		switch (column.type()) {
+			case DICTIONARY -> encodeDictionary(values);
+			case STRING -> {
+				for (int row = 0; row < rows; row++) {
+					String text = (String) values[row];
+					if (text == null) {
+						ColumnCodec.writeVarint(chunk, 0);
+					}
+					else {
+						byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+						ColumnCodec.writeVarint(chunk, bytes.length + 1L);
+						chunk.writeBytes(bytes);
+					}
+				}
+			}
+			case DECIMAL -> encodeDecimals(column, values);
+			case DATE -> {
+				for (int row = 0; row < rows; row++) {
+					LocalDate date = (LocalDate) values[row];
+					writeNullable(date == null ? null : date.toEpochDay());
+				}
+			}
+			case TIMESTAMP -> {
+				for (int row = 0; row < rows; row++) {
+					LocalDateTime time = (LocalDateTime) values[row];
+					writeNullable(time == null ? null : time.toEpochSecond(ZoneOffset.UTC));
+				}
+			}
+			case INTEGER -> {
+				for (int row = 0; row < rows; row++) {
+					ColumnCodec.writeSigned(chunk, ((Number) values[row]).longValue());
+				}
+			}
+		}
+	}
+
+	private void encodeDictionary(Object[] values) {
+		Map<String, Integer> dictionary = new LinkedHashMap<>();
+		int[] codes = new int[rows];
+		for (int row = 0; row < rows; row++) {
+			String value = (String) values[row];
+			codes[row] = value == null ? 0 : dictionary.computeIfAbsent(value, _ -> dictionary.size()) + 1;
+		}
+		ColumnCodec.writeVarint(chunk, dictionary.size());
+		for (String value : dictionary.keySet()) {
+			ColumnCodec.writeText(chunk, value);
+		}
+		for (int code : codes) {
+			ColumnCodec.writeVarint(chunk, code);
+		}
+	}
+
+	/**
+	 * Writes the values at the largest scale of the group when all of them fit a long there, otherwise each
+	 * value with its own scale and unscaled bytes, so no amount is rounded to make the group fit.
+	 */
+	private void encodeDecimals(Column column, Object[] values) {
+		int scale = 0;
+		for (int row = 0; row < rows; row++) {
+			if (values[row] == null) {
+				throw new IllegalArgumentException("Null value in decimal column " + column.name());
+			}
+			scale = Math.max(scale, ((BigDecimal) values[row]).scale());
+		}
+		scale = Math.min(scale, MAX_SCALE);
+		if (!fits(values, scale)) {
+			chunk.write(UNSCALED);
+			for (int row = 0; row < rows; row++) {
+				BigDecimal value = capped((BigDecimal) values[row]);
+				ColumnCodec.writeSigned(chunk, value.scale());
+				byte[] bytes = value.unscaledValue().toByteArray();
+				ColumnCodec.writeVarint(chunk, bytes.length);
+				chunk.writeBytes(bytes);
+			}
+			return;
+		}
+		chunk.write(scale);
+		for (int row = 0; row < rows; row++) {
+			ColumnCodec.writeSigned(chunk, ((BigDecimal) values[row]).setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValue());
+		}
+	}
+
+	private boolean fits(Object[] values, int scale) {
+		for (int row = 0; row < rows; row++) {
+			if (((BigDecimal) values[row]).setScale(scale, RoundingMode.HALF_UP).unscaledValue().bitLength() >= Long.SIZE) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static BigDecimal capped(BigDecimal value) {
+		return value.scale() > MAX_SCALE ? value.setScale(MAX_SCALE, RoundingMode.HALF_UP) : value;
+	}
+
+	private void writeNullable(Long value) {
+		ColumnCodec.writeVarint(chunk, value == null ? 0 : ((value << 1) ^ (value >> 63)) + 1);
+	}
+}
@@ -0,0 +1,62 @@
+package com.druvu.acc.api.metrics;
+
+/**
+ * Service provider interface for exporting library metrics to a monitoring system.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader} or installed with
+ * {@link Metrics#install(AccMetrics)}, and typically forward to Micrometer, Prometheus or a similar registry.
+ * Every metric carries the book it was measured on, so loads and queries can be broken down per book.
+ * Metric names are listed in {@link MetricNames}.
+ * <p>
+ * Methods are called on the hot path of queries and must be thread-safe and cheap.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public interface AccMetrics {
+
+	/**
+	 * Metrics implementation discarding everything, used when no provider is present.
+	 */
+	AccMetrics NOOP = new AccMetrics() {
+
+		@Override
+		public void increment(String name, String book, long delta) {
+		}
+
+		@Override
+		public void recordTime(String name, String book, long nanos) {
+		}
+
+		@Override
+		public void recordValue(String name, String book, long value) {
+		}
+	};
+
+	/**
+	 * Adds to a counter.
+	 *
+	 * @param name  the metric name
+	 * @param book  the book label, usually its file name
+	 * @param delta the amount to add
+	 */
+	void increment(String name, String book, long delta);
+
+	/**
+	 * Records a duration into a timer histogram.
+	 *
+	 * @param name  the metric name
+	 * @param book  the book label, usually its file name
+	 * @param nanos the duration in nanoseconds
+	 */
+	void recordTime(String name, String book, long nanos);
+
+	/**
+	 * Records a value into a distribution histogram, e.g. result sizes.
+	 *
+	 * @param name  the metric name
+	 * @param book  the book label, usually its file name
+	 * @param value the recorded value
+	 */
+	void recordValue(String name, String book, long value);
+}
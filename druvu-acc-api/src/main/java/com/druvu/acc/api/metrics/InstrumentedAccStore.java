@@ -0,0 +1,350 @@
+package com.druvu.acc.api.metrics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.AccountTree;
+import com.druvu.acc.api.QueryPlan;
+import com.druvu.acc.api.SplitFilter;
+import com.druvu.acc.api.StoreFootprint;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Lot;
+import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.ScheduledTransaction;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.entity.Vendor;
+
+import lombok.NonNull;
+
+/**
+ * {@link AccStore} decorator timing every query.
+ * <p>
+ * Each call is reported as a {@code com.druvu.acc.StoreQuery} JFR event and to the active {@link AccMetrics}
+ * as a timer and a result size distribution named after the method. When JFR is off and no metrics provider
+ * is installed the overhead is two {@link System#nanoTime()} calls.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class InstrumentedAccStore implements AccStore {
+
+	private static final ToIntFunction<List<?>> LIST_SIZE = List::size;
+	private static final ToIntFunction<Optional<?>> OPTIONAL_SIZE = result -> result.isPresent() ? 1 : 0;
+
+	private final AccStore delegate;
+	private final String book;
+
+	private InstrumentedAccStore(AccStore delegate, String book) {
+		this.delegate = delegate;
+		this.book = book;
+	}
+
+	/**
+	 * Wraps a store, unless it is already instrumented.
+	 *
+	 * @param store the store to instrument
+	 * @param book  the book label reported with every metric, usually its file name
+	 * @return the instrumented store
+	 */
+	public static AccStore wrap(@NonNull AccStore store, @NonNull String book) {
+		return store instanceof InstrumentedAccStore ? store : new InstrumentedAccStore(store, book);
+	}
+
+	/**
+	 * @return the wrapped store
+	 */
+	public AccStore delegate() {
+		return delegate;
+	}
+
+	// ========== AccStore Interface ==========
+
+	@Override
+	public String id() {
+		return delegate.id();
+	}
+
+	@Override
+	public StoreFootprint footprint() {
+		return delegate.footprint();
+	}
+
+	@Override
+	public long revision() {
+		return delegate.revision();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	@Override
+	public List<CommodityId> commodities() {
+		return query(Query.COMMODITIES, delegate::commodities, LIST_SIZE);
+	}
+
+	@Override
+	public Optional<Integer> commodityFraction(CommodityId commodity) {
+		return query(Query.COMMODITY_FRACTION, () -> delegate.commodityFraction(commodity), OPTIONAL_SIZE);
+	}
+
+	@Override
+	public List<Price> prices() {
+		return query(Query.PRICES, delegate::prices, LIST_SIZE);
+	}
+
+	@Override
+	public List<Account> accounts() {
+		return query(Query.ACCOUNTS, delegate::accounts, LIST_SIZE);
+	}
+
+	@Override
+	public List<Account> rootAccounts() {
+		return query(Query.ROOT_ACCOUNTS, delegate::rootAccounts, LIST_SIZE);
+	}
+
+	@Override
+	public Optional<Account> accountById(String id) {
+		return query(Query.ACCOUNT_BY_ID, () -> delegate.accountById(id), OPTIONAL_SIZE);
+	}
+
+	@Override
+	public Optional<Account> accountByName(String qualifiedName) {
+		return query(Query.ACCOUNT_BY_NAME, () -> delegate.accountByName(qualifiedName), OPTIONAL_SIZE);
+	}
+
+	@Override
+	public Optional<Integer> accountFraction(String accountId) {
+		return query(Query.ACCOUNT_FRACTION, () -> delegate.accountFraction(accountId), OPTIONAL_SIZE);
+	}
+
+	@Override
+	public Optional<String> qualifiedName(String accountId) {
+		return query(Query.QUALIFIED_NAME, () -> delegate.qualifiedName(accountId), OPTIONAL_SIZE);
+	}
+
+	@Override
+	public AccountTree accountTree() {
+		return delegate.accountTree();
+	}
+
+	@Override
+	public List<String> fetchChildIds(String accountId) {
+		return query(Query.FETCH_CHILD_IDS, () -> delegate.fetchChildIds(accountId), LIST_SIZE);
+	}
+
+	@Override
+	public List<Transaction> transactions() {
+		return query(Query.TRANSACTIONS, delegate::transactions, LIST_SIZE);
+	}
+
+	@Override
+	public Optional<Transaction> transactionById(String id) {
+		return query(Query.TRANSACTION_BY_ID, () -> delegate.transactionById(id), OPTIONAL_SIZE);
+	}
+
+	@Override
+	public Optional<LocalDateTime> dateEntered(String transactionId) {
+		return query(Query.DATE_ENTERED, () -> delegate.dateEntered(transactionId), OPTIONAL_SIZE);
+	}
+
+	@Override
+	public List<Transaction> transactions(LocalDate from, LocalDate to) {
+		return query(Query.TRANSACTIONS_IN_RANGE, () -> delegate.transactions(from, to), LIST_SIZE);
+	}
+
+	/**
+	 * Not timed, the stream is consumed after this call returns.
+	 */
+	@Override
+	public Stream<Transaction> streamTransactions(LocalDate from, LocalDate to) {
+		return delegate.streamTransactions(from, to);
+	}
+
+	@Override
+	public void addTransactions(List<Transaction> transactions) {
+		delegate.addTransactions(transactions);
+	}
+
+	@Override
+	public List<Transaction> transactionsForAccount(String accountId) {
+		return query(Query.TRANSACTIONS_FOR_ACCOUNT, () -> delegate.transactionsForAccount(accountId), LIST_SIZE);
+	}
+
+	@Override
+	public List<Split> splitsForAccount(String accountId) {
+		return query(Query.SPLITS_FOR_ACCOUNT, () -> delegate.splitsForAccount(accountId), LIST_SIZE);
+	}
+
+	@Override
+	public List<Split> splitsForLot(String lotId) {
+		return query(Query.SPLITS_FOR_LOT, () -> delegate.splitsForLot(lotId), LIST_SIZE);
+	}
+
+	@Override
+	public List<Split> splitsForSubtree(String accountId, LocalDate from, LocalDate to) {
+		return query(Query.SPLITS_FOR_SUBTREE, () -> delegate.splitsForSubtree(accountId, from, to), LIST_SIZE);
+	}
+
+	@Override
+	public void reconcileSplits(Collection<String> splitIds, ReconcileState state, LocalDate reconcileDate) {
+		delegate.reconcileSplits(splitIds, state, reconcileDate);
+	}
+
+	/**
+	 * Plans with the wrapped store and times each execution of the plan.
+	 */
+	@Override
+	public QueryPlan plan(SplitFilter filter) {
+		QueryPlan plan = delegate.plan(filter);
+		return new QueryPlan(plan.filter(), plan.access(), plan.considered(),
+				() -> query(Query.SPLIT_QUERY, plan::execute, LIST_SIZE));
+	}
+
+	@Override
+	public List<Lot> lots() {
+		return query(Query.LOTS, delegate::lots, LIST_SIZE);
+	}
+
+	@Override
+	public List<Lot> lotsForAccount(String accountId) {
+		return query(Query.LOTS_FOR_ACCOUNT, () -> delegate.lotsForAccount(accountId), LIST_SIZE);
+	}
+
+	@Override
+	public List<ScheduledTransaction> scheduledTransactions() {
+		return query(Query.SCHEDULED_TRANSACTIONS, delegate::scheduledTransactions, LIST_SIZE);
+	}
+
+	@Override
+	public List<Budget> budgets() {
+		return query(Query.BUDGETS, delegate::budgets, LIST_SIZE);
+	}
+
+	@Override
+	public List<Customer> customers() {
+		return query(Query.CUSTOMERS, delegate::customers, LIST_SIZE);
+	}
+
+	@Override
+	public List<Vendor> vendors() {
+		return query(Query.VENDORS, delegate::vendors, LIST_SIZE);
+	}
+
+	@Override
+	public List<Job> jobs() {
+		return query(Query.JOBS, delegate::jobs, LIST_SIZE);
+	}
+
+	@Override
+	public List<Invoice> invoices() {
+		return query(Query.INVOICES, delegate::invoices, LIST_SIZE);
+	}
+
+	@Override
+	public List<Invoice> invoicesForOwner(String ownerId) {
+		return query(Query.INVOICES_FOR_OWNER, () -> delegate.invoicesForOwner(ownerId), LIST_SIZE);
+	}
+
+	@Override
+	public Optional<Invoice> invoiceForTransaction(String transactionId) {
+		return query(Query.INVOICE_FOR_TRANSACTION, () -> delegate.invoiceForTransaction(transactionId), OPTIONAL_SIZE);
+	}
+
+	@Override
+	public List<InvoiceEntry> entriesForInvoice(String invoiceId) {
+		return query(Query.ENTRIES_FOR_INVOICE, () -> delegate.entriesForInvoice(invoiceId), LIST_SIZE);
+	}
+
+	// ========== Helper Methods ==========
+
+	private <T> T query(Query query, Supplier<T> call, ToIntFunction<? super T> size) {
+		StoreQueryEvent event = new StoreQueryEvent();
+		event.begin();
+		long start = System.nanoTime();
+		T result = call.get();
+		long elapsed = System.nanoTime() - start;
+		event.end();
+
+		int resultSize = size.applyAsInt(result);
+		AccMetrics metrics = Metrics.get();
+		if (metrics != AccMetrics.NOOP) {
+			metrics.recordTime(query.timeName, book, elapsed);
+			metrics.recordValue(query.resultsName, book, resultSize);
+		}
+		if (event.shouldCommit()) {
+			event.book = book;
+			event.method = query.method;
+			event.resultSize = resultSize;
+			event.commit();
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+
+	/**
+	 * Instrumented methods with their precomputed metric names.
+	 */
+	private enum Query {
+		COMMODITIES("commodities"),
+		COMMODITY_FRACTION("commodityFraction"),
+		PRICES("prices"),
+		ACCOUNTS("accounts"),
+		ROOT_ACCOUNTS("rootAccounts"),
+		ACCOUNT_BY_ID("accountById"),
+		ACCOUNT_BY_NAME("accountByName"),
+		ACCOUNT_FRACTION("accountFraction"),
+		QUALIFIED_NAME("qualifiedName"),
+		FETCH_CHILD_IDS("fetchChildIds"),
+		TRANSACTIONS("transactions"),
+		TRANSACTION_BY_ID("transactionById"),
+		DATE_ENTERED("dateEntered"),
+		TRANSACTIONS_IN_RANGE("transactionsInRange"),
+		TRANSACTIONS_FOR_ACCOUNT("transactionsForAccount"),
+		SPLITS_FOR_ACCOUNT("splitsForAccount"),
+		SPLITS_FOR_LOT("splitsForLot"),
+		SPLITS_FOR_SUBTREE("splitsForSubtree"),
+		SPLIT_QUERY("splitQuery"),
+		LOTS("lots"),
+		LOTS_FOR_ACCOUNT("lotsForAccount"),
+		SCHEDULED_TRANSACTIONS("scheduledTransactions"),
+		BUDGETS("budgets"),
+		CUSTOMERS("customers"),
+		VENDORS("vendors"),
+		JOBS("jobs"),
+		INVOICES("invoices"),
+		INVOICES_FOR_OWNER("invoicesForOwner"),
+		INVOICE_FOR_TRANSACTION("invoiceForTransaction"),
+		ENTRIES_FOR_INVOICE("entriesForInvoice");
+
+		private final String method;
+		private final String timeName;
+		private final String resultsName;
+
+		Query(String method) {
+			this.method = method;
+			this.timeName = MetricNames.QUERY_TIME_PREFIX + method;
+			this.resultsName = MetricNames.QUERY_RESULTS_PREFIX + method;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.druvu.acc.api.metrics;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Names of the metrics reported to {@link AccMetrics}.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@UtilityClass
+public final class MetricNames {
+
+	// ========== Loading ==========
+
+	/**
+	 * Counter of loaded books.
+	 */
+	public static final String LOAD_COUNT = "acc.load.count";
+
+	/**
+	 * Counter of failed loads.
+	 */
+	public static final String LOAD_FAILURES = "acc.load.failures";
+
+	/**
+	 * Timer of the whole load.
+	 */
+	public static final String LOAD_TIME = "acc.load.time";
+
+	/**
+	 * Timer of reading and decompressing the file; for uncompressed files only the reading.
+	 */
+	public static final String LOAD_DECOMPRESS_TIME = "acc.load.decompress.time";
+
+	/**
+	 * Timer of parsing the XML, reading and decompressing excluded.
+	 */
+	public static final String LOAD_PARSE_TIME = "acc.load.parse.time";
+
+	/**
+	 * Timer of mapping the parsed model to entities.
+	 */
+	public static final String LOAD_MAP_TIME = "acc.load.map.time";
+
+	/**
+	 * Timer of building lookup indexes.
+	 */
+	public static final String LOAD_INDEX_TIME = "acc.load.index.time";
+
+	// ========== Saving ==========
+
+	/**
+	 * Counter of saved books.
+	 */
+	public static final String SAVE_COUNT = "acc.save.count";
+
+	/**
+	 * Timer of the whole save.
+	 */
+	public static final String SAVE_TIME = "acc.save.time";
+
+	/**
+	 * Timer of compressing and writing the file; for uncompressed files only the writing.
+	 */
+	public static final String SAVE_COMPRESS_TIME = "acc.save.compress.time";
+
+	// ========== Queries ==========
+
+	/**
+	 * Prefix of the per-method query timers, followed by the {@code AccStore} method name.
+	 */
+	public static final String QUERY_TIME_PREFIX = "acc.query.time.";
+
+	/**
+	 * Prefix of the per-method result size distributions, followed by the {@code AccStore} method name.
+	 */
+	public static final String QUERY_RESULTS_PREFIX = "acc.query.results.";
+}
@@ -0,0 +1,84 @@
+package com.druvu.acc.api.metrics;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holder of the active {@link AccMetrics} implementation.
+ * <p>
+ * On first use the providers registered with {@link ServiceLoader} are loaded; several providers all receive
+ * every metric, none means {@link AccMetrics#NOOP}. {@link #install(AccMetrics)} replaces the active
+ * implementation, e.g. in tests or when the registry is wired by the application.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+@UtilityClass
+public final class Metrics {
+
+	private static volatile AccMetrics active;
+
+	/**
+	 * @return the active metrics implementation, never {@code null}
+	 */
+	public static AccMetrics get() {
+		AccMetrics metrics = active;
+		if (metrics == null) {
+			synchronized (Metrics.class) {
+				metrics = active;
+				if (metrics == null) {
+					metrics = discover();
+					active = metrics;
+				}
+			}
+		}
+		return metrics;
+	}
+
+	/**
+	 * Replaces the active metrics implementation.
+	 *
+	 * @param metrics the implementation to use from now on, {@link AccMetrics#NOOP} to disable metrics
+	 */
+	public static void install(@NonNull AccMetrics metrics) {
+		active = metrics;
+	}
+
+	private static AccMetrics discover() {
+		List<AccMetrics> providers = ServiceLoader.load(AccMetrics.class).stream()
+				.map(ServiceLoader.Provider::get)
+				.toList();
+		log.debug("Found {} metrics providers", providers.size());
+		return switch (providers.size()) {
+			case 0 -> AccMetrics.NOOP;
+			case 1 -> providers.getFirst();
+			default -> new Composite(providers);
+		};
+	}
+
+	/**
+	 * Forwards to several providers.
+	 */
+	private record Composite(List<AccMetrics> delegates) implements AccMetrics {
+
+		@Override
+		public void increment(String name, String book, long delta) {
+			delegates.forEach(metrics -> metrics.increment(name, book, delta));
+		}
+
+		@Override
+		public void recordTime(String name, String book, long nanos) {
+			delegates.forEach(metrics -> metrics.recordTime(name, book, nanos));
+		}
+
+		@Override
+		public void recordValue(String name, String book, long value) {
+			delegates.forEach(metrics -> metrics.recordValue(name, book, value));
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.druvu.acc.api.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one {@code AccStore} query.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Name("com.druvu.acc.StoreQuery")
+@Label("Store Query")
+@Category({"Druvu", "Accounting"})
+@Description("A query on a loaded accounting book")
+@StackTrace(false)
+final class StoreQueryEvent extends jdk.jfr.Event {
+
+	@Label("Book")
+	String book;
+
+	@Label("Method")
+	String method;
+
+	@Label("Result Size")
+	int resultSize;
+}
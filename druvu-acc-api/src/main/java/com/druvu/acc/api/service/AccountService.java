@@ -15,6 +15,8 @@ import lombok.NonNull;
 
 /**
  * Business logic for account operations.
+ * <p>
+ * With {@link BalanceCheckpoints}, balances start from the nearest checkpoint and only sum the splits after it.
  *
  * @author : Deniss Larka
  * on 14 Jan 2026
@@ -24,6 +26,11 @@ public class AccountService {
 
 	private final AccStore store;
 	private final String rootAccountName;
+	private final BalanceCheckpoints checkpoints;
+
+	public AccountService(AccStore store, String rootAccountName) {
+		this(store, rootAccountName, null);
+	}
 
 	public static AccountService create(AccStore store) {
 		return create(store, null);
@@ -33,6 +40,10 @@ public class AccountService {
 		return new AccountService(store, rootAccountName);
 	}
 
+	public static AccountService create(AccStore store, String rootAccountName, BalanceCheckpoints checkpoints) {
+		return new AccountService(store, rootAccountName, checkpoints);
+	}
+
 	public Account accountByName(String accountName) {
 		final Optional<Account> accAccountOpt =
 				rootAccountName == null
@@ -46,6 +57,21 @@ public class AccountService {
 	}
 
 	public BigDecimal balance(@NonNull String accountId, LocalDate toDate) {
+		final Optional<BalancePoint> checkpoint = checkpoints == null
+				? Optional.empty()
+				: checkpoints.checkpoint(accountId, toDate != null ? toDate : LocalDate.MAX);
+		if (checkpoint.isPresent() && checkpoint.get().date().equals(toDate)) {
+			return checkpoint.get().balance();
+		}
+		if (checkpoint.isPresent()) {
+			return store.query()
+					.accounts(accountId)
+					.between(checkpoint.get().date().plusDays(1), toDate)
+					.list()
+					.stream()
+					.map(Split::quantity)
+					.reduce(checkpoint.get().balance(), BigDecimal::add);
+		}
 		final List<Split> splits = store.splitsForAccount(accountId);
 		final Predicate<Split> datePredicate = toDate != null
 				? split -> split.datePosted().isBefore(toDate.plusDays(1))
@@ -0,0 +1,28 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Open balance of one customer or vendor, split by age.
+ *
+ * @param ownerId   ID of the customer, vendor or employee
+ * @param ownerName name of the owner, its ID for employees
+ * @param buckets   open amounts per age bucket, youngest first
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record AgingRow(
+		String ownerId,
+		String ownerName,
+		List<BigDecimal> buckets
+) {
+
+	/**
+	 * @return the open amount over all buckets
+	 */
+	public BigDecimal total() {
+		return buckets.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+	}
+}
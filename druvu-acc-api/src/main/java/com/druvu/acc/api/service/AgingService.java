@@ -0,0 +1,177 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Owner;
+import com.druvu.acc.api.entity.OwnerType;
+import com.druvu.acc.api.entity.Split;
+
+import lombok.NonNull;
+
+/**
+ * Accounts receivable and payable aging.
+ * <p>
+ * The open amount of an invoice is the balance of the lot its posting opened, payments being added to the same
+ * lot. All lot balances are collected in one pass over the splits of the receivable or payable accounts, and
+ * invoices are joined to their lots and owners through hash maps, so the cost is linear in the number of
+ * invoices and posting account splits. Invoices are aged by their posting date.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class AgingService {
+
+	/**
+	 * Bucket limits of the usual aging report: up to 30, 31 to 60, 61 to 90 and over 90 days.
+	 */
+	public static final List<Integer> DEFAULT_BUCKETS = List.of(30, 60, 90);
+
+	private final AccStore store;
+
+	private AgingService(AccStore store) {
+		this.store = store;
+	}
+
+	public static AgingService create(@NonNull AccStore store) {
+		return new AgingService(store);
+	}
+
+	/**
+	 * @param asOf date of the report
+	 * @return open customer invoices by customer, in the default buckets
+	 */
+	public List<AgingRow> receivables(@NonNull LocalDate asOf) {
+		return aging(OwnerType.CUSTOMER, asOf, DEFAULT_BUCKETS);
+	}
+
+	/**
+	 * @param asOf date of the report
+	 * @return open vendor bills by vendor, in the default buckets
+	 */
+	public List<AgingRow> payables(@NonNull LocalDate asOf) {
+		return aging(OwnerType.VENDOR, asOf, DEFAULT_BUCKETS);
+	}
+
+	/**
+	 * Computes the open invoices of all owners of a kind by age.
+	 * <p>
+	 * Invoices of jobs count for the job's owner. Amounts are positive when owed to the book for customers and
+	 * when owed by the book for vendors and employees. Owners without open amounts are left out.
+	 *
+	 * @param ownerType    customers, vendors or employees
+	 * @param asOf         date of the report, invoices posted and payments made after it are ignored
+	 * @param bucketLimits ascending maximum age in days of each bucket, one more bucket holds older invoices
+	 * @return one row per owner, in the order of their first invoice
+	 */
+	public List<AgingRow> aging(@NonNull OwnerType ownerType, @NonNull LocalDate asOf, @NonNull List<Integer> bucketLimits) {
+		if (ownerType == OwnerType.JOB) {
+			throw new IllegalArgumentException("Jobs are aged with their owner");
+		}
+		int[] limits = limits(bucketLimits);
+
+		Map<String, Owner> jobOwners = new HashMap<>();
+		for (Job job : store.jobs()) {
+			jobOwners.put(job.id(), job.owner());
+		}
+
+		// open invoices by lot, and the accounts they were posted to
+		Map<String, Invoice> invoicesByLot = new LinkedHashMap<>();
+		Map<String, Owner> owners = new HashMap<>();
+		Set<String> postAccounts = new LinkedHashSet<>();
+		for (Invoice invoice : store.invoices()) {
+			if (invoice.posted().isEmpty() || invoice.posted().get().isAfter(asOf)
+					|| invoice.postLotId().isEmpty() || invoice.postAccountId().isEmpty()) {
+				continue;
+			}
+			Owner owner = invoice.owner().type() == OwnerType.JOB
+					? jobOwners.getOrDefault(invoice.owner().id(), invoice.owner())
+					: invoice.owner();
+			if (owner.type() == ownerType) {
+				invoicesByLot.put(invoice.postLotId().get(), invoice);
+				owners.put(invoice.id(), owner);
+				postAccounts.add(invoice.postAccountId().get());
+			}
+		}
+
+		Map<String, BigDecimal> lotBalances = HashMap.newHashMap(invoicesByLot.size());
+		for (String accountId : postAccounts) {
+			for (Split split : store.splitsForAccount(accountId)) {
+				if (!split.datePosted().isAfter(asOf) && split.lotId().isPresent() && invoicesByLot.containsKey(split.lotId().get())) {
+					lotBalances.merge(split.lotId().get(), split.quantity(), BigDecimal::add);
+				}
+			}
+		}
+
+		Map<String, String> names = names(ownerType);
+		Map<String, BigDecimal[]> buckets = new LinkedHashMap<>();
+		for (Invoice invoice : invoicesByLot.values()) {
+			BigDecimal balance = lotBalances.get(invoice.postLotId().orElseThrow());
+			if (balance == null || balance.signum() == 0) {
+				continue;
+			}
+			if (ownerType != OwnerType.CUSTOMER) {
+				balance = balance.negate();
+			}
+			long age = ChronoUnit.DAYS.between(invoice.posted().orElseThrow(), asOf);
+			BigDecimal[] row = buckets.computeIfAbsent(owners.get(invoice.id()).id(), _ -> zeros(limits.length + 1));
+			int bucket = bucket(limits, age);
+			row[bucket] = row[bucket].add(balance);
+		}
+
+		List<AgingRow> rows = new ArrayList<>(buckets.size());
+		buckets.forEach((ownerId, row) -> rows.add(new AgingRow(ownerId, names.getOrDefault(ownerId, ownerId), List.of(row))));
+		return rows;
+	}
+
+	// ========== Helper Methods ==========
+
+	private Map<String, String> names(OwnerType ownerType) {
+		Map<String, String> names = new HashMap<>();
+		switch (ownerType) {
+			case CUSTOMER -> store.customers().forEach(customer -> names.put(customer.id(), customer.name()));
+			case VENDOR -> store.vendors().forEach(vendor -> names.put(vendor.id(), vendor.name()));
+			default -> {
+				// employees are not exposed, their ID is used
+			}
+		}
+		return names;
+	}
+
+	private static int[] limits(List<Integer> bucketLimits) {
+		int[] limits = bucketLimits.stream().mapToInt(Integer::intValue).toArray();
+		for (int i = 0; i < limits.length; i++) {
+			if (limits[i] < 0 || i > 0 && limits[i] <= limits[i - 1]) {
+				throw new IllegalArgumentException("Bucket limits must be ascending and non-negative: " + bucketLimits);
+			}
+		}
+		return limits;
+	}
+
+	private static int bucket(int[] limits, long age) {
+		for (int i = 0; i < limits.length; i++) {
+			if (age <= limits[i]) {
+				return i;
+			}
+		}
+		return limits.length;
+	}
+
+	private static BigDecimal[] zeros(int size) {
+		BigDecimal[] values = new BigDecimal[size];
+		Arrays.fill(values, BigDecimal.ZERO);
+		return values;
+	}
+}
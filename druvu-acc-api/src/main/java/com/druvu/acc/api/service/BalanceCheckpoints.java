@@ -0,0 +1,292 @@
+package com.druvu.acc.api.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cumulative account balances at the end of each closed year, so balance queries only sum the splits after the
+ * nearest checkpoint instead of replaying the whole history.
+ * <p>
+ * Checkpoints are built with a single pass over the transactions, at December 31 of every year before the year
+ * of the last transaction. Persisted checkpoints are written to a sidecar file next to the book and keyed by the
+ * book ID, the size and the modification time of the book file; a sidecar of another book version is rebuilt.
+ * When {@link AccStore#revision()} changes, the checkpoints are rebuilt in memory from the store.
+ * <p>
+ * The service is thread-safe.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+public final class BalanceCheckpoints {
+
+	/**
+	 * Suffix appended to the book file name to name its sidecar file.
+	 */
+	public static final String SIDECAR_SUFFIX = ".checkpoints";
+
+	private static final int MAGIC = 0x44414343;
+	private static final int FORMAT = 1;
+
+	private final AccStore store;
+	private final Path book;
+	private final Path sidecar;
+	private volatile Snapshot snapshot;
+
+	private BalanceCheckpoints(AccStore store, Path book) {
+		this.store = store;
+		this.book = book;
+		this.sidecar = book == null ? null : book.resolveSibling(book.getFileName() + SIDECAR_SUFFIX);
+	}
+
+	/**
+	 * Creates checkpoints kept in memory only.
+	 *
+	 * @param store the store
+	 * @return the checkpoints, built on first use
+	 */
+	public static BalanceCheckpoints create(@NonNull AccStore store) {
+		return new BalanceCheckpoints(store, null);
+	}
+
+	/**
+	 * Creates checkpoints persisted in a sidecar file next to the book.
+	 *
+	 * @param store the store loaded from the book
+	 * @param book  the book file
+	 * @return the checkpoints, read or built on first use
+	 */
+	public static BalanceCheckpoints create(@NonNull AccStore store, @NonNull Path book) {
+		return new BalanceCheckpoints(store, book);
+	}
+
+	/**
+	 * Finds the latest checkpoint on or before a date.
+	 *
+	 * @param accountId the account ID
+	 * @param date      the date
+	 * @return the balance of the account including everything posted on the checkpoint date, empty if no
+	 * checkpoint precedes the date
+	 */
+	public Optional<BalancePoint> checkpoint(@NonNull String accountId, @NonNull LocalDate date) {
+		Snapshot current = snapshot();
+		int index = Arrays.binarySearch(current.dates, date);
+		if (index < 0) {
+			index = -index - 2;
+		}
+		if (index < 0) {
+			return Optional.empty();
+		}
+		BigDecimal[] balances = current.balances.get(accountId);
+		return Optional.of(new BalancePoint(current.dates[index], balances == null ? BigDecimal.ZERO : balances[index]));
+	}
+
+	/**
+	 * @return the checkpoint dates in ascending order
+	 */
+	public List<LocalDate> dates() {
+		return List.of(snapshot().dates);
+	}
+
+	/**
+	 * @return the sidecar file, empty for checkpoints kept in memory only
+	 */
+	public Optional<Path> sidecar() {
+		return Optional.ofNullable(sidecar);
+	}
+
+	// ========== Helper Methods ==========
+
+	private Snapshot snapshot() {
+		long revision = store.revision();
+		Snapshot current = snapshot;
+		if (current != null && current.revision == revision) {
+			return current;
+		}
+		synchronized (this) {
+			current = snapshot;
+			if (current == null || current.revision != revision) {
+				current = load(revision);
+				snapshot = current;
+			}
+			return current;
+		}
+	}
+
+	/**
+	 * Only the content as loaded from the book file, revision 0, is persisted; modified content would not match
+	 * the file on the next load.
+	 */
+	private Snapshot load(long revision) {
+		if (sidecar == null || revision != 0) {
+			return build(revision);
+		}
+		String version = version();
+		Snapshot read = read(version, revision);
+		if (read != null) {
+			return read;
+		}
+		Snapshot built = build(revision);
+		write(built, version);
+		return built;
+	}
+
+	/**
+	 * Identifies the book content: the book ID and the size and modification time of the book file.
+	 */
+	private String version() {
+		try {
+			return store.id() + '/' + Files.size(book) + '/' + Files.getLastModifiedTime(book).toMillis();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read attributes of " + book, e);
+		}
+	}
+
+	private Snapshot build(long revision) {
+		List<Transaction> transactions = store.transactions();
+		if (transactions.isEmpty()) {
+			return new Snapshot(revision, new LocalDate[0], Map.of());
+		}
+		int firstYear = transactions.getFirst().datePosted().getYear();
+		int lastYear = transactions.getLast().datePosted().getYear();
+		LocalDate[] dates = new LocalDate[Math.max(0, lastYear - firstYear)];
+		for (int i = 0; i < dates.length; i++) {
+			dates[i] = LocalDate.of(firstYear + i, 12, 31);
+		}
+
+		Map<String, BigDecimal[]> balances = new HashMap<>();
+		Map<String, BigDecimal> totals = new HashMap<>();
+		int next = 0;
+		for (Transaction transaction : transactions) {
+			while (next < dates.length && transaction.datePosted().isAfter(dates[next])) {
+				close(totals, balances, next++, dates.length);
+			}
+			for (Split split : transaction.splits()) {
+				totals.merge(split.accountId(), split.quantity(), BigDecimal::add);
+			}
+		}
+		while (next < dates.length) {
+			close(totals, balances, next++, dates.length);
+		}
+		log.debug("Built {} balance checkpoints of {} accounts for book {}", dates.length, balances.size(), store.id());
+		return new Snapshot(revision, dates, balances);
+	}
+
+	private static void close(Map<String, BigDecimal> totals, Map<String, BigDecimal[]> balances, int index, int size) {
+		totals.forEach((accountId, total) -> {
+			BigDecimal[] row = balances.computeIfAbsent(accountId, _ -> {
+				BigDecimal[] zeros = new BigDecimal[size];
+				Arrays.fill(zeros, BigDecimal.ZERO);
+				return zeros;
+			});
+			row[index] = total;
+		});
+	}
+
+	/**
+	 * @return the persisted checkpoints, null if the sidecar is missing, unreadable or of another book version
+	 */
+	private Snapshot read(String version, long revision) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(sidecar)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT || !in.readUTF().equals(version)) {
+				log.debug("Balance checkpoints {} are stale, rebuilding", sidecar);
+				return null;
+			}
+			LocalDate[] dates = new LocalDate[in.readInt()];
+			for (int i = 0; i < dates.length; i++) {
+				dates[i] = LocalDate.ofEpochDay(in.readLong());
+			}
+			int accounts = in.readInt();
+			Map<String, BigDecimal[]> balances = HashMap.newHashMap(accounts);
+			for (int i = 0; i < accounts; i++) {
+				String accountId = in.readUTF();
+				BigDecimal[] row = new BigDecimal[dates.length];
+				for (int j = 0; j < row.length; j++) {
+					int scale = in.readInt();
+					byte[] unscaled = new byte[in.readInt()];
+					in.readFully(unscaled);
+					row[j] = new BigDecimal(new BigInteger(unscaled), scale);
+				}
+				balances.put(accountId, row);
+			}
+			return new Snapshot(revision, dates, balances);
+		}
+		catch (NoSuchFileException e) {
+			return null;
+		}
+		catch (IOException | RuntimeException e) {
+			log.warn("Failed to read balance checkpoints {}, rebuilding", sidecar, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the sidecar through a temporary file, so readers never see a partial file. Failures are logged,
+	 * the checkpoints are still used from memory.
+	 */
+	private void write(Snapshot snapshot, String version) {
+		Path temp = sidecar.resolveSibling(sidecar.getFileName() + ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT);
+				out.writeUTF(version);
+				out.writeInt(snapshot.dates.length);
+				for (LocalDate date : snapshot.dates) {
+					out.writeLong(date.toEpochDay());
+				}
+				out.writeInt(snapshot.balances.size());
+				for (Map.Entry<String, BigDecimal[]> entry : snapshot.balances.entrySet()) {
+					out.writeUTF(entry.getKey());
+					for (BigDecimal balance : entry.getValue()) {
+						byte[] unscaled = balance.unscaledValue().toByteArray();
+						out.writeInt(balance.scale());
+						out.writeInt(unscaled.length);
+						out.write(unscaled);
+					}
+				}
+			}
+			Files.move(temp, sidecar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			log.debug("Wrote {} balance checkpoints to {}", snapshot.dates.length, sidecar);
+		}
+		catch (IOException e) {
+			log.warn("Failed to write balance checkpoints {}", sidecar, e);
+			try {
+				Files.deleteIfExists(temp);
+			}
+			catch (IOException _) {
+				// nothing left to do
+			}
+		}
+	}
+
+	/**
+	 * Balances at the checkpoint dates, accounts without splits before the last checkpoint having no row.
+	 */
+	private record Snapshot(long revision, LocalDate[] dates, Map<String, BigDecimal[]> balances) {
+	}
+}
@@ -0,0 +1,19 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Balance of an account at the end of a day.
+ *
+ * @param date    the date
+ * @param balance the balance including everything posted on that date
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record BalancePoint(
+		LocalDate date,
+		BigDecimal balance
+) {
+}
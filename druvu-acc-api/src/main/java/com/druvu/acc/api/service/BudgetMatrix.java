@@ -0,0 +1,126 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense account by period matrix of budgeted and actual amounts.
+ * <p>
+ * Cells without a budgeted amount or without splits hold zero. Actual amounts follow the split convention,
+ * debits are positive, so expenses are positive and income is negative.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class BudgetMatrix {
+
+	private final List<String> accountIds;
+	private final Map<String, Integer> rows;
+	private final List<LocalDate> boundaries;
+	private final BigDecimal[] budgeted;
+	private final BigDecimal[] actual;
+
+	BudgetMatrix(List<String> accountIds, Map<String, Integer> rows, List<LocalDate> boundaries, BigDecimal[] budgeted, BigDecimal[] actual) {
+		this.accountIds = accountIds;
+		this.rows = rows;
+		this.boundaries = boundaries;
+		this.budgeted = budgeted;
+		this.actual = actual;
+	}
+
+	/**
+	 * @return the account IDs of the rows, in row order
+	 */
+	public List<String> accountIds() {
+		return accountIds;
+	}
+
+	/**
+	 * @return the number of periods
+	 */
+	public int periods() {
+		return boundaries.size() - 1;
+	}
+
+	/**
+	 * @param period zero-based period index
+	 * @return the first day of the period
+	 */
+	public LocalDate periodStart(int period) {
+		return boundaries.get(period);
+	}
+
+	/**
+	 * @param period zero-based period index
+	 * @return the last day of the period
+	 */
+	public LocalDate periodEnd(int period) {
+		return boundaries.get(period + 1).minusDays(1);
+	}
+
+	/**
+	 * @param accountId the account ID
+	 * @param period    zero-based period index
+	 * @return the amount budgeted
+	 */
+	public BigDecimal budgeted(String accountId, int period) {
+		return budgeted[cell(accountId, period)];
+	}
+
+	/**
+	 * @param accountId the account ID
+	 * @param period    zero-based period index
+	 * @return the sum of the account's splits posted in the period
+	 */
+	public BigDecimal actual(String accountId, int period) {
+		return actual[cell(accountId, period)];
+	}
+
+	/**
+	 * @param accountId the account ID
+	 * @param period    zero-based period index
+	 * @return budgeted minus actual, positive while the account stays within budget
+	 */
+	public BigDecimal variance(String accountId, int period) {
+		int cell = cell(accountId, period);
+		return budgeted[cell].subtract(actual[cell]);
+	}
+
+	/**
+	 * @param accountId the account ID
+	 * @return the amount budgeted over all periods
+	 */
+	public BigDecimal totalBudgeted(String accountId) {
+		return total(budgeted, accountId);
+	}
+
+	/**
+	 * @param accountId the account ID
+	 * @return the sum of the account's splits over all periods
+	 */
+	public BigDecimal totalActual(String accountId) {
+		return total(actual, accountId);
+	}
+
+	private BigDecimal total(BigDecimal[] values, String accountId) {
+		int first = cell(accountId, 0);
+		BigDecimal total = BigDecimal.ZERO;
+		for (int i = first; i < first + periods(); i++) {
+			total = total.add(values[i]);
+		}
+		return total;
+	}
+
+	private int cell(String accountId, int period) {
+		Integer row = rows.get(accountId);
+		if (row == null) {
+			throw new IllegalArgumentException("Account not in matrix: " + accountId);
+		}
+		if (period < 0 || period >= periods()) {
+			throw new IndexOutOfBoundsException("Period " + period + " outside 0.." + (periods() - 1));
+		}
+		return row * periods() + period;
+	}
+}
@@ -0,0 +1,153 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.BudgetAmount;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+
+import lombok.NonNull;
+
+/**
+ * Budget-vs-actual computation.
+ * <p>
+ * Actual amounts are collected in a single pass over the transactions of the budget range. Each split finds its
+ * cell through a row index by account and a day-to-period table, so the cost does not grow with the number of
+ * periods or accounts.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class BudgetService {
+
+	private final AccStore store;
+
+	private BudgetService(AccStore store) {
+		this.store = store;
+	}
+
+	public static BudgetService create(@NonNull AccStore store) {
+		return new BudgetService(store);
+	}
+
+	/**
+	 * Finds a budget by name.
+	 *
+	 * @param name the budget name
+	 * @return the budget
+	 * @throws IllegalArgumentException if the store has no such budget
+	 */
+	public Budget budgetByName(@NonNull String name) {
+		return store.budgets().stream()
+				.filter(budget -> budget.name().equals(name))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Budget not found: " + name));
+	}
+
+	/**
+	 * Computes the start dates of all budget periods.
+	 *
+	 * @param budget the budget
+	 * @return {@code periods + 1} dates, the last one being the day after the last period
+	 */
+	public static List<LocalDate> boundaries(@NonNull Budget budget) {
+		List<LocalDate> boundaries = new ArrayList<>(budget.periods() + 1);
+		for (int i = 0; i <= budget.periods(); i++) {
+			LocalDate start = ScheduleCursor.occurrence(budget.recurrence(), i);
+			if (start == null) {
+				throw new IllegalArgumentException("Budget " + budget.name() + " recurrence does not repeat: " + budget.recurrence());
+			}
+			boundaries.add(start);
+		}
+		return boundaries;
+	}
+
+	/**
+	 * Compares a budget with the actual amounts of all accounts that have budgeted amounts.
+	 *
+	 * @param budget the budget
+	 * @return the matrix, rows in the order of {@link AccStore#accounts()}
+	 */
+	public BudgetMatrix budgetVsActual(@NonNull Budget budget) {
+		Set<String> budgeted = new LinkedHashSet<>();
+		budget.amounts().forEach(amount -> budgeted.add(amount.accountId()));
+		List<String> accountIds = store.accounts().stream()
+				.map(Account::id)
+				.filter(budgeted::contains)
+				.toList();
+		return budgetVsActual(budget, accountIds);
+	}
+
+	/**
+	 * Compares a budget with the actual amounts of the given accounts.
+	 *
+	 * @param budget     the budget
+	 * @param accountIds the accounts of the rows, e.g. all expense accounts
+	 * @return the matrix, rows in the given order
+	 */
+	public BudgetMatrix budgetVsActual(@NonNull Budget budget, @NonNull List<String> accountIds) {
+		List<LocalDate> boundaries = boundaries(budget);
+		int periods = budget.periods();
+		Map<String, Integer> rows = HashMap.newHashMap(accountIds.size());
+		List<String> rowIds = new ArrayList<>(accountIds.size());
+		for (String accountId : accountIds) {
+			if (rows.putIfAbsent(accountId, rows.size()) == null) {
+				rowIds.add(accountId);
+			}
+		}
+		BigDecimal[] budgetedCells = zeros(rows.size() * periods);
+		BigDecimal[] actualCells = zeros(rows.size() * periods);
+
+		for (BudgetAmount amount : budget.amounts()) {
+			Integer row = rows.get(amount.accountId());
+			if (row != null && amount.period() >= 0 && amount.period() < periods) {
+				budgetedCells[row * periods + amount.period()] = amount.amount();
+			}
+		}
+
+		LocalDate first = boundaries.getFirst();
+		LocalDate last = boundaries.getLast().minusDays(1);
+		int[] dayToPeriod = dayToPeriod(boundaries);
+		for (Transaction transaction : store.transactions(first, last)) {
+			int period = dayToPeriod[(int) (transaction.datePosted().toEpochDay() - first.toEpochDay())];
+			for (Split split : transaction.splits()) {
+				Integer row = rows.get(split.accountId());
+				if (row != null) {
+					int cell = row * periods + period;
+					actualCells[cell] = actualCells[cell].add(split.quantity());
+				}
+			}
+		}
+		return new BudgetMatrix(List.copyOf(rowIds), rows, boundaries, budgetedCells, actualCells);
+	}
+
+	// ========== Helper Methods ==========
+
+	private static int[] dayToPeriod(List<LocalDate> boundaries) {
+		long first = boundaries.getFirst().toEpochDay();
+		int[] periods = new int[(int) (boundaries.getLast().toEpochDay() - first)];
+		for (int period = 0; period < boundaries.size() - 1; period++) {
+			int from = (int) (boundaries.get(period).toEpochDay() - first);
+			int to = (int) (boundaries.get(period + 1).toEpochDay() - first);
+			Arrays.fill(periods, from, to, period);
+		}
+		return periods;
+	}
+
+	private static BigDecimal[] zeros(int size) {
+		BigDecimal[] values = new BigDecimal[size];
+		Arrays.fill(values, BigDecimal.ZERO);
+		return values;
+	}
+}
@@ -0,0 +1,30 @@
+package com.druvu.acc.api.service;
+
+/**
+ * How sales are matched against earlier purchases to determine their cost.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public enum CostBasisMethod {
+	/**
+	 * First in, first out: the oldest holdings are sold first.
+	 */
+	FIFO,
+
+	/**
+	 * Last in, first out: the newest holdings are sold first.
+	 */
+	LIFO,
+
+	/**
+	 * Average cost: every unit held costs the average of all purchases still open.
+	 */
+	AVERAGE,
+
+	/**
+	 * Specific identification: a split assigned to a book lot closes holdings of that lot first, remaining
+	 * quantity and splits outside lots are matched first in, first out.
+	 */
+	SPECIFIC
+}
@@ -0,0 +1,30 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+
+import com.druvu.acc.api.entity.Transaction;
+
+/**
+ * Two transactions that look like the same bank movement entered twice.
+ *
+ * @param original  the transaction seen first
+ * @param duplicate the transaction matching it
+ * @param accountId account of the matching splits
+ * @param amount    value of the matching splits
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Duplicate(
+		Transaction original,
+		Transaction duplicate,
+		String accountId,
+		BigDecimal amount
+) {
+
+	/**
+	 * @return days between the two posting dates
+	 */
+	public long daysApart() {
+		return Math.abs(duplicate.datePosted().toEpochDay() - original.datePosted().toEpochDay());
+	}
+}
@@ -0,0 +1,190 @@
+package com.druvu.acc.api.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Transaction;
+
+import lombok.NonNull;
+
+/**
+ * Finds transactions that were probably entered twice, typically by importing a statement again.
+ * <p>
+ * Two transactions are candidate duplicates when they have a split in the same account with the same value,
+ * the same description after normalizing case, punctuation and spacing, and posting dates at most the
+ * tolerance apart. Splits are fingerprinted into a hash index (see {@link FingerprintIndex}), so finding the
+ * duplicates of a book takes one pass over its transactions rather than comparing every pair.
+ * <p>
+ * The index and the duplicates found are built in one pass over the transactions, which are kept until
+ * {@link AccStore#revision()} changes; a call after a reconciliation reads the whole book again. Writers that
+ * only add transactions, such as the statement importer, hand them to {@link #record(Collection)} instead, which
+ * indexes just those and advances the kept index to the new revision.
+ * The index holds transaction IDs rather than transactions, and duplicates are reported with the transactions
+ * as currently stored, looked up by ID on each call. The service is thread-safe.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class DuplicateService {
+
+	public static final int DEFAULT_TOLERANCE_DAYS = 3;
+
+	private final AccStore store;
+	private final int toleranceDays;
+	private volatile Snapshot snapshot;
+
+	private DuplicateService(AccStore store, int toleranceDays) {
+		this.store = store;
+		this.toleranceDays = toleranceDays;
+	}
+
+	public static DuplicateService create(@NonNull AccStore store) {
+		return create(store, DEFAULT_TOLERANCE_DAYS);
+	}
+
+	/**
+	 * @param store         the store to search
+	 * @param toleranceDays how many days the posting dates of duplicates may differ
+	 * @return the service
+	 */
+	public static DuplicateService create(@NonNull AccStore store, int toleranceDays) {
+		if (toleranceDays < 0) {
+			throw new IllegalArgumentException("Tolerance must not be negative: " + toleranceDays);
+		}
+		return new DuplicateService(store, toleranceDays);
+	}
+
+	/**
+	 * Finds the duplicates in the store.
+	 *
+	 * @return each transaction paired with the transactions indexed before it that it duplicates, in date order of the duplicates
+	 */
+	public List<Duplicate> duplicates() {
+		List<Found> found = snapshot().found();
+		List<Duplicate> result = new ArrayList<>(found.size());
+		for (Found pair : found) {
+			Optional<Transaction> original = store.transactionById(pair.match().originalId());
+			Optional<Transaction> duplicate = store.transactionById(pair.duplicateId());
+			if (original.isPresent() && duplicate.isPresent()) {
+				result.add(new Duplicate(original.get(), duplicate.get(), pair.match().accountId(), pair.match().amount()));
+			}
+		}
+		result.sort(Comparator.comparing((Duplicate duplicate) -> duplicate.duplicate().datePosted()));
+		return result;
+	}
+
+	/**
+	 * Checks transactions that are not in the store yet, such as the lines of a statement about to be imported,
+	 * against the store and against each other. The transactions are not indexed.
+	 *
+	 * @param arriving the new transactions
+	 * @return each new transaction paired with the stored or earlier new transactions it duplicates
+	 */
+	public List<Duplicate> duplicatesOf(@NonNull Collection<Transaction> arriving) {
+		FingerprintIndex index = snapshot().index();
+		FingerprintIndex batch = new FingerprintIndex(toleranceDays);
+		Map<String, Transaction> batchById = new HashMap<>();
+		List<Duplicate> result = new ArrayList<>();
+		for (Transaction transaction : arriving) {
+			for (FingerprintIndex.Match match : index.lookup(transaction)) {
+				store.transactionById(match.originalId())
+						.ifPresent(original -> result.add(new Duplicate(original, transaction, match.accountId(), match.amount())));
+			}
+			for (FingerprintIndex.Match match : batch.lookup(transaction)) {
+				result.add(new Duplicate(batchById.get(match.originalId()), transaction, match.accountId(), match.amount()));
+			}
+			batch.add(transaction);
+			batchById.put(transaction.id(), transaction);
+		}
+		return result;
+	}
+
+	/**
+	 * Indexes transactions the caller has just added to the store, so the next call does not read the book again.
+	 * <p>
+	 * Call it right after the write that added them. The kept index is advanced only when it was built for the
+	 * revision just before that write, i.e. the store revision moved by one since; otherwise nothing is done and
+	 * the next call rebuilds the index from the store. The recorded transactions count as indexed after all
+	 * transactions indexed before, so each of them is reported as the duplicate of earlier indexed ones.
+	 *
+	 * @param committed the transactions of the write
+	 */
+	public void record(@NonNull Collection<Transaction> committed) {
+		long revision = store.revision();
+		synchronized (this) {
+			Snapshot current = snapshot;
+			if (current == null || current.revision() != revision - 1) {
+				return;
+			}
+			FingerprintIndex index = current.index().layer();
+			List<Found> found = new ArrayList<>(current.found());
+			for (Transaction transaction : committed) {
+				for (FingerprintIndex.Match match : index.lookup(transaction)) {
+					found.add(new Found(match, transaction.id()));
+				}
+				index.add(transaction);
+			}
+			snapshot = new Snapshot(revision, index, List.copyOf(found));
+		}
+	}
+
+	/**
+	 * @return how many days the posting dates of duplicates may differ
+	 */
+	public int toleranceDays() {
+		return toleranceDays;
+	}
+
+	// ========== Helper Methods ==========
+
+	private Snapshot snapshot() {
+		long revision = store.revision();
+		Snapshot current = snapshot;
+		if (current != null && current.revision() == revision) {
+			return current;
+		}
+		synchronized (this) {
+			current = snapshot;
+			if (current == null || current.revision() != revision) {
+				current = build(revision);
+				snapshot = current;
+			}
+			return current;
+		}
+	}
+
+	private Snapshot build(long revision) {
+		FingerprintIndex index = new FingerprintIndex(toleranceDays);
+		List<Found> found = new ArrayList<>();
+		try (Stream<Transaction> transactions = store.streamTransactions(LocalDate.MIN, LocalDate.MAX)) {
+			transactions.forEach(transaction -> {
+				for (FingerprintIndex.Match match : index.lookup(transaction)) {
+					found.add(new Found(match, transaction.id()));
+				}
+				index.add(transaction);
+			});
+		}
+		return new Snapshot(revision, index, List.copyOf(found));
+	}
+
+	/**
+	 * A duplicate by transaction IDs, resolved against the store when reported.
+	 */
+	private record Found(FingerprintIndex.Match match, String duplicateId) {
+	}
+
+	/**
+	 * Index and duplicates built for one revision of the store, not modified once built; a recorded write
+	 * layers a new index over it.
+	 */
+	private record Snapshot(long revision, FingerprintIndex index, List<Found> found) {
+	}
+}
@@ -0,0 +1,161 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+
+/**
+ * Hash index of split fingerprints for finding duplicate transactions.
+ * <p>
+ * Each split with a non-zero value is fingerprinted by its account, value, the normalized description of its
+ * transaction and a date bucket. Buckets are {@code tolerance + 1} days wide, so a split posted within the
+ * tolerance of another lies in the same or a neighbouring bucket: a lookup probes three hash entries and
+ * compares dates only within them, which keeps finding all duplicates of a book near-linear. Entries hold the
+ * transaction ID and posting day only, not the transaction.
+ * <p>
+ * An index can be extended without being modified: {@link #layer()} returns an index that looks up through this
+ * one and adds to its own entries only, so readers of this index are not disturbed. Layers are merged into one
+ * flat index once there are more than {@value #MAX_DEPTH}.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class FingerprintIndex {
+
+	// layers looked up before a layered index is merged into a flat one
+	static final int MAX_DEPTH = 8;
+
+	private final int toleranceDays;
+	private final Map<Fingerprint, List<Entry>> entries = new HashMap<>();
+	// the index this layer extends, null for a flat index
+	private final FingerprintIndex base;
+	private final int depth;
+
+	FingerprintIndex(int toleranceDays) {
+		this(toleranceDays, null);
+	}
+
+	private FingerprintIndex(int toleranceDays, FingerprintIndex base) {
+		this.toleranceDays = toleranceDays;
+		this.base = base;
+		this.depth = base == null ? 1 : base.depth + 1;
+	}
+
+	/**
+	 * @return an empty layer over this index, or over a flat copy of it once it has {@value #MAX_DEPTH} layers;
+	 * this index is not modified
+	 */
+	FingerprintIndex layer() {
+		if (depth < MAX_DEPTH) {
+			return new FingerprintIndex(toleranceDays, this);
+		}
+		FingerprintIndex flat = new FingerprintIndex(toleranceDays);
+		mergeInto(flat.entries);
+		return new FingerprintIndex(toleranceDays, flat);
+	}
+
+	/**
+	 * Finds the indexed transactions a transaction duplicates, without indexing it.
+	 *
+	 * @param transaction the transaction to look up
+	 * @return one match per matching indexed transaction, in the order they were indexed
+	 */
+	List<Match> lookup(Transaction transaction) {
+		Map<String, Match> found = new LinkedHashMap<>();
+		long day = transaction.datePosted().toEpochDay();
+		long bucket = Math.floorDiv(day, toleranceDays + 1);
+		String description = normalize(transaction.description());
+		for (Split split : transaction.splits()) {
+			BigDecimal amount = amount(split);
+			if (amount == null) {
+				continue;
+			}
+			for (long probe = bucket - 1; probe <= bucket + 1; probe++) {
+				probe(new Fingerprint(split.accountId(), amount, description, probe), transaction.id(), day, split, found);
+			}
+		}
+		return List.copyOf(found.values());
+	}
+
+	/**
+	 * Indexes the fingerprints of a transaction.
+	 *
+	 * @param transaction the transaction to index
+	 */
+	void add(Transaction transaction) {
+		long day = transaction.datePosted().toEpochDay();
+		long bucket = Math.floorDiv(day, toleranceDays + 1);
+		String description = normalize(transaction.description());
+		Entry entry = new Entry(transaction.id(), day);
+		for (Split split : transaction.splits()) {
+			BigDecimal amount = amount(split);
+			if (amount != null) {
+				List<Entry> list = entries.computeIfAbsent(new Fingerprint(split.accountId(), amount, description, bucket), _ -> new ArrayList<>(1));
+				// several splits of one transaction may share a fingerprint
+				if (list.isEmpty() || list.getLast() != entry) {
+					list.add(entry);
+				}
+			}
+		}
+	}
+
+	/**
+	 * An indexed transaction matching a looked up one.
+	 *
+	 * @param originalId ID of the indexed transaction
+	 * @param accountId  account of the matching splits
+	 * @param amount     value of the matching split of the looked up transaction
+	 */
+	record Match(String originalId, String accountId, BigDecimal amount) {
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * Collects the matches of one fingerprint, from the oldest layer to this one.
+	 */
+	private void probe(Fingerprint fingerprint, String transactionId, long day, Split split, Map<String, Match> found) {
+		if (base != null) {
+			base.probe(fingerprint, transactionId, day, split, found);
+		}
+		List<Entry> candidates = entries.get(fingerprint);
+		if (candidates == null) {
+			return;
+		}
+		for (Entry candidate : candidates) {
+			if (!candidate.transactionId().equals(transactionId) && Math.abs(candidate.epochDay() - day) <= toleranceDays) {
+				found.putIfAbsent(candidate.transactionId(), new Match(candidate.transactionId(), split.accountId(), split.value()));
+			}
+		}
+	}
+
+	private void mergeInto(Map<Fingerprint, List<Entry>> target) {
+		if (base != null) {
+			base.mergeInto(target);
+		}
+		entries.forEach((fingerprint, list) -> target.computeIfAbsent(fingerprint, _ -> new ArrayList<>(list.size())).addAll(list));
+	}
+
+	private static BigDecimal amount(Split split) {
+		return split.value().signum() == 0 ? null : split.value().stripTrailingZeros();
+	}
+
+	private static String normalize(String description) {
+		StringJoiner words = new StringJoiner(" ");
+		TextIndex.tokenize(description, words::add);
+		return words.toString();
+	}
+
+	private record Fingerprint(String accountId, BigDecimal amount, String description, long bucket) {
+	}
+
+	private record Entry(String transactionId, long epochDay) {
+	}
+}
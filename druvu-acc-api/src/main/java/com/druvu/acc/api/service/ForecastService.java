@@ -0,0 +1,185 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.ScheduledSplit;
+import com.druvu.acc.api.entity.ScheduledTransaction;
+import com.druvu.acc.api.entity.Split;
+
+import lombok.NonNull;
+
+/**
+ * Cash-flow forecasting from scheduled transactions.
+ * <p>
+ * Occurrences of all enabled schedules are produced lazily in date order by merging one cursor per schedule
+ * in a priority queue, so a forecast costs O(n log s) for n occurrences of s schedules and never materializes
+ * the schedules' full expansion. Projected balances combine the real splits of the book with the template
+ * splits of each occurrence in the same pass.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class ForecastService {
+
+	private static final Comparator<ScheduleCursor> BY_DATE = Comparator
+			.comparing(ScheduleCursor::date)
+			.thenComparing(cursor -> cursor.schedule().id());
+
+	private final AccStore store;
+
+	private ForecastService(AccStore store) {
+		this.store = store;
+	}
+
+	public static ForecastService create(@NonNull AccStore store) {
+		return new ForecastService(store);
+	}
+
+	/**
+	 * Lists the occurrences of all enabled schedules due in a date range, in date order.
+	 * <p>
+	 * Occurrences already created in the book (up to the schedule's last occurrence) are not repeated.
+	 *
+	 * @param from start date (inclusive)
+	 * @param to   end date (inclusive)
+	 * @return a lazy stream of occurrences
+	 */
+	public Stream<Occurrence> occurrences(@NonNull LocalDate from, @NonNull LocalDate to) {
+		Iterator<Occurrence> iterator = new OccurrenceIterator(store.scheduledTransactions(), from, to);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Projects the balance of an account.
+	 *
+	 * @param accountId the account ID
+	 * @param from      date of the first point, usually today
+	 * @param to        last date of the horizon (inclusive)
+	 * @param step      distance between points, e.g. one month
+	 * @return balances at {@code from}, {@code from + step} and so on up to {@code to}
+	 * @see #projectedBalances(Collection, LocalDate, LocalDate, Period)
+	 */
+	public List<BalancePoint> projectedBalances(@NonNull String accountId, LocalDate from, LocalDate to, Period step) {
+		return projectedBalances(List.of(accountId), from, to, step).get(accountId);
+	}
+
+	/**
+	 * Projects the balances of several accounts in one pass.
+	 * <p>
+	 * Each point includes the real splits posted up to its date and the template amounts of all occurrences due by
+	 * then that were not created yet, including overdue ones. Template amounts are in the transaction currency,
+	 * which is the account currency for the usual single-currency schedules.
+	 *
+	 * @param accountIds the account IDs
+	 * @param from       date of the first point, usually today
+	 * @param to         last date of the horizon (inclusive)
+	 * @param step       distance between points, e.g. one month
+	 * @return balance series per account ID, in the order of the given IDs
+	 */
+	public Map<String, List<BalancePoint>> projectedBalances(@NonNull Collection<String> accountIds, @NonNull LocalDate from,
+			@NonNull LocalDate to, @NonNull Period step) {
+		if (step.isZero() || step.isNegative()) {
+			throw new IllegalArgumentException("Step must be positive: " + step);
+		}
+		if (to.isBefore(from)) {
+			throw new IllegalArgumentException("Horizon ends before it starts: " + from + " - " + to);
+		}
+
+		Map<String, BigDecimal> balances = new LinkedHashMap<>();
+		Map<String, List<BalancePoint>> series = new LinkedHashMap<>();
+		List<Split> splits = new ArrayList<>();
+		for (String accountId : accountIds) {
+			balances.put(accountId, BigDecimal.ZERO);
+			series.put(accountId, new ArrayList<>());
+			store.splitsForAccount(accountId).stream()
+					.filter(split -> !split.datePosted().isAfter(to))
+					.forEach(splits::add);
+		}
+		splits.sort(Comparator.comparing(Split::datePosted));
+
+		Iterator<Occurrence> occurrences = new OccurrenceIterator(store.scheduledTransactions(), LocalDate.MIN, to);
+		Occurrence occurrence = occurrences.hasNext() ? occurrences.next() : null;
+		int split = 0;
+		for (int i = 0; ; i++) {
+			LocalDate point = from.plus(step.multipliedBy(i));
+			if (point.isAfter(to)) {
+				break;
+			}
+			while (split < splits.size() && !splits.get(split).datePosted().isAfter(point)) {
+				Split current = splits.get(split++);
+				balances.merge(current.accountId(), current.quantity(), BigDecimal::add);
+			}
+			while (occurrence != null && !occurrence.date().isAfter(point)) {
+				for (ScheduledSplit template : occurrence.schedule().splits()) {
+					balances.computeIfPresent(template.accountId(), (_, balance) -> balance.add(template.amount()));
+				}
+				occurrence = occurrences.hasNext() ? occurrences.next() : null;
+			}
+			balances.forEach((accountId, balance) -> series.get(accountId).add(new BalancePoint(point, balance)));
+		}
+		return series;
+	}
+
+	/**
+	 * Merges the cursors of all enabled schedules, yielding the earliest pending occurrence each time.
+	 */
+	private static final class OccurrenceIterator implements Iterator<Occurrence> {
+
+		private final PriorityQueue<ScheduleCursor> queue;
+		private final LocalDate to;
+
+		OccurrenceIterator(List<ScheduledTransaction> schedules, LocalDate from, LocalDate to) {
+			this.queue = new PriorityQueue<>(Math.max(1, schedules.size()), BY_DATE);
+			this.to = to;
+			for (ScheduledTransaction schedule : schedules) {
+				if (!schedule.enabled()) {
+					continue;
+				}
+				ScheduleCursor cursor = new ScheduleCursor(schedule);
+				while (cursor.date() != null && cursor.date().isBefore(from)) {
+					cursor.advance();
+				}
+				offer(cursor);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !queue.isEmpty();
+		}
+
+		@Override
+		public Occurrence next() {
+			ScheduleCursor cursor = queue.poll();
+			if (cursor == null) {
+				throw new NoSuchElementException();
+			}
+			Occurrence occurrence = new Occurrence(cursor.date(), cursor.schedule());
+			cursor.advance();
+			offer(cursor);
+			return occurrence;
+		}
+
+		private void offer(ScheduleCursor cursor) {
+			if (cursor.date() != null && !cursor.date().isAfter(to)) {
+				queue.add(cursor);
+			}
+		}
+	}
+}
@@ -0,0 +1,264 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.AccountType;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+
+import lombok.NonNull;
+
+/**
+ * Capital gains engine computing holdings, cost basis and realized gains of security accounts.
+ * <p>
+ * The splits of an account are processed in a single pass in date order: a split opens holdings, or closes
+ * holdings of the opposite sign as chosen by the {@link CostBasisMethod}, realizing the difference between
+ * its value and their cost. Short positions are handled symmetrically. Splits without quantity, which
+ * GnuCash uses to book realized gains, are skipped.
+ * <p>
+ * Positions and the price index are cached until {@link AccStore#revision()} changes. The service is
+ * thread-safe.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class GainsService {
+
+	private static final Set<AccountType> SECURITY_TYPES = Set.of(AccountType.STOCK, AccountType.MUTUAL);
+
+	private final AccStore store;
+	private volatile Snapshot snapshot;
+
+	private GainsService(AccStore store) {
+		this.store = store;
+	}
+
+	public static GainsService create(@NonNull AccStore store) {
+		return new GainsService(store);
+	}
+
+	/**
+	 * Computes the position of one account.
+	 *
+	 * @param accountId the account ID
+	 * @param method    the method matching sales to purchases
+	 * @return the position at the end of the book
+	 * @throws IllegalArgumentException if the account does not exist
+	 */
+	public Position position(@NonNull String accountId, @NonNull CostBasisMethod method) {
+		Map<String, Position> positions = snapshot().positions.get(method);
+		Position position = positions.get(accountId);
+		if (position != null) {
+			return position;
+		}
+		if (store.accountById(accountId).isEmpty()) {
+			throw new IllegalArgumentException("Account not found: " + accountId);
+		}
+		return positions.computeIfAbsent(accountId, id -> compute(id, method, store.splitsForAccount(id)));
+	}
+
+	/**
+	 * Computes the positions of all stock and mutual fund accounts with a single pass over the transactions.
+	 *
+	 * @param method the method matching sales to purchases
+	 * @return positions in account order
+	 */
+	public List<Position> positions(@NonNull CostBasisMethod method) {
+		Snapshot current = snapshot();
+		Map<String, Position> positions = current.positions.get(method);
+		List<Account> securities = store.accounts().stream()
+				.filter(account -> SECURITY_TYPES.contains(account.type()))
+				.toList();
+
+		if (!current.complete.contains(method)) {
+			Map<String, List<Split>> splits = HashMap.newHashMap(securities.size());
+			securities.forEach(account -> splits.put(account.id(), new ArrayList<>()));
+			for (Transaction transaction : store.transactions()) {
+				for (Split split : transaction.splits()) {
+					List<Split> accountSplits = splits.get(split.accountId());
+					if (accountSplits != null) {
+						accountSplits.add(split);
+					}
+				}
+			}
+			splits.forEach((accountId, accountSplits) ->
+					positions.computeIfAbsent(accountId, id -> compute(id, method, accountSplits)));
+			current.complete.add(method);
+		}
+		return securities.stream()
+				.map(account -> positions.get(account.id()))
+				.toList();
+	}
+
+	/**
+	 * Finds the latest price of a commodity quoted on or before a date, in whatever currency it was quoted.
+	 *
+	 * @param commodity the commodity
+	 * @param date      the valuation date
+	 * @return the price if any was quoted by then
+	 */
+	public Optional<BigDecimal> price(@NonNull CommodityId commodity, @NonNull LocalDate date) {
+		List<Price> prices = snapshot().prices().getOrDefault(commodity, List.of());
+		int low = 0;
+		int high = prices.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (prices.get(mid).time().toLocalDate().isAfter(date)) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return low == 0 ? Optional.empty() : Optional.of(prices.get(low - 1).value());
+	}
+
+	/**
+	 * Values the holdings of a position at the latest price of the account commodity.
+	 *
+	 * @param position the position
+	 * @param date     the valuation date
+	 * @return the unrealized gain, empty if the account has no commodity or no price was quoted by then
+	 */
+	public Optional<BigDecimal> unrealizedGain(@NonNull Position position, @NonNull LocalDate date) {
+		return store.accountById(position.accountId())
+				.flatMap(Account::commodity)
+				.flatMap(commodity -> price(commodity, date))
+				.map(position::unrealizedGain);
+	}
+
+	// ========== Helper Methods ==========
+
+	private Snapshot snapshot() {
+		long revision = store.revision();
+		Snapshot current = snapshot;
+		if (current == null || current.revision != revision) {
+			current = new Snapshot(revision);
+			snapshot = current;
+		}
+		return current;
+	}
+
+	private Map<CommodityId, List<Price>> indexPrices() {
+		return store.prices().stream()
+				.collect(Collectors.groupingBy(Price::commodity, Collectors.collectingAndThen(Collectors.toList(),
+						prices -> prices.stream().sorted(Comparator.comparing(Price::time)).toList())));
+	}
+
+	private static Position compute(String accountId, CostBasisMethod method, List<Split> splits) {
+		Deque<Holding> open = new ArrayDeque<>();
+		List<Realization> realizations = new ArrayList<>();
+
+		for (Split split : splits) {
+			BigDecimal quantity = split.quantity();
+			BigDecimal value = split.value();
+			if (quantity.signum() == 0) {
+				continue;
+			}
+			while (quantity.signum() != 0 && !open.isEmpty() && open.peekFirst().quantity.signum() != quantity.signum()) {
+				Holding holding = pick(open, method, split);
+				BigDecimal closed = quantity.abs().compareTo(holding.quantity.abs()) < 0 ? quantity : holding.quantity.negate();
+				BigDecimal closedValue = closed.compareTo(quantity) == 0 ? value : value.multiply(closed).divide(quantity, MathContext.DECIMAL128);
+				BigDecimal cost;
+				if (closed.negate().compareTo(holding.quantity) == 0) {
+					cost = holding.cost;
+					open.remove(holding);
+				} else {
+					cost = holding.cost.multiply(closed.negate()).divide(holding.quantity, MathContext.DECIMAL128);
+					holding.quantity = holding.quantity.add(closed);
+					holding.cost = holding.cost.subtract(cost);
+				}
+				realizations.add(new Realization(split.id(), split.datePosted(), closed, closedValue.negate(), cost));
+				quantity = quantity.subtract(closed);
+				value = value.subtract(closedValue);
+			}
+			if (quantity.signum() != 0) {
+				if (method == CostBasisMethod.AVERAGE && !open.isEmpty()) {
+					Holding holding = open.peekFirst();
+					holding.quantity = holding.quantity.add(quantity);
+					holding.cost = holding.cost.add(value);
+				} else {
+					open.addLast(new Holding(split.lotId().orElse(null), quantity, value));
+				}
+			}
+		}
+
+		BigDecimal quantity = BigDecimal.ZERO;
+		BigDecimal cost = BigDecimal.ZERO;
+		for (Holding holding : open) {
+			quantity = quantity.add(holding.quantity);
+			cost = cost.add(holding.cost);
+		}
+		return new Position(accountId, method, quantity, cost, List.copyOf(realizations));
+	}
+
+	private static Holding pick(Deque<Holding> open, CostBasisMethod method, Split split) {
+		return switch (method) {
+			case FIFO, AVERAGE -> open.peekFirst();
+			case LIFO -> open.peekLast();
+			case SPECIFIC -> split.lotId()
+					.flatMap(lotId -> open.stream().filter(holding -> lotId.equals(holding.lotId)).findFirst())
+					.orElse(open.peekFirst());
+		};
+	}
+
+	/**
+	 * Open holdings of one purchase (or one short sale), reduced as they are closed.
+	 */
+	private static final class Holding {
+
+		private final String lotId;
+		private BigDecimal quantity;
+		private BigDecimal cost;
+
+		Holding(String lotId, BigDecimal quantity, BigDecimal cost) {
+			this.lotId = lotId;
+			this.quantity = quantity;
+			this.cost = cost;
+		}
+	}
+
+	/**
+	 * Cached results for one revision of the store.
+	 */
+	private final class Snapshot {
+
+		private final long revision;
+		private final Map<CostBasisMethod, Map<String, Position>> positions = new EnumMap<>(CostBasisMethod.class);
+		private final Set<CostBasisMethod> complete = ConcurrentHashMap.newKeySet();
+		private volatile Map<CommodityId, List<Price>> prices;
+
+		Snapshot(long revision) {
+			this.revision = revision;
+			for (CostBasisMethod method : CostBasisMethod.values()) {
+				positions.put(method, new ConcurrentHashMap<>());
+			}
+		}
+
+		Map<CommodityId, List<Price>> prices() {
+			Map<CommodityId, List<Price>> index = prices;
+			if (index == null) {
+				index = indexPrices();
+				prices = index;
+			}
+			return index;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.druvu.acc.api.service;
+
+/**
+ * Kinds of problems found by {@link IntegrityService}.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public enum IntegrityCheck {
+
+	/**
+	 * Transaction or split ID used more than once
+	 */
+	DUPLICATE_ID,
+
+	/**
+	 * Transaction without splits
+	 */
+	EMPTY_TRANSACTION,
+
+	/**
+	 * Split values of a transaction not summing to zero
+	 */
+	UNBALANCED_TRANSACTION,
+
+	/**
+	 * Split naming another transaction than the one holding it
+	 */
+	SPLIT_TRANSACTION_MISMATCH,
+
+	/**
+	 * Split in an account that does not exist
+	 */
+	DANGLING_ACCOUNT,
+
+	/**
+	 * Split value and quantity differing although the account is in the transaction currency
+	 */
+	COMMODITY_MISMATCH,
+
+	/**
+	 * Account or transaction in a commodity the book does not declare
+	 */
+	UNKNOWN_COMMODITY,
+
+	/**
+	 * Account whose parent does not exist
+	 */
+	ORPHAN_ACCOUNT,
+
+	/**
+	 * Account that is its own ancestor
+	 */
+	ACCOUNT_CYCLE
+}
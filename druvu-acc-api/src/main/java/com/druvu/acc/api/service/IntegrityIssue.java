@@ -0,0 +1,22 @@
+package com.druvu.acc.api.service;
+
+/**
+ * A problem found in a book.
+ *
+ * @param check    the kind of problem
+ * @param objectId the account, transaction or split it was found on
+ * @param message  a description naming the values involved
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record IntegrityIssue(
+		IntegrityCheck check,
+		String objectId,
+		String message
+) {
+
+	@Override
+	public String toString() {
+		return check + " " + objectId + ": " + message;
+	}
+}
@@ -0,0 +1,49 @@
+package com.druvu.acc.api.service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of an {@link IntegrityService} run.
+ *
+ * @param issues       problems found, account problems first, then by transaction in store order
+ * @param accounts     accounts checked
+ * @param transactions transactions checked
+ * @param splits       splits checked
+ * @param elapsed      wall time of the run
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record IntegrityReport(
+		List<IntegrityIssue> issues,
+		long accounts,
+		long transactions,
+		long splits,
+		Duration elapsed
+) {
+
+	public IntegrityReport {
+		issues = List.copyOf(issues);
+	}
+
+	/**
+	 * @return whether no problems were found
+	 */
+	public boolean valid() {
+		return issues.isEmpty();
+	}
+
+	/**
+	 * @param check the kind of problem
+	 * @return the problems of that kind
+	 */
+	public List<IntegrityIssue> issues(IntegrityCheck check) {
+		return issues.stream().filter(issue -> issue.check() == check).toList();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("integrity[issues=%d, accounts=%d, transactions=%d, splits=%d, elapsed=%d ms]",
+				issues.size(), accounts, transactions, splits, elapsed.toMillis());
+	}
+}
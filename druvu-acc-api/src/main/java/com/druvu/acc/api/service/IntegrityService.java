@@ -0,0 +1,177 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks a book for structural problems that would otherwise skew reports silently, see {@link IntegrityCheck}.
+ * <p>
+ * Accounts and commodities are read first into hash maps. The transactions are then cut into contiguous
+ * partitions checked in parallel on the common fork-join pool; each transaction is checked on its own against
+ * the maps, and transaction and split IDs are claimed in concurrent sets to find duplicates. The book is read
+ * once, so validating costs about as much as one pass over the transactions.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+public final class IntegrityService {
+
+	// smallest partition worth handing to another thread
+	private static final int MIN_PARTITION = 1024;
+
+	private final AccStore store;
+
+	private IntegrityService(AccStore store) {
+		this.store = store;
+	}
+
+	public static IntegrityService create(@NonNull AccStore store) {
+		return new IntegrityService(store);
+	}
+
+	/**
+	 * Runs all checks.
+	 *
+	 * @return the problems found and the number of objects checked
+	 */
+	public IntegrityReport validate() {
+		long start = System.nanoTime();
+		Set<CommodityId> commodities = new HashSet<>(store.commodities());
+		List<Account> accounts = store.accounts();
+		Map<String, Account> accountsById = HashMap.newHashMap(accounts.size());
+		List<IntegrityIssue> issues = new ArrayList<>();
+		for (Account account : accounts) {
+			if (accountsById.putIfAbsent(account.id(), account) != null) {
+				issues.add(new IntegrityIssue(IntegrityCheck.DUPLICATE_ID, account.id(), "Account ID used more than once"));
+			}
+		}
+		for (Account account : accounts) {
+			checkAccount(account, accountsById, commodities, issues);
+		}
+
+		List<Transaction> transactions = store.transactions();
+		Set<String> transactionIds = ConcurrentHashMap.newKeySet(transactions.size());
+		Set<String> splitIds = ConcurrentHashMap.newKeySet(transactions.size() * 2);
+		int partitionSize = Math.max(MIN_PARTITION, transactions.size() / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+		int partitions = (transactions.size() + partitionSize - 1) / partitionSize;
+		List<Partition> results = IntStream.range(0, partitions)
+				.parallel()
+				.mapToObj(partition -> {
+					Partition result = new Partition();
+					int end = Math.min(transactions.size(), (partition + 1) * partitionSize);
+					for (int i = partition * partitionSize; i < end; i++) {
+						checkTransaction(transactions.get(i), accountsById, commodities, transactionIds, splitIds, result);
+					}
+					return result;
+				})
+				.toList();
+		long splits = 0;
+		for (Partition result : results) {
+			issues.addAll(result.issues);
+			splits += result.splits;
+		}
+
+		IntegrityReport report = new IntegrityReport(issues, accounts.size(), transactions.size(), splits,
+				Duration.ofNanos(System.nanoTime() - start));
+		log.debug("Validated book {}: {}", store.id(), report);
+		return report;
+	}
+
+	// ========== Checks ==========
+
+	private static void checkAccount(Account account, Map<String, Account> accountsById, Set<CommodityId> commodities, List<IntegrityIssue> issues) {
+		account.commodity()
+				.filter(commodity -> !commodities.contains(commodity))
+				.ifPresent(commodity -> issues.add(new IntegrityIssue(IntegrityCheck.UNKNOWN_COMMODITY, account.id(),
+						"Account " + account.name() + " is in undeclared commodity " + commodity)));
+		Optional<String> parentId = account.parentId();
+		if (parentId.isEmpty()) {
+			return;
+		}
+		if (!accountsById.containsKey(parentId.get())) {
+			issues.add(new IntegrityIssue(IntegrityCheck.ORPHAN_ACCOUNT, account.id(),
+					"Account " + account.name() + " has unknown parent " + parentId.get()));
+			return;
+		}
+		// a chain longer than the number of accounts must revisit one of them
+		Optional<String> ancestor = parentId;
+		for (int depth = 0; ancestor.isPresent() && depth <= accountsById.size(); depth++) {
+			if (ancestor.get().equals(account.id())) {
+				issues.add(new IntegrityIssue(IntegrityCheck.ACCOUNT_CYCLE, account.id(), "Account " + account.name() + " is its own ancestor"));
+				return;
+			}
+			Account parent = accountsById.get(ancestor.get());
+			ancestor = parent == null ? Optional.empty() : parent.parentId();
+		}
+	}
+
+	private static void checkTransaction(Transaction transaction, Map<String, Account> accountsById, Set<CommodityId> commodities,
+			Set<String> transactionIds, Set<String> splitIds, Partition result) {
+		String id = transaction.id();
+		if (!transactionIds.add(id)) {
+			result.add(IntegrityCheck.DUPLICATE_ID, id, "Transaction ID used more than once");
+		}
+		if (!commodities.contains(transaction.currency())) {
+			result.add(IntegrityCheck.UNKNOWN_COMMODITY, id, "Transaction is in undeclared currency " + transaction.currency());
+		}
+		if (transaction.splits().isEmpty()) {
+			result.add(IntegrityCheck.EMPTY_TRANSACTION, id, "Transaction has no splits");
+			return;
+		}
+		BigDecimal balance = BigDecimal.ZERO;
+		for (Split split : transaction.splits()) {
+			result.splits++;
+			balance = balance.add(split.value());
+			if (!splitIds.add(split.id())) {
+				result.add(IntegrityCheck.DUPLICATE_ID, split.id(), "Split ID used more than once");
+			}
+			if (!id.equals(split.transactionId())) {
+				result.add(IntegrityCheck.SPLIT_TRANSACTION_MISMATCH, split.id(),
+						"Split of transaction " + id + " names transaction " + split.transactionId());
+			}
+			Account account = accountsById.get(split.accountId());
+			if (account == null) {
+				result.add(IntegrityCheck.DANGLING_ACCOUNT, split.id(), "Split of transaction " + id + " is in unknown account " + split.accountId());
+			}
+			else if (account.commodity().filter(transaction.currency()::equals).isPresent() && split.value().compareTo(split.quantity()) != 0) {
+				result.add(IntegrityCheck.COMMODITY_MISMATCH, split.id(), "Split of transaction " + id + " in " + transaction.currency()
+						+ " has value " + split.value() + " but quantity " + split.quantity());
+			}
+		}
+		if (balance.signum() != 0) {
+			result.add(IntegrityCheck.UNBALANCED_TRANSACTION, id, "Split values sum to " + balance);
+		}
+	}
+
+	/**
+	 * Findings of one partition of the transactions.
+	 */
+	private static final class Partition {
+
+		private final List<IntegrityIssue> issues = new ArrayList<>();
+		private long splits;
+
+		void add(IntegrityCheck check, String objectId, String message) {
+			issues.add(new IntegrityIssue(check, objectId, message));
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.druvu.acc.api.service;
+
+import java.time.LocalDate;
+
+import com.druvu.acc.api.entity.ScheduledTransaction;
+
+/**
+ * A date on which a scheduled transaction is due.
+ *
+ * @param date     the due date
+ * @param schedule the scheduled transaction
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Occurrence(
+		LocalDate date,
+		ScheduledTransaction schedule
+) {
+}
@@ -0,0 +1,67 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Holdings of an account and the gains realized on them, as determined by a {@link CostBasisMethod}.
+ * <p>
+ * Amounts are in the currency of the transactions trading the account.
+ *
+ * @param accountId    the account ID
+ * @param method       the method used to match sales to purchases
+ * @param quantity     quantity still held, negative for a short position
+ * @param costBasis    cost of the quantity still held
+ * @param realizations gains realized by closing splits, in date order
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Position(
+		String accountId,
+		CostBasisMethod method,
+		BigDecimal quantity,
+		BigDecimal costBasis,
+		List<Realization> realizations
+) {
+
+	/**
+	 * @return the total realized gain
+	 */
+	public BigDecimal realizedGain() {
+		return realizations.stream()
+				.map(Realization::gain)
+				.reduce(BigDecimal.ZERO, BigDecimal::add);
+	}
+
+	/**
+	 * Sums the gains realized in a period.
+	 *
+	 * @param from start date (inclusive)
+	 * @param to   end date (inclusive)
+	 * @return the gain realized in the period
+	 */
+	public BigDecimal realizedGain(LocalDate from, LocalDate to) {
+		return realizations.stream()
+				.filter(realization -> !realization.date().isBefore(from) && !realization.date().isAfter(to))
+				.map(Realization::gain)
+				.reduce(BigDecimal.ZERO, BigDecimal::add);
+	}
+
+	/**
+	 * @param price price of one unit
+	 * @return market value of the quantity held
+	 */
+	public BigDecimal marketValue(BigDecimal price) {
+		return quantity.multiply(price);
+	}
+
+	/**
+	 * @param price price of one unit
+	 * @return gain not yet realized on the quantity held
+	 */
+	public BigDecimal unrealizedGain(BigDecimal price) {
+		return marketValue(price).subtract(costBasis);
+	}
+}
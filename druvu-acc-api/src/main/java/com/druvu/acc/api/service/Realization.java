@@ -0,0 +1,32 @@
+package com.druvu.acc.api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Gain or loss realized by a split closing (part of) a position.
+ *
+ * @param splitId  ID of the closing split
+ * @param date     date the split was posted
+ * @param quantity closed quantity, negative for sales
+ * @param proceeds value received for the closed quantity
+ * @param cost     cost basis of the closed quantity
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Realization(
+		String splitId,
+		LocalDate date,
+		BigDecimal quantity,
+		BigDecimal proceeds,
+		BigDecimal cost
+) {
+
+	/**
+	 * @return the realized gain, negative for a loss
+	 */
+	public BigDecimal gain() {
+		return proceeds.subtract(cost);
+	}
+}
@@ -0,0 +1,170 @@
+package com.druvu.acc.api.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import com.druvu.acc.api.entity.Recurrence;
+import com.druvu.acc.api.entity.ScheduledTransaction;
+
+/**
+ * Walks the occurrences of one scheduled transaction in date order.
+ * <p>
+ * Occurrences are computed from the recurrence start by index, so months with fewer days do not shift later
+ * occurrences. The cursor starts after the last occurrence already created and honours the end date and the
+ * remaining occurrence count. Occurrences moved before the schedule start by a weekend adjustment are skipped.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class ScheduleCursor {
+
+	private final ScheduledTransaction schedule;
+	private final List<Recurrence> recurrences;
+	// per recurrence: index of the next occurrence and its date, null once exhausted
+	private final long[] indexes;
+	private final LocalDate[] dates;
+	private int remaining;
+	private LocalDate date;
+
+	ScheduleCursor(ScheduledTransaction schedule) {
+		this.schedule = schedule;
+		this.recurrences = schedule.recurrences();
+		this.indexes = new long[recurrences.size()];
+		this.dates = new LocalDate[recurrences.size()];
+		this.remaining = schedule.remainingOccurrences().orElse(Integer.MAX_VALUE);
+
+		LocalDate before = schedule.start().minusDays(1);
+		LocalDate bound = schedule.lastOccurrence().filter(last -> last.isAfter(before)).orElse(before);
+		for (int i = 0; i < indexes.length; i++) {
+			indexes[i] = estimateIndex(recurrences.get(i), bound);
+			dates[i] = occurrence(recurrences.get(i), indexes[i]);
+			skipUntilAfter(i, bound);
+		}
+		this.date = pick();
+	}
+
+	/**
+	 * @return the schedule walked by this cursor
+	 */
+	ScheduledTransaction schedule() {
+		return schedule;
+	}
+
+	/**
+	 * @return the date of the current occurrence, {@code null} once the schedule is exhausted
+	 */
+	LocalDate date() {
+		return date;
+	}
+
+	/**
+	 * Moves to the next occurrence. Recurrences due on the same date count as one occurrence.
+	 */
+	void advance() {
+		LocalDate current = date;
+		remaining--;
+		for (int i = 0; i < indexes.length; i++) {
+			skipUntilAfter(i, current);
+		}
+		date = pick();
+	}
+
+	// ========== Helper Methods ==========
+
+	private LocalDate pick() {
+		if (remaining <= 0) {
+			return null;
+		}
+		LocalDate next = null;
+		for (LocalDate candidate : dates) {
+			if (candidate != null && (next == null || candidate.isBefore(next))) {
+				next = candidate;
+			}
+		}
+		if (next != null && schedule.end().isPresent() && next.isAfter(schedule.end().get())) {
+			return null;
+		}
+		return next;
+	}
+
+	private void skipUntilAfter(int i, LocalDate bound) {
+		while (dates[i] != null && !dates[i].isAfter(bound)) {
+			indexes[i]++;
+			dates[i] = occurrence(recurrences.get(i), indexes[i]);
+		}
+	}
+
+	/**
+	 * Estimates the index of the first occurrence after a date, erring low, to avoid walking old schedules
+	 * from their start.
+	 */
+	private static long estimateIndex(Recurrence recurrence, LocalDate bound) {
+		if (!bound.isAfter(recurrence.start())) {
+			return 0;
+		}
+		long units = switch (recurrence.period()) {
+			case ONCE -> 0;
+			case DAY -> ChronoUnit.DAYS.between(recurrence.start(), bound);
+			case WEEK -> ChronoUnit.WEEKS.between(recurrence.start(), bound);
+			case MONTH, END_OF_MONTH, NTH_WEEKDAY, LAST_WEEKDAY -> ChronoUnit.MONTHS.between(recurrence.start(), bound);
+			case YEAR -> ChronoUnit.YEARS.between(recurrence.start(), bound);
+		};
+		return Math.max(0, units / multiplier(recurrence) - 1);
+	}
+
+	/**
+	 * Computes an occurrence of a recurrence.
+	 *
+	 * @param recurrence the recurrence
+	 * @param index      zero-based index of the occurrence
+	 * @return the date, {@code null} if the recurrence has no such occurrence
+	 */
+	static LocalDate occurrence(Recurrence recurrence, long index) {
+		LocalDate start = recurrence.start();
+		long periods = index * multiplier(recurrence);
+		LocalDate date = switch (recurrence.period()) {
+			case ONCE -> index == 0 ? start : null;
+			case DAY -> start.plusDays(periods);
+			case WEEK -> start.plusWeeks(periods);
+			case MONTH -> start.plusMonths(periods);
+			case END_OF_MONTH -> YearMonth.from(start).plusMonths(periods).atEndOfMonth();
+			case NTH_WEEKDAY -> nthWeekday(YearMonth.from(start).plusMonths(periods), (start.getDayOfMonth() - 1) / 7 + 1, start.getDayOfWeek());
+			case LAST_WEEKDAY -> YearMonth.from(start).plusMonths(periods).atEndOfMonth().with(TemporalAdjusters.lastInMonth(start.getDayOfWeek()));
+			case YEAR -> start.plusYears(periods);
+		};
+		return date == null ? null : adjust(recurrence, date);
+	}
+
+	private static LocalDate nthWeekday(YearMonth month, int ordinal, DayOfWeek dayOfWeek) {
+		LocalDate date = month.atDay(1).with(TemporalAdjusters.dayOfWeekInMonth(ordinal, dayOfWeek));
+		// a fifth weekday missing from this month falls back to the last one
+		return YearMonth.from(date).equals(month) ? date : month.atEndOfMonth().with(TemporalAdjusters.lastInMonth(dayOfWeek));
+	}
+
+	private static LocalDate adjust(Recurrence recurrence, LocalDate date) {
+		return switch (recurrence.period()) {
+			case MONTH, END_OF_MONTH, YEAR -> switch (recurrence.weekendAdjust()) {
+				case NONE -> date;
+				case BACK -> switch (date.getDayOfWeek()) {
+					case SATURDAY -> date.minusDays(1);
+					case SUNDAY -> date.minusDays(2);
+					default -> date;
+				};
+				case FORWARD -> switch (date.getDayOfWeek()) {
+					case SATURDAY -> date.plusDays(2);
+					case SUNDAY -> date.plusDays(1);
+					default -> date;
+				};
+			};
+			default -> date;
+		};
+	}
+
+	private static long multiplier(Recurrence recurrence) {
+		return Math.max(1, recurrence.multiplier());
+	}
+}
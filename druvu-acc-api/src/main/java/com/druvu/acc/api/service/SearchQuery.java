@@ -0,0 +1,45 @@
+package com.druvu.acc.api.service;
+
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/**
+ * Full-text transaction search.
+ * <p>
+ * The text is split into words like the indexed fields; a transaction matches when it contains all words.
+ * A word ending in {@code *} matches any word starting with it, e.g. {@code "amaz* 2023"}.
+ *
+ * @param text      words to search for, empty to match all transactions
+ * @param from      earliest date posted (inclusive), null for no lower bound
+ * @param to        latest date posted (inclusive), null for no upper bound
+ * @param accountId account one of the splits must post to, null for any account
+ * @param limit     maximum number of results, 0 for no limit
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Builder(toBuilder = true)
+public record SearchQuery(
+		@NonNull
+		String text,
+		LocalDate from,
+		LocalDate to,
+		String accountId,
+		int limit
+) {
+
+	public SearchQuery {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Limit must not be negative: " + limit);
+		}
+	}
+
+	/**
+	 * @param text words to search for
+	 * @return a query without filters
+	 */
+	public static SearchQuery of(String text) {
+		return builder().text(text).build();
+	}
+}
@@ -0,0 +1,83 @@
+package com.druvu.acc.api.service;
+
+import java.util.List;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Transaction;
+
+import lombok.NonNull;
+
+/**
+ * Full-text search over transaction descriptions, numbers and split memos.
+ * <p>
+ * The first search builds an inverted index in one pass over the transactions, which is kept until
+ * {@link AccStore#revision()} changes. Words are matched case-insensitively, all words of a query must match,
+ * and results are returned in date order. The service is thread-safe.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class SearchService {
+
+	private final AccStore store;
+	private volatile Snapshot snapshot;
+
+	private SearchService(AccStore store) {
+		this.store = store;
+	}
+
+	public static SearchService create(@NonNull AccStore store) {
+		return new SearchService(store);
+	}
+
+	/**
+	 * Finds the transactions containing all words of a text.
+	 *
+	 * @param text words to search for, a trailing {@code *} matching any word with that prefix
+	 * @return matching transactions in date order
+	 */
+	public List<Transaction> search(@NonNull String text) {
+		return search(SearchQuery.of(text));
+	}
+
+	/**
+	 * Finds the transactions matching a query.
+	 *
+	 * @param query the words and filters
+	 * @return matching transactions in date order, at most {@link SearchQuery#limit()} if set
+	 */
+	public List<Transaction> search(@NonNull SearchQuery query) {
+		return index().search(query);
+	}
+
+	/**
+	 * @return number of distinct words indexed
+	 */
+	public int wordCount() {
+		return index().wordCount();
+	}
+
+	// ========== Helper Methods ==========
+
+	private TextIndex index() {
+		long revision = store.revision();
+		Snapshot current = snapshot;
+		if (current != null && current.revision() == revision) {
+			return current.index();
+		}
+		synchronized (this) {
+			current = snapshot;
+			if (current == null || current.revision() != revision) {
+				current = new Snapshot(revision, TextIndex.build(store.transactions()));
+				snapshot = current;
+			}
+			return current.index();
+		}
+	}
+
+	/**
+	 * Index built for one revision of the store.
+	 */
+	private record Snapshot(long revision, TextIndex index) {
+	}
+}
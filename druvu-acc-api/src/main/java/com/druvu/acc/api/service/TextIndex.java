@@ -0,0 +1,270 @@
+package com.druvu.acc.api.service;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+
+/**
+ * Inverted index of transaction words.
+ * <p>
+ * Transactions are numbered by their position in date order. Each word of the description, number and split
+ * memos maps to the ascending list of transaction numbers containing it, stored as variable-length encoded
+ * deltas; the same structure maps account IDs to their transactions. Words are kept sorted, so a prefix
+ * covers a contiguous range of them. Date filters become a range of transaction numbers.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class TextIndex {
+
+	private static final int[] NONE = new int[0];
+
+	private final List<Transaction> transactions;
+	private final int[] dates;
+	private final String[] words;
+	private final byte[][] wordPostings;
+	private final Map<String, byte[]> accountPostings;
+
+	private TextIndex(List<Transaction> transactions, int[] dates, String[] words, byte[][] wordPostings, Map<String, byte[]> accountPostings) {
+		this.transactions = transactions;
+		this.dates = dates;
+		this.words = words;
+		this.wordPostings = wordPostings;
+		this.accountPostings = accountPostings;
+	}
+
+	/**
+	 * @param transactions transactions in date order
+	 * @return the index
+	 */
+	static TextIndex build(List<Transaction> transactions) {
+		int[] dates = new int[transactions.size()];
+		Map<String, Postings> words = new HashMap<>();
+		Map<String, Postings> accounts = new HashMap<>();
+		for (int ordinal = 0; ordinal < transactions.size(); ordinal++) {
+			Transaction transaction = transactions.get(ordinal);
+			dates[ordinal] = (int) transaction.datePosted().toEpochDay();
+			int current = ordinal;
+			Consumer<String> add = word -> words.computeIfAbsent(word, _ -> new Postings()).add(current);
+			tokenize(transaction.description(), add);
+			transaction.number().ifPresent(number -> tokenize(number, add));
+			for (Split split : transaction.splits()) {
+				split.memo().ifPresent(memo -> tokenize(memo, add));
+				accounts.computeIfAbsent(split.accountId(), _ -> new Postings()).add(current);
+			}
+		}
+
+		String[] sorted = words.keySet().toArray(String[]::new);
+		Arrays.sort(sorted);
+		byte[][] postings = new byte[sorted.length][];
+		for (int i = 0; i < sorted.length; i++) {
+			postings[i] = words.get(sorted[i]).encode();
+		}
+		Map<String, byte[]> accountPostings = HashMap.newHashMap(accounts.size());
+		accounts.forEach((accountId, list) -> accountPostings.put(accountId, list.encode()));
+		return new TextIndex(List.copyOf(transactions), dates, sorted, postings, accountPostings);
+	}
+
+	/**
+	 * Splits text into lower-case words of letters and digits.
+	 *
+	 * @param text     the text (maybe null)
+	 * @param consumer receives each word
+	 */
+	static void tokenize(String text, Consumer<String> consumer) {
+		if (text == null) {
+			return;
+		}
+		int start = -1;
+		for (int i = 0; i <= text.length(); i++) {
+			boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+			if (wordChar && start < 0) {
+				start = i;
+			}
+			else if (!wordChar && start >= 0) {
+				consumer.accept(text.substring(start, i).toLowerCase(Locale.ROOT));
+				start = -1;
+			}
+		}
+	}
+
+	List<Transaction> search(SearchQuery query) {
+		int from = query.from() == null ? 0 : firstOnOrAfter(query.from());
+		int to = query.to() == null ? dates.length : firstOnOrAfter(query.to().plusDays(1));
+		if (from >= to) {
+			return List.of();
+		}
+
+		List<int[]> lists = new ArrayList<>();
+		for (String term : query.text().trim().split("\\s+")) {
+			boolean prefix = term.endsWith("*");
+			List<String> termWords = new ArrayList<>();
+			tokenize(term, termWords::add);
+			for (int i = 0; i < termWords.size(); i++) {
+				lists.add(prefix && i == termWords.size() - 1 ? prefix(termWords.get(i)) : exact(termWords.get(i)));
+			}
+		}
+		if (query.accountId() != null) {
+			byte[] postings = accountPostings.get(query.accountId());
+			lists.add(postings == null ? NONE : decode(postings));
+		}
+
+		int[] matches = lists.isEmpty() ? null : intersect(lists);
+		int limit = query.limit() == 0 ? Integer.MAX_VALUE : query.limit();
+		List<Transaction> result = new ArrayList<>();
+		if (matches == null) {
+			for (int ordinal = from; ordinal < to && result.size() < limit; ordinal++) {
+				result.add(transactions.get(ordinal));
+			}
+			return result;
+		}
+		int start = Arrays.binarySearch(matches, from);
+		for (int i = start < 0 ? -start - 1 : start; i < matches.length && matches[i] < to && result.size() < limit; i++) {
+			result.add(transactions.get(matches[i]));
+		}
+		return result;
+	}
+
+	int wordCount() {
+		return words.length;
+	}
+
+	// ========== Helper Methods ==========
+
+	private int[] exact(String word) {
+		int position = Arrays.binarySearch(words, word);
+		return position < 0 ? NONE : decode(wordPostings[position]);
+	}
+
+	private int[] prefix(String prefix) {
+		int position = Arrays.binarySearch(words, prefix);
+		int first = position < 0 ? -position - 1 : position;
+		int last = first;
+		while (last < words.length && words[last].startsWith(prefix)) {
+			last++;
+		}
+		if (last - first == 1) {
+			return decode(wordPostings[first]);
+		}
+		BitSet union = new BitSet(dates.length);
+		for (int i = first; i < last; i++) {
+			for (int ordinal : decode(wordPostings[i])) {
+				union.set(ordinal);
+			}
+		}
+		return union.stream().toArray();
+	}
+
+	private int firstOnOrAfter(LocalDate date) {
+		long epochDay = date.toEpochDay();
+		if (epochDay <= Integer.MIN_VALUE) {
+			return 0;
+		}
+		if (epochDay > Integer.MAX_VALUE) {
+			return dates.length;
+		}
+		int low = 0;
+		int high = dates.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (dates[mid] < epochDay) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static int[] intersect(List<int[]> lists) {
+		lists.sort((a, b) -> Integer.compare(a.length, b.length));
+		int[] result = lists.getFirst();
+		for (int l = 1; l < lists.size() && result.length > 0; l++) {
+			int[] other = lists.get(l);
+			int[] merged = new int[result.length];
+			int count = 0;
+			int i = 0;
+			int j = 0;
+			while (i < result.length && j < other.length) {
+				if (result[i] < other[j]) {
+					i++;
+				}
+				else if (result[i] > other[j]) {
+					j++;
+				}
+				else {
+					merged[count++] = result[i];
+					i++;
+					j++;
+				}
+			}
+			result = Arrays.copyOf(merged, count);
+		}
+		return result;
+	}
+
+	private static int[] decode(byte[] postings) {
+		int[] result = new int[postings.length];
+		int count = 0;
+		int ordinal = 0;
+		int offset = 0;
+		while (offset < postings.length) {
+			int delta = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = postings[offset++];
+				delta |= (b & 0x7f) << shift;
+				shift += 7;
+			} while (b < 0);
+			ordinal += delta;
+			result[count++] = ordinal;
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Growable list of ascending transaction numbers, ignoring repeats.
+	 */
+	private static final class Postings {
+
+		private int[] ordinals = new int[4];
+		private int size;
+
+		void add(int ordinal) {
+			if (size > 0 && ordinals[size - 1] == ordinal) {
+				return;
+			}
+			if (size == ordinals.length) {
+				ordinals = Arrays.copyOf(ordinals, size * 2);
+			}
+			ordinals[size++] = ordinal;
+		}
+
+		byte[] encode() {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(size + 4);
+			int previous = 0;
+			for (int i = 0; i < size; i++) {
+				int delta = ordinals[i] - previous;
+				previous = ordinals[i];
+				while ((delta & ~0x7f) != 0) {
+					out.write((delta & 0x7f) | 0x80);
+					delta >>>= 7;
+				}
+				out.write(delta);
+			}
+			return out.toByteArray();
+		}
+	}
+}
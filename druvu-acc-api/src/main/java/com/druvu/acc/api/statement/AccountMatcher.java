@@ -0,0 +1,116 @@
+package com.druvu.acc.api.statement;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.druvu.acc.api.entity.SlotType;
+import com.druvu.acc.api.entity.Slots;
+
+/**
+ * Picks the other account of a statement line from the import maps GnuCash keeps in the slots of the
+ * statement account.
+ * <p>
+ * An exact description in {@code import-map/desc} wins. Otherwise the words of the description and memo are
+ * looked up in {@code import-map-bayes}, which counts how often each word was booked to each account; every
+ * word votes for its accounts in proportion to their counts, and the account with most votes is taken.
+ * Map keys are read literally, so descriptions with {@code /} match too. The maps are read once, so matching is
+ * thread-safe.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class AccountMatcher {
+
+	private static final String DESCRIPTIONS = "import-map/desc";
+	private static final String BAYES = "import-map-bayes";
+
+	private final Map<String, String> descriptions;
+	private final Map<String, Map<String, Long>> words;
+
+	private AccountMatcher(Map<String, String> descriptions, Map<String, Map<String, Long>> words) {
+		this.descriptions = descriptions;
+		this.words = words;
+	}
+
+	/**
+	 * @param slots    slots of the statement account
+	 * @param eligible accounts a line may be booked to
+	 * @return a matcher over the import maps
+	 */
+	static AccountMatcher of(Slots slots, Predicate<String> eligible) {
+		Map<String, String> descriptions = new HashMap<>();
+		slots.frame(DESCRIPTIONS).map(Slots::literalKeys).ifPresent(frame -> {
+			for (String description : frame.keys()) {
+				frame.string(description).filter(eligible).ifPresent(accountId -> descriptions.put(normalize(description), accountId));
+			}
+		});
+		Map<String, Map<String, Long>> words = new HashMap<>();
+		slots.frame(BAYES).map(Slots::literalKeys).ifPresent(frame -> {
+			for (String word : frame.keys()) {
+				Optional<Slots> counts = frame.type(word).filter(type -> type == SlotType.FRAME).flatMap(_ -> frame.frame(word));
+				counts.map(Slots::literalKeys).ifPresent(accounts -> {
+					for (String accountId : accounts.keys()) {
+						if (eligible.test(accountId)) {
+							accounts.integer(accountId).ifPresent(count ->
+									words.computeIfAbsent(normalize(word), _ -> new HashMap<>()).merge(accountId, count, Long::sum));
+						}
+					}
+				});
+			}
+		});
+		return new AccountMatcher(descriptions, words);
+	}
+
+	/**
+	 * @param line the statement line
+	 * @return the matched account, empty if the maps know nothing about the line
+	 */
+	Optional<String> match(StatementLine line) {
+		String exact = descriptions.get(normalize(line.description()));
+		if (exact != null) {
+			return Optional.of(exact);
+		}
+		Map<String, Double> votes = new HashMap<>();
+		for (String word : words(line)) {
+			Map<String, Long> counts = words.get(word);
+			if (counts != null) {
+				long total = counts.values().stream().mapToLong(Long::longValue).sum();
+				counts.forEach((accountId, count) -> votes.merge(accountId, (double) count / total, Double::sum));
+			}
+		}
+		return votes.entrySet().stream()
+				.max(Map.Entry.<String, Double>comparingByValue().thenComparing(Map.Entry::getKey, Comparator.reverseOrder()))
+				.map(Map.Entry::getKey);
+	}
+
+	private static Set<String> words(StatementLine line) {
+		Set<String> words = new LinkedHashSet<>();
+		split(line.description(), words);
+		line.memo().ifPresent(memo -> split(memo, words));
+		return words;
+	}
+
+	private static void split(String text, Set<String> words) {
+		int start = -1;
+		for (int i = 0; i <= text.length(); i++) {
+			boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+			if (letter && start < 0) {
+				start = i;
+			}
+			else if (!letter && start >= 0) {
+				words.add(normalize(text.substring(start, i)));
+				start = -1;
+			}
+		}
+	}
+
+	private static String normalize(String text) {
+		return text.strip().toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,59 @@
+package com.druvu.acc.api.statement;
+
+import java.time.format.DateTimeFormatter;
+
+import lombok.Builder;
+
+/**
+ * Layout of a CSV bank statement. Columns are counted from 0.
+ * <p>
+ * Fields may be quoted with {@code "}, doubled quotes inside quoted fields stand for one quote. Amounts accept
+ * a decimal point or comma; when both occur, the first one is taken as the thousands separator.
+ *
+ * @param delimiter         field delimiter, {@code ,} if unset
+ * @param header            whether the first line holds column names
+ * @param dateColumn        column of the date posted
+ * @param dateFormat        format of the dates, ISO dates if null
+ * @param descriptionColumn column of the description
+ * @param amountColumn      column of the amount
+ * @param memoColumn        column of the memo, null if absent
+ * @param numberColumn      column of the check number, null if absent
+ * @param idColumn          column of the bank's transaction ID, null to derive IDs from the line content
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Builder(toBuilder = true)
+public record CsvFormat(
+		char delimiter,
+		boolean header,
+		int dateColumn,
+		DateTimeFormatter dateFormat,
+		int descriptionColumn,
+		int amountColumn,
+		Integer memoColumn,
+		Integer numberColumn,
+		Integer idColumn
+) {
+
+	public CsvFormat {
+		if (delimiter == 0) {
+			delimiter = ',';
+		}
+		if (dateFormat == null) {
+			dateFormat = DateTimeFormatter.ISO_LOCAL_DATE;
+		}
+		if (dateColumn < 0 || descriptionColumn < 0 || amountColumn < 0) {
+			throw new IllegalArgumentException("Columns must not be negative");
+		}
+	}
+
+	/**
+	 * @param dateColumn        column of the ISO date posted
+	 * @param descriptionColumn column of the description
+	 * @param amountColumn      column of the amount
+	 * @return a comma separated format with a header line
+	 */
+	public static CsvFormat of(int dateColumn, int descriptionColumn, int amountColumn) {
+		return builder().header(true).dateColumn(dateColumn).descriptionColumn(descriptionColumn).amountColumn(amountColumn).build();
+	}
+}
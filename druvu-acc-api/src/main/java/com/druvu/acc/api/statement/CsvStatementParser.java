@@ -0,0 +1,105 @@
+package com.druvu.acc.api.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Parses CSV statements laid out as described by a {@link CsvFormat}, one statement line per text line.
+ * Blank lines are skipped.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class CsvStatementParser implements StatementParser {
+
+	private final CsvFormat format;
+
+	CsvStatementParser(CsvFormat format) {
+		this.format = format;
+	}
+
+	@Override
+	public void parse(Reader reader, Consumer<StatementLine> sink) throws IOException {
+		BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+		StatementLines ids = new StatementLines();
+		String text;
+		int number = 0;
+		while ((text = lines.readLine()) != null) {
+			number++;
+			if ((number == 1 && format.header()) || text.isBlank()) {
+				continue;
+			}
+			try {
+				sink.accept(line(fields(text), ids));
+			}
+			catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+				throw new IllegalArgumentException("Malformed statement line " + number + ": " + text, e);
+			}
+		}
+	}
+
+	private StatementLine line(List<String> fields, StatementLines ids) {
+		LocalDate date = LocalDate.parse(fields.get(format.dateColumn()).strip(), format.dateFormat());
+		BigDecimal amount = StatementLines.amount(fields.get(format.amountColumn()));
+		String description = fields.get(format.descriptionColumn()).strip();
+		Optional<String> id = optional(fields, format.idColumn());
+		return new StatementLine(
+				id.orElseGet(() -> ids.derivedId(date, amount, description)),
+				date,
+				amount,
+				description,
+				optional(fields, format.memoColumn()),
+				optional(fields, format.numberColumn()));
+	}
+
+	private static Optional<String> optional(List<String> fields, Integer column) {
+		if (column == null || column >= fields.size()) {
+			return Optional.empty();
+		}
+		return Optional.of(fields.get(column).strip()).filter(value -> !value.isEmpty());
+	}
+
+	/**
+	 * Splits a line at the delimiters outside of quotes.
+	 */
+	private List<String> fields(String line) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				}
+				else if (c == '"') {
+					quoted = false;
+				}
+				else {
+					field.append(c);
+				}
+			}
+			else if (c == '"') {
+				quoted = true;
+			}
+			else if (c == format.delimiter()) {
+				fields.add(field.toString());
+				field.setLength(0);
+			}
+			else {
+				field.append(c);
+			}
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+}
@@ -0,0 +1,37 @@
+package com.druvu.acc.api.statement;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a {@link StatementImporter} run.
+ *
+ * @param lines      statement lines read
+ * @param imported   transactions added to the store
+ * @param duplicates lines skipped because their online ID was already imported
+ * @param unmatched  imported lines booked to the fallback account
+ * @param elapsed    wall time of the import
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record ImportReport(
+		long lines,
+		long imported,
+		long duplicates,
+		long unmatched,
+		Duration elapsed
+) {
+
+	/**
+	 * @return statement lines read per second of wall time
+	 */
+	public double linesPerSecond() {
+		long nanos = elapsed.toNanos();
+		return nanos == 0 ? 0 : lines * 1e9 / nanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("import[lines=%d, imported=%d, duplicates=%d, unmatched=%d, elapsed=%d ms, linesPerSecond=%.0f]",
+				lines, imported, duplicates, unmatched, elapsed.toMillis(), linesPerSecond());
+	}
+}
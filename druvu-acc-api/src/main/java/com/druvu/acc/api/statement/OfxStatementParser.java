@@ -0,0 +1,102 @@
+package com.druvu.acc.api.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Parses the {@code STMTTRN} elements of OFX statements.
+ * <p>
+ * OFX 1.x is SGML whose value elements have no end tags, OFX 2.x is XML. Both are read as a stream of tags,
+ * each followed by the text up to the next tag, so neither needs a full parser. The header before the first
+ * tag is ignored.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class OfxStatementParser implements StatementParser {
+
+	private static final String TRANSACTION = "STMTTRN";
+	private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+	@Override
+	public void parse(Reader reader, Consumer<StatementLine> sink) throws IOException {
+		Reader in = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+		StatementLines ids = new StatementLines();
+		Map<String, String> fields = null;
+		int transactions = 0;
+		StringBuilder tag = new StringBuilder();
+		StringBuilder text = new StringBuilder();
+		String current = null;
+		int c;
+		while ((c = in.read()) >= 0) {
+			if (c != '<') {
+				text.append((char) c);
+				continue;
+			}
+			if (fields != null && current != null) {
+				fields.putIfAbsent(current, unescape(text.toString().strip()));
+			}
+			text.setLength(0);
+			tag.setLength(0);
+			while ((c = in.read()) >= 0 && c != '>') {
+				tag.append((char) c);
+			}
+			current = tag.toString().strip().toUpperCase(Locale.ROOT);
+			if (current.equals(TRANSACTION)) {
+				fields = new HashMap<>();
+			}
+			else if (current.equals("/" + TRANSACTION) && fields != null) {
+				transactions++;
+				sink.accept(line(fields, transactions, ids));
+				fields = null;
+			}
+		}
+	}
+
+	private static StatementLine line(Map<String, String> fields, int transaction, StatementLines ids) {
+		try {
+			String posted = required(fields, "DTPOSTED", transaction);
+			LocalDate date = LocalDate.parse(posted.substring(0, Math.min(8, posted.length())), DATE);
+			BigDecimal amount = StatementLines.amount(required(fields, "TRNAMT", transaction));
+			Optional<String> name = field(fields, "NAME");
+			Optional<String> memo = field(fields, "MEMO");
+			String description = name.or(() -> memo).orElse("");
+			return new StatementLine(
+					field(fields, "FITID").orElseGet(() -> ids.derivedId(date, amount, description)),
+					date,
+					amount,
+					description,
+					name.isPresent() ? memo : Optional.empty(),
+					field(fields, "CHECKNUM"));
+		}
+		catch (DateTimeParseException | NumberFormatException e) {
+			throw new IllegalArgumentException("Malformed statement transaction " + transaction + ": " + fields, e);
+		}
+	}
+
+	private static String required(Map<String, String> fields, String name, int transaction) {
+		return field(fields, name).orElseThrow(
+				() -> new IllegalArgumentException("Statement transaction " + transaction + " has no " + name));
+	}
+
+	private static Optional<String> field(Map<String, String> fields, String name) {
+		return Optional.ofNullable(fields.get(name)).filter(value -> !value.isEmpty());
+	}
+
+	private static String unescape(String text) {
+		if (text.indexOf('&') < 0) {
+			return text;
+		}
+		return text.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&apos;", "'").replace("&amp;", "&");
+	}
+}
@@ -0,0 +1,30 @@
+package com.druvu.acc.api.statement;
+
+import java.util.List;
+
+import com.druvu.acc.api.entity.Split;
+
+/**
+ * A statement line and the book splits it clears.
+ *
+ * @param line   the statement line
+ * @param splits one split of the same amount, or several summing to it for a grouped deposit
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record ReconcileMatch(
+		StatementLine line,
+		List<Split> splits
+) {
+
+	public ReconcileMatch {
+		splits = List.copyOf(splits);
+	}
+
+	/**
+	 * @return whether the line clears several splits
+	 */
+	public boolean grouped() {
+		return splits.size() > 1;
+	}
+}
@@ -0,0 +1,286 @@
+package com.druvu.acc.api.statement;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Split;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Matches bank statement lines with the open splits of an account and marks the matched splits in bulk.
+ * <p>
+ * Open splits are those neither reconciled, frozen nor voided. They are indexed by their quantity, scaled to a
+ * long, and sorted by date within each amount, so a line finds the splits of its amount with one hash lookup
+ * and takes the nearest one posted within the date window. Lines left over are then tried as grouped deposits:
+ * the open splits of the same sign within the window, at most {@value #MAX_GROUP_CANDIDATES} nearest ones, are
+ * searched for a subset of at most {@code maxGroupSize} splits summing to the line amount. The window and group
+ * size bound the work per line, so matching stays near-linear in the statement and account size.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+public final class Reconciler {
+
+	public static final int DEFAULT_WINDOW_DAYS = 3;
+	public static final int DEFAULT_MAX_GROUP_SIZE = 4;
+
+	// splits searched for one grouped deposit, nearest in date first
+	private static final int MAX_GROUP_CANDIDATES = 20;
+	// decimal places kept in amount keys
+	private static final int SCALE = 4;
+
+	private final AccStore store;
+	private final int windowDays;
+	private final int maxGroupSize;
+
+	private Reconciler(AccStore store, int windowDays, int maxGroupSize) {
+		this.store = store;
+		this.windowDays = windowDays;
+		this.maxGroupSize = maxGroupSize;
+	}
+
+	public static Reconciler create(@NonNull AccStore store) {
+		return create(store, DEFAULT_WINDOW_DAYS, DEFAULT_MAX_GROUP_SIZE);
+	}
+
+	/**
+	 * @param store        the store holding the account
+	 * @param windowDays   how many days a split may be posted before or after its statement line
+	 * @param maxGroupSize most splits one statement line may clear, 1 to match single splits only
+	 * @return the reconciler
+	 */
+	public static Reconciler create(@NonNull AccStore store, int windowDays, int maxGroupSize) {
+		if (windowDays < 0) {
+			throw new IllegalArgumentException("Window must not be negative: " + windowDays);
+		}
+		if (maxGroupSize < 1) {
+			throw new IllegalArgumentException("Group size must be positive: " + maxGroupSize);
+		}
+		return new Reconciler(store, windowDays, maxGroupSize);
+	}
+
+	/**
+	 * Matches a statement read with a parser, see {@link #match(String, List)}.
+	 *
+	 * @param accountId the account the statement is for
+	 * @param reader    the statement text
+	 * @param parser    the statement format
+	 * @return the matches and what is left over on both sides
+	 */
+	public Reconciliation match(@NonNull String accountId, @NonNull Reader reader, @NonNull StatementParser parser) {
+		List<StatementLine> lines = new ArrayList<>();
+		try {
+			parser.parse(reader, lines::add);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read statement", e);
+		}
+		return match(accountId, lines);
+	}
+
+	/**
+	 * Matches statement lines with the open splits of an account. The store is not changed.
+	 *
+	 * @param accountId the account the statement is for
+	 * @param lines     the statement lines
+	 * @return the matches and what is left over on both sides
+	 */
+	public Reconciliation match(@NonNull String accountId, @NonNull List<StatementLine> lines) {
+		if (store.accountById(accountId).isEmpty()) {
+			throw new IllegalArgumentException("Unknown account: " + accountId);
+		}
+		List<Candidate> open = store.splitsForAccount(accountId).stream()
+				.filter(Reconciler::isOpen)
+				.map(Candidate::new)
+				.sorted(Comparator.comparingLong(Candidate::day))
+				.toList();
+		Map<Long, List<Candidate>> byAmount = new HashMap<>();
+		for (Candidate candidate : open) {
+			byAmount.computeIfAbsent(candidate.amount, _ -> new ArrayList<>()).add(candidate);
+		}
+
+		ReconcileMatch[] matches = new ReconcileMatch[lines.size()];
+		for (int i = 0; i < lines.size(); i++) {
+			StatementLine line = lines.get(i);
+			Candidate nearest = nearest(byAmount.getOrDefault(scaled(line.amount()), List.of()), line.date().toEpochDay());
+			if (nearest != null) {
+				nearest.used = true;
+				matches[i] = new ReconcileMatch(line, List.of(nearest.split));
+			}
+		}
+		if (maxGroupSize > 1) {
+			for (int i = 0; i < lines.size(); i++) {
+				if (matches[i] == null) {
+					List<Candidate> group = group(open, lines.get(i));
+					if (group != null) {
+						group.forEach(candidate -> candidate.used = true);
+						matches[i] = new ReconcileMatch(lines.get(i), group.stream().map(Candidate::split).toList());
+					}
+				}
+			}
+		}
+
+		List<ReconcileMatch> matched = new ArrayList<>();
+		List<StatementLine> unmatchedLines = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i++) {
+			if (matches[i] != null) {
+				matched.add(matches[i]);
+			}
+			else {
+				unmatchedLines.add(lines.get(i));
+			}
+		}
+		List<Split> unmatchedSplits = open.stream().filter(candidate -> !candidate.used).map(Candidate::split).toList();
+		log.debug("Matched {} of {} statement lines against {} open splits of {}", matched.size(), lines.size(), open.size(), accountId);
+		return new Reconciliation(accountId, matched, unmatchedLines, unmatchedSplits);
+	}
+
+	/**
+	 * Marks the matched splits of a reconciliation in one batch.
+	 *
+	 * @param reconciliation the matches to apply
+	 * @param state          {@link ReconcileState#CLEARED} or {@link ReconcileState#RECONCILED}
+	 * @param reconcileDate  the statement date recorded on the splits, null to record none
+	 */
+	public void apply(@NonNull Reconciliation reconciliation, @NonNull ReconcileState state, LocalDate reconcileDate) {
+		if (state != ReconcileState.CLEARED && state != ReconcileState.RECONCILED) {
+			throw new IllegalArgumentException("Splits can only be cleared or reconciled: " + state);
+		}
+		store.reconcileSplits(reconciliation.splitIds(), state, reconcileDate);
+	}
+
+	// ========== Helper Methods ==========
+
+	private static boolean isOpen(Split split) {
+		return split.reconcileState() == ReconcileState.NOT_RECONCILED || split.reconcileState() == ReconcileState.CLEARED;
+	}
+
+	/**
+	 * @return the unused candidate nearest to the day within the window, the earlier one on ties
+	 */
+	private Candidate nearest(List<Candidate> candidates, long day) {
+		Candidate best = null;
+		long bestDistance = Long.MAX_VALUE;
+		for (int i = lowerBound(candidates, day - windowDays); i < candidates.size(); i++) {
+			Candidate candidate = candidates.get(i);
+			if (candidate.day > day + windowDays) {
+				break;
+			}
+			long distance = Math.abs(candidate.day - day);
+			if (!candidate.used && distance < bestDistance) {
+				best = candidate;
+				bestDistance = distance;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @return unused candidates within the window summing to the line amount, null if there are none
+	 */
+	private List<Candidate> group(List<Candidate> open, StatementLine line) {
+		long target = scaled(line.amount());
+		long day = line.date().toEpochDay();
+		List<Candidate> window = new ArrayList<>();
+		for (int i = lowerBound(open, day - windowDays); i < open.size() && open.get(i).day <= day + windowDays; i++) {
+			Candidate candidate = open.get(i);
+			if (!candidate.used && Long.signum(candidate.amount) == Long.signum(target)
+					&& Math.abs(candidate.amount) <= Math.abs(target)) {
+				window.add(candidate);
+			}
+		}
+		if (window.size() < 2) {
+			return null;
+		}
+		window.sort(Comparator.comparingLong((Candidate candidate) -> Math.abs(candidate.day - day)));
+		if (window.size() > MAX_GROUP_CANDIDATES) {
+			window = new ArrayList<>(window.subList(0, MAX_GROUP_CANDIDATES));
+		}
+		// largest first, so the remaining sum bound prunes early
+		window.sort(Comparator.comparingLong((Candidate candidate) -> Math.abs(candidate.amount)).reversed());
+		long[] remaining = new long[window.size() + 1];
+		for (int i = window.size() - 1; i >= 0; i--) {
+			remaining[i] = remaining[i + 1] + Math.abs(window.get(i).amount);
+		}
+		List<Candidate> chosen = new ArrayList<>(maxGroupSize);
+		return subsetSum(window, remaining, 0, Math.abs(target), chosen) && chosen.size() > 1 ? chosen : null;
+	}
+
+	private boolean subsetSum(List<Candidate> window, long[] remaining, int from, long target, List<Candidate> chosen) {
+		if (target == 0) {
+			return true;
+		}
+		if (chosen.size() == maxGroupSize || remaining[from] < target) {
+			return false;
+		}
+		for (int i = from; i < window.size(); i++) {
+			long amount = Math.abs(window.get(i).amount);
+			if (amount <= target) {
+				chosen.add(window.get(i));
+				if (subsetSum(window, remaining, i + 1, target - amount, chosen)) {
+					return true;
+				}
+				chosen.removeLast();
+			}
+		}
+		return false;
+	}
+
+	private static int lowerBound(List<Candidate> candidates, long day) {
+		int low = 0;
+		int high = candidates.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (candidates.get(mid).day < day) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static long scaled(BigDecimal amount) {
+		return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+	}
+
+	/**
+	 * An open split with its amount key and epoch day.
+	 */
+	private static final class Candidate {
+
+		final Split split;
+		final long amount;
+		final long day;
+		boolean used;
+
+		Candidate(Split split) {
+			this.split = split;
+			this.amount = scaled(split.quantity());
+			this.day = split.datePosted().toEpochDay();
+		}
+
+		Split split() {
+			return split;
+		}
+
+		long day() {
+			return day;
+		}
+	}
+}
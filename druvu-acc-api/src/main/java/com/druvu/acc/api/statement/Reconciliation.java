@@ -0,0 +1,39 @@
+package com.druvu.acc.api.statement;
+
+import java.util.List;
+
+import com.druvu.acc.api.entity.Split;
+
+/**
+ * Outcome of matching a statement against the open splits of an account, see {@link Reconciler}.
+ *
+ * @param accountId       the reconciled account
+ * @param matches         matched lines in statement order
+ * @param unmatchedLines  lines no open split accounts for
+ * @param unmatchedSplits open splits no line accounts for, in date order
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Reconciliation(
+		String accountId,
+		List<ReconcileMatch> matches,
+		List<StatementLine> unmatchedLines,
+		List<Split> unmatchedSplits
+) {
+
+	public Reconciliation {
+		matches = List.copyOf(matches);
+		unmatchedLines = List.copyOf(unmatchedLines);
+		unmatchedSplits = List.copyOf(unmatchedSplits);
+	}
+
+	/**
+	 * @return IDs of all matched splits
+	 */
+	public List<String> splitIds() {
+		return matches.stream()
+				.flatMap(match -> match.splits().stream())
+				.map(Split::id)
+				.toList();
+	}
+}
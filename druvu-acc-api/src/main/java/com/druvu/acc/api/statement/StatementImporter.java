@@ -0,0 +1,368 @@
+package com.druvu.acc.api.statement;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.service.DuplicateService;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports bank statements into a store as transactions of a statement account.
+ * <p>
+ * The import runs as a pipeline: a parser thread reads the statement, a matcher thread picks the other account
+ * of each line from the GnuCash import maps (see {@link AccountMatcher}), and the calling thread skips
+ * duplicates and adds the transactions with {@link AccStore#addTransactions(List)}, one batch at a time. The
+ * stages hand over lines in batches through bounded queues, so a statement of any size is imported in
+ * bounded memory.
+ * <p>
+ * Each line becomes a transaction with a split in the statement account, carrying the online ID of the line in
+ * its {@code online_id} slot as GnuCash does, and a split in the matched account, or in the fallback account
+ * when nothing matches. Lines whose online ID is already on a split of the statement account posted on the
+ * same date are skipped; only the splits of the dates covered by the statement are read, as the lines arrive.
+ * Transaction and split IDs are derived from the statement account and online ID. Batches added before a
+ * failure stay in the store; importing the statement again skips them. An importer created with a
+ * {@link DuplicateService} records each added batch with it, so the service stays current without reading the
+ * book again.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+public final class StatementImporter {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	public static final String ONLINE_ID = "online_id";
+
+	// batches read ahead of the next stage
+	private static final int QUEUE_CAPACITY = 4;
+
+	private final AccStore store;
+	private final int batchSize;
+	// kept current with the added batches, null if there is none
+	private final DuplicateService duplicates;
+
+	private StatementImporter(AccStore store, int batchSize, DuplicateService duplicates) {
+		this.store = store;
+		this.batchSize = batchSize;
+		this.duplicates = duplicates;
+	}
+
+	public static StatementImporter create(@NonNull AccStore store) {
+		return create(store, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * @param store     the store to import into
+	 * @param batchSize number of lines handed between stages and of transactions added at once
+	 * @return the importer
+	 */
+	public static StatementImporter create(@NonNull AccStore store, int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+		}
+		return new StatementImporter(store, batchSize, null);
+	}
+
+	/**
+	 * @param store      the store to import into
+	 * @param batchSize  number of lines handed between stages and of transactions added at once
+	 * @param duplicates duplicate service of the same store, given each added batch
+	 * @return the importer
+	 */
+	public static StatementImporter create(@NonNull AccStore store, int batchSize, @NonNull DuplicateService duplicates) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+		}
+		return new StatementImporter(store, batchSize, duplicates);
+	}
+
+	/**
+	 * Imports a statement.
+	 *
+	 * @param reader            the statement text
+	 * @param parser            the statement format
+	 * @param accountId         the statement account, in a currency
+	 * @param fallbackAccountId the account of lines the import maps do not match, in the same currency
+	 * @return the counts and rate of the import
+	 */
+	public ImportReport importStatement(@NonNull Reader reader, @NonNull StatementParser parser,
+			@NonNull String accountId, @NonNull String fallbackAccountId) {
+		long start = System.nanoTime();
+		Account account = account(accountId);
+		CommodityId currency = account.commodity()
+				.filter(CommodityId::isCurrency)
+				.orElseThrow(() -> new IllegalArgumentException("Statement account " + accountId + " is not in a currency"));
+		if (!account(fallbackAccountId).commodity().filter(currency::equals).isPresent()) {
+			throw new IllegalArgumentException("Fallback account " + fallbackAccountId + " is not in " + currency);
+		}
+		Set<String> eligible = new HashSet<>();
+		for (Account other : store.accounts()) {
+			if (!other.id().equals(accountId) && other.commodity().filter(currency::equals).isPresent()) {
+				eligible.add(other.id());
+			}
+		}
+		AccountMatcher matcher = AccountMatcher.of(account.slots(), eligible::contains);
+		KnownOnlineIds onlineIds = new KnownOnlineIds(accountId);
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Pipe<StatementLine> parsed = new Pipe<>();
+		Pipe<Matched> matched = new Pipe<>();
+		Thread parsing = stage("statement-parser", failure, parsed, () -> parse(reader, parser, parsed));
+		Thread matching = stage("statement-matcher", failure, matched, () -> match(parsed, matched, matcher, fallbackAccountId));
+		try {
+			Counts counts = add(matched, onlineIds, accountId, currency);
+			if (failure.get() instanceof RuntimeException e) {
+				throw e;
+			}
+			if (failure.get() instanceof Error e) {
+				throw e;
+			}
+			ImportReport report = new ImportReport(counts.lines, counts.imported, counts.duplicates, counts.unmatched,
+					Duration.ofNanos(System.nanoTime() - start));
+			log.info("Imported statement into {}: {}", accountId, report);
+			return report;
+		}
+		catch (RuntimeException e) {
+			parsing.interrupt();
+			matching.interrupt();
+			throw e;
+		}
+	}
+
+	// ========== Stages ==========
+
+	private void parse(Reader reader, StatementParser parser, Pipe<StatementLine> parsed) {
+		List<StatementLine> batch = new ArrayList<>(batchSize);
+		try {
+			parser.parse(reader, line -> {
+				batch.add(line);
+				if (batch.size() >= batchSize) {
+					parsed.put(List.copyOf(batch));
+					batch.clear();
+				}
+			});
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read statement", e);
+		}
+		if (!batch.isEmpty()) {
+			parsed.put(List.copyOf(batch));
+		}
+	}
+
+	private static void match(Pipe<StatementLine> parsed, Pipe<Matched> matched, AccountMatcher matcher, String fallbackAccountId) {
+		List<StatementLine> lines;
+		while (!(lines = parsed.take()).isEmpty()) {
+			List<Matched> batch = new ArrayList<>(lines.size());
+			for (StatementLine line : lines) {
+				Optional<String> accountId = matcher.match(line);
+				batch.add(new Matched(line, accountId.orElse(fallbackAccountId), accountId.isEmpty()));
+			}
+			matched.put(batch);
+		}
+	}
+
+	private Counts add(Pipe<Matched> matched, KnownOnlineIds onlineIds, String accountId, CommodityId currency) {
+		Counts counts = new Counts();
+		List<Transaction> batch = new ArrayList<>(batchSize);
+		List<Matched> lines;
+		while (!(lines = matched.take()).isEmpty()) {
+			onlineIds.cover(lines);
+			for (Matched line : lines) {
+				counts.lines++;
+				if (!onlineIds.add(line.line().onlineId())) {
+					counts.duplicates++;
+					continue;
+				}
+				batch.add(transaction(line, accountId, currency));
+				if (line.unmatched()) {
+					counts.unmatched++;
+				}
+				if (batch.size() >= batchSize) {
+					commit(batch, counts);
+				}
+			}
+		}
+		commit(batch, counts);
+		return counts;
+	}
+
+	private void commit(List<Transaction> batch, Counts counts) {
+		if (!batch.isEmpty()) {
+			List<Transaction> added = List.copyOf(batch);
+			store.addTransactions(added);
+			if (duplicates != null) {
+				duplicates.record(added);
+			}
+			counts.imported += batch.size();
+			batch.clear();
+		}
+	}
+
+	// ========== Helper Methods ==========
+
+	private Account account(String accountId) {
+		return store.accountById(accountId).orElseThrow(() -> new IllegalArgumentException("Unknown account: " + accountId));
+	}
+
+	private static Transaction transaction(Matched matched, String accountId, CommodityId currency) {
+		StatementLine line = matched.line();
+		String transactionId = guid(accountId, line.onlineId());
+		Split statement = new Split(guid(transactionId, "0"), transactionId, accountId, line.date(), ReconcileState.NOT_RECONCILED,
+				Optional.empty(), line.amount(), line.amount(), line.memo(), Optional.empty(), Slots.strings(Map.of(ONLINE_ID, line.onlineId())));
+		Split other = new Split(guid(transactionId, "1"), transactionId, matched.accountId(), line.date(), ReconcileState.NOT_RECONCILED,
+				Optional.empty(), line.amount().negate(), line.amount().negate(), Optional.empty(), Optional.empty(), Slots.empty());
+		return new Transaction(transactionId, currency, line.number(), line.date(), line.description(), List.of(statement, other), Slots.empty());
+	}
+
+	private static String guid(String... parts) {
+		UUID uuid = UUID.nameUUIDFromBytes(String.join("\0", parts).getBytes(StandardCharsets.UTF_8));
+		return uuid.toString().replace("-", "");
+	}
+
+	/**
+	 * Runs a stage on its own thread. A failing stage records its failure and still ends its output, so the
+	 * stages after it drain and stop; an interrupted stage stops without further output, its interrupt flag
+	 * failing the end at once.
+	 */
+	private static Thread stage(String name, AtomicReference<Throwable> failure, Pipe<?> output, Runnable body) {
+		return Thread.ofPlatform().name(name).daemon().start(() -> {
+			try {
+				body.run();
+			}
+			catch (CancellationException _) {
+				// the importing thread failed and interrupted the stages
+			}
+			catch (Throwable e) {
+				failure.compareAndSet(null, e);
+			}
+			finally {
+				try {
+					output.end();
+				}
+				catch (CancellationException _) {
+					// the importing thread failed and no longer takes batches
+				}
+			}
+		});
+	}
+
+	/**
+	 * Online IDs on the splits of the statement account, read for the dates of the statement lines as they
+	 * arrive. The dates read form one interval, extended with split queries of the missing dates only.
+	 */
+	private final class KnownOnlineIds {
+
+		private final String accountId;
+		private final Set<String> ids = new HashSet<>();
+		private LocalDate from;
+		private LocalDate to;
+
+		KnownOnlineIds(String accountId) {
+			this.accountId = accountId;
+		}
+
+		void cover(List<Matched> lines) {
+			LocalDate first = lines.getFirst().line().date();
+			LocalDate last = first;
+			for (Matched line : lines) {
+				LocalDate date = line.line().date();
+				first = date.isBefore(first) ? date : first;
+				last = date.isAfter(last) ? date : last;
+			}
+			if (from == null) {
+				read(first, last);
+				from = first;
+				to = last;
+				return;
+			}
+			if (first.isBefore(from)) {
+				read(first, from.minusDays(1));
+				from = first;
+			}
+			if (last.isAfter(to)) {
+				read(to.plusDays(1), last);
+				to = last;
+			}
+		}
+
+		/**
+		 * @return whether the online ID was not known yet
+		 */
+		boolean add(String onlineId) {
+			return ids.add(onlineId);
+		}
+
+		private void read(LocalDate first, LocalDate last) {
+			for (Split split : store.query().accounts(accountId).between(first, last).list()) {
+				split.slots().string(ONLINE_ID).ifPresent(ids::add);
+			}
+		}
+	}
+
+	private record Matched(StatementLine line, String accountId, boolean unmatched) {
+	}
+
+	private static final class Counts {
+		long lines;
+		long imported;
+		long duplicates;
+		long unmatched;
+	}
+
+	/**
+	 * Bounded queue of non-empty batches between two stages, ended by an empty batch.
+	 */
+	private static final class Pipe<T> {
+
+		private final BlockingQueue<List<T>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+		void put(List<T> batch) {
+			try {
+				queue.put(batch);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Statement import cancelled");
+			}
+		}
+
+		void end() {
+			put(List.of());
+		}
+
+		List<T> take() {
+			try {
+				return queue.take();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Statement import cancelled");
+			}
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.druvu.acc.api.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import lombok.NonNull;
+
+/**
+ * One line of a bank statement.
+ *
+ * @param onlineId    ID of the line at the bank, the OFX {@code FITID} or derived from the line content
+ * @param date        date posted
+ * @param amount      amount, positive for money received
+ * @param description payee or description
+ * @param memo        optional memo
+ * @param number      optional check or reference number
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record StatementLine(
+		@NonNull
+		String onlineId,
+		@NonNull
+		LocalDate date,
+		@NonNull
+		BigDecimal amount,
+		@NonNull
+		String description,
+		@NonNull
+		Optional<String> memo,
+		@NonNull
+		Optional<String> number
+) {
+}
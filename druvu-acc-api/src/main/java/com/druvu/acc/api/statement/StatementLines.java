@@ -0,0 +1,43 @@
+package com.druvu.acc.api.statement;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Amount parsing and content-derived online IDs shared by the parsers.
+ * <p>
+ * Statements without bank IDs get IDs derived from date, amount and description, numbered by occurrence so
+ * that identical lines of one statement stay distinct while importing the same statement again yields the
+ * same IDs. One instance serves one statement.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class StatementLines {
+
+	private final Map<String, Integer> occurrences = new HashMap<>();
+
+	String derivedId(LocalDate date, BigDecimal amount, String description) {
+		String content = date + "|" + amount.stripTrailingZeros().toPlainString() + "|" + description;
+		int occurrence = occurrences.merge(content, 1, Integer::sum);
+		UUID uuid = UUID.nameUUIDFromBytes((content + "#" + occurrence).getBytes(StandardCharsets.UTF_8));
+		return uuid.toString().replace("-", "");
+	}
+
+	static BigDecimal amount(String text) {
+		String cleaned = text.strip().replace(" ", "").replace("\u00a0", "");
+		int comma = cleaned.indexOf(',');
+		int point = cleaned.indexOf('.');
+		if (comma >= 0 && point >= 0) {
+			cleaned = comma < point ? cleaned.replace(",", "") : cleaned.replace(".", "").replace(',', '.');
+		}
+		else if (comma >= 0) {
+			cleaned = cleaned.replace(',', '.');
+		}
+		return new BigDecimal(cleaned);
+	}
+}
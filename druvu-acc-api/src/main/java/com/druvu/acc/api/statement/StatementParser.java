@@ -0,0 +1,41 @@
+package com.druvu.acc.api.statement;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Reads the lines of a bank statement.
+ * <p>
+ * Parsers stream: each line is handed over as soon as it is read. Malformed lines fail the whole statement
+ * with an {@link IllegalArgumentException} naming the line.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public interface StatementParser {
+
+	/**
+	 * @param format the column layout
+	 * @return a parser of CSV statements
+	 */
+	static StatementParser csv(CsvFormat format) {
+		return new CsvStatementParser(format);
+	}
+
+	/**
+	 * @return a parser of OFX statements, both SGML (1.x) and XML (2.x)
+	 */
+	static StatementParser ofx() {
+		return new OfxStatementParser();
+	}
+
+	/**
+	 * Reads the statement and hands over each line in statement order.
+	 *
+	 * @param reader the statement text
+	 * @param sink   receives the lines
+	 * @throws IOException if the statement cannot be read
+	 */
+	void parse(Reader reader, Consumer<StatementLine> sink) throws IOException;
+}
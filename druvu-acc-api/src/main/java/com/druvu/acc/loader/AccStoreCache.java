@@ -0,0 +1,421 @@
+package com.druvu.acc.loader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.druvu.acc.api.AccStore;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Size-bounded cache of loaded {@link AccStore} instances, keyed by file path and modification time.
+ * <p>
+ * Stores are weighed when they are loaded and the least recently used ones are evicted once the
+ * total weight exceeds the configured heap budget. A file modified since it was loaded is reloaded
+ * on the next lookup. Concurrent lookups of the same file share a single load.
+ * <p>
+ * A lookup returns a {@link Lease} on the store, which the caller closes when done with it. Stores leaving the
+ * cache, whether evicted, invalidated or replaced by a reload, are closed once their last lease is closed, so a
+ * store is never closed under a caller still using it. A store too heavy to be cached is not kept: it is leased
+ * to the lookups that waited for its load and closed with their last lease.
+ * <p>
+ * The cache is thread-safe.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+public final class AccStoreCache {
+
+	/**
+	 * Rough ratio between on-disk size and retained heap size of a loaded book.
+	 */
+	static final long HEAP_BYTES_PER_FILE_BYTE = 10;
+
+	/**
+	 * Estimates the retained heap bytes of a loaded store.
+	 */
+	@FunctionalInterface
+	public interface Weigher {
+
+		/**
+		 * @param path  the file the store was loaded from
+		 * @param store the loaded store
+		 * @return estimated retained heap bytes, never negative
+		 */
+		long weigh(Path path, AccStore store);
+	}
+
+	/**
+	 * Default weigher, uses the footprint estimate reported by the store.
+	 */
+	public static final Weigher FOOTPRINT_WEIGHER = (_, store) -> store.footprint().total();
+
+	/**
+	 * Weigher scaling the on-disk file size, for stores whose footprint estimate is not trusted.
+	 */
+	public static final Weigher FILE_SIZE_WEIGHER = (path, _) -> {
+		try {
+			return Files.size(path) * HEAP_BYTES_PER_FILE_BYTE;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read size of " + path, e);
+		}
+	};
+
+	private final long maxWeight;
+	private final Function<Path, AccStore> loader;
+	private final Weigher weigher;
+
+	// access-ordered, guarded by this
+	private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long weightedSize;
+
+	private final Map<Key, CompletableFuture<Holder>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder loadFailures = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder loadNanos = new LongAdder();
+
+	private AccStoreCache(long maxWeight, Function<Path, AccStore> loader, Weigher weigher) {
+		if (maxWeight <= 0) {
+			throw new IllegalArgumentException("Heap budget must be positive: " + maxWeight);
+		}
+		this.maxWeight = maxWeight;
+		this.loader = loader;
+		this.weigher = weigher;
+	}
+
+	/**
+	 * Creates a cache loading stores with {@link AccStoreFactory#load(Path)}.
+	 *
+	 * @param maxHeapBytes heap budget for all cached stores
+	 * @return the cache
+	 */
+	public static AccStoreCache create(long maxHeapBytes) {
+		return create(maxHeapBytes, AccStoreFactory::load, FOOTPRINT_WEIGHER);
+	}
+
+	/**
+	 * Creates a cache with a custom loader and weigher.
+	 *
+	 * @param maxHeapBytes heap budget for all cached stores
+	 * @param loader       loads a store from a path
+	 * @param weigher      estimates the heap bytes of a loaded store
+	 * @return the cache
+	 */
+	public static AccStoreCache create(long maxHeapBytes, @NonNull Function<Path, AccStore> loader, @NonNull Weigher weigher) {
+		return new AccStoreCache(maxHeapBytes, loader, weigher);
+	}
+
+	/**
+	 * Leases the store for the given file, loading it if it is not cached or was modified since it was loaded.
+	 *
+	 * @param path the file to load
+	 * @return a lease on the loaded store, to be closed by the caller
+	 */
+	public Lease get(@NonNull Path path) {
+		Path normalized = path.toAbsolutePath().normalize();
+		while (true) {
+			FileTime modified = lastModified(normalized);
+
+			Lease cached = cached(normalized, modified);
+			if (cached != null) {
+				hits.increment();
+				return cached;
+			}
+
+			misses.increment();
+			Key key = new Key(normalized, modified);
+			CompletableFuture<Holder> future = new CompletableFuture<>();
+			CompletableFuture<Holder> existing = inFlight.putIfAbsent(key, future);
+			if (existing != null) {
+				Lease shared = await(existing).lease();
+				if (shared != null) {
+					return shared;
+				}
+				// the store was closed before this lookup got its lease, look it up again
+				continue;
+			}
+
+			try {
+				// another thread may have finished loading between the lookup and registering the load
+				cached = cached(normalized, modified);
+				if (cached != null) {
+					future.complete(cached.holder);
+					return cached;
+				}
+				AccStore store = load(normalized);
+				Holder holder = new Holder(store);
+				Lease lease = holder.lease();
+				retire(put(normalized, new Entry(modified, holder, weigher.weigh(normalized, store))));
+				future.complete(holder);
+				return lease;
+			}
+			catch (RuntimeException e) {
+				future.completeExceptionally(e);
+				throw e;
+			}
+			finally {
+				inFlight.remove(key, future);
+			}
+		}
+	}
+
+	/**
+	 * Removes the store for the given file from the cache and closes it once its leases are closed.
+	 *
+	 * @param path the file
+	 */
+	public void invalidate(@NonNull Path path) {
+		Entry removed;
+		synchronized (this) {
+			removed = entries.remove(path.toAbsolutePath().normalize());
+			if (removed != null) {
+				weightedSize -= removed.weight();
+			}
+		}
+		if (removed != null) {
+			retire(List.of(removed));
+		}
+	}
+
+	/**
+	 * Removes all stores from the cache and closes each once its leases are closed.
+	 */
+	public void invalidateAll() {
+		List<Entry> removed;
+		synchronized (this) {
+			removed = List.copyOf(entries.values());
+			entries.clear();
+			weightedSize = 0;
+		}
+		retire(removed);
+	}
+
+	/**
+	 * @return snapshot of the cache statistics
+	 */
+	public synchronized CacheStats stats() {
+		return new CacheStats(
+				hits.sum(),
+				misses.sum(),
+				loads.sum(),
+				loadFailures.sum(),
+				evictions.sum(),
+				loadNanos.sum(),
+				weightedSize,
+				entries.size()
+		);
+	}
+
+	/**
+	 * @return a lease on the cached store, taken under the cache lock so the store cannot leave the cache first
+	 */
+	private synchronized Lease cached(Path path, FileTime modified) {
+		Entry entry = entries.get(path);
+		return entry != null && entry.modified().equals(modified) ? entry.holder().lease() : null;
+	}
+
+	private AccStore load(Path path) {
+		long start = System.nanoTime();
+		try {
+			AccStore store = loader.apply(path);
+			loads.increment();
+			return store;
+		}
+		catch (RuntimeException e) {
+			loadFailures.increment();
+			throw e;
+		}
+		finally {
+			long elapsed = System.nanoTime() - start;
+			loadNanos.add(elapsed);
+			log.debug("Loaded {} in {} ms", path, TimeUnit.NANOSECONDS.toMillis(elapsed));
+		}
+	}
+
+	/**
+	 * @return the entries that left the cache or were not kept, to be retired outside the lock
+	 */
+	private synchronized List<Entry> put(Path path, Entry entry) {
+		List<Entry> removed = new ArrayList<>();
+		Entry previous = entries.remove(path);
+		if (previous != null) {
+			weightedSize -= previous.weight();
+			removed.add(previous);
+		}
+		if (entry.weight() > maxWeight) {
+			log.warn("Store {} weighs {} bytes which exceeds the whole budget of {} bytes, not caching it", path, entry.weight(), maxWeight);
+			removed.add(entry);
+			return removed;
+		}
+		entries.put(path, entry);
+		weightedSize += entry.weight();
+
+		Iterator<Map.Entry<Path, Entry>> eldest = entries.entrySet().iterator();
+		while (weightedSize > maxWeight && eldest.hasNext()) {
+			Map.Entry<Path, Entry> candidate = eldest.next();
+			if (candidate.getKey().equals(path)) {
+				continue;
+			}
+			eldest.remove();
+			weightedSize -= candidate.getValue().weight();
+			evictions.increment();
+			removed.add(candidate.getValue());
+			log.debug("Evicted {} ({} bytes)", candidate.getKey(), candidate.getValue().weight());
+		}
+		return removed;
+	}
+
+	/**
+	 * Marks stores that left the cache for closing and closes those without leases.
+	 */
+	private static void retire(List<Entry> removed) {
+		for (Entry entry : removed) {
+			if (entry.holder().retire()) {
+				close(entry.holder().store);
+			}
+		}
+	}
+
+	/**
+	 * Closes a store. Failures are logged, the store is gone from the cache either way.
+	 */
+	private static void close(AccStore store) {
+		try {
+			store.close();
+		}
+		catch (RuntimeException e) {
+			log.warn("Failed to close store {}", store.id(), e);
+		}
+	}
+
+	private static Holder await(CompletableFuture<Holder> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static FileTime lastModified(Path path) {
+		try {
+			return Files.getLastModifiedTime(path);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read modification time of " + path, e);
+		}
+	}
+
+	private record Key(Path path, FileTime modified) {
+	}
+
+	private record Entry(FileTime modified, Holder holder, long weight) {
+	}
+
+	/**
+	 * Lease count of one loaded store. The store is closed once it is retired and has no leases left; a closed
+	 * store is not leased again.
+	 */
+	private static final class Holder {
+
+		private final AccStore store;
+		private int leases;
+		private boolean retired;
+		private boolean closed;
+
+		private Holder(AccStore store) {
+			this.store = store;
+		}
+
+		/**
+		 * @return a new lease, null if the store is already closed
+		 */
+		synchronized Lease lease() {
+			if (closed) {
+				return null;
+			}
+			leases++;
+			return new Lease(this);
+		}
+
+		/**
+		 * @return true if the caller must close the store
+		 */
+		synchronized boolean release() {
+			leases--;
+			return closeIfIdle();
+		}
+
+		/**
+		 * @return true if the caller must close the store
+		 */
+		synchronized boolean retire() {
+			retired = true;
+			return closeIfIdle();
+		}
+
+		private boolean closeIfIdle() {
+			if (retired && leases == 0 && !closed) {
+				closed = true;
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Use of a store returned by {@link #get(Path)}. The store stays open until the lease is closed, even if it
+	 * leaves the cache meanwhile. Closing the lease again has no effect.
+	 */
+	public static final class Lease implements AutoCloseable {
+
+		private final Holder holder;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Lease(Holder holder) {
+			this.holder = holder;
+		}
+
+		/**
+		 * @return the leased store, not to be used after the lease is closed
+		 */
+		public AccStore store() {
+			if (released.get()) {
+				throw new IllegalStateException("Lease on store " + holder.store.id() + " is closed");
+			}
+			return holder.store;
+		}
+
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true) && holder.release()) {
+				AccStoreCache.close(holder.store);
+			}
+		}
+	}
+}
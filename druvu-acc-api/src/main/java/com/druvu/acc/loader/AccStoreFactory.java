@@ -1,9 +1,11 @@
 package com.druvu.acc.loader;
 
 import java.nio.file.Path;
+import java.util.ServiceLoader;
 
 import com.druvu.acc.api.AccStore;
-import com.druvu.lib.loader.ComponentLoader;
+import com.druvu.acc.api.metrics.InstrumentedAccStore;
+import com.druvu.lib.loader.ComponentFactory;
 import com.druvu.lib.loader.Dependencies;
 
 /**
@@ -15,13 +17,39 @@ import com.druvu.lib.loader.Dependencies;
  * <ul>
  *   <li>{@code java.nio.file.Path} - path to the file to load</li>
  * </ul>
+ * Each factory loads books of one {@link BookFormat} and rejects files of another format.
+ * {@link #load(Path)} detects the format of the file and picks the registered factory of that format.
+ * Stores loaded there are wrapped in {@link InstrumentedAccStore}, labelled with the file name.
  *
  * @author Deniss Larka
  * <br/>on 10 Jan 2026
  */
-public interface AccStoreFactory {
+public interface AccStoreFactory extends ComponentFactory<AccStore> {
 
+	/**
+	 * @return the format of the books this factory loads
+	 */
+	BookFormat format();
+
+	@Override
+	default Class<AccStore> getComponentType() {
+		return AccStore.class;
+	}
+
+	/**
+	 * Loads a book with the registered factory of its format.
+	 *
+	 * @param path the book file
+	 * @return the loaded store, close it when done
+	 */
 	static AccStore load(Path path) {
-		return ComponentLoader.load(AccStore.class, Dependencies.of(Path.class, path));
+		BookFormat format = BookFormat.of(path);
+		for (ComponentFactory<?> factory : ServiceLoader.load(ComponentFactory.class)) {
+			if (factory instanceof AccStoreFactory storeFactory && storeFactory.format() == format) {
+				AccStore store = storeFactory.createComponent(Dependencies.of(Path.class, path));
+				return InstrumentedAccStore.wrap(store, String.valueOf(path.getFileName()));
+			}
+		}
+		throw new IllegalStateException("No AccStore factory registered for " + format + " book " + path);
 	}
 }
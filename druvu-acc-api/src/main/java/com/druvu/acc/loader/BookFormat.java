@@ -0,0 +1,45 @@
+package com.druvu.acc.loader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Storage format of a book file, told apart by the first bytes of the file.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public enum BookFormat {
+
+	/**
+	 * GnuCash XML, plain or gzip-compressed.
+	 */
+	XML,
+
+	/**
+	 * GnuCash SQLite database.
+	 */
+	SQLITE;
+
+	private static final byte[] SQLITE_HEADER = "SQLite format 3\0".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Detects the format of a book file. Files without the SQLite database header are taken for XML.
+	 *
+	 * @param path the book file
+	 * @return the format
+	 */
+	public static BookFormat of(Path path) {
+		try (InputStream in = Files.newInputStream(path)) {
+			return Arrays.equals(in.readNBytes(SQLITE_HEADER.length), SQLITE_HEADER) ? SQLITE : XML;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read file: " + path, e);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.druvu.acc.loader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of {@link AccStoreCache} statistics.
+ *
+ * @param hitCount           number of lookups served from the cache
+ * @param missCount          number of lookups that had to wait for a load (own or concurrent)
+ * @param loadCount          number of stores successfully loaded
+ * @param loadFailureCount   number of loads that failed
+ * @param evictionCount      number of stores evicted to stay within the budget
+ * @param totalLoadTimeNanos total time spent loading stores
+ * @param weightedSize       current estimated heap bytes of all cached stores
+ * @param size               current number of cached stores
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record CacheStats(
+		long hitCount,
+		long missCount,
+		long loadCount,
+		long loadFailureCount,
+		long evictionCount,
+		long totalLoadTimeNanos,
+		long weightedSize,
+		int size
+) {
+
+	/**
+	 * @return ratio of hits to all lookups, 1.0 when there were no lookups
+	 */
+	public double hitRate() {
+		long requests = hitCount + missCount;
+		return requests == 0 ? 1.0 : (double) hitCount / requests;
+	}
+
+	/**
+	 * @return average time of a load attempt in milliseconds, 0 when nothing was loaded
+	 */
+	public double averageLoadMillis() {
+		long loads = loadCount + loadFailureCount;
+		return loads == 0 ? 0.0 : (double) totalLoadTimeNanos / loads / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
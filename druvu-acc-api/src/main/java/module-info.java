@@ -4,12 +4,17 @@ module com.druvu.acc.api {
 
 	requires transitive druvu.lib.loader;
 	requires org.slf4j;
+	requires jdk.jfr;
 
 	exports com.druvu.acc.api;
 	exports com.druvu.acc.loader;
 	exports com.druvu.acc.api.entity;
 
 	exports com.druvu.acc.api.service;
+	exports com.druvu.acc.api.export;
+	exports com.druvu.acc.api.statement;
+	exports com.druvu.acc.api.metrics;
 
 	uses com.druvu.lib.loader.ComponentFactory;
+	uses com.druvu.acc.api.metrics.AccMetrics;
 }
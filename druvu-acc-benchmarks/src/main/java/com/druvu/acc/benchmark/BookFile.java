@@ -0,0 +1,49 @@
+package com.druvu.acc.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.druvu.acc.gnucash.synthetic.SyntheticBookGenerator;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookSpec;
+
+/**
+ * A generated GnuCash book of the requested size written to a temporary file.
+ * <p>
+ * Books are generated with a fixed seed, so every run measures the same content.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+public class BookFile {
+
+	@Param({"1000", "10000", "100000"})
+	public int transactions;
+
+	public Path path;
+
+	@Setup(Level.Trial)
+	public void create() throws IOException {
+		SyntheticBookSpec spec = SyntheticBookSpec.DEFAULT.toBuilder()
+				.accounts(Math.max(SyntheticBookSpec.DEFAULT.accounts(), transactions / 500))
+				.transactions(transactions)
+				.commodities(10)
+				.prices(transactions / 10)
+				.build();
+		path = Files.createTempFile("benchmark-" + transactions + "-", ".gnucash.xml");
+		SyntheticBookGenerator.write(spec, path);
+	}
+
+	@TearDown(Level.Trial)
+	public void delete() throws IOException {
+		Files.deleteIfExists(path);
+	}
+}
@@ -0,0 +1,60 @@
+package com.druvu.acc.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.acc.gnucash.generated.GncV2;
+import com.druvu.acc.gnucash.reader.GnucashFileReader;
+import com.druvu.lib.loader.Dependencies;
+
+/**
+ * Parsing a book file and building a store from it.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+	private final GnucashFileReader reader = new GnucashFileReader();
+	private final GnucashBookFactory readWrite = new GnucashBookFactory(LoadMode.READ_WRITE);
+	private final GnucashBookFactory readOnly = new GnucashBookFactory(LoadMode.READ_ONLY);
+
+	@Benchmark
+	public GncV2 read(BookFile book) throws IOException {
+		return reader.read(book.path);
+	}
+
+	@Benchmark
+	public AccStore loadReadWrite(BookFile book) {
+		return load(readWrite, book.path);
+	}
+
+	@Benchmark
+	public AccStore loadReadOnly(BookFile book) {
+		return load(readOnly, book.path);
+	}
+
+	private static AccStore load(GnucashBookFactory factory, Path path) {
+		return factory.createComponent(Dependencies.of(Path.class, path));
+	}
+}
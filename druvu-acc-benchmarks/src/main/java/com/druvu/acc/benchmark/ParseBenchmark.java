@@ -0,0 +1,57 @@
+package com.druvu.acc.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.druvu.acc.gnucash.impl.DateTimeUtils;
+import com.druvu.acc.gnucash.impl.Fractions;
+
+/**
+ * Per-value parsing done for every split and transaction while mapping.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+	@Benchmark
+	public BigDecimal parseFraction(FractionInput input) {
+		return Fractions.parse(input.fraction);
+	}
+
+	@Benchmark
+	public LocalDateTime parseTimestamp(TimestampInput input) {
+		return DateTimeUtils.parseTimestamp(input.timestamp);
+	}
+
+	@State(Scope.Thread)
+	public static class FractionInput {
+
+		@Param({"12345/100", "-987654321/1000000", "7/1"})
+		public String fraction;
+	}
+
+	@State(Scope.Thread)
+	public static class TimestampInput {
+
+		// non-final so the JIT cannot fold the parse
+		public String timestamp = "2026-01-15 22:55:21 +0000";
+	}
+}
@@ -0,0 +1,109 @@
+package com.druvu.acc.benchmark;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.service.AccountService;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+/**
+ * Store queries and balance calculation on a loaded book, in both load modes.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+
+	@Param({"READ_WRITE", "READ_ONLY"})
+	public LoadMode mode;
+
+	private AccStore store;
+	private AccountService service;
+	private String busiestAccountId;
+	private String qualifiedName;
+	private String lastTransactionId;
+	private LocalDate from;
+	private LocalDate to;
+
+	@Setup(Level.Trial)
+	public void setUp(BookFile book) {
+		store = new GnucashBookFactory(mode).createComponent(Dependencies.of(Path.class, book.path));
+		service = AccountService.create(store);
+
+		busiestAccountId = store.accounts().stream()
+				.max(Comparator.comparingInt(account -> store.splitsForAccount(account.id()).size()))
+				.map(Account::id)
+				.orElseThrow();
+		qualifiedName = store.qualifiedName(busiestAccountId).orElseThrow();
+
+		List<Transaction> transactions = store.transactions();
+		lastTransactionId = transactions.getLast().id();
+		from = transactions.getFirst().datePosted();
+		to = from.plusDays(7);
+	}
+
+	@Benchmark
+	public List<Transaction> transactions() {
+		return store.transactions();
+	}
+
+	@Benchmark
+	public List<Transaction> transactionsInRange() {
+		return store.transactions(from, to);
+	}
+
+	@Benchmark
+	public Optional<Transaction> transactionById() {
+		return store.transactionById(lastTransactionId);
+	}
+
+	@Benchmark
+	public Optional<Account> accountByName() {
+		return store.accountByName(qualifiedName);
+	}
+
+	@Benchmark
+	public Optional<String> qualifiedName() {
+		return store.qualifiedName(busiestAccountId);
+	}
+
+	@Benchmark
+	public List<Split> splitsForAccount() {
+		return store.splitsForAccount(busiestAccountId);
+	}
+
+	@Benchmark
+	public BigDecimal balance() {
+		return service.balance(busiestAccountId);
+	}
+}
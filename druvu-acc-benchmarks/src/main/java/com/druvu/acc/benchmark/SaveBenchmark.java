@@ -0,0 +1,65 @@
+package com.druvu.acc.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.druvu.acc.gnucash.generated.GncV2;
+import com.druvu.acc.gnucash.reader.GnucashFileReader;
+import com.druvu.acc.gnucash.writer.GnucashFileWriter;
+
+/**
+ * Serializing a parsed book, to memory and to a compressed file.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveBenchmark {
+
+	private final GnucashFileWriter writer = new GnucashFileWriter();
+
+	private GncV2 root;
+	private Path target;
+
+	@Setup(Level.Trial)
+	public void setUp(BookFile book) throws IOException {
+		root = new GnucashFileReader().read(book.path);
+		target = Files.createTempFile("benchmark-save-", ".gnucash");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(target);
+	}
+
+	@Benchmark
+	public void writeStream() throws IOException {
+		writer.write(root, OutputStream.nullOutputStream());
+	}
+
+	@Benchmark
+	public void writeCompressedFile() throws IOException {
+		writer.write(root, target);
+	}
+}
@@ -0,0 +1,46 @@
+package com.druvu.acc.gnucash.sql.api;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a {@link GnucashSqlConverter} run.
+ *
+ * @param rows    rows inserted per table, in insertion order
+ * @param elapsed wall time of the conversion, including index creation
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record ConversionReport(
+		Map<String, Long> rows,
+		Duration elapsed
+) {
+
+	public ConversionReport {
+		rows = Collections.unmodifiableMap(new LinkedHashMap<>(rows));
+	}
+
+	/**
+	 * @return rows inserted into all tables
+	 */
+	public long totalRows() {
+		return rows.values().stream().mapToLong(Long::longValue).sum();
+	}
+
+	/**
+	 * @return inserted rows per second of wall time
+	 */
+	public double rowsPerSecond() {
+		long nanos = elapsed.toNanos();
+		return nanos == 0 ? 0 : totalRows() * 1e9 / nanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("conversion[rows=%d, elapsed=%d ms, rowsPerSecond=%.0f, tables=%s]",
+				totalRows(), elapsed.toMillis(), rowsPerSecond(), rows);
+	}
+}
@@ -0,0 +1,53 @@
+package com.druvu.acc.gnucash.sql.api;
+
+import java.nio.file.Path;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.gnucash.sql.impl.SqlBookWriter;
+
+import lombok.NonNull;
+
+/**
+ * Converts a loaded book into a new GnuCash SQLite file, e.g. an XML book loaded in {@code READ_ONLY} mode.
+ * <p>
+ * Reading the source and inserting rows run as two stages on separate threads, joined by a bounded queue of
+ * row batches. Rows are inserted through batched prepared statements in a single database transaction, and
+ * the indexes are created after the last row. Slots of accounts, transactions, splits and lots are copied,
+ * scheduled transactions are written with template transactions, and customers, vendors, jobs, invoices and
+ * their entries into the business tables. A book with data the converter cannot write, such as expense
+ * vouchers of employees, is refused.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class GnucashSqlConverter {
+
+	public static final int DEFAULT_BATCH_SIZE = 5000;
+
+	private final int batchSize;
+
+	public GnucashSqlConverter() {
+		this(DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * @param batchSize number of rows handed from the reading to the inserting stage at once
+	 */
+	public GnucashSqlConverter(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+		}
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Writes the book into a new SQLite file.
+	 *
+	 * @param source the book to convert
+	 * @param target the file to create, must not exist
+	 * @return the inserted rows and the conversion time
+	 */
+	public ConversionReport convert(@NonNull AccStore source, @NonNull Path target) {
+		return SqlBookWriter.write(source, target, batchSize);
+	}
+}
@@ -0,0 +1,70 @@
+package com.druvu.acc.gnucash.sql.api;
+
+import java.nio.file.Path;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.gnucash.sql.impl.SqlAccStore;
+import com.druvu.acc.loader.AccStoreFactory;
+import com.druvu.acc.loader.BookFormat;
+import com.druvu.lib.loader.Dependencies;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Factory for creating AccStore instance from GnuCash SQLite book.
+ * <p>
+ * This factory is registered via ServiceLoader for use with druvu-lib-loader.
+ * <p>
+ * Expected dependencies:
+ * <ul>
+ *   <li>{@code java.nio.file.Path} - path to the SQLite file to open</li>
+ * </ul>
+ * The book is opened read-only. Close the returned store to release the database connection.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+public class GnucashSqlFactory implements AccStoreFactory {
+
+	private final int pageSize;
+
+	public GnucashSqlFactory() {
+		this(SqlAccStore.DEFAULT_PAGE_SIZE);
+	}
+
+	/**
+	 * @param pageSize number of transactions read per query
+	 */
+	public GnucashSqlFactory(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public AccStore createComponent(Dependencies dependencies) {
+		var pathOpt = dependencies.getOptionalDependency(Path.class);
+		if (pathOpt.isPresent()) {
+			Path path = pathOpt.get();
+			if (!isSqlite(path)) {
+				throw new IllegalArgumentException("Not a SQLite file: " + path);
+			}
+			log.info("Opening GnuCash SQLite book: {}", path);
+			return SqlAccStore.open(path, pageSize);
+		}
+
+		throw new IllegalArgumentException("Dependencies must contain java.nio.file.Path");
+	}
+
+	@Override
+	public BookFormat format() {
+		return BookFormat.SQLITE;
+	}
+
+	/**
+	 * @param path a file
+	 * @return whether the file starts with the SQLite database header
+	 */
+	public static boolean isSqlite(Path path) {
+		return BookFormat.of(path) == BookFormat.SQLITE;
+	}
+}
@@ -0,0 +1,81 @@
+package com.druvu.acc.gnucash.sql.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Creates the tables and indexes of the GnuCash SQLite schema read by {@link SqlAccStore}.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@UtilityClass
+public final class GnucashSchema {
+
+	private static final String RESOURCE = "gnucash-sqlite.sql";
+
+	private static final String CREATE_INDEX = "CREATE INDEX";
+
+	/**
+	 * Creates the schema in an empty database.
+	 *
+	 * @param connection the database connection
+	 * @throws SQLException if a statement fails
+	 */
+	public static void create(Connection connection) throws SQLException {
+		createTables(connection);
+		createIndexes(connection);
+	}
+
+	/**
+	 * Creates the tables and version rows of the schema without its indexes, for bulk loads that index once
+	 * all rows are in.
+	 *
+	 * @param connection the database connection
+	 * @throws SQLException if a statement fails
+	 */
+	public static void createTables(Connection connection) throws SQLException {
+		execute(connection, false);
+	}
+
+	/**
+	 * Creates the indexes of the schema on tables created by {@link #createTables(Connection)}.
+	 *
+	 * @param connection the database connection
+	 * @throws SQLException if a statement fails
+	 */
+	public static void createIndexes(Connection connection) throws SQLException {
+		execute(connection, true);
+	}
+
+	private static void execute(Connection connection, boolean indexes) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			String script = script().replaceAll("(?m)^--.*$", "");
+			for (String sql : script.split(";\\R")) {
+				String trimmed = sql.strip();
+				if (!trimmed.isEmpty() && trimmed.startsWith(CREATE_INDEX) == indexes) {
+					statement.executeUpdate(trimmed);
+				}
+			}
+		}
+	}
+
+	private static String script() {
+		try (InputStream in = GnucashSchema.class.getResourceAsStream(RESOURCE)) {
+			if (in == null) {
+				throw new IllegalStateException("Schema resource not found: " + RESOURCE);
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read schema resource: " + RESOURCE, e);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.druvu.acc.gnucash.sql.impl;
+
+import com.druvu.acc.api.entity.SlotType;
+
+/**
+ * One row of the GnuCash {@code slots} table.
+ * <p>
+ * The name holds the full path from the owning entity. Frames and lists keep their members in rows whose
+ * object GUID is the {@code guid_val} of the frame row.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+record SlotRow(
+		String name,
+		SlotType type,
+		long integer,
+		String string,
+		double real,
+		String timespec,
+		String guid,
+		long numerator,
+		long denominator,
+		String gdate
+) {
+
+	/**
+	 * Slot type codes of the GnuCash KVP value types, indexed by {@code slot_type}.
+	 */
+	private static final SlotType[] TYPES = {
+			null, SlotType.INTEGER, SlotType.DOUBLE, SlotType.NUMERIC, SlotType.STRING, SlotType.GUID,
+			SlotType.TIMESPEC, SlotType.BINARY, SlotType.LIST, SlotType.FRAME, SlotType.GDATE
+	};
+
+	static SlotType type(int code) {
+		if (code < 1 || code >= TYPES.length) {
+			throw new IllegalStateException("Unknown slot type code: " + code);
+		}
+		return TYPES[code];
+	}
+
+	static int code(SlotType type) {
+		for (int code = 1; code < TYPES.length; code++) {
+			if (TYPES[code] == type) {
+				return code;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported slot type: " + type);
+	}
+}
@@ -0,0 +1,771 @@
+package com.druvu.acc.gnucash.sql.impl;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.sqlite.SQLiteConfig;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.AccessPath;
+import com.druvu.acc.api.AccountPaths;
+import com.druvu.acc.api.AccountTree;
+import com.druvu.acc.api.QueryPlan;
+import com.druvu.acc.api.SplitFilter;
+import com.druvu.acc.api.StoreFootprint;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.AccountType;
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.BudgetAmount;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Lot;
+import com.druvu.acc.api.entity.Owner;
+import com.druvu.acc.api.entity.OwnerType;
+import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Recurrence;
+import com.druvu.acc.api.entity.RecurrencePeriod;
+import com.druvu.acc.api.entity.ScheduledSplit;
+import com.druvu.acc.api.entity.ScheduledTransaction;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.entity.Vendor;
+import com.druvu.acc.api.entity.WeekendAdjust;
+
+import lombok.NonNull;
+
+/**
+ * GnuCash SQLite implementation of AccStore.
+ * <p>
+ * Nothing but the commodity table and the template account GUIDs is loaded up front; every call queries the
+ * book through prepared statements cached per store. Date ranges are answered from the {@code post_date}
+ * index and account lookups from the {@code account_guid} index of the splits; split queries push their account,
+ * date and reconcile state predicates into SQL. Transactions are read in pages
+ * of a fixed size, keyed by posting date and row ID, so {@link #streamTransactions(LocalDate, LocalDate)} never
+ * holds more than one page. Slots are read when first accessed.
+ * <p>
+ * Scheduled transactions are read from {@code schedxactions}, their recurrences and the splits of their template
+ * accounts; business objects from the {@code customers}, {@code vendors}, {@code jobs}, {@code invoices} and
+ * {@code entries} tables. Books written without the business tables report no business objects. The store is
+ * thread-safe; queries are serialized on its connection.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class SqlAccStore implements AccStore {
+
+	public static final int DEFAULT_PAGE_SIZE = 1000;
+
+	private static final int STATEMENT_CACHE_SIZE = 64;
+	// prepared statement and its native SQLite counterpart
+	private static final long STATEMENT_BYTES = 2048;
+
+	private static final String ACCOUNT_COLUMNS = "SELECT guid, name, account_type, commodity_guid, parent_guid, code, description FROM accounts";
+	private static final String TRANSACTION_COLUMNS = "SELECT t.guid, t.currency_guid, t.num, t.post_date, t.description, t.rowid FROM transactions t";
+	private static final String SPLIT_COLUMNS = "SELECT s.guid, s.tx_guid, s.account_guid, s.memo, s.reconcile_state, s.reconcile_date,"
+			+ " s.value_num, s.value_denom, s.quantity_num, s.quantity_denom, s.lot_guid";
+	private static final String PAGE = " AND (t.post_date, t.rowid) > (?, ?) ORDER BY t.post_date, t.rowid LIMIT ?";
+	private static final String DATE_RANGE = "t.post_date >= ? AND t.post_date < ?";
+	private static final String INVOICE_COLUMNS = "SELECT guid, id, owner_type, owner_guid, date_opened, date_posted, post_txn, post_lot,"
+			+ " post_acc, currency, notes, active FROM invoices";
+	private static final String SX_SLOT = "sched-xaction";
+	private static final Set<String> BUSINESS_TABLES = Set.of("customers", "vendors", "jobs", "invoices", "entries");
+	private static final String SLOTS = "SELECT name, slot_type, int64_val, string_val, double_val, timespec_val, guid_val,"
+			+ " numeric_val_num, numeric_val_denom, gdate_val FROM slots WHERE obj_guid = ? ORDER BY id";
+
+	private final StatementCache statements;
+	private final int pageSize;
+	private final String id;
+	private final Map<String, CommodityId> commodities;
+	private final Set<String> templateAccountIds;
+	// whether the book has the business tables, older books or books without business data may lack them
+	private final boolean business;
+	// built on first use from one account query each and kept, the book being read-only
+	private volatile AccountPaths paths;
+	private volatile AccountTree tree;
+
+	private SqlAccStore(Connection connection, int pageSize) {
+		this.statements = new StatementCache(connection, STATEMENT_CACHE_SIZE);
+		this.pageSize = pageSize;
+		List<String[]> books = list("SELECT guid, root_template_guid FROM books", rs -> new String[]{rs.getString(1), rs.getString(2)});
+		if (books.isEmpty()) {
+			throw new IllegalStateException("No book found in database");
+		}
+		this.id = books.getFirst()[0];
+		String rootTemplateId = books.getFirst()[1];
+
+		Map<String, CommodityId> commodityIds = new LinkedHashMap<>();
+		for (String[] row : list("SELECT guid, namespace, mnemonic FROM commodities ORDER BY rowid",
+				rs -> new String[]{rs.getString(1), rs.getString(2), rs.getString(3)})) {
+			commodityIds.put(row[0], new CommodityId(row[1], row[2]));
+		}
+		this.commodities = commodityIds;
+		Set<String> templates = new HashSet<>(list("SELECT guid FROM accounts WHERE parent_guid = ?", rs -> rs.getString(1), rootTemplateId));
+		templates.add(rootTemplateId);
+		this.templateAccountIds = templates;
+		this.business = new HashSet<>(list("SELECT name FROM sqlite_master WHERE type = 'table'", rs -> rs.getString(1)))
+				.containsAll(BUSINESS_TABLES);
+	}
+
+	/**
+	 * Opens a GnuCash SQLite book read-only.
+	 *
+	 * @param path     the book file
+	 * @param pageSize number of transactions read per query
+	 * @return the store, to be closed by the caller
+	 */
+	public static SqlAccStore open(@NonNull Path path, int pageSize) {
+		if (pageSize < 1) {
+			throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+		}
+		SQLiteConfig config = new SQLiteConfig();
+		config.setReadOnly(true);
+		try {
+			return new SqlAccStore(config.createConnection("jdbc:sqlite:" + path.toAbsolutePath()), pageSize);
+		}
+		catch (SQLException e) {
+			throw new IllegalStateException("Failed to open GnuCash SQLite book: " + path, e);
+		}
+	}
+
+	/**
+	 * Closes the cached statements and the connection.
+	 */
+	@Override
+	public void close() {
+		synchronized (statements) {
+			try {
+				statements.close();
+			}
+			catch (SQLException e) {
+				throw new IllegalStateException("Failed to close GnuCash SQLite book " + id, e);
+			}
+		}
+	}
+
+	// ========== AccStore Interface ==========
+
+	@Override
+	public String id() {
+		return id;
+	}
+
+	@Override
+	public StoreFootprint footprint() {
+		int cached;
+		synchronized (statements) {
+			cached = statements.size();
+		}
+		return new StoreFootprint(0, 0, 0, 0, cached * STATEMENT_BYTES, commodities.size() * 64L + templateAccountIds.size() * 80L);
+	}
+
+	@Override
+	public List<CommodityId> commodities() {
+		return List.copyOf(commodities.values());
+	}
+
+	@Override
+	public Optional<Integer> commodityFraction(CommodityId commodity) {
+		return list("SELECT fraction FROM commodities WHERE namespace = ? AND mnemonic = ?", rs -> rs.getInt(1),
+				commodity.namespace(), commodity.id()).stream().findFirst();
+	}
+
+	@Override
+	public List<Price> prices() {
+		return list("SELECT guid, commodity_guid, currency_guid, date, source, type, value_num, value_denom FROM prices ORDER BY rowid",
+				rs -> new Price(
+						rs.getString(1),
+						commodity(rs.getString(2)),
+						commodity(rs.getString(3)),
+						SqlValues.timestamp(rs.getString(4)),
+						rs.getString(5),
+						SqlValues.optional(rs.getString(6)),
+						SqlValues.amount(rs.getLong(7), rs.getLong(8))));
+	}
+
+	@Override
+	public List<Account> accounts() {
+		return accounts(ACCOUNT_COLUMNS + " ORDER BY rowid");
+	}
+
+	@Override
+	public List<Account> rootAccounts() {
+		return accounts(ACCOUNT_COLUMNS + " WHERE parent_guid IS NULL ORDER BY rowid");
+	}
+
+	@Override
+	public Optional<Account> accountById(String id) {
+		return accounts(ACCOUNT_COLUMNS + " WHERE guid = ?", id).stream().findFirst();
+	}
+
+	@Override
+	public Optional<Account> accountByName(String qualifiedName) {
+		return paths().resolve(qualifiedName);
+	}
+
+	@Override
+	public Optional<Integer> accountFraction(String accountId) {
+		return list("SELECT commodity_scu FROM accounts WHERE guid = ?", rs -> rs.getInt(1), accountId).stream().findFirst();
+	}
+
+	@Override
+	public Optional<String> qualifiedName(String accountId) {
+		return paths().qualifiedName(accountId);
+	}
+
+	@Override
+	public AccountTree accountTree() {
+		AccountTree current = tree;
+		if (current == null) {
+			current = AccountTree.of(accounts());
+			tree = current;
+		}
+		return current;
+	}
+
+	@Override
+	public List<String> fetchChildIds(String accountId) {
+		return list("SELECT guid FROM accounts WHERE parent_guid = ? ORDER BY rowid", rs -> rs.getString(1), accountId);
+	}
+
+	@Override
+	public List<Transaction> transactions() {
+		return streamTransactions(null, null).toList();
+	}
+
+	@Override
+	public Optional<Transaction> transactionById(String id) {
+		return pagedTransactions("t.guid = ?", id).findFirst();
+	}
+
+	@Override
+	public Optional<LocalDateTime> dateEntered(String transactionId) {
+		return list("SELECT enter_date FROM transactions WHERE guid = ?", rs -> Optional.ofNullable(SqlValues.timestamp(rs.getString(1))),
+				transactionId).stream().findFirst().flatMap(entered -> entered);
+	}
+
+	@Override
+	public List<Transaction> transactions(LocalDate from, LocalDate to) {
+		return streamTransactions(from, to).toList();
+	}
+
+	@Override
+	public Stream<Transaction> streamTransactions(LocalDate from, LocalDate to) {
+		return pagedTransactions(DATE_RANGE, SqlValues.startOf(from), SqlValues.endOf(to));
+	}
+
+	@Override
+	public List<Transaction> transactionsForAccount(String accountId) {
+		return pagedTransactions("t.guid IN (SELECT tx_guid FROM splits WHERE account_guid = ?)", accountId).toList();
+	}
+
+	@Override
+	public List<Split> splitsForAccount(String accountId) {
+		return splits("s.account_guid = ?", accountId);
+	}
+
+	@Override
+	public List<Split> splitsForLot(String lotId) {
+		return splits("s.lot_guid = ?", lotId);
+	}
+
+	@Override
+	public List<Lot> lots() {
+		return lots("SELECT guid, account_guid FROM lots ORDER BY rowid");
+	}
+
+	@Override
+	public List<Lot> lotsForAccount(String accountId) {
+		return lots("SELECT guid, account_guid FROM lots WHERE account_guid = ? ORDER BY rowid", accountId);
+	}
+
+	/**
+	 * Reads the schedules with their recurrences and template splits. As in the XML books, the real account and
+	 * amounts of a template split are kept in its {@code sched-xaction} slot frame; amounts are taken from the
+	 * numeric slots, or from the formulas when they are plain numbers, formulas with variables count as zero.
+	 */
+	@Override
+	public List<ScheduledTransaction> scheduledTransactions() {
+		List<String[]> rows = list("SELECT guid, name, enabled, start_date, end_date, last_occur, num_occur, rem_occur, template_act_guid"
+						+ " FROM schedxactions ORDER BY rowid",
+				rs -> new String[]{rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+						rs.getString(6), rs.getString(7), rs.getString(8), rs.getString(9)});
+		List<ScheduledTransaction> schedules = new ArrayList<>(rows.size());
+		for (String[] row : rows) {
+			String name = row[1] == null ? "" : row[1];
+			List<String> descriptions = new ArrayList<>();
+			List<ScheduledSplit> splits = new ArrayList<>();
+			for (SplitRow split : list(SPLIT_COLUMNS + ", t.description FROM splits s JOIN transactions t ON t.guid = s.tx_guid"
+					+ " WHERE s.account_guid = ? ORDER BY t.rowid, s.rowid", rs -> {
+				descriptions.add(rs.getString(12));
+				return splitRow(rs);
+			}, row[8])) {
+				scheduledSplit(split).ifPresent(splits::add);
+			}
+			schedules.add(new ScheduledTransaction(
+					row[0],
+					name,
+					!"0".equals(row[2]),
+					SqlValues.gdate(row[3]),
+					Optional.ofNullable(SqlValues.gdate(row[4])),
+					Optional.ofNullable(SqlValues.gdate(row[5])),
+					Integer.parseInt(row[6]) > 0 ? Optional.of(Integer.parseInt(row[7])) : Optional.empty(),
+					recurrences(row[0]),
+					descriptions.isEmpty() ? name : descriptions.getFirst(),
+					List.copyOf(splits)));
+		}
+		return schedules;
+	}
+
+	@Override
+	public List<Budget> budgets() {
+		List<String[]> rows = list("SELECT guid, name, description, num_periods FROM budgets ORDER BY rowid",
+				rs -> new String[]{rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4)});
+		List<Budget> budgets = new ArrayList<>(rows.size());
+		for (String[] row : rows) {
+			List<Recurrence> recurrences = recurrences(row[0]);
+			if (recurrences.isEmpty()) {
+				throw new IllegalStateException("Budget without recurrence: " + row[0]);
+			}
+			List<BudgetAmount> amounts = list("SELECT account_guid, period_num, amount_num, amount_denom FROM budget_amounts"
+							+ " WHERE budget_guid = ? ORDER BY account_guid, period_num",
+					rs -> new BudgetAmount(rs.getString(1), rs.getInt(2), SqlValues.amount(rs.getLong(3), rs.getLong(4))), row[0]);
+			budgets.add(new Budget(row[0], row[1], SqlValues.optional(row[2]), Integer.parseInt(row[3]), recurrences.getFirst(), amounts));
+		}
+		return budgets;
+	}
+
+	@Override
+	public List<Customer> customers() {
+		if (!business) {
+			return List.of();
+		}
+		return list("SELECT guid, id, name, active, currency, notes FROM customers ORDER BY rowid",
+				rs -> new Customer(
+						rs.getString(1),
+						rs.getString(2),
+						rs.getString(3),
+						rs.getInt(4) != 0,
+						commodity(rs.getString(5)),
+						SqlValues.optional(rs.getString(6))));
+	}
+
+	@Override
+	public List<Vendor> vendors() {
+		if (!business) {
+			return List.of();
+		}
+		return list("SELECT guid, id, name, active, currency FROM vendors ORDER BY rowid",
+				rs -> new Vendor(
+						rs.getString(1),
+						rs.getString(2),
+						rs.getString(3),
+						rs.getInt(4) != 0,
+						commodity(rs.getString(5))));
+	}
+
+	@Override
+	public List<Job> jobs() {
+		if (!business) {
+			return List.of();
+		}
+		return list("SELECT guid, id, name, reference, owner_type, owner_guid, active FROM jobs ORDER BY rowid",
+				rs -> new Job(
+						rs.getString(1),
+						rs.getString(2),
+						rs.getString(3),
+						SqlValues.optional(rs.getString(4)),
+						new Owner(SqlValues.ownerType(rs.getInt(5)), rs.getString(6)),
+						rs.getInt(7) != 0));
+	}
+
+	@Override
+	public List<Invoice> invoices() {
+		return invoices(INVOICE_COLUMNS + " ORDER BY rowid");
+	}
+
+	@Override
+	public List<Invoice> invoicesForOwner(String ownerId) {
+		return invoices(INVOICE_COLUMNS + " WHERE owner_guid = ? OR (owner_type = ? AND owner_guid IN (SELECT guid FROM jobs WHERE owner_guid = ?))"
+				+ " ORDER BY rowid", ownerId, SqlValues.ownerTypeCode(OwnerType.JOB), ownerId);
+	}
+
+	@Override
+	public Optional<Invoice> invoiceForTransaction(String transactionId) {
+		return invoices(INVOICE_COLUMNS + " WHERE post_txn = ?", transactionId).stream().findFirst();
+	}
+
+	/**
+	 * Reads the lines of an invoice or a bill, with the price and account of the side the entry belongs to.
+	 */
+	@Override
+	public List<InvoiceEntry> entriesForInvoice(String invoiceId) {
+		if (!business) {
+			return List.of();
+		}
+		return list("SELECT guid, invoice, date, description, action, quantity_num, quantity_denom, i_price_num, i_price_denom, i_acct,"
+						+ " b_price_num, b_price_denom, b_acct FROM entries WHERE invoice = ? OR bill = ? ORDER BY rowid",
+				rs -> {
+					boolean invoice = invoiceId.equals(rs.getString(2));
+					int price = invoice ? 8 : 11;
+					return new InvoiceEntry(
+							rs.getString(1),
+							invoiceId,
+							SqlValues.date(rs.getString(3)),
+							SqlValues.optional(rs.getString(4)),
+							SqlValues.optional(rs.getString(5)),
+							amount(rs, 6),
+							amount(rs, price),
+							SqlValues.optional(rs.getString(price + 2)));
+				}, invoiceId, invoiceId);
+	}
+
+	// ========== Query Planning ==========
+
+	/**
+	 * Plans the filter as a single split query with the account, date and reconcile state predicates in the
+	 * {@code WHERE} clause, so SQLite reads the candidates from the {@code account_guid} or {@code post_date}
+	 * index. The amount threshold is checked on the read splits. Subtree queries of
+	 * {@link #splitsForSubtree(String, LocalDate, LocalDate)} go through this plan too.
+	 * <p>
+	 * The number of candidates is not estimated, counting would cost a query of its own.
+	 */
+	@Override
+	public QueryPlan plan(@NonNull SplitFilter filter) {
+		List<String> conditions = new ArrayList<>();
+		List<Object> params = new ArrayList<>();
+		if (!filter.accountIds().isEmpty()) {
+			conditions.add("s.account_guid IN (" + placeholders(filter.accountIds().size()) + ")");
+			params.addAll(filter.accountIds());
+		}
+		if (filter.from() != null || filter.to() != null) {
+			conditions.add(DATE_RANGE);
+			params.add(SqlValues.startOf(filter.from()));
+			params.add(SqlValues.endOf(filter.to()));
+		}
+		if (!filter.reconcileStates().isEmpty()) {
+			conditions.add("s.reconcile_state IN (" + placeholders(filter.reconcileStates().size()) + ")");
+			filter.reconcileStates().forEach(state -> params.add(state.code()));
+		}
+		AccessPath access = new AccessPath(!filter.accountIds().isEmpty() ? "account_guid index"
+				: filter.from() != null || filter.to() != null ? "post_date index" : "full scan", -1);
+		String condition = conditions.isEmpty() ? "1 = 1" : String.join(" AND ", conditions);
+		Object[] values = params.toArray();
+		return new QueryPlan(filter, access, List.of(access), () -> splits(condition, values).stream()
+				.filter(split -> !templateAccountIds.contains(split.accountId()) && filter.matches(split))
+				.toList());
+	}
+
+	// ========== Helper Methods ==========
+
+	private static String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+
+	private AccountPaths paths() {
+		AccountPaths current = paths;
+		if (current == null) {
+			current = AccountPaths.of(accounts());
+			paths = current;
+		}
+		return current;
+	}
+
+	private List<Account> accounts(String sql, Object... params) {
+		return list(sql, rs -> {
+			String accountId = rs.getString(1);
+			if (templateAccountIds.contains(accountId)) {
+				return null;
+			}
+			String commodityId = rs.getString(4);
+			return new Account(
+					accountId,
+					rs.getString(2),
+					accountType(rs.getString(3)),
+					SqlValues.optional(rs.getString(6)),
+					SqlValues.optional(rs.getString(7)),
+					commodityId == null ? Optional.empty() : Optional.of(commodity(commodityId)),
+					Optional.ofNullable(rs.getString(5)),
+					slots(accountId));
+		}, params);
+	}
+
+	/**
+	 * Streams the transactions matching a condition on {@code t}, one page per query.
+	 * <p>
+	 * Each page reads the transactions after the last key of the previous page and then their splits through
+	 * the same condition, so both statements are fixed and cached. Template transactions of scheduled
+	 * transactions are skipped.
+	 */
+	private Stream<Transaction> pagedTransactions(String condition, Object... params) {
+		String transactionSql = TRANSACTION_COLUMNS + " WHERE " + condition + PAGE;
+		String splitSql = SPLIT_COLUMNS + " FROM splits s WHERE s.tx_guid IN (SELECT t.guid FROM transactions t WHERE "
+				+ condition + PAGE + ") ORDER BY s.rowid";
+		TransactionPage first = transactionPage(transactionSql, splitSql, params, "", 0);
+		return Stream.iterate(first, page -> page.rows() > 0,
+						page -> page.rows() < pageSize
+								? TransactionPage.LAST
+								: transactionPage(transactionSql, splitSql, params, page.lastDate(), page.lastRowId()))
+				.flatMap(page -> page.transactions().stream());
+	}
+
+	private TransactionPage transactionPage(String transactionSql, String splitSql, Object[] params, String afterDate, long afterRowId) {
+		Object[] pageParams = Arrays.copyOf(params, params.length + 3);
+		pageParams[params.length] = afterDate;
+		pageParams[params.length + 1] = afterRowId;
+		pageParams[params.length + 2] = pageSize;
+		synchronized (statements) {
+			List<TransactionRow> rows = list(transactionSql, rs -> new TransactionRow(
+					rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5), rs.getLong(6)), pageParams);
+			if (rows.isEmpty()) {
+				return TransactionPage.LAST;
+			}
+			Map<String, List<SplitRow>> splits = HashMap.newHashMap(rows.size());
+			for (SplitRow split : list(splitSql, SqlAccStore::splitRow, pageParams)) {
+				splits.computeIfAbsent(split.transactionId(), _ -> new ArrayList<>()).add(split);
+			}
+			List<Transaction> transactions = new ArrayList<>(rows.size());
+			for (TransactionRow row : rows) {
+				List<SplitRow> transactionSplits = splits.getOrDefault(row.id(), List.of());
+				if (transactionSplits.isEmpty() || !templateAccountIds.contains(transactionSplits.getFirst().accountId())) {
+					transactions.add(transaction(row, transactionSplits));
+				}
+			}
+			TransactionRow last = rows.getLast();
+			return new TransactionPage(transactions, rows.size(), last.postDate(), last.rowId());
+		}
+	}
+
+	private Transaction transaction(TransactionRow row, List<SplitRow> rows) {
+		LocalDate datePosted = SqlValues.date(row.postDate());
+		List<Split> splits = new ArrayList<>(rows.size());
+		for (SplitRow split : rows) {
+			splits.add(split(split, datePosted));
+		}
+		return new Transaction(
+				row.id(),
+				commodity(row.currencyId()),
+				SqlValues.optional(row.number()),
+				datePosted,
+				row.description(),
+				List.copyOf(splits),
+				slots(row.id()));
+	}
+
+	/**
+	 * Reads the splits matching a condition on {@code s} in date order.
+	 */
+	private List<Split> splits(String condition, Object... params) {
+		String sql = SPLIT_COLUMNS + ", t.post_date FROM splits s JOIN transactions t ON t.guid = s.tx_guid WHERE "
+				+ condition + " ORDER BY t.post_date, t.rowid, s.rowid";
+		return list(sql, rs -> split(splitRow(rs), SqlValues.date(rs.getString(12))), params);
+	}
+
+	private Split split(SplitRow row, LocalDate datePosted) {
+		return new Split(
+				row.id(),
+				row.transactionId(),
+				row.accountId(),
+				datePosted,
+				ReconcileState.fromCode(row.reconcileState()),
+				Optional.ofNullable(SqlValues.date(row.reconcileDate())),
+				SqlValues.amount(row.valueNum(), row.valueDenom()),
+				SqlValues.amount(row.quantityNum(), row.quantityDenom()),
+				SqlValues.optional(row.memo()),
+				Optional.ofNullable(row.lotId()),
+				slots(row.id()));
+	}
+
+	private List<Lot> lots(String sql, Object... params) {
+		List<String[]> rows = list(sql, rs -> new String[]{rs.getString(1), rs.getString(2)}, params);
+		List<Lot> lots = new ArrayList<>(rows.size());
+		for (String[] row : rows) {
+			Slots slots = slots(row[0]);
+			lots.add(new Lot(row[0], row[1], slots.string("title"), slots.string("notes")));
+		}
+		return lots;
+	}
+
+	private List<Invoice> invoices(String sql, Object... params) {
+		if (!business) {
+			return List.of();
+		}
+		return list(sql, rs -> new Invoice(
+				rs.getString(1),
+				rs.getString(2),
+				new Owner(SqlValues.ownerType(rs.getInt(3)), rs.getString(4)),
+				SqlValues.date(rs.getString(5)),
+				Optional.ofNullable(SqlValues.date(rs.getString(6))),
+				SqlValues.optional(rs.getString(7)),
+				SqlValues.optional(rs.getString(8)),
+				SqlValues.optional(rs.getString(9)),
+				commodity(rs.getString(10)),
+				SqlValues.optional(rs.getString(11)),
+				rs.getInt(12) != 0), params);
+	}
+
+	/**
+	 * @return the amount in a numerator and denominator column pair, zero if unset
+	 */
+	private static BigDecimal amount(ResultSet rs, int numerator) throws SQLException {
+		long denominator = rs.getLong(numerator + 1);
+		return denominator == 0 ? BigDecimal.ZERO : SqlValues.amount(rs.getLong(numerator), denominator);
+	}
+
+	private Optional<ScheduledSplit> scheduledSplit(SplitRow split) {
+		Optional<Slots> frame = slots(split.id()).frame(SX_SLOT);
+		Optional<String> accountId = frame.flatMap(slot -> slot.string("account"));
+		if (accountId.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(new ScheduledSplit(
+				accountId.get(),
+				SqlValues.optional(split.memo()),
+				formula(frame.get(), "debit").subtract(formula(frame.get(), "credit"))));
+	}
+
+	private static BigDecimal formula(Slots frame, String side) {
+		for (String key : List.of(side + "-numeric", side + "-formula")) {
+			Optional<String> value = frame.string(key);
+			if (value.isPresent()) {
+				try {
+					return SqlValues.fraction(value.get());
+				}
+				catch (NumberFormatException _) {
+					// formula with variables, try the next representation
+				}
+			}
+		}
+		return BigDecimal.ZERO;
+	}
+
+	private List<Recurrence> recurrences(String objectId) {
+		return list("SELECT recurrence_mult, recurrence_period_type, recurrence_period_start, recurrence_weekend_adjust"
+						+ " FROM recurrences WHERE obj_guid = ? ORDER BY id",
+				rs -> new Recurrence(
+						rs.getInt(1),
+						RecurrencePeriod.fromCode(rs.getString(2)),
+						SqlValues.gdate(rs.getString(3)),
+						WeekendAdjust.fromCode(rs.getString(4))),
+				objectId);
+	}
+
+	private Slots slots(String objectId) {
+		return SqlSlots.of(this::slotRows, objectId);
+	}
+
+	private Map<String, SlotRow> slotRows(String objectId) {
+		Map<String, SlotRow> rows = new LinkedHashMap<>();
+		for (SlotRow row : list(SLOTS, rs -> new SlotRow(
+				rs.getString(1),
+				SlotRow.type(rs.getInt(2)),
+				rs.getLong(3),
+				rs.getString(4),
+				rs.getDouble(5),
+				rs.getString(6),
+				rs.getString(7),
+				rs.getLong(8),
+				rs.getLong(9),
+				rs.getString(10)), objectId)) {
+			rows.putIfAbsent(row.name(), row);
+		}
+		return rows;
+	}
+
+	private CommodityId commodity(String guid) {
+		CommodityId commodity = commodities.get(guid);
+		if (commodity == null) {
+			throw new IllegalStateException("Unknown commodity: " + guid);
+		}
+		return commodity;
+	}
+
+	private static AccountType accountType(String type) {
+		try {
+			return AccountType.valueOf(type);
+		}
+		catch (IllegalArgumentException _) {
+			return AccountType.ASSET;
+		}
+	}
+
+	private static SplitRow splitRow(ResultSet rs) throws SQLException {
+		return new SplitRow(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+				rs.getString(6), rs.getLong(7), rs.getLong(8), rs.getLong(9), rs.getLong(10), rs.getString(11));
+	}
+
+	/**
+	 * Runs a cached query, skipping rows mapped to null.
+	 */
+	private <T> List<T> list(String sql, RowMapper<T> mapper, Object... params) {
+		synchronized (statements) {
+			try {
+				PreparedStatement statement = statements.prepare(sql);
+				for (int i = 0; i < params.length; i++) {
+					statement.setObject(i + 1, params[i]);
+				}
+				List<T> result = new ArrayList<>();
+				try (ResultSet rs = statement.executeQuery()) {
+					while (rs.next()) {
+						T mapped = mapper.map(rs);
+						if (mapped != null) {
+							result.add(mapped);
+						}
+					}
+				}
+				return result;
+			}
+			catch (SQLException e) {
+				throw new IllegalStateException("Query failed on GnuCash SQLite book " + id + ": " + sql, e);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		long accounts = list("SELECT count(*) FROM accounts", rs -> rs.getLong(1)).getFirst() - templateAccountIds.size();
+		long transactions = list("SELECT count(*) FROM transactions", rs -> rs.getLong(1)).getFirst();
+		return String.format("SqlAccStore[accounts=%d, transactions=%d]", accounts, transactions);
+	}
+
+	@FunctionalInterface
+	private interface RowMapper<T> {
+		T map(ResultSet rs) throws SQLException;
+	}
+
+	private record TransactionRow(String id, String currencyId, String number, String postDate, String description, long rowId) {
+	}
+
+	private record SplitRow(String id, String transactionId, String accountId, String memo, String reconcileState,
+			String reconcileDate, long valueNum, long valueDenom, long quantityNum, long quantityDenom, String lotId) {
+	}
+
+	/**
+	 * Transactions of one page and the key of its last row, counting skipped template transactions.
+	 */
+	private record TransactionPage(List<Transaction> transactions, int rows, String lastDate, long lastRowId) {
+
+		static final TransactionPage LAST = new TransactionPage(List.of(), 0, null, 0);
+	}
+}
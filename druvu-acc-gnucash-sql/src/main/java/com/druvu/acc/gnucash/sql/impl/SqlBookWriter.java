@@ -0,0 +1,602 @@
+package com.druvu.acc.gnucash.sql.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.sqlite.SQLiteConfig;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.AccountType;
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.BudgetAmount;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Lot;
+import com.druvu.acc.api.entity.Owner;
+import com.druvu.acc.api.entity.OwnerType;
+import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Recurrence;
+import com.druvu.acc.api.entity.ScheduledSplit;
+import com.druvu.acc.api.entity.ScheduledTransaction;
+import com.druvu.acc.api.entity.SlotType;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.entity.Vendor;
+import com.druvu.acc.gnucash.sql.api.ConversionReport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a book into a new GnuCash SQLite file, see {@link com.druvu.acc.gnucash.sql.api.GnucashSqlConverter}.
+ * <p>
+ * A reader thread maps the entities of the source into rows and hands them over in batches through a bounded
+ * queue, so reading the next batch overlaps with inserting the previous one. The calling thread inserts each
+ * batch through one cached prepared statement per table. The target is written without a rollback journal in
+ * one transaction; indexes are created and statistics gathered after the last row. A failed conversion
+ * deletes the target.
+ * <p>
+ * GnuCash has no commodity GUIDs in the entity model, so they are derived from the namespace and mnemonic.
+ * Frames get GUIDs derived from their owner and path, which keeps the output of a book reproducible.
+ * <p>
+ * Commodity fractions, account units and entry times are taken from the source where it keeps them; otherwise
+ * currencies get their ISO 4217 unit, other commodities ten thousandths and transactions are entered when
+ * posted. The hidden and placeholder flags come from the account slots, where GnuCash keeps them, and a lot is
+ * closed when its splits sum up to zero. Each scheduled transaction gets a template account and one template
+ * transaction with its splits; their amounts are written as numbers, formulas with variables having been
+ * evaluated to zero by the entity. Employees are not exposed by {@link AccStore}, so a book with expense
+ * vouchers is refused.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+public final class SqlBookWriter {
+
+	// batches read ahead of the inserting thread
+	private static final int QUEUE_CAPACITY = 4;
+	private static final List<Row> END = new ArrayList<>();
+
+	// GnuCash posts date-only transactions at this neutral time
+	private static final LocalTime POSTED_TIME = LocalTime.of(10, 59);
+	private static final String TEMPLATE_ROOT = "Template Root";
+	private static final CommodityId TEMPLATE = new CommodityId("template", "template");
+	private static final String SX_SLOT = "sched-xaction";
+	private static final String TRUE = "true";
+	private static final int CURRENCY_FRACTION = 100;
+	private static final int SECURITY_FRACTION = 10000;
+
+	private final AccStore source;
+	private final int batchSize;
+	private final BlockingQueue<List<Row>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private final Map<CommodityId, String> commodityIds = new HashMap<>();
+	private final Map<CommodityId, Integer> fractions = new HashMap<>();
+	private List<Row> batch;
+	private volatile Throwable failure;
+
+	private SqlBookWriter(AccStore source, int batchSize) {
+		this.source = source;
+		this.batchSize = batchSize;
+		this.batch = new ArrayList<>(batchSize);
+	}
+
+	/**
+	 * Writes the book into a new SQLite file.
+	 *
+	 * @param source    the book to convert
+	 * @param target    the file to create, must not exist
+	 * @param batchSize number of rows per batch
+	 * @return the inserted rows and the conversion time
+	 */
+	public static ConversionReport write(AccStore source, Path target, int batchSize) {
+		if (Files.exists(target)) {
+			throw new IllegalArgumentException("Target already exists: " + target);
+		}
+		long start = System.nanoTime();
+		SqlBookWriter writer = new SqlBookWriter(source, batchSize);
+		Thread reader = Thread.ofPlatform().name("gnucash-sql-reader").daemon().start(writer::read);
+		try {
+			Map<Table, Long> rows = writer.insert(target);
+			Map<String, Long> counts = new LinkedHashMap<>();
+			rows.forEach((table, count) -> counts.put(table.tableName(), count));
+			ConversionReport report = new ConversionReport(counts, Duration.ofNanos(System.nanoTime() - start));
+			log.info("Converted book {} into {}: {}", source.id(), target, report);
+			return report;
+		}
+		catch (RuntimeException e) {
+			reader.interrupt();
+			deleteQuietly(target, e);
+			throw e;
+		}
+	}
+
+	// ========== Inserting Stage ==========
+
+	private Map<Table, Long> insert(Path target) {
+		SQLiteConfig config = new SQLiteConfig();
+		config.setJournalMode(SQLiteConfig.JournalMode.OFF);
+		config.setSynchronous(SQLiteConfig.SynchronousMode.OFF);
+		try (Connection connection = config.createConnection("jdbc:sqlite:" + target.toAbsolutePath())) {
+			connection.setAutoCommit(false);
+			GnucashSchema.createTables(connection);
+			Map<Table, Long> rows = insertBatches(connection);
+			GnucashSchema.createIndexes(connection);
+			try (var statement = connection.createStatement()) {
+				statement.executeUpdate("ANALYZE");
+			}
+			connection.commit();
+			return rows;
+		}
+		catch (SQLException e) {
+			throw new IllegalStateException("Failed to write GnuCash SQLite book: " + target, e);
+		}
+	}
+
+	private Map<Table, Long> insertBatches(Connection connection) throws SQLException {
+		Map<Table, PreparedStatement> statements = new EnumMap<>(Table.class);
+		Map<Table, Long> rows = new EnumMap<>(Table.class);
+		try {
+			for (Table table : Table.values()) {
+				statements.put(table, connection.prepareStatement(table.insert()));
+				rows.put(table, 0L);
+			}
+			List<Row> next;
+			while ((next = take()) != END) {
+				for (Row row : next) {
+					PreparedStatement statement = statements.get(row.table());
+					for (int i = 0; i < row.values().length; i++) {
+						statement.setObject(i + 1, row.values()[i]);
+					}
+					statement.addBatch();
+					rows.merge(row.table(), 1L, Long::sum);
+				}
+				for (PreparedStatement statement : statements.values()) {
+					statement.executeBatch();
+				}
+			}
+		}
+		finally {
+			for (PreparedStatement statement : statements.values()) {
+				statement.close();
+			}
+		}
+		if (failure != null) {
+			throw new IllegalStateException("Failed to read book " + source.id(), failure);
+		}
+		return rows;
+	}
+
+	private List<Row> take() {
+		try {
+			return queue.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while converting book " + source.id(), e);
+		}
+	}
+
+	// ========== Reading Stage ==========
+
+	/**
+	 * Always ends the queue, so the inserting stage stops even when reading fails with an error.
+	 */
+	private void read() {
+		try {
+			readBook();
+			flush();
+		}
+		catch (InterruptedException _) {
+			// the inserting stage failed and stopped reading, keep the flag so ending the queue does not block
+			Thread.currentThread().interrupt();
+		}
+		catch (Throwable e) {
+			failure = e;
+		}
+		finally {
+			try {
+				queue.put(END);
+			}
+			catch (InterruptedException _) {
+				// the inserting stage failed and no longer takes batches
+			}
+		}
+	}
+
+	private void readBook() throws InterruptedException {
+		for (CommodityId commodity : source.commodities()) {
+			commodity(commodity);
+		}
+
+		List<Account> roots = source.rootAccounts();
+		if (roots.isEmpty()) {
+			throw new IllegalStateException("Book has no root account: " + source.id());
+		}
+		String rootId = roots.stream().filter(account -> account.type() == AccountType.ROOT).findFirst().orElse(roots.getFirst()).id();
+		String templateRootId = guid("template-root", source.id());
+		add(Table.BOOKS, source.id(), rootId, templateRootId);
+		add(Table.ACCOUNTS, templateRootId, TEMPLATE_ROOT, AccountType.ROOT.name(), null, 0, 0, null, "", "", 0, 0);
+
+		for (Account account : source.accounts()) {
+			String commodityId = account.commodity().map(this::commodity).orElse(null);
+			int fraction = account.commodity().map(this::fraction).orElse(0);
+			int scu = source.accountFraction(account.id()).orElse(fraction);
+			add(Table.ACCOUNTS, account.id(), account.name(), account.type().name(), commodityId, scu,
+					commodityId != null && scu != fraction ? 1 : 0,
+					account.parentId().orElse(null), account.code().orElse(""), account.description().orElse(""),
+					flag(account.slots(), "hidden"), flag(account.slots(), "placeholder"));
+			slots(account.id(), "", account.slots());
+		}
+
+		var transactions = source.streamTransactions(LocalDate.MIN, LocalDate.MAX).iterator();
+		while (transactions.hasNext()) {
+			transaction(transactions.next());
+		}
+
+		for (Lot lot : source.lots()) {
+			add(Table.LOTS, lot.id(), lot.accountId(), closed(source.splitsForLot(lot.id())));
+			stringSlot(lot.id(), "title", lot.title());
+			stringSlot(lot.id(), "notes", lot.notes());
+		}
+
+		for (Price price : source.prices()) {
+			add(Table.PRICES, price.id(), commodity(price.commodity()), commodity(price.currency()),
+					SqlValues.timestampText(price.time()), price.source(), price.type().orElse(null),
+					SqlValues.numerator(price.value()), SqlValues.denominator(price.value()));
+		}
+
+		for (Budget budget : source.budgets()) {
+			add(Table.BUDGETS, budget.id(), budget.name(), budget.description().orElse(""), budget.periods());
+			recurrence(budget.id(), budget.recurrence());
+			for (BudgetAmount amount : budget.amounts()) {
+				add(Table.BUDGET_AMOUNTS, budget.id(), amount.accountId(), amount.period(),
+						SqlValues.numerator(amount.amount()), SqlValues.denominator(amount.amount()));
+			}
+		}
+
+		for (ScheduledTransaction schedule : source.scheduledTransactions()) {
+			scheduledTransaction(schedule, templateRootId, rootId);
+		}
+		business();
+	}
+
+	private void transaction(Transaction transaction) throws InterruptedException {
+		String posted = SqlValues.timestampText(transaction.datePosted().atTime(POSTED_TIME));
+		String entered = source.dateEntered(transaction.id()).map(SqlValues::timestampText).orElse(posted);
+		add(Table.TRANSACTIONS, transaction.id(), commodity(transaction.currency()), transaction.number().orElse(""),
+				posted, entered, transaction.description());
+		slots(transaction.id(), "", transaction.slots());
+		for (Split split : transaction.splits()) {
+			add(Table.SPLITS, split.id(), transaction.id(), split.accountId(), split.memo().orElse(""), "",
+					split.reconcileState().code(),
+					split.reconcileDate().map(date -> SqlValues.timestampText(date.atTime(POSTED_TIME))).orElse(null),
+					SqlValues.numerator(split.value()), SqlValues.denominator(split.value()),
+					SqlValues.numerator(split.quantity()), SqlValues.denominator(split.quantity()),
+					split.lotId().orElse(null));
+			slots(split.id(), "", split.slots());
+		}
+	}
+
+	/**
+	 * Adds the schedule with a template account named after it, as GnuCash does, and one template transaction
+	 * whose splits keep the real account and amount in their {@code sched-xaction} frame. The total number of
+	 * occurrences is not kept by the entity, the remaining ones are written as the total too.
+	 */
+	private void scheduledTransaction(ScheduledTransaction schedule, String templateRootId, String rootId) throws InterruptedException {
+		String accountId = guid(schedule.id(), "template-account");
+		String transactionId = guid(schedule.id(), "template-transaction");
+		add(Table.ACCOUNTS, accountId, schedule.id(), AccountType.BANK.name(), commodity(TEMPLATE), fraction(TEMPLATE), 0,
+				templateRootId, "", "", 0, 0);
+		String start = SqlValues.timestampText(schedule.start().atTime(POSTED_TIME));
+		add(Table.TRANSACTIONS, transactionId, commodity(templateCurrency(schedule, rootId)), "", start, start, schedule.description());
+		for (int i = 0; i < schedule.splits().size(); i++) {
+			ScheduledSplit split = schedule.splits().get(i);
+			String splitId = guid(transactionId, Integer.toString(i));
+			add(Table.SPLITS, splitId, transactionId, accountId, split.memo().orElse(""), "", ReconcileState.NOT_RECONCILED.code(),
+					null, 0L, 1L, 0L, 1L, null);
+			String frameId = guid(splitId, SX_SLOT);
+			slot(splitId, SX_SLOT, SlotType.FRAME, null, null, null, null, frameId, null, null, null);
+			slot(frameId, SX_SLOT + "/account", SlotType.GUID, null, null, null, null, split.accountId(), null, null, null);
+			templateAmount(frameId, "debit", split.amount().max(BigDecimal.ZERO));
+			templateAmount(frameId, "credit", split.amount().negate().max(BigDecimal.ZERO));
+		}
+		// GnuCash counts down the remaining occurrences only while the total is set
+		int occurrences = schedule.remainingOccurrences().map(remaining -> Math.max(remaining, 1)).orElse(0);
+		add(Table.SCHEDXACTIONS, schedule.id(), schedule.name(), schedule.enabled() ? 1 : 0, SqlValues.gdateText(schedule.start()),
+				schedule.end().map(SqlValues::gdateText).orElse(null), schedule.lastOccurrence().map(SqlValues::gdateText).orElse(null),
+				occurrences, schedule.remainingOccurrences().orElse(0), 0, 0, 0, 0, 0, accountId);
+		for (Recurrence recurrence : schedule.recurrences()) {
+			recurrence(schedule.id(), recurrence);
+		}
+	}
+
+	private void templateAmount(String frameId, String side, BigDecimal amount) throws InterruptedException {
+		String formula = amount.signum() == 0 ? "" : amount.toPlainString();
+		slot(frameId, SX_SLOT + "/" + side + "-formula", SlotType.STRING, null, formula, null, null, null, null, null, null);
+		slot(frameId, SX_SLOT + "/" + side + "-numeric", SlotType.NUMERIC, null, null, null, null, null,
+				SqlValues.numerator(amount), SqlValues.denominator(amount), null);
+	}
+
+	/**
+	 * @return the currency of the first template split account that has one, otherwise the currency of the root account
+	 */
+	private CommodityId templateCurrency(ScheduledTransaction schedule, String rootId) {
+		return schedule.splits().stream()
+				.map(ScheduledSplit::accountId)
+				.map(source::accountById)
+				.flatMap(Optional::stream)
+				.map(Account::commodity)
+				.flatMap(Optional::stream)
+				.filter(CommodityId::isCurrency)
+				.findFirst()
+				.or(() -> source.accountById(rootId).flatMap(Account::commodity))
+				.orElseThrow(() -> new IllegalStateException("No currency for scheduled transaction " + schedule.id()));
+	}
+
+	/**
+	 * Adds customers, vendors, jobs and invoices with their entries. An entry is written to the bill side when
+	 * its invoice is owned by a vendor, directly or through a job.
+	 */
+	private void business() throws InterruptedException {
+		for (Customer customer : source.customers()) {
+			add(Table.CUSTOMERS, customer.id(), customer.name(), customer.number(), customer.notes().orElse(""), customer.active() ? 1 : 0,
+					0L, 1L, 0L, 1L, commodity(customer.currency()), 0);
+		}
+		for (Vendor vendor : source.vendors()) {
+			add(Table.VENDORS, vendor.id(), vendor.name(), vendor.number(), "", commodity(vendor.currency()), vendor.active() ? 1 : 0, 0);
+		}
+		Map<String, OwnerType> jobOwners = new HashMap<>();
+		for (Job job : source.jobs()) {
+			jobOwners.put(job.id(), job.owner().type());
+			add(Table.JOBS, job.id(), job.number(), job.name(), job.reference().orElse(""), job.active() ? 1 : 0,
+					SqlValues.ownerTypeCode(job.owner().type()), job.owner().id());
+		}
+		for (Invoice invoice : source.invoices()) {
+			Owner owner = invoice.owner();
+			OwnerType party = owner.type() == OwnerType.JOB ? jobOwners.get(owner.id()) : owner.type();
+			if (party == OwnerType.EMPLOYEE) {
+				throw new UnsupportedOperationException("Cannot convert expense voucher " + invoice.number() + ", employees are not exposed by the store");
+			}
+			add(Table.INVOICES, invoice.id(), invoice.number(), SqlValues.timestampText(invoice.opened().atTime(POSTED_TIME)),
+					invoice.posted().map(date -> SqlValues.timestampText(date.atTime(POSTED_TIME))).orElse(null),
+					invoice.notes().orElse(""), invoice.active() ? 1 : 0, commodity(invoice.currency()),
+					SqlValues.ownerTypeCode(owner.type()), owner.id(), invoice.postTransactionId().orElse(null),
+					invoice.postLotId().orElse(null), invoice.postAccountId().orElse(null));
+			boolean bill = party == OwnerType.VENDOR;
+			for (InvoiceEntry entry : source.entriesForInvoice(invoice.id())) {
+				entry(entry, bill);
+			}
+		}
+	}
+
+	/**
+	 * Adds an entry with its account, price and invoice in the invoice or the bill columns.
+	 */
+	private void entry(InvoiceEntry entry, boolean bill) throws InterruptedException {
+		Object[] values = new Object[14];
+		values[0] = entry.id();
+		values[1] = SqlValues.timestampText(entry.date().atTime(POSTED_TIME));
+		values[2] = entry.description().orElse(null);
+		values[3] = entry.action().orElse(null);
+		values[4] = SqlValues.numerator(entry.quantity());
+		values[5] = SqlValues.denominator(entry.quantity());
+		int side = bill ? 10 : 6;
+		values[side] = entry.accountId().orElse(null);
+		values[side + 1] = SqlValues.numerator(entry.price());
+		values[side + 2] = SqlValues.denominator(entry.price());
+		values[side + 3] = entry.invoiceId();
+		add(Table.ENTRIES, values);
+	}
+
+	private void recurrence(String objectId, Recurrence recurrence) throws InterruptedException {
+		add(Table.RECURRENCES, objectId, recurrence.multiplier(), recurrence.period().code(),
+				SqlValues.gdateText(recurrence.start()), recurrence.weekendAdjust().code());
+	}
+
+	/**
+	 * Adds the slot rows of one object or frame. Members of a frame are owned by the frame GUID and named by
+	 * their full path, as GnuCash writes them. Lists and binary values are not exposed by {@link Slots} and
+	 * are skipped. Keys are read literally, since they may contain {@code /}.
+	 */
+	private void slots(String objectId, String prefix, Slots frame) throws InterruptedException {
+		if (frame.isEmpty()) {
+			return;
+		}
+		Slots slots = frame.literalKeys();
+		for (String key : slots.keys()) {
+			SlotType type = slots.type(key).orElseThrow();
+			String name = prefix + key;
+			switch (type) {
+				case INTEGER -> slot(objectId, name, type, slots.integer(key).orElseThrow(), null, null, null, null, null, null, null);
+				case DOUBLE -> slot(objectId, name, type, null, null, slots.numeric(key).orElseThrow().doubleValue(), null, null, null, null, null);
+				case NUMERIC -> {
+					BigDecimal value = slots.numeric(key).orElseThrow();
+					slot(objectId, name, type, null, null, null, null, null, SqlValues.numerator(value), SqlValues.denominator(value), null);
+				}
+				case STRING -> slot(objectId, name, type, null, slots.string(key).orElseThrow(), null, null, null, null, null, null);
+				case GUID -> slot(objectId, name, type, null, null, null, null, slots.string(key).orElseThrow(), null, null, null);
+				case TIMESPEC -> slot(objectId, name, type, null, null, null,
+						SqlValues.timestampText(slots.timestamp(key).orElseThrow()), null, null, null, null);
+				case GDATE -> slot(objectId, name, type, null, null, null, null, null, null, null,
+						SqlValues.gdateText(slots.date(key).orElseThrow()));
+				case FRAME -> {
+					String frameId = guid(objectId, name);
+					slot(objectId, name, type, null, null, null, null, frameId, null, null, null);
+					slots(frameId, name + "/", slots.frame(key).orElseThrow());
+				}
+				case BINARY, LIST -> log.debug("Skipping {} slot {} of {}", type.code(), name, objectId);
+			}
+		}
+	}
+
+	private void stringSlot(String objectId, String name, Optional<String> value) throws InterruptedException {
+		if (value.isPresent()) {
+			slot(objectId, name, SlotType.STRING, null, value.get(), null, null, null, null, null, null);
+		}
+	}
+
+	private void slot(String objectId, String name, SlotType type, Long integer, String string, Double real,
+			String timespec, String guid, Long numerator, Long denominator, String gdate) throws InterruptedException {
+		add(Table.SLOTS, objectId, name, SlotRow.code(type), integer, string, real, timespec, guid, numerator, denominator, gdate);
+	}
+
+	private String commodity(CommodityId commodity) {
+		String known = commodityIds.get(commodity);
+		if (known != null) {
+			return known;
+		}
+		String id = guid(commodity.namespace(), commodity.id());
+		commodityIds.put(commodity, id);
+		batch.add(new Row(Table.COMMODITIES, new Object[]{id, commodity.namespace(), commodity.id(), null, null, fraction(commodity), 0, null, null}));
+		return id;
+	}
+
+	private void add(Table table, Object... values) throws InterruptedException {
+		batch.add(new Row(table, values));
+		if (batch.size() >= batchSize) {
+			flush();
+		}
+	}
+
+	private void flush() throws InterruptedException {
+		if (!batch.isEmpty()) {
+			queue.put(batch);
+			batch = new ArrayList<>(batchSize);
+		}
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * @return the fraction kept by the source, otherwise the ISO 4217 unit of a currency or ten thousandths
+	 */
+	private int fraction(CommodityId commodity) {
+		Integer known = fractions.get(commodity);
+		if (known != null) {
+			return known;
+		}
+		int fraction = source.commodityFraction(commodity).orElseGet(() -> defaultFraction(commodity));
+		fractions.put(commodity, fraction);
+		return fraction;
+	}
+
+	private static int defaultFraction(CommodityId commodity) {
+		if (TEMPLATE.equals(commodity)) {
+			return 1;
+		}
+		if (!commodity.isCurrency()) {
+			return SECURITY_FRACTION;
+		}
+		try {
+			int digits = Currency.getInstance(commodity.id()).getDefaultFractionDigits();
+			return digits < 0 ? CURRENCY_FRACTION : BigDecimal.TEN.pow(digits).intValueExact();
+		}
+		catch (IllegalArgumentException _) {
+			// not an ISO 4217 code
+			return CURRENCY_FRACTION;
+		}
+	}
+
+	/**
+	 * @return 1 if the slot holds {@code true}, as GnuCash writes the hidden and placeholder flags
+	 */
+	private static int flag(Slots slots, String key) {
+		return slots.string(key).filter(TRUE::equals).isPresent() ? 1 : 0;
+	}
+
+	/**
+	 * @return 1 if the lot has splits and their quantities sum up to zero
+	 */
+	private static int closed(List<Split> splits) {
+		BigDecimal balance = splits.stream().map(Split::quantity).reduce(BigDecimal.ZERO, BigDecimal::add);
+		return !splits.isEmpty() && balance.signum() == 0 ? 1 : 0;
+	}
+
+	/**
+	 * @return a GUID derived from the parts, stable across runs
+	 */
+	private static String guid(String... parts) {
+		UUID uuid = UUID.nameUUIDFromBytes(String.join("\0", parts).getBytes(StandardCharsets.UTF_8));
+		return uuid.toString().replace("-", "");
+	}
+
+	private static void deleteQuietly(Path target, RuntimeException cause) {
+		try {
+			Files.deleteIfExists(target);
+		}
+		catch (IOException e) {
+			cause.addSuppressed(new UncheckedIOException("Failed to delete partial book: " + target, e));
+		}
+	}
+
+	private record Row(Table table, Object[] values) {
+	}
+
+	/**
+	 * Tables written by the converter and their insert statements.
+	 */
+	private enum Table {
+		BOOKS("books", "guid, root_account_guid, root_template_guid"),
+		COMMODITIES("commodities", "guid, namespace, mnemonic, fullname, cusip, fraction, quote_flag, quote_source, quote_tz"),
+		ACCOUNTS("accounts", "guid, name, account_type, commodity_guid, commodity_scu, non_std_scu, parent_guid, code, description, hidden, placeholder"),
+		TRANSACTIONS("transactions", "guid, currency_guid, num, post_date, enter_date, description"),
+		SPLITS("splits", "guid, tx_guid, account_guid, memo, action, reconcile_state, reconcile_date, value_num, value_denom, quantity_num, quantity_denom, lot_guid"),
+		SLOTS("slots", "obj_guid, name, slot_type, int64_val, string_val, double_val, timespec_val, guid_val, numeric_val_num, numeric_val_denom, gdate_val"),
+		LOTS("lots", "guid, account_guid, is_closed"),
+		PRICES("prices", "guid, commodity_guid, currency_guid, date, source, type, value_num, value_denom"),
+		BUDGETS("budgets", "guid, name, description, num_periods"),
+		RECURRENCES("recurrences", "obj_guid, recurrence_mult, recurrence_period_type, recurrence_period_start, recurrence_weekend_adjust"),
+		BUDGET_AMOUNTS("budget_amounts", "budget_guid, account_guid, period_num, amount_num, amount_denom"),
+		SCHEDXACTIONS("schedxactions", "guid, name, enabled, start_date, end_date, last_occur, num_occur, rem_occur, auto_create,"
+				+ " auto_notify, adv_creation, adv_notify, instance_count, template_act_guid"),
+		CUSTOMERS("customers", "guid, name, id, notes, active, discount_num, discount_denom, credit_num, credit_denom, currency, tax_override"),
+		VENDORS("vendors", "guid, name, id, notes, currency, active, tax_override"),
+		JOBS("jobs", "guid, id, name, reference, active, owner_type, owner_guid"),
+		INVOICES("invoices", "guid, id, date_opened, date_posted, notes, active, currency, owner_type, owner_guid, post_txn, post_lot, post_acc"),
+		ENTRIES("entries", "guid, date, description, action, quantity_num, quantity_denom, i_acct, i_price_num, i_price_denom, invoice,"
+				+ " b_acct, b_price_num, b_price_denom, bill");
+
+		private final String tableName;
+		private final String columns;
+
+		Table(String tableName, String columns) {
+			this.tableName = tableName;
+			this.columns = columns;
+		}
+
+		String tableName() {
+			return tableName;
+		}
+
+		String insert() {
+			String parameters = ", ?".repeat(columns.split(",").length).substring(2);
+			return "INSERT INTO " + tableName + " (" + columns + ") VALUES (" + parameters + ")";
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package com.druvu.acc.gnucash.sql.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.druvu.acc.api.entity.SlotType;
+import com.druvu.acc.api.entity.Slots;
+
+/**
+ * {@link Slots} view over the rows of the GnuCash {@code slots} table belonging to one entity or frame.
+ * <p>
+ * Nothing is read on creation. The rows of the entity are queried on the first lookup and kept; a path into a
+ * frame queries the rows of each frame it passes. Names are stored with their full path, so the rows of a
+ * frame are matched by prefix.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class SqlSlots implements Slots {
+
+	private static final char PATH_SEPARATOR = '/';
+
+	private final Function<String, Map<String, SlotRow>> loader;
+	private final String objectId;
+	private final String prefix;
+	// this for a path view, the path view whose rows a literal-key view shares
+	private final SqlSlots base;
+	private volatile Map<String, SlotRow> rows;
+
+	private SqlSlots(Function<String, Map<String, SlotRow>> loader, String objectId, String prefix) {
+		this.loader = loader;
+		this.objectId = objectId;
+		this.prefix = prefix;
+		this.base = this;
+	}
+
+	private SqlSlots(SqlSlots base) {
+		this.loader = base.loader;
+		this.objectId = base.objectId;
+		this.prefix = base.prefix;
+		this.base = base;
+	}
+
+	/**
+	 * @param loader   reads the slot rows of an object GUID, keyed by full name
+	 * @param objectId the GUID of the entity
+	 * @return a lazy view of the entity slots
+	 */
+	static Slots of(Function<String, Map<String, SlotRow>> loader, String objectId) {
+		return new SqlSlots(loader, objectId, "");
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return rows().isEmpty();
+	}
+
+	@Override
+	public List<String> keys() {
+		List<String> keys = new ArrayList<>(rows().size());
+		for (String name : rows().keySet()) {
+			keys.add(name.substring(prefix.length()));
+		}
+		return keys;
+	}
+
+	@Override
+	public Slots literalKeys() {
+		return base == this ? new SqlSlots(this) : this;
+	}
+
+	@Override
+	public Optional<SlotType> type(String path) {
+		return Optional.ofNullable(row(path)).map(SlotRow::type);
+	}
+
+	@Override
+	public Optional<String> string(String path) {
+		SlotRow row = row(path);
+		if (row == null) {
+			return Optional.empty();
+		}
+		return switch (row.type()) {
+			case FRAME, LIST -> throw mismatch(path, row, SlotType.STRING);
+			case INTEGER -> Optional.of(Long.toString(row.integer()));
+			case DOUBLE -> Optional.of(Double.toString(row.real()));
+			case NUMERIC -> Optional.of(row.numerator() + "/" + row.denominator());
+			case GUID -> Optional.ofNullable(row.guid());
+			case TIMESPEC -> Optional.ofNullable(row.timespec());
+			case GDATE -> Optional.ofNullable(SqlValues.gdate(row.gdate())).map(LocalDate::toString);
+			default -> Optional.ofNullable(row.string());
+		};
+	}
+
+	@Override
+	public Optional<Long> integer(String path) {
+		SlotRow row = row(path);
+		if (row == null) {
+			return Optional.empty();
+		}
+		if (row.type() != SlotType.INTEGER) {
+			throw mismatch(path, row, SlotType.INTEGER);
+		}
+		return Optional.of(row.integer());
+	}
+
+	@Override
+	public Optional<BigDecimal> numeric(String path) {
+		SlotRow row = row(path);
+		if (row == null) {
+			return Optional.empty();
+		}
+		return switch (row.type()) {
+			case NUMERIC -> Optional.of(SqlValues.amount(row.numerator(), row.denominator()));
+			case INTEGER -> Optional.of(BigDecimal.valueOf(row.integer()));
+			case DOUBLE -> Optional.of(BigDecimal.valueOf(row.real()));
+			default -> throw mismatch(path, row, SlotType.NUMERIC);
+		};
+	}
+
+	@Override
+	public Optional<LocalDate> date(String path) {
+		SlotRow row = row(path);
+		if (row == null) {
+			return Optional.empty();
+		}
+		if (row.type() != SlotType.GDATE) {
+			throw mismatch(path, row, SlotType.GDATE);
+		}
+		return Optional.ofNullable(SqlValues.gdate(row.gdate()));
+	}
+
+	@Override
+	public Optional<LocalDateTime> timestamp(String path) {
+		SlotRow row = row(path);
+		if (row == null) {
+			return Optional.empty();
+		}
+		if (row.type() != SlotType.TIMESPEC) {
+			throw mismatch(path, row, SlotType.TIMESPEC);
+		}
+		return Optional.ofNullable(SqlValues.timestamp(row.timespec()));
+	}
+
+	@Override
+	public Optional<Slots> frame(String path) {
+		SlotRow row = row(path);
+		if (row == null) {
+			return Optional.empty();
+		}
+		if (row.type() != SlotType.FRAME) {
+			throw mismatch(path, row, SlotType.FRAME);
+		}
+		return Optional.of(frameOf(row));
+	}
+
+	// ========== Helper Methods ==========
+
+	private Map<String, SlotRow> rows() {
+		if (base != this) {
+			return base.rows();
+		}
+		Map<String, SlotRow> loaded = rows;
+		if (loaded == null) {
+			loaded = loader.apply(objectId);
+			rows = loaded;
+		}
+		return loaded;
+	}
+
+	private SqlSlots frameOf(SlotRow row) {
+		return new SqlSlots(loader, row.guid(), row.name() + PATH_SEPARATOR);
+	}
+
+	private SlotRow row(String path) {
+		if (base != this) {
+			return rows().get(prefix + path);
+		}
+		SqlSlots frame = this;
+		int start = 0;
+		int end;
+		while ((end = path.indexOf(PATH_SEPARATOR, start)) >= 0) {
+			SlotRow row = frame.rows().get(prefix + path.substring(0, end));
+			if (row == null || row.type() != SlotType.FRAME || row.guid() == null) {
+				return null;
+			}
+			frame = frameOf(row);
+			start = end + 1;
+		}
+		return frame.rows().get(prefix + path);
+	}
+
+	private static IllegalStateException mismatch(String path, SlotRow row, SlotType expected) {
+		return new IllegalStateException("Slot " + path + " holds " + row.type().code() + ", not " + expected.code());
+	}
+
+	@Override
+	public String toString() {
+		return "Slots" + keys();
+	}
+}
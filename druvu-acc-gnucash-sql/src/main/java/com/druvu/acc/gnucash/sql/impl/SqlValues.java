@@ -0,0 +1,172 @@
+package com.druvu.acc.gnucash.sql.impl;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.druvu.acc.api.entity.OwnerType;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Conversions between GnuCash SQL column values and entity values.
+ * <p>
+ * GnuCash writes timestamps as {@code yyyy-MM-dd HH:mm:ss} text (older books as {@code yyyyMMddHHmmss}), dates
+ * as {@code yyyyMMdd} text, amounts as numerator and denominator columns and business owner types as the
+ * integer codes of {@code GncOwnerType}.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@UtilityClass
+final class SqlValues {
+
+	private static final MathContext MC = new MathContext(34, RoundingMode.HALF_UP);
+	private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+	private static final DateTimeFormatter LEGACY_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	private static final DateTimeFormatter GDATE = DateTimeFormatter.BASIC_ISO_DATE;
+	// largest power of ten denominator fitting a long
+	private static final int MAX_SCALE = 18;
+	// owner types by GncOwnerType code, 0 and 1 being no and an undefined owner
+	private static final OwnerType[] OWNER_TYPES = {null, null, OwnerType.CUSTOMER, OwnerType.JOB, OwnerType.VENDOR, OwnerType.EMPLOYEE};
+
+	// sort below and above every timestamp text
+	private static final String NO_LOWER_BOUND = "";
+	private static final String NO_UPPER_BOUND = "~";
+
+	static BigDecimal amount(long numerator, long denominator) {
+		int scale = powerOfTen(denominator);
+		if (scale >= 0) {
+			return BigDecimal.valueOf(numerator, scale);
+		}
+		return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), MC);
+	}
+
+	/**
+	 * @return the numerator of the amount over {@link #denominator(BigDecimal)}
+	 */
+	static long numerator(BigDecimal amount) {
+		return fit(amount).unscaledValue().longValueExact();
+	}
+
+	/**
+	 * @return the power of ten the amount is stored over
+	 */
+	static long denominator(BigDecimal amount) {
+		long denominator = 1;
+		for (int i = fit(amount).scale(); i > 0; i--) {
+			denominator *= 10;
+		}
+		return denominator;
+	}
+
+	/**
+	 * @param text a decimal number or a {@code numerator/denominator} fraction
+	 * @return the amount
+	 * @throws NumberFormatException if the text is neither
+	 */
+	static BigDecimal fraction(String text) {
+		String trimmed = text.strip();
+		int slash = trimmed.indexOf('/');
+		if (slash < 0) {
+			return new BigDecimal(trimmed);
+		}
+		return amount(Long.parseLong(trimmed.substring(0, slash)), Long.parseLong(trimmed.substring(slash + 1)));
+	}
+
+	static OwnerType ownerType(int code) {
+		OwnerType type = code >= 0 && code < OWNER_TYPES.length ? OWNER_TYPES[code] : null;
+		if (type == null) {
+			throw new IllegalStateException("Unknown owner type code: " + code);
+		}
+		return type;
+	}
+
+	static int ownerTypeCode(OwnerType type) {
+		return Arrays.asList(OWNER_TYPES).indexOf(type);
+	}
+
+	static LocalDateTime timestamp(String text) {
+		if (text == null || text.isBlank()) {
+			return null;
+		}
+		String trimmed = text.trim();
+		return LocalDateTime.parse(trimmed, trimmed.length() == 14 ? LEGACY_TIMESTAMP : TIMESTAMP);
+	}
+
+	static LocalDate date(String timestamp) {
+		LocalDateTime parsed = timestamp(timestamp);
+		return parsed == null ? null : parsed.toLocalDate();
+	}
+
+	static LocalDate gdate(String text) {
+		return text == null || text.isBlank() ? null : LocalDate.parse(text.trim(), GDATE);
+	}
+
+	static String timestampText(LocalDateTime timestamp) {
+		return timestamp.format(TIMESTAMP);
+	}
+
+	static String gdateText(LocalDate date) {
+		return date.format(GDATE);
+	}
+
+	/**
+	 * @return timestamp text sorting before all timestamps on or after the date
+	 */
+	static String startOf(LocalDate date) {
+		if (date == null || date.getYear() < 1) {
+			return NO_LOWER_BOUND;
+		}
+		return date.getYear() > 9999 ? NO_UPPER_BOUND : timestampText(date.atStartOfDay());
+	}
+
+	/**
+	 * @return timestamp text sorting after all timestamps on or before the date
+	 */
+	static String endOf(LocalDate date) {
+		if (date == null || date.getYear() >= 9999) {
+			return NO_UPPER_BOUND;
+		}
+		return date.getYear() < 1 ? NO_LOWER_BOUND : timestampText(date.plusDays(1).atStartOfDay());
+	}
+
+	/**
+	 * GnuCash writes empty text rather than NULL for unset optional columns.
+	 */
+	static Optional<String> optional(String text) {
+		return text == null || text.isEmpty() ? Optional.empty() : Optional.of(text);
+	}
+
+	/**
+	 * Rounds the amount to a non-negative scale whose numerator and denominator fit a long, dropping the
+	 * digits of fractions that do not terminate.
+	 */
+	private static BigDecimal fit(BigDecimal amount) {
+		BigDecimal fitted = amount.scale() < 0 ? amount.setScale(0, RoundingMode.UNNECESSARY) : amount;
+		if (fitted.scale() > MAX_SCALE) {
+			fitted = fitted.setScale(MAX_SCALE, RoundingMode.HALF_UP);
+		}
+		while (fitted.unscaledValue().bitLength() > Long.SIZE - 1 && fitted.scale() > 0) {
+			fitted = fitted.setScale(fitted.scale() - 1, RoundingMode.HALF_UP);
+		}
+		if (fitted.unscaledValue().bitLength() > Long.SIZE - 1) {
+			throw new IllegalArgumentException("Amount out of range: " + amount);
+		}
+		return fitted;
+	}
+
+	private static int powerOfTen(long value) {
+		int scale = 0;
+		while (value > 1 && value % 10 == 0) {
+			value /= 10;
+			scale++;
+		}
+		return value == 1 ? scale : -1;
+	}
+}
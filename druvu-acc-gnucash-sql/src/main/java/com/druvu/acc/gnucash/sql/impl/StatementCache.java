@@ -0,0 +1,84 @@
+package com.druvu.acc.gnucash.sql.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prepared statements of one connection, keyed by SQL text and closed when evicted.
+ * <p>
+ * The store issues a small fixed set of statements, so the cache normally holds all of them and every query
+ * after the first skips parsing and planning in SQLite. The least recently used statement is closed once the
+ * cache is full. Not thread-safe, callers hold the store lock.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+final class StatementCache implements AutoCloseable {
+
+	private final Connection connection;
+	private final int capacity;
+	private final Map<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+	private long misses;
+
+	StatementCache(Connection connection, int capacity) {
+		this.connection = connection;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * @param sql the statement text
+	 * @return the cached statement, prepared on first use
+	 * @throws SQLException if the statement cannot be prepared
+	 */
+	PreparedStatement prepare(String sql) throws SQLException {
+		PreparedStatement statement = statements.get(sql);
+		if (statement == null) {
+			misses++;
+			statement = connection.prepareStatement(sql);
+			statements.put(sql, statement);
+			if (statements.size() > capacity) {
+				evictEldest();
+			}
+		}
+		return statement;
+	}
+
+	int size() {
+		return statements.size();
+	}
+
+	/**
+	 * @return number of statements prepared so far
+	 */
+	long misses() {
+		return misses;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		for (PreparedStatement statement : statements.values()) {
+			statement.close();
+		}
+		statements.clear();
+		connection.close();
+	}
+
+	private void evictEldest() {
+		Iterator<PreparedStatement> eldest = statements.values().iterator();
+		PreparedStatement statement = eldest.next();
+		eldest.remove();
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			log.warn("Failed to close evicted statement", e);
+		}
+	}
+}
@@ -0,0 +1,16 @@
+module com.druvu.acc.gnucash.sql {
+	requires static lombok;
+	requires static com.github.spotbugs.annotations;
+
+	requires com.druvu.acc.api;
+	requires druvu.lib.loader;
+	requires java.sql;
+	requires org.xerial.sqlitejdbc;
+	requires org.slf4j;
+
+	// Export public API
+	exports com.druvu.acc.gnucash.sql.api;
+
+	// Register factory with ServiceLoader
+	provides com.druvu.lib.loader.ComponentFactory with com.druvu.acc.gnucash.sql.api.GnucashSqlFactory;
+}
@@ -0,0 +1,50 @@
+package com.druvu.acc.gnucash.sql;
+
+import static org.testng.Assert.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import com.druvu.acc.gnucash.sql.impl.GnucashSchema;
+
+/**
+ * Creates SQLite books from the SQL scripts in the test resources.
+ */
+final class SqlFixtures {
+
+	private SqlFixtures() {
+	}
+
+	/**
+	 * @param script the resource name of the insert script
+	 * @return a temporary SQLite book with the GnuCash schema and the rows of the script
+	 */
+	static Path book(String script) throws IOException, SQLException {
+		Path path = Files.createTempFile("book", ".gnucash");
+		path.toFile().deleteOnExit();
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + path);
+				Statement statement = connection.createStatement()) {
+			GnucashSchema.create(connection);
+			for (String sql : resource(script).replaceAll("(?m)^--.*$", "").split(";\\R")) {
+				if (!sql.isBlank()) {
+					statement.executeUpdate(sql.strip());
+				}
+			}
+		}
+		return path;
+	}
+
+	private static String resource(String name) throws IOException {
+		try (InputStream in = SqlFixtures.class.getResourceAsStream(name)) {
+			assertNotNull(in, name + " resource not found");
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,182 @@
+package com.druvu.acc.gnucash.sql;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.Owner;
+import com.druvu.acc.api.entity.OwnerType;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.gnucash.sql.api.ConversionReport;
+import com.druvu.acc.gnucash.sql.api.GnucashSqlConverter;
+import com.druvu.acc.gnucash.sql.impl.SqlAccStore;
+
+/**
+ * Converts the test book into a new SQLite file and reads it back.
+ * <p>
+ * Batches of three rows make the reading stage hand over many batches.
+ */
+public class TestGnucashSqlConverter {
+
+	private SqlAccStore source;
+	private SqlAccStore converted;
+	private ConversionReport report;
+	private Path target;
+
+	@BeforeClass
+	public void setUp() throws IOException, SQLException {
+		source = SqlAccStore.open(SqlFixtures.book("/book.sql"), SqlAccStore.DEFAULT_PAGE_SIZE);
+		target = Files.createTempDirectory("converted").resolve("book.gnucash");
+		target.toFile().deleteOnExit();
+		report = new GnucashSqlConverter(3).convert(source, target);
+		converted = SqlAccStore.open(target, SqlAccStore.DEFAULT_PAGE_SIZE);
+	}
+
+	@AfterClass
+	public void tearDown() {
+		source.close();
+		converted.close();
+	}
+
+	@Test
+	public void testReport() {
+		assertEquals(report.rows().get("accounts"), 8L, "accounts, the template root and the template account");
+		assertEquals(report.rows().get("transactions"), 7L, "transactions and the template transaction");
+		assertEquals(report.rows().get("splits"), 14L);
+		assertEquals(report.rows().get("budget_amounts"), 2L);
+		assertEquals(report.rows().get("schedxactions"), 1L);
+		assertEquals(report.rows().get("invoices"), 2L);
+		assertEquals(report.rows().get("entries"), 2L);
+		assertEquals(report.totalRows(), report.rows().values().stream().mapToLong(Long::longValue).sum());
+		assertTrue(report.rowsPerSecond() > 0);
+	}
+
+	@Test
+	public void testEntitiesRoundTrip() {
+		assertEquals(converted.id(), source.id());
+		assertEquals(converted.commodities(), source.commodities());
+		assertEquals(converted.accounts(), source.accounts());
+		assertEquals(converted.rootAccounts(), source.rootAccounts());
+		assertEquals(converted.transactions(), source.transactions());
+		assertEquals(converted.lots(), source.lots());
+		assertEquals(converted.prices().getFirst().value(), source.prices().getFirst().value());
+		assertEquals(converted.prices().getFirst().time(), source.prices().getFirst().time());
+		assertEquals(converted.budgets(), source.budgets());
+		assertEquals(converted.scheduledTransactions(), source.scheduledTransactions());
+		assertEquals(converted.customers(), source.customers());
+		assertEquals(converted.vendors(), source.vendors());
+		assertEquals(converted.jobs(), source.jobs());
+		assertEquals(converted.invoices(), source.invoices());
+		for (Invoice invoice : source.invoices()) {
+			assertEquals(converted.entriesForInvoice(invoice.id()), source.entriesForInvoice(invoice.id()));
+		}
+	}
+
+	@Test
+	public void testUnitsFlagsAndEntryTimesRoundTrip() throws SQLException {
+		for (CommodityId commodity : source.commodities()) {
+			assertEquals(converted.commodityFraction(commodity), source.commodityFraction(commodity), commodity.toString());
+		}
+		assertEquals(converted.commodityFraction(new CommodityId("NASDAQ", "ACME")), Optional.of(1000));
+		for (Account account : source.accounts()) {
+			assertEquals(converted.accountFraction(account.id()), source.accountFraction(account.id()), account.name());
+		}
+		assertEquals(converted.accountFraction("a0000000000000000000000000000006"), Optional.of(10000));
+		for (Transaction transaction : source.transactions()) {
+			assertEquals(converted.dateEntered(transaction.id()), source.dateEntered(transaction.id()));
+		}
+		assertEquals(converted.dateEntered("d0000000000000000000000000000001"), Optional.of(LocalDateTime.of(2026, 1, 25, 12, 0)));
+
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + target.toAbsolutePath());
+				var statement = connection.createStatement();
+				var rs = statement.executeQuery("SELECT name, hidden, placeholder FROM accounts WHERE placeholder = 1 OR hidden = 1")) {
+			assertTrue(rs.next());
+			assertEquals(rs.getString(1), "Expenses");
+			assertEquals(rs.getInt(2), 0);
+			assertFalse(rs.next());
+		}
+	}
+
+	@Test
+	public void testEmployeeVouchersAreRefused() throws IOException {
+		Path failed = Files.createTempDirectory("converted").resolve("failed.gnucash");
+		Invoice voucher = new Invoice("60000000000000000000000000000009", "EXP-1", new Owner(OwnerType.EMPLOYEE, "60000000000000000000000000000008"),
+				LocalDate.of(2026, 2, 1), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), CommodityId.currency("EUR"),
+				Optional.empty(), true);
+		AccStore withVoucher = (AccStore) Proxy.newProxyInstance(AccStore.class.getClassLoader(), new Class<?>[]{AccStore.class},
+				(proxy, method, args) -> method.getName().equals("invoices") ? List.of(voucher) : method.invoke(source, args));
+		IllegalStateException e = expectThrows(IllegalStateException.class, () -> new GnucashSqlConverter(3).convert(withVoucher, failed));
+		assertTrue(e.getCause() instanceof UnsupportedOperationException);
+		assertFalse(Files.exists(failed));
+	}
+
+	@Test
+	public void testSlotsRoundTrip() {
+		var slots = converted.accountById("a0000000000000000000000000000002").orElseThrow().slots();
+		assertEquals(slots.keys(), List.of("notes", "import-map"));
+		assertEquals(slots.string("notes"), Optional.of("Joint account"));
+		assertEquals(slots.integer("import-map/hits"), Optional.of(42L));
+		assertEquals(slots.frame("import-map/desc").orElseThrow().literalKeys().string("Rent 02/2026"),
+				Optional.of("a0000000000000000000000000000004"));
+		Transaction transaction = converted.transactionById("d0000000000000000000000000000002").orElseThrow();
+		assertEquals(transaction.slots().date("date-due"), Optional.of(LocalDate.of(2026, 1, 15)));
+	}
+
+	@Test
+	public void testExistingTargetIsKept() {
+		GnucashSqlConverter converter = new GnucashSqlConverter();
+		assertThrows(IllegalArgumentException.class, () -> converter.convert(source, target));
+		assertTrue(Files.exists(target));
+	}
+
+	@Test
+	public void testFailedConversionDeletesTarget() throws IOException {
+		Path failed = Files.createTempDirectory("converted").resolve("failed.gnucash");
+		AccStore broken = (AccStore) Proxy.newProxyInstance(AccStore.class.getClassLoader(), new Class<?>[]{AccStore.class},
+				(proxy, method, args) -> {
+					if (method.getName().equals("streamTransactions")) {
+						throw new IllegalStateException("Source failed");
+					}
+					return method.invoke(source, args);
+				});
+		assertThrows(IllegalStateException.class, () -> new GnucashSqlConverter(3).convert(broken, failed));
+		assertFalse(Files.exists(failed));
+	}
+
+	@Test(timeOut = 10_000)
+	public void testReadingErrorEndsConversion() throws IOException {
+		Path failed = Files.createTempDirectory("converted").resolve("failed.gnucash");
+		AccStore broken = (AccStore) Proxy.newProxyInstance(AccStore.class.getClassLoader(), new Class<?>[]{AccStore.class},
+				(proxy, method, args) -> {
+					if (method.getName().equals("lots")) {
+						throw new NoClassDefFoundError("Source failed");
+					}
+					return method.invoke(source, args);
+				});
+		IllegalStateException e = expectThrows(IllegalStateException.class, () -> new GnucashSqlConverter(3).convert(broken, failed));
+		assertTrue(e.getCause() instanceof NoClassDefFoundError);
+		assertFalse(Files.exists(failed));
+	}
+}
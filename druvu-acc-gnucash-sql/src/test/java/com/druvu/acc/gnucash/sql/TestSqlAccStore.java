@@ -0,0 +1,273 @@
+package com.druvu.acc.gnucash.sql;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.QueryPlan;
+import com.druvu.acc.api.SplitFilter;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.AccountType;
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.BudgetAmount;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Lot;
+import com.druvu.acc.api.entity.Owner;
+import com.druvu.acc.api.entity.OwnerType;
+import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.RecurrencePeriod;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.ScheduledSplit;
+import com.druvu.acc.api.entity.ScheduledTransaction;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.entity.Vendor;
+import com.druvu.acc.gnucash.sql.api.GnucashSqlFactory;
+import com.druvu.lib.loader.Dependencies;
+
+/**
+ * Tests the SQLite store against a small book created with the GnuCash schema.
+ * <p>
+ * The store reads two transactions per page, so every multi-transaction query spans several pages.
+ */
+public class TestSqlAccStore {
+
+	private static final String CHECKING = "a0000000000000000000000000000002";
+	private static final String GROCERIES = "a0000000000000000000000000000004";
+	private static final String ACME = "a0000000000000000000000000000006";
+
+	private Path path;
+	private AccStore store;
+
+	@BeforeClass
+	public void setUp() throws IOException, SQLException {
+		path = SqlFixtures.book("/book.sql");
+		store = new GnucashSqlFactory(2).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@AfterClass
+	public void tearDown() {
+		store.close();
+	}
+
+	@Test
+	public void testAccounts() {
+		assertEquals(store.id(), "b0000000000000000000000000000001");
+		List<Account> accounts = store.accounts();
+		assertEquals(accounts.stream().map(Account::name).toList(), List.of("Root Account", "Checking", "Expenses", "Groceries", "Salary", "Acme"));
+		assertEquals(store.rootAccounts().stream().map(Account::name).toList(), List.of("Root Account"));
+
+		Account checking = store.accountById(CHECKING).orElseThrow();
+		assertEquals(checking.type(), AccountType.BANK);
+		assertEquals(checking.code(), Optional.of("1000"));
+		assertEquals(checking.description(), Optional.of("Main account"));
+		assertEquals(checking.commodity(), Optional.of(CommodityId.currency("EUR")));
+		assertEquals(store.accountById(GROCERIES).orElseThrow().code(), Optional.empty());
+
+		assertEquals(store.accountByName("Root Account:Expenses:Groceries").map(Account::id), Optional.of(GROCERIES));
+		assertTrue(store.accountByName("Root Account:Groceries").isEmpty());
+		assertEquals(store.qualifiedName(GROCERIES), Optional.of("Root Account:Expenses:Groceries"));
+		assertEquals(store.fetchChildIds("a0000000000000000000000000000003"), List.of(GROCERIES));
+	}
+
+	@Test
+	public void testTransactionsInDateOrderAcrossPages() {
+		List<Transaction> transactions = store.transactions();
+		assertEquals(transactions.stream().map(Transaction::description).toList(),
+				List.of("Groceries", "Groceries correction", "Salary January", "Groceries", "Buy Acme", "Salary February"));
+
+		Transaction groceries = transactions.getFirst();
+		assertEquals(groceries.number(), Optional.of("17"));
+		assertEquals(groceries.currency(), CommodityId.currency("EUR"));
+		assertEquals(groceries.datePosted(), LocalDate.of(2026, 1, 5));
+		assertEquals(groceries.splits().size(), 2);
+		assertEquals(groceries.splits().getFirst().value(), new BigDecimal("77.00"));
+		assertEquals(groceries.splits().getFirst().memo(), Optional.of("Weekly shopping"));
+		assertEquals(groceries.splits().get(1).reconcileState(), ReconcileState.CLEARED);
+		assertEquals(transactions.get(1).number(), Optional.empty());
+	}
+
+	@Test
+	public void testDateRange() {
+		assertEquals(store.transactions(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 25)).size(), 3);
+		assertEquals(store.transactions(LocalDate.of(2026, 2, 1), LocalDate.MAX).size(), 3);
+		assertEquals(store.transactions(LocalDate.MIN, LocalDate.of(2026, 1, 4)).size(), 0);
+		assertEquals(store.streamTransactions(LocalDate.of(2026, 1, 6), LocalDate.of(2026, 2, 28)).limit(2)
+				.map(Transaction::description).toList(), List.of("Salary January", "Groceries"));
+	}
+
+	@Test
+	public void testLookups() {
+		Transaction salary = store.transactionById("d0000000000000000000000000000001").orElseThrow();
+		Split checking = salary.splits().getFirst();
+		assertEquals(checking.reconcileState(), ReconcileState.RECONCILED);
+		assertEquals(checking.reconcileDate(), Optional.of(LocalDate.of(2026, 1, 31)));
+		assertTrue(store.transactionById("d0000000000000000000000000000090").isEmpty(), "template transaction");
+		assertTrue(store.transactionById("unknown").isEmpty());
+
+		assertEquals(store.transactionsForAccount(GROCERIES).size(), 3);
+		List<Split> splits = store.splitsForAccount(CHECKING);
+		assertEquals(splits.size(), 6);
+		assertEquals(splits.stream().map(Split::value).reduce(BigDecimal.ZERO, BigDecimal::add), new BigDecimal("3885.50"));
+		assertTrue(splits.stream().allMatch(split -> split.accountId().equals(CHECKING)));
+	}
+
+	@Test
+	public void testPlanPushesPredicatesIntoSql() {
+		List<SplitFilter> filters = List.of(
+				SplitFilter.ALL,
+				SplitFilter.ALL.toBuilder().accountIds(Set.of(CHECKING, GROCERIES)).build(),
+				SplitFilter.ALL.toBuilder().from(LocalDate.of(2026, 1, 6)).to(LocalDate.of(2026, 2, 28)).build(),
+				SplitFilter.ALL.toBuilder().to(LocalDate.of(2026, 1, 25)).build(),
+				SplitFilter.ALL.toBuilder().accountIds(Set.of(CHECKING)).from(LocalDate.of(2026, 2, 1))
+						.reconcileStates(Set.of(ReconcileState.NOT_RECONCILED, ReconcileState.CLEARED)).build(),
+				SplitFilter.ALL.toBuilder().amountAbove(new BigDecimal("100")).build());
+		for (SplitFilter filter : filters) {
+			List<Split> expected = QueryPlan.scan(store, filter).execute();
+			List<Split> splits = store.plan(filter).execute();
+			assertEquals(Set.copyOf(splits), Set.copyOf(expected), filter.toString());
+			assertEquals(splits.size(), expected.size(), filter.toString());
+			for (int i = 1; i < splits.size(); i++) {
+				assertFalse(splits.get(i).datePosted().isBefore(splits.get(i - 1).datePosted()));
+			}
+		}
+
+		assertEquals(store.plan(filters.get(1)).access().name(), "account_guid index");
+		assertEquals(store.plan(filters.get(2)).access().name(), "post_date index");
+		assertEquals(store.plan(SplitFilter.ALL).access().name(), "full scan");
+		assertEquals(store.splitsForSubtree("a0000000000000000000000000000003", LocalDate.of(2026, 1, 6), null),
+				store.splitsForAccount(GROCERIES).stream().filter(split -> split.datePosted().isAfter(LocalDate.of(2026, 1, 5))).toList());
+	}
+
+	@Test
+	public void testLotsAndPrices() {
+		List<Lot> lots = store.lots();
+		assertEquals(lots.size(), 1);
+		assertEquals(lots.getFirst().accountId(), ACME);
+		assertEquals(lots.getFirst().title(), Optional.of("Acme position"));
+		assertEquals(store.lotsForAccount(ACME), lots);
+		assertEquals(store.splitsForLot(lots.getFirst().id()).getFirst().quantity(), new BigDecimal("10.0000"));
+
+		Price price = store.prices().getFirst();
+		assertEquals(price.commodity(), new CommodityId("NASDAQ", "ACME"));
+		assertEquals(price.time(), LocalDateTime.of(2026, 2, 20, 10, 59));
+		assertEquals(price.value(), new BigDecimal("105.00"));
+		assertEquals(price.type(), Optional.of("last"));
+	}
+
+	@Test
+	public void testSlots() {
+		var slots = store.accountById(CHECKING).orElseThrow().slots();
+		assertEquals(slots.keys(), List.of("notes", "import-map"));
+		assertEquals(slots.string("notes"), Optional.of("Joint account"));
+		assertEquals(slots.integer("import-map/hits"), Optional.of(42L));
+		assertEquals(slots.frame("import-map").orElseThrow().keys(), List.of("hits", "desc"));
+		var descriptions = slots.frame("import-map/desc").orElseThrow();
+		assertEquals(descriptions.keys(), List.of("Rent 02/2026"));
+		assertEquals(descriptions.string("Rent 02/2026"), Optional.empty());
+		assertEquals(descriptions.literalKeys().string("Rent 02/2026"), Optional.of(GROCERIES));
+		assertEquals(slots.literalKeys().integer("import-map/hits"), Optional.empty());
+		assertEquals(store.transactionById("d0000000000000000000000000000002").orElseThrow().slots().date("date-due"),
+				Optional.of(LocalDate.of(2026, 1, 15)));
+		assertTrue(store.accountById(GROCERIES).orElseThrow().slots().isEmpty());
+	}
+
+	@Test
+	public void testBudgets() {
+		Budget budget = store.budgets().getFirst();
+		assertEquals(budget.name(), "Household");
+		assertEquals(budget.description(), Optional.empty());
+		assertEquals(budget.periods(), 3);
+		assertEquals(budget.recurrence().period(), RecurrencePeriod.MONTH);
+		assertEquals(budget.recurrence().start(), LocalDate.of(2026, 1, 1));
+		assertEquals(budget.amounts(), List.of(
+				new BudgetAmount(GROCERIES, 0, new BigDecimal("120.00")),
+				new BudgetAmount(GROCERIES, 1, new BigDecimal("150.00"))));
+	}
+
+	@Test
+	public void testScheduledTransactions() {
+		ScheduledTransaction schedule = store.scheduledTransactions().getFirst();
+		assertEquals(schedule.name(), "Monthly rent");
+		assertTrue(schedule.enabled());
+		assertEquals(schedule.start(), LocalDate.of(2026, 1, 1));
+		assertEquals(schedule.end(), Optional.empty());
+		assertEquals(schedule.lastOccurrence(), Optional.of(LocalDate.of(2026, 2, 1)));
+		assertEquals(schedule.remainingOccurrences(), Optional.of(10));
+		assertEquals(schedule.recurrences().getFirst().period(), RecurrencePeriod.MONTH);
+		assertEquals(schedule.description(), "Rent template");
+		assertEquals(schedule.splits(), List.of(
+				new ScheduledSplit(GROCERIES, Optional.empty(), new BigDecimal("700.00")),
+				new ScheduledSplit(CHECKING, Optional.of("Rent"), new BigDecimal("-700.00"))));
+	}
+
+	@Test
+	public void testBusinessObjects() {
+		Customer customer = store.customers().getFirst();
+		assertEquals(customer.name(), "Acme Retail");
+		assertEquals(customer.currency(), CommodityId.currency("EUR"));
+		assertEquals(customer.notes(), Optional.of("Net 30"));
+		Vendor vendor = store.vendors().getFirst();
+		assertEquals(vendor.name(), "Farm Supply");
+		assertFalse(vendor.active());
+		Job job = store.jobs().getFirst();
+		assertEquals(job.reference(), Optional.of("PO-17"));
+		assertEquals(job.owner(), new Owner(OwnerType.CUSTOMER, customer.id()));
+
+		assertEquals(store.invoices().stream().map(Invoice::number).toList(), List.of("INV-1", "BILL-1"));
+		Invoice invoice = store.invoicesForOwner(customer.id()).getFirst();
+		assertEquals(invoice.owner(), new Owner(OwnerType.JOB, job.id()));
+		assertEquals(invoice.opened(), LocalDate.of(2026, 1, 20));
+		assertEquals(invoice.posted(), Optional.of(LocalDate.of(2026, 1, 25)));
+		assertEquals(invoice.postAccountId(), Optional.of(CHECKING));
+		assertEquals(store.invoicesForOwner(job.id()), List.of(invoice));
+		assertEquals(store.invoiceForTransaction("d0000000000000000000000000000001"), Optional.of(invoice));
+		assertEquals(store.invoiceForTransaction("d0000000000000000000000000000002"), Optional.empty());
+		Invoice bill = store.invoicesForOwner(vendor.id()).getFirst();
+		assertFalse(bill.isPosted());
+
+		InvoiceEntry line = store.entriesForInvoice(invoice.id()).getFirst();
+		assertEquals(line.description(), Optional.of("Consulting"));
+		assertEquals(line.amount(), new BigDecimal("2500.0000"));
+		assertEquals(line.accountId(), Optional.of("a0000000000000000000000000000005"));
+		InvoiceEntry billLine = store.entriesForInvoice(bill.id()).getFirst();
+		assertEquals(billLine.price(), new BigDecimal("12.50"));
+		assertEquals(billLine.accountId(), Optional.of(GROCERIES));
+		assertEquals(billLine.action(), Optional.empty());
+	}
+
+	@Test
+	public void testCommodities() {
+		assertEquals(store.commodities().size(), 3);
+		assertTrue(store.footprint().total() > 0);
+	}
+
+	@Test
+	public void testFactoryRejectsOtherFiles() throws IOException {
+		Path text = Files.createTempFile("book", ".gnucash");
+		text.toFile().deleteOnExit();
+		Files.writeString(text, "<?xml version=\"1.0\"?>");
+		assertFalse(GnucashSqlFactory.isSqlite(text));
+		assertTrue(GnucashSqlFactory.isSqlite(path));
+	}
+}
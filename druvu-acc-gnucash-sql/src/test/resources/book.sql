@@ -0,0 +1,65 @@
+-- Small GnuCash SQLite book: EUR checking, groceries and salary accounts, a stock lot, a price, a budget, a scheduled transaction
+-- with its template and a customer invoice and vendor bill
+INSERT INTO books VALUES ('b0000000000000000000000000000001', 'a0000000000000000000000000000001', 'a0000000000000000000000000000090');
+INSERT INTO commodities VALUES ('c0000000000000000000000000000001', 'CURRENCY', 'EUR', 'Euro', '978', 100, 1, 'currency', '');
+INSERT INTO commodities VALUES ('c0000000000000000000000000000002', 'NASDAQ', 'ACME', 'Acme Corp', '', 1000, 0, '', '');
+INSERT INTO commodities VALUES ('c0000000000000000000000000000003', 'template', 'template', 'template', 'template', 1, 0, '', '');
+INSERT INTO accounts VALUES ('a0000000000000000000000000000001', 'Root Account', 'ROOT', 'c0000000000000000000000000000001', 100, 0, NULL, '', '', 0, 0);
+INSERT INTO accounts VALUES ('a0000000000000000000000000000002', 'Checking', 'BANK', 'c0000000000000000000000000000001', 100, 0, 'a0000000000000000000000000000001', '1000', 'Main account', 0, 0);
+INSERT INTO accounts VALUES ('a0000000000000000000000000000003', 'Expenses', 'EXPENSE', 'c0000000000000000000000000000001', 100, 0, 'a0000000000000000000000000000001', '', '', 0, 1);
+INSERT INTO accounts VALUES ('a0000000000000000000000000000004', 'Groceries', 'EXPENSE', 'c0000000000000000000000000000001', 100, 0, 'a0000000000000000000000000000003', '', '', 0, 0);
+INSERT INTO accounts VALUES ('a0000000000000000000000000000005', 'Salary', 'INCOME', 'c0000000000000000000000000000001', 100, 0, 'a0000000000000000000000000000001', '', '', 0, 0);
+INSERT INTO accounts VALUES ('a0000000000000000000000000000006', 'Acme', 'STOCK', 'c0000000000000000000000000000002', 10000, 0, 'a0000000000000000000000000000001', '', '', 0, 0);
+INSERT INTO accounts VALUES ('a0000000000000000000000000000090', 'Template Root', 'ROOT', NULL, 0, 0, NULL, '', '', 0, 0);
+INSERT INTO accounts VALUES ('a0000000000000000000000000000091', 'f0000000000000000000000000000001', 'BANK', 'c0000000000000000000000000000003', 1, 0, 'a0000000000000000000000000000090', '', '', 0, 0);
+INSERT INTO transactions VALUES ('d0000000000000000000000000000001', 'c0000000000000000000000000000001', '', '2026-01-25 10:59:00', '2026-01-25 12:00:00', 'Salary January');
+INSERT INTO transactions VALUES ('d0000000000000000000000000000002', 'c0000000000000000000000000000001', '17', '2026-01-05 10:59:00', '2026-01-05 12:00:00', 'Groceries');
+INSERT INTO transactions VALUES ('d0000000000000000000000000000003', 'c0000000000000000000000000000001', '', '2026-02-05 10:59:00', '2026-02-05 12:00:00', 'Groceries');
+INSERT INTO transactions VALUES ('d0000000000000000000000000000004', 'c0000000000000000000000000000001', '', '2026-02-10 10:59:00', '2026-02-10 12:00:00', 'Buy Acme');
+INSERT INTO transactions VALUES ('d0000000000000000000000000000005', 'c0000000000000000000000000000001', '', '2026-02-25 10:59:00', '2026-02-25 12:00:00', 'Salary February');
+INSERT INTO transactions VALUES ('d0000000000000000000000000000006', 'c0000000000000000000000000000001', '', '2026-01-05 10:59:00', '2026-01-05 12:00:00', 'Groceries correction');
+INSERT INTO transactions VALUES ('d0000000000000000000000000000090', 'c0000000000000000000000000000001', '', '2026-01-01 10:59:00', '2026-01-01 12:00:00', 'Rent template');
+INSERT INTO splits VALUES ('e0000000000000000000000000000001', 'd0000000000000000000000000000001', 'a0000000000000000000000000000002', '', '', 'y', '2026-01-31 10:59:00', 250000, 100, 250000, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000002', 'd0000000000000000000000000000001', 'a0000000000000000000000000000005', '', '', 'n', NULL, -250000, 100, -250000, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000003', 'd0000000000000000000000000000002', 'a0000000000000000000000000000004', 'Weekly shopping', '', 'n', NULL, 7700, 100, 7700, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000004', 'd0000000000000000000000000000002', 'a0000000000000000000000000000002', '', '', 'c', NULL, -7700, 100, -7700, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000005', 'd0000000000000000000000000000003', 'a0000000000000000000000000000004', '', '', 'n', NULL, 4250, 100, 4250, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000006', 'd0000000000000000000000000000003', 'a0000000000000000000000000000002', '', '', 'n', NULL, -4250, 100, -4250, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000007', 'd0000000000000000000000000000004', 'a0000000000000000000000000000006', '', 'Buy', 'n', NULL, 100000, 100, 100000, 10000, 'f0000000000000000000000000000010');
+INSERT INTO splits VALUES ('e0000000000000000000000000000008', 'd0000000000000000000000000000004', 'a0000000000000000000000000000002', '', '', 'n', NULL, -100000, 100, -100000, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000009', 'd0000000000000000000000000000005', 'a0000000000000000000000000000002', '', '', 'n', NULL, 250000, 100, 250000, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000010', 'd0000000000000000000000000000005', 'a0000000000000000000000000000005', '', '', 'n', NULL, -250000, 100, -250000, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000011', 'd0000000000000000000000000000006', 'a0000000000000000000000000000004', '', '', 'n', NULL, -500, 100, -500, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000012', 'd0000000000000000000000000000006', 'a0000000000000000000000000000002', '', '', 'n', NULL, 500, 100, 500, 100, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000090', 'd0000000000000000000000000000090', 'a0000000000000000000000000000091', '', '', 'n', NULL, 0, 1, 0, 1, NULL);
+INSERT INTO splits VALUES ('e0000000000000000000000000000091', 'd0000000000000000000000000000090', 'a0000000000000000000000000000091', 'Rent', '', 'n', NULL, 0, 1, 0, 1, NULL);
+INSERT INTO lots VALUES ('f0000000000000000000000000000010', 'a0000000000000000000000000000006', 0);
+INSERT INTO prices VALUES ('90000000000000000000000000000001', 'c0000000000000000000000000000002', 'c0000000000000000000000000000001', '2026-02-20 10:59:00', 'user:price', 'last', 10500, 100);
+INSERT INTO slots (obj_guid, name, slot_type, string_val) VALUES ('a0000000000000000000000000000002', 'notes', 4, 'Joint account');
+INSERT INTO slots (obj_guid, name, slot_type, string_val) VALUES ('a0000000000000000000000000000003', 'placeholder', 4, 'true');
+INSERT INTO slots (obj_guid, name, slot_type, guid_val) VALUES ('a0000000000000000000000000000002', 'import-map', 9, '80000000000000000000000000000001');
+INSERT INTO slots (obj_guid, name, slot_type, int64_val) VALUES ('80000000000000000000000000000001', 'import-map/hits', 1, 42);
+INSERT INTO slots (obj_guid, name, slot_type, guid_val) VALUES ('80000000000000000000000000000001', 'import-map/desc', 9, '80000000000000000000000000000002');
+INSERT INTO slots (obj_guid, name, slot_type, guid_val) VALUES ('80000000000000000000000000000002', 'import-map/desc/Rent 02/2026', 5, 'a0000000000000000000000000000004');
+INSERT INTO slots (obj_guid, name, slot_type, gdate_val) VALUES ('d0000000000000000000000000000002', 'date-due', 10, '20260115');
+INSERT INTO slots (obj_guid, name, slot_type, string_val) VALUES ('f0000000000000000000000000000010', 'title', 4, 'Acme position');
+INSERT INTO budgets VALUES ('70000000000000000000000000000001', 'Household', '', 3);
+INSERT INTO recurrences (obj_guid, recurrence_mult, recurrence_period_type, recurrence_period_start, recurrence_weekend_adjust) VALUES ('70000000000000000000000000000001', 1, 'month', '20260101', 'none');
+INSERT INTO budget_amounts (budget_guid, account_guid, period_num, amount_num, amount_denom) VALUES ('70000000000000000000000000000001', 'a0000000000000000000000000000004', 1, 15000, 100);
+INSERT INTO budget_amounts (budget_guid, account_guid, period_num, amount_num, amount_denom) VALUES ('70000000000000000000000000000001', 'a0000000000000000000000000000004', 0, 12000, 100);
+INSERT INTO schedxactions VALUES ('f0000000000000000000000000000001', 'Monthly rent', 1, '20260101', NULL, '20260201', 12, 10, 0, 0, 0, 0, 2, 'a0000000000000000000000000000091');
+INSERT INTO recurrences (obj_guid, recurrence_mult, recurrence_period_type, recurrence_period_start, recurrence_weekend_adjust) VALUES ('f0000000000000000000000000000001', 1, 'month', '20260101', 'none');
+INSERT INTO slots (obj_guid, name, slot_type, guid_val) VALUES ('e0000000000000000000000000000090', 'sched-xaction', 9, '80000000000000000000000000000090');
+INSERT INTO slots (obj_guid, name, slot_type, guid_val) VALUES ('80000000000000000000000000000090', 'sched-xaction/account', 5, 'a0000000000000000000000000000004');
+INSERT INTO slots (obj_guid, name, slot_type, numeric_val_num, numeric_val_denom) VALUES ('80000000000000000000000000000090', 'sched-xaction/debit-numeric', 3, 70000, 100);
+INSERT INTO slots (obj_guid, name, slot_type, string_val) VALUES ('80000000000000000000000000000090', 'sched-xaction/credit-formula', 4, '');
+INSERT INTO slots (obj_guid, name, slot_type, guid_val) VALUES ('e0000000000000000000000000000091', 'sched-xaction', 9, '80000000000000000000000000000091');
+INSERT INTO slots (obj_guid, name, slot_type, guid_val) VALUES ('80000000000000000000000000000091', 'sched-xaction/account', 5, 'a0000000000000000000000000000002');
+INSERT INTO slots (obj_guid, name, slot_type, string_val) VALUES ('80000000000000000000000000000091', 'sched-xaction/credit-formula', 4, '700.00');
+INSERT INTO customers (guid, name, id, notes, active, discount_num, discount_denom, credit_num, credit_denom, currency, tax_override) VALUES ('60000000000000000000000000000001', 'Acme Retail', '000001', 'Net 30', 1, 0, 1, 0, 1, 'c0000000000000000000000000000001', 0);
+INSERT INTO vendors (guid, name, id, notes, currency, active, tax_override) VALUES ('60000000000000000000000000000002', 'Farm Supply', '000002', '', 'c0000000000000000000000000000001', 0, 0);
+INSERT INTO jobs VALUES ('60000000000000000000000000000003', '000003', 'Shop fitting', 'PO-17', 1, 2, '60000000000000000000000000000001');
+INSERT INTO invoices (guid, id, date_opened, date_posted, notes, active, currency, owner_type, owner_guid, post_txn, post_lot, post_acc) VALUES ('60000000000000000000000000000004', 'INV-1', '2026-01-20 10:59:00', '2026-01-25 10:59:00', 'First invoice', 1, 'c0000000000000000000000000000001', 3, '60000000000000000000000000000003', 'd0000000000000000000000000000001', NULL, 'a0000000000000000000000000000002');
+INSERT INTO invoices (guid, id, date_opened, date_posted, notes, active, currency, owner_type, owner_guid) VALUES ('60000000000000000000000000000005', 'BILL-1', '2026-02-01 10:59:00', NULL, '', 1, 'c0000000000000000000000000000001', 4, '60000000000000000000000000000002');
+INSERT INTO entries (guid, date, description, action, quantity_num, quantity_denom, i_acct, i_price_num, i_price_denom, invoice) VALUES ('60000000000000000000000000000006', '2026-01-20 10:59:00', 'Consulting', 'Hours', 1000, 100, 'a0000000000000000000000000000005', 25000, 100, '60000000000000000000000000000004');
+INSERT INTO entries (guid, date, description, action, quantity_num, quantity_denom, b_acct, b_price_num, b_price_denom, bill) VALUES ('60000000000000000000000000000007', '2026-02-01 10:59:00', 'Seeds', '', 300, 100, 'a0000000000000000000000000000004', 1250, 100, '60000000000000000000000000000005');
@@ -2,14 +2,23 @@ package com.druvu.acc.gnucash.api;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.service.IntegrityReport;
+import com.druvu.acc.api.service.IntegrityService;
+import com.druvu.acc.gnucash.generated.GncV2;
+import com.druvu.acc.gnucash.impl.CompactAccStore;
 import com.druvu.acc.gnucash.impl.GnucashAccStore;
+import com.druvu.acc.gnucash.impl.LoadPhases;
 import com.druvu.acc.gnucash.reader.GnucashFileReader;
-import com.druvu.lib.loader.ComponentFactory;
+import com.druvu.acc.loader.AccStoreFactory;
+import com.druvu.acc.loader.BookFormat;
 import com.druvu.lib.loader.Dependencies;
 
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -20,35 +29,84 @@ import lombok.extern.slf4j.Slf4j;
  * Expected dependencies:
  * <ul>
  *   <li>{@code java.nio.file.Path} - path to the file to load</li>
+ *   <li>{@link LoadMode} - optional, overrides the mode of this factory</li>
  * </ul>
+ * SQLite books are rejected, they are loaded by the SQLite module.
+ * The mode of a factory created by ServiceLoader is taken from the {@value LoadMode#PROPERTY} system property.
+ * Setting the {@value #VALIDATE_PROPERTY} system property to {@code true} checks each loaded book with
+ * {@link IntegrityService} and logs the issues found.
  *
  * @author Deniss Larka
  *         <br/>on 10 Jan 2026
  */
 @Slf4j
-public class GnucashBookFactory implements ComponentFactory<AccStore> {
+public class GnucashBookFactory implements AccStoreFactory {
 
-	private final GnucashFileReader reader = new GnucashFileReader();
+	public static final String VALIDATE_PROPERTY = "druvu.acc.gnucash.validate";
+
+	private static final GnucashFileReader READER = new GnucashFileReader();
+	private static final int LOGGED_ISSUES = 20;
+
+	private final LoadMode mode;
+
+	public GnucashBookFactory() {
+		this(LoadMode.fromSystemProperty());
+	}
+
+	public GnucashBookFactory(@NonNull LoadMode mode) {
+		this.mode = mode;
+	}
 
 	@Override
 	public AccStore createComponent(Dependencies dependencies) {
 		var pathOpt = dependencies.getOptionalDependency(Path.class);
 		if (pathOpt.isPresent()) {
 			Path path = pathOpt.get();
-			log.info("Loading GnuCash file from path: {}", path);
+			LoadMode effectiveMode = dependencies.getOptionalDependency(LoadMode.class).orElse(mode);
+			log.info("Loading GnuCash file from path: {} ({})", path, effectiveMode);
+			String book = String.valueOf(path.getFileName());
+			LoadPhases phases = new LoadPhases();
 			try {
-				return new GnucashAccStore(reader.read(path));
+				if (BookFormat.of(path) != BookFormat.XML) {
+					throw new IllegalArgumentException("Not a GnuCash XML file: " + path);
+				}
+				GncV2 root = READER.read(path, phases);
+				AccStore store = switch (effectiveMode) {
+					case READ_WRITE -> new GnucashAccStore(root);
+					case READ_ONLY -> CompactAccStore.of(root, phases);
+				};
+				phases.completed(book, effectiveMode.name(), Files.size(path), store.footprint());
+				log.info("Loaded GnuCash file {} in {} ms", path, TimeUnit.NANOSECONDS.toMillis(phases.elapsedNanos()));
+				if (Boolean.getBoolean(VALIDATE_PROPERTY)) {
+					validate(path, store);
+				}
+				return store;
 			}
 			catch (IOException e) {
+				phases.failed(book);
 				throw new UncheckedIOException("Failed to read GnuCash file: " + path, e);
 			}
+			catch (RuntimeException e) {
+				phases.failed(book);
+				throw e;
+			}
 		}
 
 		throw new IllegalArgumentException("Dependencies must contain java.nio.file.Path");
 	}
 
 	@Override
-	public Class<AccStore> getComponentType() {
-		return AccStore.class;
+	public BookFormat format() {
+		return BookFormat.XML;
+	}
+
+	private static void validate(Path path, AccStore store) {
+		IntegrityReport report = IntegrityService.create(store).validate();
+		if (report.valid()) {
+			log.info("Validated GnuCash file {}: {}", path, report);
+			return;
+		}
+		log.warn("GnuCash file {} has integrity issues: {}", path, report);
+		report.issues().stream().limit(LOGGED_ISSUES).forEach(issue -> log.warn("  {}", issue));
 	}
 }
@@ -0,0 +1,37 @@
+package com.druvu.acc.gnucash.api;
+
+import java.util.Locale;
+
+/**
+ * How a GnuCash book is kept in memory after loading.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public enum LoadMode {
+	/**
+	 * Keep the parsed XML model, entities are mapped from it on demand.
+	 */
+	READ_WRITE,
+
+	/**
+	 * Convert the book once into compact immutable structures and drop the parsed XML model.
+	 * <p>
+	 * Uses considerably less heap, intended for read-only replicas and reporting. Transaction and split slots
+	 * are not kept.
+	 */
+	READ_ONLY;
+
+	/**
+	 * System property selecting the mode of books loaded through the ServiceLoader.
+	 */
+	public static final String PROPERTY = "druvu.acc.gnucash.loadMode";
+
+	/**
+	 * @return the mode configured by {@link #PROPERTY}, {@link #READ_WRITE} if not set
+	 */
+	public static LoadMode fromSystemProperty() {
+		String value = System.getProperty(PROPERTY);
+		return value == null || value.isBlank() ? READ_WRITE : valueOf(value.trim().toUpperCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,54 @@
+package com.druvu.acc.gnucash.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for loading a GnuCash book, with the time spent in each phase.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Name("com.druvu.acc.gnucash.BookLoad")
+@Label("GnuCash Book Load")
+@Category({"Druvu", "Accounting"})
+@Description("Loading a GnuCash book into a store")
+@StackTrace(false)
+final class BookLoadEvent extends jdk.jfr.Event {
+
+	@Label("Book")
+	String book;
+
+	@Label("Load Mode")
+	String mode;
+
+	@Label("File Size")
+	@DataAmount
+	long fileSize;
+
+	@Label("Estimated Heap")
+	@DataAmount
+	long estimatedHeap;
+
+	@Label("Decompress Time")
+	@Description("Reading and decompressing the file")
+	@Timespan
+	long decompressTime;
+
+	@Label("Parse Time")
+	@Timespan
+	long parseTime;
+
+	@Label("Map Time")
+	@Timespan
+	long mapTime;
+
+	@Label("Index Time")
+	@Timespan
+	long indexTime;
+}
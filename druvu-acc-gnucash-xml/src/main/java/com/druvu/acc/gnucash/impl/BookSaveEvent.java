@@ -0,0 +1,39 @@
+package com.druvu.acc.gnucash.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for saving a GnuCash book.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Name("com.druvu.acc.gnucash.BookSave")
+@Label("GnuCash Book Save")
+@Category({"Druvu", "Accounting"})
+@Description("Writing a GnuCash book to a file")
+@StackTrace(false)
+final class BookSaveEvent extends jdk.jfr.Event {
+
+	@Label("Book")
+	String book;
+
+	@Label("File Size")
+	@DataAmount
+	long fileSize;
+
+	@Label("Compress Time")
+	@Description("Compressing and writing the file")
+	@Timespan
+	long compressTime;
+
+	@Label("Marshal Time")
+	@Timespan
+	long marshalTime;
+}
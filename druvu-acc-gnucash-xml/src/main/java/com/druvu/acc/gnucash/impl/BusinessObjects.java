@@ -0,0 +1,137 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.OwnerType;
+import com.druvu.acc.api.entity.Vendor;
+import com.druvu.acc.gnucash.generated.GncV2;
+import com.druvu.acc.gnucash.mapper.BusinessMapper;
+
+/**
+ * Mapped business objects of a book with hash indexes for owner, posting transaction and invoice lookups.
+ * <p>
+ * Invoices of a job are indexed under the job and under the customer or vendor owning it.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+final class BusinessObjects {
+
+	// Customer or Vendor record with owner and currency references
+	private static final long PARTY_BYTES = 160;
+	// Invoice record with its Optional values
+	private static final long INVOICE_BYTES = 280;
+	// InvoiceEntry record with its Optional values and amounts
+	private static final long ENTRY_BYTES = 320;
+	// HashMap entry with list value
+	private static final long INDEX_ENTRY_BYTES = 80;
+
+	static final BusinessObjects EMPTY = new BusinessObjects(List.of(), List.of(), List.of(), List.of(), List.of());
+
+	private final List<Customer> customers;
+	private final List<Vendor> vendors;
+	private final List<Job> jobs;
+	private final List<Invoice> invoices;
+	private final Map<String, List<Invoice>> invoicesByOwner;
+	private final Map<String, Invoice> invoicesByTransaction;
+	private final Map<String, List<InvoiceEntry>> entriesByInvoice;
+
+	private BusinessObjects(List<Customer> customers, List<Vendor> vendors, List<Job> jobs, List<Invoice> invoices, List<InvoiceEntry> entries) {
+		this.customers = customers;
+		this.vendors = vendors;
+		this.jobs = jobs;
+		this.invoices = invoices;
+
+		Map<String, String> jobOwners = HashMap.newHashMap(jobs.size());
+		jobs.forEach(job -> jobOwners.put(job.id(), job.owner().id()));
+		invoicesByOwner = new HashMap<>();
+		invoicesByTransaction = HashMap.newHashMap(invoices.size());
+		for (Invoice invoice : invoices) {
+			String ownerId = invoice.owner().id();
+			invoicesByOwner.computeIfAbsent(ownerId, _ -> new ArrayList<>()).add(invoice);
+			if (invoice.owner().type() == OwnerType.JOB && jobOwners.containsKey(ownerId)) {
+				invoicesByOwner.computeIfAbsent(jobOwners.get(ownerId), _ -> new ArrayList<>()).add(invoice);
+			}
+			invoice.postTransactionId().ifPresent(transactionId -> invoicesByTransaction.put(transactionId, invoice));
+		}
+		entriesByInvoice = new HashMap<>();
+		entries.forEach(entry -> entriesByInvoice.computeIfAbsent(entry.invoiceId(), _ -> new ArrayList<>()).add(entry));
+	}
+
+	/**
+	 * Maps and indexes the business objects among the book elements.
+	 *
+	 * @param bookElements elements of the book
+	 * @param interns      intern table of the store
+	 * @return the business objects, {@link #EMPTY} if the book has none
+	 */
+	static BusinessObjects of(List<Object> bookElements, InternTable interns) {
+		List<Customer> customers = new ArrayList<>();
+		List<Vendor> vendors = new ArrayList<>();
+		List<Job> jobs = new ArrayList<>();
+		List<Invoice> invoices = new ArrayList<>();
+		List<InvoiceEntry> entries = new ArrayList<>();
+		for (Object element : bookElements) {
+			switch (element) {
+				case GncV2.GncBook.GncGncCustomer customer -> customers.add(BusinessMapper.map(customer, interns));
+				case GncV2.GncBook.GncGncVendor vendor -> vendors.add(BusinessMapper.map(vendor, interns));
+				case GncV2.GncBook.GncGncJob job -> jobs.add(BusinessMapper.map(job, interns));
+				case GncV2.GncBook.GncGncInvoice invoice -> invoices.add(BusinessMapper.map(invoice, interns));
+				case GncV2.GncBook.GncGncEntry entry -> BusinessMapper.map(entry, interns).ifPresent(entries::add);
+				default -> {
+					// not a business object
+				}
+			}
+		}
+		if (customers.isEmpty() && vendors.isEmpty() && jobs.isEmpty() && invoices.isEmpty() && entries.isEmpty()) {
+			return EMPTY;
+		}
+		return new BusinessObjects(List.copyOf(customers), List.copyOf(vendors), List.copyOf(jobs), List.copyOf(invoices), entries);
+	}
+
+	List<Customer> customers() {
+		return customers;
+	}
+
+	List<Vendor> vendors() {
+		return vendors;
+	}
+
+	List<Job> jobs() {
+		return jobs;
+	}
+
+	List<Invoice> invoices() {
+		return invoices;
+	}
+
+	List<Invoice> invoicesForOwner(String ownerId) {
+		return List.copyOf(invoicesByOwner.getOrDefault(ownerId, List.of()));
+	}
+
+	Optional<Invoice> invoiceForTransaction(String transactionId) {
+		return Optional.ofNullable(invoicesByTransaction.get(transactionId));
+	}
+
+	List<InvoiceEntry> entriesForInvoice(String invoiceId) {
+		return List.copyOf(entriesByInvoice.getOrDefault(invoiceId, List.of()));
+	}
+
+	/**
+	 * @return estimated retained heap in bytes
+	 */
+	long footprint() {
+		long entries = entriesByInvoice.values().stream().mapToLong(List::size).sum();
+		return (customers.size() + vendors.size() + jobs.size()) * PARTY_BYTES
+				+ invoices.size() * (INVOICE_BYTES + 2 * INDEX_ENTRY_BYTES)
+				+ entries * ENTRY_BYTES + entriesByInvoice.size() * INDEX_ENTRY_BYTES;
+	}
+}
@@ -0,0 +1,970 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.AccountPaths;
+import com.druvu.acc.api.AccountTree;
+import com.druvu.acc.api.AccessPath;
+import com.druvu.acc.api.QueryPlan;
+import com.druvu.acc.api.SplitFilter;
+import com.druvu.acc.api.StoreFootprint;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Lot;
+import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.ScheduledTransaction;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.entity.Vendor;
+import com.druvu.acc.gnucash.generated.GncAccount;
+import com.druvu.acc.gnucash.generated.GncBudget;
+import com.druvu.acc.gnucash.generated.GncPricedb;
+import com.druvu.acc.gnucash.generated.GncTransaction;
+import com.druvu.acc.gnucash.generated.GncV2;
+import com.druvu.acc.gnucash.mapper.AccountMapper;
+import com.druvu.acc.gnucash.mapper.BudgetMapper;
+import com.druvu.acc.gnucash.mapper.LotMapper;
+import com.druvu.acc.gnucash.mapper.PriceMapper;
+import com.druvu.acc.gnucash.mapper.ScheduledTransactionMapper;
+import com.druvu.acc.gnucash.mapper.TransactionMapper;
+
+import lombok.NonNull;
+
+/**
+ * Read-only GnuCash implementation of AccStore backed by compact immutable structures.
+ * <p>
+ * The book is converted once from the JAXB {@link GncV2} graph, which is not retained. Transactions and
+ * splits are stored column-wise in primitive arrays (dates as epoch days, amounts as scaled longs,
+ * references as ordinals, GUIDs as two longs), so every account ID and commodity exists once regardless
+ * of how many splits refer to it. Entities are materialized on each call.
+ * <p>
+ * Scheduled transactions, budgets and business objects are kept as mapped entities, template transactions are
+ * not exposed otherwise. Account slots stay available as lazy views over their slot elements, transaction and
+ * split slots are not kept.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class CompactAccStore implements AccStore {
+
+	private static final int NO_DATE = Integer.MIN_VALUE;
+	private static final long NO_TIME = Long.MIN_VALUE;
+	private static final int NO_FRACTION = 0;
+	private static final int NO_ACCOUNT = -1;
+	private static final int NO_LOT = -1;
+	private static final ReconcileState[] RECONCILE_STATES = ReconcileState.values();
+
+	// per-element overhead of a HashMap entry with boxed Integer value
+	private static final long MAP_ENTRY_BYTES = 56;
+	// String header, array header and reference, for Latin-1 content
+	private static final long STRING_BYTES = 48;
+	// Lot record with two Optional values
+	private static final long LOT_BYTES = 64;
+
+	private final String id;
+	private final List<CommodityId> commodities;
+	private final Map<CommodityId, Integer> commodityFractions;
+	private final List<Price> prices;
+	private final List<ScheduledTransaction> scheduledTransactions;
+	private final List<Budget> budgets;
+	private final BusinessObjects business;
+
+	// accounts
+	private final Account[] accounts;
+	private final Map<String, Integer> accountOrdinals;
+	private final int[][] childOrdinals;
+	private final int[] rootOrdinals;
+	private final int[] accountFractions;
+	private final AccountPaths paths;
+	// accounts in preorder and the preorder number per account ordinal
+	private final AccountTree tree;
+	private final int[] preorderAccounts;
+	private final int[] accountNumbers;
+
+	// lots, grouped by account
+	private final Lot[] lots;
+	private final Map<String, Integer> lotOrdinals;
+	private final int[][] accountLots;
+
+	// transactions, sorted by date posted
+	private final GuidColumn txIds;
+	private final int[] txDates;
+	// date entered as UTC epoch seconds
+	private final long[] txEntered;
+	private final CommodityId[] txCurrencies;
+	private final String[] txNumbers;
+	private final String[] txDescriptions;
+	private final int[] txFirstSplit;
+
+	// splits, grouped by transaction
+	private final GuidColumn splitIds;
+	private final int[] splitTx;
+	private final int[] splitAccounts;
+	private final byte[] splitStates;
+	private final int[] splitReconcileDates;
+	private final DecimalColumn splitValues;
+	private final DecimalColumn splitQuantities;
+	private final String[] splitMemos;
+	private final int[] splitLots;
+	// account and lot IDs of splits referring to accounts or lots missing from the book
+	private final Map<Integer, String> danglingAccountIds;
+	private final Map<Integer, String> danglingLotIds;
+
+	// split ordinals per account ordinal, in date order
+	private final int[][] accountSplits;
+	// split ordinals per lot ordinal, in date order
+	private final int[][] lotSplits;
+	// split ordinals per reconcile state ordinal, in date order
+	private final int[][] stateSplits;
+
+	private CompactAccStore(Builder builder) {
+		this.id = builder.id;
+		this.commodities = builder.commodities;
+		this.commodityFractions = builder.commodityFractions;
+		this.prices = builder.prices;
+		this.scheduledTransactions = builder.scheduledTransactions;
+		this.budgets = builder.budgets;
+		this.business = builder.business;
+		this.accounts = builder.accounts;
+		this.accountOrdinals = builder.accountOrdinals;
+		this.childOrdinals = builder.childOrdinals;
+		this.rootOrdinals = builder.rootOrdinals;
+		this.accountFractions = builder.accountFractions;
+		this.paths = AccountPaths.of(List.of(builder.accounts));
+		this.tree = AccountTree.of(List.of(builder.accounts));
+		this.preorderAccounts = new int[builder.accounts.length];
+		this.accountNumbers = new int[builder.accounts.length];
+		for (int ordinal = 0; ordinal < builder.accounts.length; ordinal++) {
+			int number = tree.enter(builder.accounts[ordinal].id());
+			accountNumbers[ordinal] = number;
+			if (number >= 0) {
+				preorderAccounts[number] = ordinal;
+			}
+		}
+		this.lots = builder.lots;
+		this.lotOrdinals = builder.lotOrdinals;
+		this.accountLots = builder.accountLots;
+		this.txIds = builder.txIds;
+		this.txDates = builder.txDates;
+		this.txEntered = builder.txEntered;
+		this.txCurrencies = builder.txCurrencies;
+		this.txNumbers = builder.txNumbers;
+		this.txDescriptions = builder.txDescriptions;
+		this.txFirstSplit = builder.txFirstSplit;
+		this.splitIds = builder.splitIds;
+		this.splitTx = builder.splitTx;
+		this.splitAccounts = builder.splitAccounts;
+		this.splitStates = builder.splitStates;
+		this.splitReconcileDates = builder.splitReconcileDates;
+		this.splitValues = builder.splitValues;
+		this.splitQuantities = builder.splitQuantities;
+		this.splitMemos = builder.splitMemos;
+		this.splitLots = builder.splitLots;
+		this.danglingAccountIds = builder.danglingAccountIds;
+		this.danglingLotIds = builder.danglingLotIds;
+		this.accountSplits = builder.accountSplits;
+		this.lotSplits = builder.lotSplits;
+		this.stateSplits = builder.stateSplits;
+	}
+
+	/**
+	 * Converts a parsed book into a compact store. The given graph is not referenced afterwards.
+	 *
+	 * @param root the parsed book
+	 * @return the compact store
+	 */
+	public static CompactAccStore of(@NonNull GncV2 root) {
+		return of(root, new LoadPhases());
+	}
+
+	/**
+	 * Converts a parsed book into a compact store, recording the map and index times.
+	 *
+	 * @param root   the parsed book
+	 * @param phases receives the phase timings
+	 * @return the compact store
+	 */
+	public static CompactAccStore of(@NonNull GncV2 root, @NonNull LoadPhases phases) {
+		Builder builder = new Builder(root);
+		phases.mapped(builder.mapNanos);
+		phases.indexed(builder.indexNanos);
+		return new CompactAccStore(builder);
+	}
+
+	// ========== AccStore Interface ==========
+
+	@Override
+	public String id() {
+		return id;
+	}
+
+	@Override
+	public StoreFootprint footprint() {
+		long accountBytes = accounts.length * Footprints.RECORD_ACCOUNT_BYTES;
+		long transactionBytes = txDates.length * (2L * Integer.BYTES + Long.BYTES + 3L * 8) + txIds.footprint()
+				+ Arrays.stream(txDescriptions).mapToLong(CompactAccStore::stringBytes).sum()
+				+ Arrays.stream(txNumbers).mapToLong(CompactAccStore::stringBytes).sum();
+		long splitBytes = splitTx.length * (4L * Integer.BYTES + 4L + Byte.BYTES)
+				+ splitIds.footprint() + splitValues.footprint() + splitQuantities.footprint()
+				+ Arrays.stream(splitMemos).mapToLong(CompactAccStore::stringBytes).sum();
+		long priceBytes = prices.size() * Footprints.RECORD_PRICE_BYTES;
+		long indexBytes = accountOrdinals.size() * MAP_ENTRY_BYTES
+				+ splitTx.length * 2L * Integer.BYTES + accounts.length * 2L * 16 + stateSplits.length * 16L
+				+ lotOrdinals.size() * MAP_ENTRY_BYTES + lots.length * 16L;
+		long otherBytes = commodities.size() * 64L + commodityFractions.size() * MAP_ENTRY_BYTES + accountFractions.length * (long) Integer.BYTES + lots.length * LOT_BYTES + business.footprint();
+		return new StoreFootprint(accountBytes, transactionBytes, splitBytes, priceBytes, indexBytes, otherBytes);
+	}
+
+	@Override
+	public List<CommodityId> commodities() {
+		return commodities;
+	}
+
+	@Override
+	public Optional<Integer> commodityFraction(CommodityId commodity) {
+		return Optional.ofNullable(commodityFractions.get(commodity));
+	}
+
+	@Override
+	public List<Price> prices() {
+		return prices;
+	}
+
+	@Override
+	public List<Account> accounts() {
+		return List.of(accounts);
+	}
+
+	@Override
+	public List<Account> rootAccounts() {
+		return accountsOf(rootOrdinals);
+	}
+
+	@Override
+	public Optional<Account> accountById(String id) {
+		Integer ordinal = accountOrdinals.get(id);
+		return ordinal == null ? Optional.empty() : Optional.of(accounts[ordinal]);
+	}
+
+	@Override
+	public Optional<Account> accountByName(String qualifiedName) {
+		return paths.resolve(qualifiedName);
+	}
+
+	@Override
+	public Optional<Integer> accountFraction(String accountId) {
+		Integer ordinal = accountOrdinals.get(accountId);
+		return ordinal == null || accountFractions[ordinal] == NO_FRACTION ? Optional.empty() : Optional.of(accountFractions[ordinal]);
+	}
+
+	@Override
+	public Optional<String> qualifiedName(String accountId) {
+		return paths.qualifiedName(accountId);
+	}
+
+	@Override
+	public AccountTree accountTree() {
+		return tree;
+	}
+
+	@Override
+	public List<String> fetchChildIds(String accountId) {
+		Integer ordinal = accountOrdinals.get(accountId);
+		if (ordinal == null) {
+			return List.of();
+		}
+		return accountsOf(childOrdinals[ordinal]).stream().map(Account::id).toList();
+	}
+
+	@Override
+	public List<Transaction> transactions() {
+		return transactionsBetween(0, txDates.length);
+	}
+
+	@Override
+	public Optional<Transaction> transactionById(String id) {
+		int ordinal = txIds.indexOf(id);
+		return ordinal < 0 ? Optional.empty() : Optional.of(transaction(ordinal));
+	}
+
+	@Override
+	public Optional<LocalDateTime> dateEntered(String transactionId) {
+		int ordinal = txIds.indexOf(transactionId);
+		return ordinal < 0 || txEntered[ordinal] == NO_TIME ? Optional.empty()
+				: Optional.of(LocalDateTime.ofEpochSecond(txEntered[ordinal], 0, ZoneOffset.UTC));
+	}
+
+	@Override
+	public List<Transaction> transactions(LocalDate from, LocalDate to) {
+		int start = firstOnOrAfter(epochDay(from));
+		int end = firstOnOrAfter(epochDay(to) + 1);
+		return transactionsBetween(start, Math.max(start, end));
+	}
+
+	/**
+	 * Materializes each transaction of the range only when the stream reaches it.
+	 */
+	@Override
+	public Stream<Transaction> streamTransactions(LocalDate from, LocalDate to) {
+		int start = firstOnOrAfter(epochDay(from));
+		int end = firstOnOrAfter(epochDay(to) + 1);
+		return IntStream.range(start, Math.max(start, end)).mapToObj(this::transaction);
+	}
+
+	@Override
+	public List<Transaction> transactionsForAccount(String accountId) {
+		Integer ordinal = accountOrdinals.get(accountId);
+		if (ordinal == null) {
+			return List.of();
+		}
+		List<Transaction> result = new ArrayList<>();
+		int last = -1;
+		for (int split : accountSplits[ordinal]) {
+			int tx = splitTx[split];
+			if (tx != last) {
+				result.add(transaction(tx));
+				last = tx;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public List<Split> splitsForAccount(String accountId) {
+		Integer ordinal = accountOrdinals.get(accountId);
+		if (ordinal == null) {
+			return List.of();
+		}
+		return splitsOf(accountSplits[ordinal]);
+	}
+
+	/**
+	 * Chooses like {@link #plan(SplitFilter)} between the splits of the date range and the account index of the
+	 * subtree accounts. The date range is scanned with a test of each split's account number against the preorder
+	 * interval of the subtree; the index entries of the subtree accounts are consecutive in preorder.
+	 */
+	@Override
+	public List<Split> splitsForSubtree(String accountId, LocalDate from, LocalDate to) {
+		int enter = tree.enter(accountId);
+		if (enter < 0) {
+			return List.of();
+		}
+		int exit = tree.exit(accountId);
+		int start = from == null ? 0 : txFirstSplit[firstOnOrAfter(epochDay(from))];
+		int end = to == null ? splitTx.length : txFirstSplit[firstOnOrAfter(epochDay(to) + 1)];
+		List<int[]> index = new ArrayList<>(exit - enter);
+		for (int number = enter; number < exit; number++) {
+			index.add(accountSplits[preorderAccounts[number]]);
+		}
+
+		List<Split> result = new ArrayList<>();
+		if (count(index, start, end) < end - start) {
+			int[] ordinals = index.stream()
+					.flatMapToInt(splits -> Arrays.stream(splits, lowerBound(splits, start), lowerBound(splits, end)))
+					.toArray();
+			if (index.size() > 1) {
+				Arrays.sort(ordinals);
+			}
+			for (int split : ordinals) {
+				result.add(split(split));
+			}
+			return result;
+		}
+		for (int split = start; split < end; split++) {
+			int account = splitAccounts[split];
+			if (account != NO_ACCOUNT && accountNumbers[account] >= enter && accountNumbers[account] < exit) {
+				result.add(split(split));
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public List<Split> splitsForLot(String lotId) {
+		Integer ordinal = lotOrdinals.get(lotId);
+		return ordinal == null ? List.of() : splitsOf(lotSplits[ordinal]);
+	}
+
+	@Override
+	public List<Lot> lots() {
+		return List.of(lots);
+	}
+
+	@Override
+	public List<Lot> lotsForAccount(String accountId) {
+		Integer ordinal = accountOrdinals.get(accountId);
+		if (ordinal == null) {
+			return List.of();
+		}
+		List<Lot> result = new ArrayList<>(accountLots[ordinal].length);
+		for (int lot : accountLots[ordinal]) {
+			result.add(lots[lot]);
+		}
+		return result;
+	}
+
+	@Override
+	public List<ScheduledTransaction> scheduledTransactions() {
+		return scheduledTransactions;
+	}
+
+	@Override
+	public List<Budget> budgets() {
+		return budgets;
+	}
+
+	@Override
+	public List<Customer> customers() {
+		return business.customers();
+	}
+
+	@Override
+	public List<Vendor> vendors() {
+		return business.vendors();
+	}
+
+	@Override
+	public List<Job> jobs() {
+		return business.jobs();
+	}
+
+	@Override
+	public List<Invoice> invoices() {
+		return business.invoices();
+	}
+
+	@Override
+	public List<Invoice> invoicesForOwner(String ownerId) {
+		return business.invoicesForOwner(ownerId);
+	}
+
+	@Override
+	public Optional<Invoice> invoiceForTransaction(String transactionId) {
+		return business.invoiceForTransaction(transactionId);
+	}
+
+	@Override
+	public List<InvoiceEntry> entriesForInvoice(String invoiceId) {
+		return business.entriesForInvoice(invoiceId);
+	}
+
+	// ========== Query Planning ==========
+
+	/**
+	 * Plans against the date order of the split columns and the account and reconcile state indexes.
+	 * <p>
+	 * A date range maps to a contiguous range of split ordinals. The account and reconcile state indexes hold
+	 * the ascending split ordinals per account and state, so their exact number of candidates within the date
+	 * range is found by binary search. The path with the fewest candidates is chosen, and the other predicates
+	 * are checked on the columns before a split is materialized.
+	 */
+	@Override
+	public QueryPlan plan(@NonNull SplitFilter filter) {
+		int start = filter.from() == null ? 0 : txFirstSplit[firstOnOrAfter(epochDay(filter.from()))];
+		int end = filter.to() == null ? splitTx.length : txFirstSplit[firstOnOrAfter(epochDay(filter.to()) + 1)];
+		boolean dated = filter.from() != null || filter.to() != null;
+
+		List<AccessPath> considered = new ArrayList<>();
+		AccessPath access = new AccessPath(dated ? "date range" : "full scan", end - start);
+		considered.add(access);
+		List<int[]> candidates = null;
+		List<int[]> accountIndex = accountIndex(filter);
+		if (accountIndex != null) {
+			AccessPath path = new AccessPath("account index", count(accountIndex, start, end));
+			considered.add(path);
+			if (path.estimatedRows() < access.estimatedRows()) {
+				access = path;
+				candidates = accountIndex;
+			}
+		}
+		if (!filter.reconcileStates().isEmpty()) {
+			List<int[]> stateIndex = filter.reconcileStates().stream().map(state -> stateSplits[state.ordinal()]).toList();
+			AccessPath path = new AccessPath("reconcile state index", count(stateIndex, start, end));
+			considered.add(path);
+			if (path.estimatedRows() < access.estimatedRows()) {
+				access = path;
+				candidates = stateIndex;
+			}
+		}
+		List<int[]> chosen = candidates;
+		return new QueryPlan(filter, access, considered, () -> execute(filter, chosen, start, end));
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * @return split ordinals of the filtered accounts, including splits of unknown accounts, or null without account predicate
+	 */
+	private List<int[]> accountIndex(SplitFilter filter) {
+		if (filter.accountIds().isEmpty()) {
+			return null;
+		}
+		List<int[]> index = new ArrayList<>();
+		for (String accountId : filter.accountIds()) {
+			Integer ordinal = accountOrdinals.get(accountId);
+			if (ordinal != null) {
+				index.add(accountSplits[ordinal]);
+			}
+		}
+		int[] dangling = danglingAccountIds.entrySet().stream()
+				.filter(entry -> filter.accountIds().contains(entry.getValue()))
+				.mapToInt(Map.Entry::getKey)
+				.sorted()
+				.toArray();
+		if (dangling.length > 0) {
+			index.add(dangling);
+		}
+		return index;
+	}
+
+	private List<Split> execute(SplitFilter filter, List<int[]> candidates, int start, int end) {
+		boolean[] accountMask = null;
+		if (!filter.accountIds().isEmpty()) {
+			accountMask = new boolean[accounts.length];
+			for (String accountId : filter.accountIds()) {
+				Integer ordinal = accountOrdinals.get(accountId);
+				if (ordinal != null) {
+					accountMask[ordinal] = true;
+				}
+			}
+		}
+		int stateMask = 0;
+		for (ReconcileState state : filter.reconcileStates()) {
+			stateMask |= 1 << state.ordinal();
+		}
+
+		List<Split> result = new ArrayList<>();
+		if (candidates == null) {
+			for (int split = start; split < end; split++) {
+				if (accepts(split, filter, accountMask, stateMask)) {
+					result.add(split(split));
+				}
+			}
+			return result;
+		}
+		int[] ordinals = candidates.stream()
+				.flatMapToInt(index -> Arrays.stream(index, lowerBound(index, start), lowerBound(index, end)))
+				.toArray();
+		if (candidates.size() > 1) {
+			Arrays.sort(ordinals);
+		}
+		for (int split : ordinals) {
+			if (accepts(split, filter, accountMask, stateMask)) {
+				result.add(split(split));
+			}
+		}
+		return result;
+	}
+
+	private boolean accepts(int split, SplitFilter filter, boolean[] accountMask, int stateMask) {
+		if (accountMask != null) {
+			int account = splitAccounts[split];
+			boolean matches = account == NO_ACCOUNT
+					? filter.accountIds().contains(danglingAccountIds.get(split))
+					: accountMask[account];
+			if (!matches) {
+				return false;
+			}
+		}
+		if (stateMask != 0 && (stateMask & 1 << splitStates[split]) == 0) {
+			return false;
+		}
+		return filter.amountAbove() == null || splitValues.get(split).abs().compareTo(filter.amountAbove()) > 0;
+	}
+
+	private static long count(List<int[]> index, int start, int end) {
+		long count = 0;
+		for (int[] ordinals : index) {
+			count += lowerBound(ordinals, end) - lowerBound(ordinals, start);
+		}
+		return count;
+	}
+
+	/**
+	 * @return position of the first ordinal not below the given one
+	 */
+	private static int lowerBound(int[] ordinals, int ordinal) {
+		int position = Arrays.binarySearch(ordinals, ordinal);
+		return position < 0 ? -position - 1 : position;
+	}
+
+	private static int epochDay(LocalDate date) {
+		return Math.clamp(date.toEpochDay(), Integer.MIN_VALUE + 1, Integer.MAX_VALUE - 1);
+	}
+
+	private List<Account> accountsOf(int[] ordinals) {
+		List<Account> result = new ArrayList<>(ordinals.length);
+		for (int ordinal : ordinals) {
+			result.add(accounts[ordinal]);
+		}
+		return result;
+	}
+
+	private List<Split> splitsOf(int[] ordinals) {
+		List<Split> result = new ArrayList<>(ordinals.length);
+		for (int split : ordinals) {
+			result.add(split(split));
+		}
+		return result;
+	}
+
+	private List<Transaction> transactionsBetween(int start, int end) {
+		List<Transaction> result = new ArrayList<>(end - start);
+		for (int i = start; i < end; i++) {
+			result.add(transaction(i));
+		}
+		return result;
+	}
+
+	private int firstOnOrAfter(int epochDay) {
+		int low = 0;
+		int high = txDates.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (txDates[mid] < epochDay) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private Transaction transaction(int tx) {
+		int first = txFirstSplit[tx];
+		int last = txFirstSplit[tx + 1];
+		Split[] splits = new Split[last - first];
+		for (int split = first; split < last; split++) {
+			splits[split - first] = split(split);
+		}
+		return new Transaction(
+				txIds.get(tx),
+				txCurrencies[tx],
+				Optional.ofNullable(txNumbers[tx]),
+				LocalDate.ofEpochDay(txDates[tx]),
+				txDescriptions[tx],
+				List.of(splits),
+				Slots.empty()
+		);
+	}
+
+	private Split split(int split) {
+		int tx = splitTx[split];
+		int account = splitAccounts[split];
+		int reconcileDate = splitReconcileDates[split];
+		int lot = splitLots[split];
+		return new Split(
+				splitIds.get(split),
+				txIds.get(tx),
+				account == NO_ACCOUNT ? danglingAccountIds.get(split) : accounts[account].id(),
+				LocalDate.ofEpochDay(txDates[tx]),
+				RECONCILE_STATES[splitStates[split]],
+				reconcileDate == NO_DATE ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(reconcileDate)),
+				splitValues.get(split),
+				splitQuantities.get(split),
+				Optional.ofNullable(splitMemos[split]),
+				lot == NO_LOT ? Optional.ofNullable(danglingLotIds.get(split)) : Optional.of(lots[lot].id()),
+				Slots.empty()
+		);
+	}
+
+	private static long stringBytes(String value) {
+		return value == null ? 0 : STRING_BYTES + value.length();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("CompactAccStore[accounts=%d, transactions=%d]", accounts.length, txDates.length);
+	}
+
+	/**
+	 * One-shot conversion of the JAXB graph into the column layout.
+	 */
+	private static final class Builder {
+
+		private final InternTable interns = new InternTable();
+
+		private String id;
+		private List<CommodityId> commodities;
+		private Map<CommodityId, Integer> commodityFractions;
+		private List<Price> prices;
+		private List<ScheduledTransaction> scheduledTransactions;
+		private List<Budget> budgets;
+		private BusinessObjects business;
+
+		private Account[] accounts;
+		private Map<String, Integer> accountOrdinals;
+		private int[][] childOrdinals;
+		private int[] rootOrdinals;
+		private int[] accountFractions;
+
+		private Lot[] lots;
+		private Map<String, Integer> lotOrdinals;
+		private int[][] accountLots;
+
+		private GuidColumn txIds;
+		private int[] txDates;
+		private long[] txEntered;
+		private CommodityId[] txCurrencies;
+		private String[] txNumbers;
+		private String[] txDescriptions;
+		private int[] txFirstSplit;
+
+		private GuidColumn splitIds;
+		private int[] splitTx;
+		private int[] splitAccounts;
+		private byte[] splitStates;
+		private int[] splitReconcileDates;
+		private DecimalColumn splitValues;
+		private DecimalColumn splitQuantities;
+		private String[] splitMemos;
+		private int[] splitLots;
+		private final Map<Integer, String> danglingAccountIds = new HashMap<>();
+		private final Map<Integer, String> danglingLotIds = new HashMap<>();
+		private int[][] accountSplits;
+		private int[][] lotSplits;
+		private int[][] stateSplits;
+
+		// time spent mapping JAXB elements to entities, and building columns and indexes from them
+		private long mapNanos;
+		private long indexNanos;
+
+		Builder(GncV2 root) {
+			long start = System.nanoTime();
+			GncV2.GncBook book = root.getGncBook();
+			id = book.getBookId().getValue();
+
+			List<GncV2.GncBook.GncCommodity> gncCommodities = new ArrayList<>();
+			List<GncAccount> gncAccounts = new ArrayList<>();
+			List<GncTransaction> gncTransactions = new ArrayList<>();
+			List<Price> priceList = new ArrayList<>();
+			List<GncV2.GncBook.GncSchedxaction> gncSchedules = new ArrayList<>();
+			List<Budget> budgetList = new ArrayList<>();
+			for (Object element : book.getBookElements()) {
+				switch (element) {
+					case GncV2.GncBook.GncCommodity commodity -> gncCommodities.add(commodity);
+					case GncAccount account -> gncAccounts.add(account);
+					case GncTransaction transaction -> gncTransactions.add(transaction);
+					case GncV2.GncBook.GncSchedxaction schedule -> gncSchedules.add(schedule);
+					case GncBudget budget -> budgetList.add(BudgetMapper.map(budget, interns));
+					case GncPricedb pricedb -> {
+						if (pricedb.getPrice() != null) {
+							pricedb.getPrice().forEach(price -> priceList.add(PriceMapper.map(price, interns)));
+						}
+					}
+					default -> {
+						// not kept in read-only mode
+					}
+				}
+			}
+
+			commodities = gncCommodities.stream()
+					.map(c -> interns.commodity(c.getCmdtySpace(), c.getCmdtyId()))
+					.toList();
+			commodityFractions = new HashMap<>();
+			for (GncV2.GncBook.GncCommodity commodity : gncCommodities) {
+				if (commodity.getCmdtyFraction() != null) {
+					commodityFractions.put(interns.commodity(commodity.getCmdtySpace(), commodity.getCmdtyId()), commodity.getCmdtyFraction());
+				}
+			}
+			prices = List.copyOf(priceList);
+			budgets = List.copyOf(budgetList);
+			business = BusinessObjects.of(book.getBookElements(), interns);
+			Map<String, List<GncTransaction>> templates = ScheduledTransactionMapper.templatesByAccount(book.getBookElements());
+			scheduledTransactions = gncSchedules.stream()
+					.map(schedule -> ScheduledTransactionMapper.map(schedule, templates, interns))
+					.toList();
+			buildAccounts(gncAccounts);
+			List<MappedTransaction> mapped = mapTransactions(gncTransactions);
+			long mappedAt = System.nanoTime();
+			mapNanos = mappedAt - start;
+			buildTransactions(mapped);
+			indexNanos = System.nanoTime() - mappedAt;
+		}
+
+		private void buildAccounts(List<GncAccount> gncAccounts) {
+			accounts = new Account[gncAccounts.size()];
+			accountOrdinals = HashMap.newHashMap(accounts.length);
+			accountFractions = new int[accounts.length];
+			for (int i = 0; i < accounts.length; i++) {
+				accounts[i] = AccountMapper.map(gncAccounts.get(i), interns);
+				accountOrdinals.put(accounts[i].id(), i);
+				Integer scu = gncAccounts.get(i).getActCommodityScu();
+				accountFractions[i] = scu == null ? NO_FRACTION : scu;
+			}
+
+			List<List<Integer>> children = new ArrayList<>(accounts.length);
+			List<Integer> roots = new ArrayList<>();
+			for (int i = 0; i < accounts.length; i++) {
+				children.add(new ArrayList<>());
+			}
+			for (int i = 0; i < accounts.length; i++) {
+				Integer parent = accounts[i].parentId().map(accountOrdinals::get).orElse(null);
+				if (accounts[i].parentId().isEmpty()) {
+					roots.add(i);
+				} else if (parent != null) {
+					children.get(parent).add(i);
+				}
+			}
+			childOrdinals = new int[accounts.length][];
+			for (int i = 0; i < accounts.length; i++) {
+				childOrdinals[i] = toArray(children.get(i));
+			}
+			rootOrdinals = toArray(roots);
+
+			List<Lot> lotList = new ArrayList<>();
+			lotOrdinals = new HashMap<>();
+			accountLots = new int[accounts.length][];
+			for (int i = 0; i < accounts.length; i++) {
+				var gncLots = gncAccounts.get(i).getActLots();
+				int first = lotList.size();
+				if (gncLots != null && gncLots.getGncLot() != null) {
+					for (var gncLot : gncLots.getGncLot()) {
+						Lot lot = LotMapper.map(gncLot, accounts[i].id(), interns);
+						lotOrdinals.put(lot.id(), lotList.size());
+						lotList.add(lot);
+					}
+				}
+				accountLots[i] = IntStream.range(first, lotList.size()).toArray();
+			}
+			lots = lotList.toArray(Lot[]::new);
+		}
+
+		private List<MappedTransaction> mapTransactions(List<GncTransaction> gncTransactions) {
+			List<MappedTransaction> mapped = new ArrayList<>(gncTransactions.size());
+			for (GncTransaction gncTransaction : gncTransactions) {
+				var dateEntered = gncTransaction.getTrnDateEntered();
+				LocalDateTime entered = dateEntered == null ? null : DateTimeUtils.parseTimestamp(dateEntered.getTsDate());
+				mapped.add(new MappedTransaction(TransactionMapper.map(gncTransaction, interns),
+						entered == null ? NO_TIME : entered.toEpochSecond(ZoneOffset.UTC)));
+			}
+			return mapped;
+		}
+
+		private void buildTransactions(List<MappedTransaction> mapped) {
+			int splitCount = mapped.stream().mapToInt(transaction -> transaction.transaction().splits().size()).sum();
+			mapped.sort(Comparator.comparing(MappedTransaction::transaction));
+
+			int count = mapped.size();
+			txIds = new GuidColumn(count);
+			txDates = new int[count];
+			txEntered = new long[count];
+			txCurrencies = new CommodityId[count];
+			txNumbers = new String[count];
+			txDescriptions = new String[count];
+			txFirstSplit = new int[count + 1];
+
+			splitIds = new GuidColumn(splitCount);
+			splitTx = new int[splitCount];
+			splitAccounts = new int[splitCount];
+			splitStates = new byte[splitCount];
+			splitReconcileDates = new int[splitCount];
+			splitValues = new DecimalColumn(splitCount);
+			splitQuantities = new DecimalColumn(splitCount);
+			splitMemos = new String[splitCount];
+			splitLots = new int[splitCount];
+			int[] splitsPerAccount = new int[accounts.length];
+			int[] splitsPerLot = new int[lots.length];
+
+			int split = 0;
+			for (int tx = 0; tx < count; tx++) {
+				Transaction transaction = mapped.get(tx).transaction();
+				txIds.set(tx, transaction.id());
+				txDates[tx] = (int) transaction.datePosted().toEpochDay();
+				txEntered[tx] = mapped.get(tx).entered();
+				txCurrencies[tx] = transaction.currency();
+				txNumbers[tx] = transaction.number().orElse(null);
+				txDescriptions[tx] = transaction.description();
+				txFirstSplit[tx] = split;
+
+				for (Split s : transaction.splits()) {
+					Integer account = accountOrdinals.get(s.accountId());
+					splitIds.set(split, s.id());
+					splitTx[split] = tx;
+					if (account != null) {
+						splitAccounts[split] = account;
+						splitsPerAccount[account]++;
+					} else {
+						splitAccounts[split] = NO_ACCOUNT;
+						danglingAccountIds.put(split, s.accountId());
+					}
+					splitStates[split] = (byte) s.reconcileState().ordinal();
+					splitReconcileDates[split] = s.reconcileDate().map(d -> (int) d.toEpochDay()).orElse(NO_DATE);
+					splitValues.set(split, s.value());
+					splitQuantities.set(split, s.quantity());
+					splitMemos[split] = s.memo().orElse(null);
+					Integer lot = s.lotId().map(lotOrdinals::get).orElse(null);
+					if (lot != null) {
+						splitLots[split] = lot;
+						splitsPerLot[lot]++;
+					} else {
+						splitLots[split] = NO_LOT;
+						if (s.lotId().isPresent()) {
+							danglingLotIds.put(split, s.lotId().get());
+						}
+					}
+					split++;
+				}
+			}
+			txFirstSplit[count] = split;
+			txIds.index();
+
+			accountSplits = group(splitAccounts, splitsPerAccount);
+			lotSplits = group(splitLots, splitsPerLot);
+			int[] states = new int[splitCount];
+			int[] splitsPerState = new int[RECONCILE_STATES.length];
+			for (int i = 0; i < splitCount; i++) {
+				states[i] = splitStates[i];
+				splitsPerState[states[i]]++;
+			}
+			stateSplits = group(states, splitsPerState);
+		}
+
+		/**
+		 * Inverts a split column into the split ordinals of each referenced ordinal, keeping split order.
+		 */
+		private static int[][] group(int[] column, int[] counts) {
+			int[][] groups = new int[counts.length][];
+			for (int i = 0; i < counts.length; i++) {
+				groups[i] = new int[counts[i]];
+			}
+			int[] fill = new int[counts.length];
+			for (int i = 0; i < column.length; i++) {
+				int target = column[i];
+				if (target >= 0) {
+					groups[target][fill[target]++] = i;
+				}
+			}
+			return groups;
+		}
+
+		private static int[] toArray(List<Integer> values) {
+			return values.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		/**
+		 * A mapped transaction with its date entered, which the entity does not carry.
+		 */
+		private record MappedTransaction(Transaction transaction, long entered) {
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.druvu.acc.gnucash.impl;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -50,6 +51,16 @@ public final class DateTimeUtils {
 		}
 	}
 
+	/**
+	 * Formats a timestamp as GnuCash writes it, in UTC.
+	 *
+	 * @param timestamp the timestamp
+	 * @return the timestamp string (e.g., "2024-01-15 10:30:00 +0000")
+	 */
+	public static String formatTimestamp(LocalDateTime timestamp) {
+		return timestamp.atOffset(ZoneOffset.UTC).format(TIMESTAMP_WITH_ZONE);
+	}
+
 	/**
 	 * Parses a GnuCash date string.
 	 *
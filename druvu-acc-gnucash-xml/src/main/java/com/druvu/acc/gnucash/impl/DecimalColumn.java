@@ -0,0 +1,67 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed-size column of decimals stored as unscaled {@code long} plus {@code byte} scale.
+ * <p>
+ * GnuCash amounts are fractions with small power-of-ten denominators, so nearly all of them fit
+ * into 9 bytes instead of a {@link BigDecimal} with its {@code BigInteger}. Values that do not fit
+ * are kept as {@link BigDecimal} in a side table.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class DecimalColumn {
+
+	/**
+	 * Approximate heap bytes per element, both arrays included.
+	 */
+	public static final long BYTES_PER_VALUE = Long.BYTES + Byte.BYTES;
+
+	private final long[] unscaled;
+	private final byte[] scales;
+	private final Map<Integer, BigDecimal> wide = new HashMap<>();
+
+	public DecimalColumn(int size) {
+		this.unscaled = new long[size];
+		this.scales = new byte[size];
+	}
+
+	/**
+	 * @return number of elements
+	 */
+	public int size() {
+		return unscaled.length;
+	}
+
+	public void set(int index, BigDecimal value) {
+		int scale = value.scale();
+		if (value.unscaledValue().bitLength() < Long.SIZE && scale >= Byte.MIN_VALUE && scale <= Byte.MAX_VALUE) {
+			unscaled[index] = value.unscaledValue().longValue();
+			scales[index] = (byte) scale;
+			wide.remove(index);
+		} else {
+			wide.put(index, value);
+		}
+	}
+
+	public BigDecimal get(int index) {
+		if (!wide.isEmpty()) {
+			BigDecimal value = wide.get(index);
+			if (value != null) {
+				return value;
+			}
+		}
+		return BigDecimal.valueOf(unscaled[index], scales[index]);
+	}
+
+	/**
+	 * @return approximate retained heap bytes
+	 */
+	public long footprint() {
+		return unscaled.length * BYTES_PER_VALUE + wide.size() * 120L;
+	}
+}
@@ -0,0 +1,113 @@
+package com.druvu.acc.gnucash.impl;
+
+import com.druvu.acc.api.StoreFootprint;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Per-structure heap size constants used to estimate store footprints.
+ * <p>
+ * Values are averages measured on typical books (64-bit JVM, compressed oops, compact strings)
+ * and include the strings, wrappers and slots hanging off each element.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@UtilityClass
+public final class Footprints {
+
+	/**
+	 * GncAccount with id, parent, commodity, slots and name/code/description strings.
+	 */
+	public static final long JAXB_ACCOUNT_BYTES = 1_100;
+
+	/**
+	 * GncTransaction with id, currency, dates, description, slots and split list, excluding splits.
+	 */
+	public static final long JAXB_TRANSACTION_BYTES = 1_300;
+
+	/**
+	 * TrnSplit with id, account reference, value/quantity strings and reconcile state.
+	 */
+	public static final long JAXB_SPLIT_BYTES = 560;
+
+	/**
+	 * Price with id, commodity, currency, time, source and value.
+	 */
+	public static final long JAXB_PRICE_BYTES = 650;
+
+	/**
+	 * GncCommodity with space, id and quote settings.
+	 */
+	public static final long JAXB_COMMODITY_BYTES = 300;
+
+	/**
+	 * Book root, count data and book slots.
+	 */
+	public static final long JAXB_BOOK_BYTES = 8_000;
+
+	/**
+	 * Account record with its optionals, shared commodity excluded.
+	 */
+	public static final long RECORD_ACCOUNT_BYTES = 400;
+
+	/**
+	 * Price record with time, value and optionals, shared commodities excluded.
+	 */
+	public static final long RECORD_PRICE_BYTES = 300;
+
+	/**
+	 * Lot record with its optionals and slots view, shared IDs excluded.
+	 */
+	public static final long RECORD_LOT_BYTES = 200;
+
+	/**
+	 * Split record with its date, amounts, optionals and slots view, IDs shared with the JAXB graph excluded.
+	 */
+	public static final long RECORD_SPLIT_BYTES = 320;
+
+	/**
+	 * Hash map entry with its table slot, key and value excluded.
+	 */
+	public static final long MAP_ENTRY_BYTES = 56;
+
+	/**
+	 * Qualified name and trie node of an account in the account paths.
+	 */
+	public static final long ACCOUNT_PATH_BYTES = 180;
+
+	/**
+	 * Preorder number, interval and child positions of an account in the account tree.
+	 */
+	public static final long ACCOUNT_TREE_BYTES = 80;
+
+	/**
+	 * Estimates the footprint of a store that retains the JAXB graph.
+	 *
+	 * @param counts  entity counts of the book
+	 * @param indexes bytes of the indexes the store holds
+	 * @return the estimated footprint
+	 */
+	public static StoreFootprint jaxb(BookCounts counts, long indexes) {
+		return new StoreFootprint(
+				counts.accounts() * JAXB_ACCOUNT_BYTES,
+				counts.transactions() * JAXB_TRANSACTION_BYTES,
+				counts.splits() * JAXB_SPLIT_BYTES,
+				counts.prices() * JAXB_PRICE_BYTES,
+				indexes,
+				JAXB_BOOK_BYTES + counts.commodities() * JAXB_COMMODITY_BYTES
+		);
+	}
+
+	/**
+	 * Entity counts of a book.
+	 *
+	 * @param accounts     number of accounts
+	 * @param transactions number of transactions
+	 * @param splits       number of splits
+	 * @param prices       number of price quotes
+	 * @param commodities  number of commodities
+	 */
+	public record BookCounts(long accounts, long transactions, long splits, long prices, long commodities) {
+	}
+}
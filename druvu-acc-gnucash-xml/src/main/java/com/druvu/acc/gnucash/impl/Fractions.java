@@ -1,6 +1,7 @@
 package com.druvu.acc.gnucash.impl;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
 
@@ -48,6 +49,17 @@ public final class Fractions {
 		}
 	}
 
+	/**
+	 * Formats a value as a GnuCash fraction string over a power of ten, e.g. 123.45 as "12345/100".
+	 *
+	 * @param value the value
+	 * @return the fraction string
+	 */
+	public static String format(BigDecimal value) {
+		BigDecimal scaled = value.scale() < 0 ? value.setScale(0) : value;
+		return scaled.unscaledValue() + "/" + BigInteger.TEN.pow(scaled.scale());
+	}
+
 	private static BigDecimal parseFraction(String str, int dividerIndex) {
 		String numeratorStr = str.substring(0, dividerIndex).trim();
 		String denominatorStr = str.substring(dividerIndex + 1).trim();
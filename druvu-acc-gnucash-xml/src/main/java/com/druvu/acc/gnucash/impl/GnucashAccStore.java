@@ -1,23 +1,59 @@
 package com.druvu.acc.gnucash.impl;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Lot;
 import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.ScheduledTransaction;
 import com.druvu.acc.api.entity.Split;
 import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.AccessPath;
+import com.druvu.acc.api.AccountPaths;
+import com.druvu.acc.api.AccountTree;
+import com.druvu.acc.api.QueryPlan;
+import com.druvu.acc.api.SplitFilter;
+import com.druvu.acc.api.StoreFootprint;
 import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.entity.Vendor;
 import com.druvu.acc.api.entity.CommodityId;
 import com.druvu.acc.gnucash.generated.GncAccount;
+import com.druvu.acc.gnucash.generated.GncBudget;
+import com.druvu.acc.gnucash.generated.GncCountData;
 import com.druvu.acc.gnucash.generated.GncPricedb;
 import com.druvu.acc.gnucash.generated.GncTransaction;
 import com.druvu.acc.gnucash.generated.GncV2;
 import com.druvu.acc.gnucash.mapper.AccountMapper;
+import com.druvu.acc.gnucash.mapper.BudgetMapper;
+import com.druvu.acc.gnucash.mapper.LotMapper;
 import com.druvu.acc.gnucash.mapper.PriceMapper;
+import com.druvu.acc.gnucash.mapper.ScheduledTransactionMapper;
+import com.druvu.acc.gnucash.mapper.SplitMapper;
 import com.druvu.acc.gnucash.mapper.TransactionMapper;
 
 import lombok.NonNull;
@@ -27,13 +63,36 @@ import lombok.NonNull;
  * <p>
  * Stores only the GncV2 root and computes all derived data on demand.
  * This allows for future mutation support and keeps a single source of truth.
+ * Mapped entities share ID and commodity instances through a per-store {@link InternTable}.
+ * <p>
+ * Transactions added with {@link #addTransactions(List)} are appended to the book elements and
+ * {@link #reconcileSplits(Collection, ReconcileState, LocalDate)} updates the split elements in place, so both
+ * are saved with the book. Writes are serialized, but readers are not synchronized with them: do not read the
+ * store from other threads while a batch is written.
  *
  * @author Deniss Larka
  * <br/>on 11 Jan 2026
  */
 public class GnucashAccStore implements AccStore {
 
+	private static final String TRANSACTION_COUNT = "transaction";
+	private static final ReconcileState[] RECONCILE_STATES = ReconcileState.values();
+	private static final int[] NO_SPLITS = new int[0];
+
 	private final GncV2 root;
+	private final InternTable interns = new InternTable();
+	private final AtomicLong revision = new AtomicLong();
+	// accounts are fixed once loaded, so their paths and tree are built on first use and kept
+	private volatile AccountPaths paths;
+	private volatile AccountTree tree;
+	// transaction elements by ID, built on first use and kept up to date by addTransactions
+	private volatile Map<String, GncTransaction> transactionsById;
+	// indexes over the book elements, rebuilt on first use after the revision changes
+	private final Derived<Map<String, List<Lot>>> lotsByAccount = new Derived<>(this::indexLots);
+	private final Derived<Map<String, List<Split>>> splitsByLot = new Derived<>(this::indexLotSplits);
+	private final Derived<BusinessObjects> business = new Derived<>(() -> BusinessObjects.of(book().getBookElements(), interns));
+	private final Derived<DateIndex> byDate = new Derived<>(this::indexDates);
+	private final Derived<SplitIndex> bySplit = new Derived<>(this::indexSplits);
 
 	public GnucashAccStore(@NonNull GncV2 root) {
 		this.root = root;
@@ -46,26 +105,45 @@ public class GnucashAccStore implements AccStore {
 		return book().getBookId().getValue();
 	}
 
+	@Override
+	public StoreFootprint footprint() {
+		Footprints.BookCounts counts = counts();
+		return Footprints.jaxb(counts, indexBytes(counts.accounts()));
+	}
+
+	@Override
+	public long revision() {
+		return revision.get();
+	}
+
 	@Override
 	public List<CommodityId> commodities() {
 		return bookElements(GncV2.GncBook.GncCommodity.class)
-				.map(c -> new CommodityId(c.getCmdtySpace(), c.getCmdtyId()))
+				.map(c -> interns.commodity(c.getCmdtySpace(), c.getCmdtyId()))
 				.toList();
 	}
 
+	@Override
+	public Optional<Integer> commodityFraction(CommodityId commodity) {
+		return bookElements(GncV2.GncBook.GncCommodity.class)
+				.filter(c -> commodity.namespace().equals(c.getCmdtySpace()) && commodity.id().equals(c.getCmdtyId()))
+				.findFirst()
+				.map(GncV2.GncBook.GncCommodity::getCmdtyFraction);
+	}
+
 	@Override
 	public List<Price> prices() {
 		return bookElements(GncPricedb.class)
 				.filter(pricedb -> pricedb.getPrice() != null)
 				.flatMap(pricedb -> pricedb.getPrice().stream())
-				.map(PriceMapper::map)
+				.map(price -> PriceMapper.map(price, interns))
 				.toList();
 	}
 
 	@Override
 	public List<Account> accounts() {
 		return bookElements(GncAccount.class)
-				.map(AccountMapper::map)
+				.map(this::account)
 				.toList();
 	}
 
@@ -73,7 +151,7 @@ public class GnucashAccStore implements AccStore {
 	public List<Account> rootAccounts() {
 		return bookElements(GncAccount.class)
 				.filter(account -> account.getActParent() == null)
-				.map(AccountMapper::map)
+				.map(this::account)
 				.toList();
 	}
 
@@ -82,83 +160,515 @@ public class GnucashAccStore implements AccStore {
 		return bookElements(GncAccount.class)
 				.filter(account -> account.getActId().getValue().equals(id))
 				.findFirst()
-				.map(AccountMapper::map);
+				.map(this::account);
 	}
 
 	@Override
 	public Optional<Account> accountByName(String qualifiedName) {
-		String[] path = qualifiedName.split(":");
-		Optional<Account> current = Optional.empty();
-		String currentParentId = null;
+		return paths().resolve(qualifiedName);
+	}
 
-		for (String name : path) {
-			current = accountByNameWithParent(name, currentParentId);
-			if (current.isEmpty()) {
-				return Optional.empty();
-			}
-			currentParentId = current.get().id();
-		}
+	@Override
+	public Optional<Integer> accountFraction(String accountId) {
+		return bookElements(GncAccount.class)
+				.filter(account -> account.getActId().getValue().equals(accountId))
+				.findFirst()
+				.map(GncAccount::getActCommodityScu);
+	}
 
-		return current;
+	@Override
+	public Optional<String> qualifiedName(String accountId) {
+		return paths().qualifiedName(accountId);
 	}
 
 	@Override
 	public List<String> fetchChildIds(String accountId) {
-		return bookElements(GncAccount.class)
-				.filter(account -> {
-					var parent = account.getActParent();
-					return parent != null && parent.getValue().equals(accountId);
-				})
-				.map(account -> account.getActId().getValue())
-				.toList();
+		return accountTree().children(accountId);
+	}
+
+	@Override
+	public AccountTree accountTree() {
+		AccountTree current = tree;
+		if (current == null) {
+			current = AccountTree.of(accounts());
+			tree = current;
+		}
+		return current;
 	}
 
 	@Override
 	public List<Transaction> transactions() {
-		return bookElements(GncTransaction.class)
-				.map(TransactionMapper::map)
-				.sorted()
-				.toList();
+		return transactions(byDate.get(), null, null);
 	}
 
 	@Override
 	public Optional<Transaction> transactionById(String id) {
-		return bookElements(GncTransaction.class)
-				.filter(transaction -> transaction.getTrnId().getValue().equals(id))
-				.findFirst()
-				.map(TransactionMapper::map);
+		return Optional.ofNullable(transactionsById().get(id)).map(this::transaction);
+	}
+
+	@Override
+	public Optional<LocalDateTime> dateEntered(String transactionId) {
+		return Optional.ofNullable(transactionsById().get(transactionId))
+				.map(GncTransaction::getTrnDateEntered)
+				.map(entered -> DateTimeUtils.parseTimestamp(entered.getTsDate()));
 	}
 
 	@Override
 	public List<Transaction> transactions(LocalDate from, LocalDate to) {
-		return bookElements(GncTransaction.class)
-				.map(TransactionMapper::map)
-				.filter(mapped -> {
-					LocalDate date = mapped.datePosted();
-					return !date.isBefore(from) && !date.isAfter(to);
-				})
-				.sorted()
-				.toList();
+		return transactions(byDate.get(), from, to);
+	}
+
+	/**
+	 * Maps each transaction of the range only when the stream reaches it.
+	 */
+	@Override
+	public Stream<Transaction> streamTransactions(LocalDate from, LocalDate to) {
+		DateIndex index = byDate.get();
+		int start = index.start(from);
+		return Arrays.stream(index.transactions(), start, Math.max(start, index.end(to))).map(this::transaction);
 	}
 
+	/**
+	 * Maps the transactions holding the splits of the account index, once each.
+	 */
 	@Override
 	public List<Transaction> transactionsForAccount(String accountId) {
-		return transactions().stream()
-				.filter(transaction -> transaction.splits().stream()
-						.anyMatch(split -> split.accountId().equals(accountId)))
-				.toList();
+		SplitIndex index = bySplit.get();
+		int[] positions = index.accountSplits().getOrDefault(accountId, NO_SPLITS);
+		List<Transaction> result = new ArrayList<>();
+		int previous = -1;
+		for (int position : positions) {
+			int number = index.splitTx()[position];
+			if (number != previous) {
+				result.add(transaction(index.dates().transactions()[number]));
+				previous = number;
+			}
+		}
+		return result;
 	}
 
+	@Override
+	public synchronized void addTransactions(List<Transaction> transactions) {
+		if (transactions.isEmpty()) {
+			return;
+		}
+		AccountTree accountTree = accountTree();
+		Map<String, GncTransaction> index = transactionsById();
+		Map<String, GncTransaction> added = LinkedHashMap.newLinkedHashMap(transactions.size());
+		for (Transaction transaction : transactions) {
+			validate(transaction, accountTree);
+			if (index.containsKey(transaction.id()) || added.containsKey(transaction.id())) {
+				throw new IllegalArgumentException("Transaction already exists: " + transaction.id());
+			}
+			added.put(transaction.id(), TransactionMapper.toGnc(transaction));
+		}
+		book().getBookElements().addAll(added.values());
+		index.putAll(added);
+		for (GncCountData count : book().getGncCountData()) {
+			if (TRANSACTION_COUNT.equals(count.getCdType())) {
+				count.setValue(count.getValue() + added.size());
+			}
+		}
+		revision.incrementAndGet();
+	}
+
+	/**
+	 * Maps only the splits of the account index.
+	 */
 	@Override
 	public List<Split> splitsForAccount(String accountId) {
-		return transactions().stream()
-				.flatMap(transaction -> transaction.splits().stream())
-				.filter(split -> split.accountId().equals(accountId))
+		SplitIndex index = bySplit.get();
+		return splits(index, index.accountSplits().getOrDefault(accountId, NO_SPLITS), null);
+	}
+
+	@Override
+	public List<Split> splitsForLot(String lotId) {
+		return splitsByLot.get().getOrDefault(lotId, List.of());
+	}
+
+	/**
+	 * Scans the transaction elements of the date range once, testing each split's account against the preorder
+	 * interval of the subtree before mapping it.
+	 */
+	@Override
+	public List<Split> splitsForSubtree(String accountId, LocalDate from, LocalDate to) {
+		AccountTree accountTree = accountTree();
+		int enter = accountTree.enter(accountId);
+		if (enter < 0) {
+			return List.of();
+		}
+		int exit = accountTree.exit(accountId);
+		return splits(byDate.get(), from, to, split -> {
+			int number = accountTree.enter(split.getSplitAccount().getValue());
+			return number >= enter && number < exit;
+		});
+	}
+
+	@Override
+	public synchronized void reconcileSplits(Collection<String> splitIds, ReconcileState state, LocalDate reconcileDate) {
+		if (splitIds.isEmpty()) {
+			return;
+		}
+		Set<String> remaining = new HashSet<>(splitIds);
+		List<GncTransaction.TrnSplits.TrnSplit> found = new ArrayList<>(remaining.size());
+		bookElements(GncTransaction.class)
+				.filter(transaction -> transaction.getTrnSplits() != null)
+				.flatMap(transaction -> transaction.getTrnSplits().getTrnSplit().stream())
+				.filter(split -> remaining.remove(split.getSplitId().getValue()))
+				.forEach(found::add);
+		if (!remaining.isEmpty()) {
+			throw new IllegalArgumentException("Unknown splits: " + remaining);
+		}
+		for (GncTransaction.TrnSplits.TrnSplit split : found) {
+			SplitMapper.reconcile(split, state, reconcileDate);
+		}
+		revision.incrementAndGet();
+	}
+
+	@Override
+	public List<Lot> lots() {
+		return lotsByAccount.get().values().stream()
+				.flatMap(List::stream)
 				.toList();
 	}
 
+	@Override
+	public List<Lot> lotsForAccount(String accountId) {
+		return lotsByAccount.get().getOrDefault(accountId, List.of());
+	}
+
+	@Override
+	public List<ScheduledTransaction> scheduledTransactions() {
+		Map<String, List<GncTransaction>> templates = ScheduledTransactionMapper.templatesByAccount(book().getBookElements());
+		return bookElements(GncV2.GncBook.GncSchedxaction.class)
+				.map(schedule -> ScheduledTransactionMapper.map(schedule, templates, interns))
+				.toList();
+	}
+
+	@Override
+	public List<Budget> budgets() {
+		return bookElements(GncBudget.class)
+				.map(budget -> BudgetMapper.map(budget, interns))
+				.toList();
+	}
+
+	@Override
+	public List<Customer> customers() {
+		return business.get().customers();
+	}
+
+	@Override
+	public List<Vendor> vendors() {
+		return business.get().vendors();
+	}
+
+	@Override
+	public List<Job> jobs() {
+		return business.get().jobs();
+	}
+
+	@Override
+	public List<Invoice> invoices() {
+		return business.get().invoices();
+	}
+
+	@Override
+	public List<Invoice> invoicesForOwner(String ownerId) {
+		return business.get().invoicesForOwner(ownerId);
+	}
+
+	@Override
+	public Optional<Invoice> invoiceForTransaction(String transactionId) {
+		return business.get().invoiceForTransaction(transactionId);
+	}
+
+	@Override
+	public List<InvoiceEntry> entriesForInvoice(String invoiceId) {
+		return business.get().entriesForInvoice(invoiceId);
+	}
+
+	// ========== Query Planning ==========
+
+	/**
+	 * Plans against the date index and the account and reconcile state indexes.
+	 * <p>
+	 * A date range maps to a contiguous range of split positions, found from the cumulative split counts. The
+	 * account and reconcile state indexes hold the ascending split positions per account and state, so their
+	 * number of candidates within the date range is found by binary search. The path with the fewest candidates
+	 * is chosen. The account and reconcile state predicates are checked on the split elements before a split is
+	 * mapped, the amount on the mapped split. The indexes are read again when the plan is executed, after a
+	 * revision change too.
+	 */
+	@Override
+	public QueryPlan plan(@NonNull SplitFilter filter) {
+		boolean dated = filter.from() != null || filter.to() != null;
+		List<AccessPath> considered = new ArrayList<>();
+		if (filter.accountIds().isEmpty() && filter.reconcileStates().isEmpty()) {
+			AccessPath access = new AccessPath(dated ? "date range" : "full scan", dateRange(byDate.get(), filter).length());
+			return new QueryPlan(filter, access, List.of(access), () -> execute(filter, null));
+		}
+		SplitIndex index = bySplit.get();
+		SplitRange range = dateRange(index.dates(), filter);
+		AccessPath access = new AccessPath(dated ? "date range" : "full scan", range.length());
+		considered.add(access);
+		Function<SplitIndex, List<int[]>> candidates = null;
+		if (!filter.accountIds().isEmpty()) {
+			AccessPath path = new AccessPath("account index", count(accountIndex(index, filter), range));
+			considered.add(path);
+			if (path.estimatedRows() < access.estimatedRows()) {
+				access = path;
+				candidates = current -> accountIndex(current, filter);
+			}
+		}
+		if (!filter.reconcileStates().isEmpty()) {
+			AccessPath path = new AccessPath("reconcile state index", count(stateIndex(index, filter), range));
+			considered.add(path);
+			if (path.estimatedRows() < access.estimatedRows()) {
+				access = path;
+				candidates = current -> stateIndex(current, filter);
+			}
+		}
+		Function<SplitIndex, List<int[]>> chosen = candidates;
+		return new QueryPlan(filter, access, considered, () -> execute(filter, chosen));
+	}
+
 	// ========== Helper Methods ==========
 
+	private Account account(GncAccount account) {
+		return AccountMapper.map(account, interns);
+	}
+
+	private Stream<Lot> lots(GncAccount account) {
+		var lots = account.getActLots();
+		if (lots == null || lots.getGncLot() == null) {
+			return Stream.empty();
+		}
+		String accountId = interns.id(account.getActId().getValue());
+		return lots.getGncLot().stream().map(lot -> LotMapper.map(lot, accountId, interns));
+	}
+
+	/**
+	 * Lots by account ID, in the order of the accounts.
+	 */
+	private Map<String, List<Lot>> indexLots() {
+		Map<String, List<Lot>> result = new LinkedHashMap<>();
+		bookElements(GncAccount.class).forEach(account -> {
+			List<Lot> lots = lots(account).toList();
+			if (!lots.isEmpty()) {
+				result.put(interns.id(account.getActId().getValue()), lots);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Splits assigned to lots by lot ID, in date order. Only the splits of a lot are mapped.
+	 */
+	private Map<String, List<Split>> indexLotSplits() {
+		Map<String, List<Split>> result = new HashMap<>();
+		bookElements(GncTransaction.class)
+				.filter(transaction -> transaction.getTrnSplits() != null && transaction.getTrnSplits().getTrnSplit() != null)
+				.forEach(transaction -> {
+					LocalDate datePosted = null;
+					for (GncTransaction.TrnSplits.TrnSplit split : transaction.getTrnSplits().getTrnSplit()) {
+						if (split.getSplitLot() != null) {
+							if (datePosted == null) {
+								datePosted = TransactionMapper.datePosted(transaction);
+							}
+							Split mapped = SplitMapper.map(split, transaction.getTrnId().getValue(), datePosted, interns);
+							result.computeIfAbsent(mapped.lotId().orElseThrow(), _ -> new ArrayList<>()).add(mapped);
+						}
+					}
+				});
+		result.replaceAll((_, splits) -> splits.stream().sorted(Comparator.comparing(Split::datePosted)).toList());
+		return result;
+	}
+
+	/**
+	 * Transaction elements in date order, the book order kept for transactions posted on the same day, with
+	 * cumulative split counts.
+	 */
+	private DateIndex indexDates() {
+		List<GncTransaction> elements = bookElements(GncTransaction.class).toList();
+		// epoch day in the high half and book position in the low half, so sorting primitives keeps the book order per day
+		long[] keys = new long[elements.size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = TransactionMapper.datePosted(elements.get(i)).toEpochDay() << 32 | i;
+		}
+		Arrays.sort(keys);
+
+		GncTransaction[] transactions = new GncTransaction[keys.length];
+		long[] epochDays = new long[keys.length];
+		int[] firstSplit = new int[keys.length + 1];
+		for (int i = 0; i < keys.length; i++) {
+			transactions[i] = elements.get((int) keys[i]);
+			epochDays[i] = keys[i] >> 32;
+			firstSplit[i + 1] = firstSplit[i] + rawSplits(transactions[i]).size();
+		}
+		return new DateIndex(transactions, epochDays, firstSplit);
+	}
+
+	private List<Transaction> transactions(DateIndex index, LocalDate from, LocalDate to) {
+		int start = index.start(from);
+		int end = index.end(to);
+		List<Transaction> result = new ArrayList<>(Math.max(0, end - start));
+		for (int i = start; i < end; i++) {
+			result.add(transaction(index.transactions()[i]));
+		}
+		return result;
+	}
+
+	/**
+	 * Maps the splits of the transactions in the date range whose element is accepted, in date order.
+	 */
+	private List<Split> splits(DateIndex index, LocalDate from, LocalDate to, Predicate<GncTransaction.TrnSplits.TrnSplit> accepts) {
+		List<Split> result = new ArrayList<>();
+		for (int i = index.start(from), end = index.end(to); i < end; i++) {
+			GncTransaction transaction = index.transactions()[i];
+			LocalDate datePosted = null;
+			for (GncTransaction.TrnSplits.TrnSplit split : rawSplits(transaction)) {
+				if (accepts.test(split)) {
+					if (datePosted == null) {
+						datePosted = LocalDate.ofEpochDay(index.epochDays()[i]);
+					}
+					result.add(SplitMapper.map(split, transaction.getTrnId().getValue(), datePosted, interns));
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Split positions in date order per account and per reconcile state, over the date index of the same revision.
+	 */
+	private SplitIndex indexSplits() {
+		DateIndex dates = byDate.get();
+		int[] firstSplit = dates.firstSplit();
+		int count = firstSplit[dates.transactions().length];
+		int[] splitTx = new int[count];
+		int[] splitAccounts = new int[count];
+		int[] splitStates = new int[count];
+		Map<String, Integer> ordinals = new HashMap<>();
+		int[] splitsPerAccount = new int[16];
+		int[] splitsPerState = new int[RECONCILE_STATES.length];
+		for (int number = 0; number < dates.transactions().length; number++) {
+			int position = firstSplit[number];
+			for (GncTransaction.TrnSplits.TrnSplit split : rawSplits(dates.transactions()[number])) {
+				int ordinal = ordinals.computeIfAbsent(split.getSplitAccount().getValue(), _ -> ordinals.size());
+				if (ordinal == splitsPerAccount.length) {
+					splitsPerAccount = Arrays.copyOf(splitsPerAccount, ordinal * 2);
+				}
+				splitTx[position] = number;
+				splitAccounts[position] = ordinal;
+				splitsPerAccount[ordinal]++;
+				splitStates[position] = ReconcileState.fromCode(split.getSplitReconciledState()).ordinal();
+				splitsPerState[splitStates[position]]++;
+				position++;
+			}
+		}
+		int[][] byAccount = group(splitAccounts, Arrays.copyOf(splitsPerAccount, ordinals.size()));
+		Map<String, int[]> accountSplits = HashMap.newHashMap(ordinals.size());
+		ordinals.forEach((accountId, ordinal) -> accountSplits.put(accountId, byAccount[ordinal]));
+		return new SplitIndex(dates, splitTx, accountSplits, group(splitStates, splitsPerState));
+	}
+
+	/**
+	 * Inverts a split column into the split positions of each referenced ordinal, keeping split order.
+	 */
+	private static int[][] group(int[] column, int[] counts) {
+		int[][] groups = new int[counts.length][];
+		for (int i = 0; i < counts.length; i++) {
+			groups[i] = new int[counts[i]];
+		}
+		int[] fill = new int[counts.length];
+		for (int i = 0; i < column.length; i++) {
+			groups[column[i]][fill[column[i]]++] = i;
+		}
+		return groups;
+	}
+
+	private static SplitRange dateRange(DateIndex dates, SplitFilter filter) {
+		int start = dates.firstSplit()[dates.start(filter.from())];
+		return new SplitRange(start, Math.max(start, dates.firstSplit()[dates.end(filter.to())]));
+	}
+
+	private static List<int[]> accountIndex(SplitIndex index, SplitFilter filter) {
+		return filter.accountIds().stream()
+				.map(accountId -> index.accountSplits().get(accountId))
+				.filter(Objects::nonNull)
+				.toList();
+	}
+
+	private static List<int[]> stateIndex(SplitIndex index, SplitFilter filter) {
+		return filter.reconcileStates().stream().map(state -> index.stateSplits()[state.ordinal()]).toList();
+	}
+
+	private static long count(List<int[]> index, SplitRange range) {
+		long count = 0;
+		for (int[] positions : index) {
+			count += lowerBound(positions, range.end()) - lowerBound(positions, range.start());
+		}
+		return count;
+	}
+
+	/**
+	 * @return position of the first entry not below the given split position
+	 */
+	private static int lowerBound(int[] positions, int position) {
+		int found = Arrays.binarySearch(positions, position);
+		return found < 0 ? -found - 1 : found;
+	}
+
+	/**
+	 * Executes a plan against the current indexes, from the split positions of the date range or of the chosen index.
+	 */
+	private List<Split> execute(SplitFilter filter, Function<SplitIndex, List<int[]>> candidates) {
+		Set<String> accountIds = filter.accountIds();
+		Set<ReconcileState> states = filter.reconcileStates();
+		Predicate<GncTransaction.TrnSplits.TrnSplit> accepts = split ->
+				(accountIds.isEmpty() || accountIds.contains(split.getSplitAccount().getValue()))
+						&& (states.isEmpty() || states.contains(ReconcileState.fromCode(split.getSplitReconciledState())));
+		if (candidates == null) {
+			return splits(byDate.get(), filter.from(), filter.to(), accepts).stream().filter(filter::matches).toList();
+		}
+		SplitIndex index = bySplit.get();
+		SplitRange range = dateRange(index.dates(), filter);
+		List<int[]> chosen = candidates.apply(index);
+		int[] positions = chosen.stream()
+				.flatMapToInt(splits -> Arrays.stream(splits, lowerBound(splits, range.start()), lowerBound(splits, range.end())))
+				.toArray();
+		if (chosen.size() > 1) {
+			Arrays.sort(positions);
+		}
+		return splits(index, positions, accepts).stream().filter(filter::matches).toList();
+	}
+
+	/**
+	 * Maps the splits at the given positions whose element is accepted, all of them without a test.
+	 */
+	private List<Split> splits(SplitIndex index, int[] positions, Predicate<GncTransaction.TrnSplits.TrnSplit> accepts) {
+		DateIndex dates = index.dates();
+		List<Split> result = new ArrayList<>(positions.length);
+		for (int position : positions) {
+			int number = index.splitTx()[position];
+			GncTransaction transaction = dates.transactions()[number];
+			GncTransaction.TrnSplits.TrnSplit split = rawSplits(transaction).get(position - dates.firstSplit()[number]);
+			if (accepts == null || accepts.test(split)) {
+				result.add(SplitMapper.map(split, transaction.getTrnId().getValue(), LocalDate.ofEpochDay(dates.epochDays()[number]), interns));
+			}
+		}
+		return result;
+	}
+
+	private static List<GncTransaction.TrnSplits.TrnSplit> rawSplits(GncTransaction transaction) {
+		var trnSplits = transaction.getTrnSplits();
+		return trnSplits == null || trnSplits.getTrnSplit() == null ? List.of() : trnSplits.getTrnSplit();
+	}
+
+	private Transaction transaction(GncTransaction transaction) {
+		return TransactionMapper.map(transaction, interns);
+	}
+
 	private GncV2.GncBook book() {
 		return root.getGncBook();
 	}
@@ -169,19 +679,210 @@ public class GnucashAccStore implements AccStore {
 				.map(type::cast);
 	}
 
-	private Optional<Account> accountByNameWithParent(String accountName, String parentId) {
-		Predicate<GncAccount> predicate = parentId == null
-				? account -> account.getActParent() == null
-				: account -> account.getActParent() != null && parentId.equals(account.getActParent().getValue());
-		final List<Account> list = bookElements(GncAccount.class)
-				.filter(predicate)
-				.filter(account -> accountName.equals(account.getActName()))
-				.map(AccountMapper::map)
-				.toList();
-		if (list.size() > 1) {
-			throw new IllegalStateException("Multiple accounts found with name: " + accountName);
+	private Footprints.BookCounts counts() {
+		long accounts = 0;
+		long transactions = 0;
+		long splits = 0;
+		long prices = 0;
+		long commodities = 0;
+		for (Object element : book().getBookElements()) {
+			switch (element) {
+				case GncAccount _ -> accounts++;
+				case GncTransaction transaction -> {
+					transactions++;
+					var trnSplits = transaction.getTrnSplits();
+					if (trnSplits != null && trnSplits.getTrnSplit() != null) {
+						splits += trnSplits.getTrnSplit().size();
+					}
+				}
+				case GncPricedb pricedb -> prices += pricedb.getPrice() != null ? pricedb.getPrice().size() : 0;
+				case GncV2.GncBook.GncCommodity _ -> commodities++;
+				default -> {
+					// not accounted separately
+				}
+			}
+		}
+		return new Footprints.BookCounts(accounts, transactions, splits, prices, commodities);
+	}
+
+	/**
+	 * Estimates the indexes built so far, the values shared with the JAXB graph excluded.
+	 */
+	private long indexBytes(long accounts) {
+		long bytes = 0;
+		DateIndex dates = byDate.peek();
+		if (dates != null) {
+			bytes += dates.transactions().length * (8L + Long.BYTES + Integer.BYTES);
+		}
+		SplitIndex splits = bySplit.peek();
+		if (splits != null) {
+			bytes += splits.splitTx().length * 3L * Integer.BYTES + splits.accountSplits().size() * (Footprints.MAP_ENTRY_BYTES + 16);
+		}
+		Map<String, GncTransaction> byId = transactionsById;
+		if (byId != null) {
+			bytes += byId.size() * Footprints.MAP_ENTRY_BYTES;
+		}
+		Map<String, List<Lot>> lots = lotsByAccount.peek();
+		if (lots != null) {
+			bytes += lots.size() * Footprints.MAP_ENTRY_BYTES
+					+ lots.values().stream().mapToLong(List::size).sum() * Footprints.RECORD_LOT_BYTES;
+		}
+		Map<String, List<Split>> lotSplits = splitsByLot.peek();
+		if (lotSplits != null) {
+			bytes += lotSplits.size() * Footprints.MAP_ENTRY_BYTES
+					+ lotSplits.values().stream().mapToLong(List::size).sum() * Footprints.RECORD_SPLIT_BYTES;
+		}
+		BusinessObjects objects = business.peek();
+		if (objects != null) {
+			bytes += objects.footprint();
+		}
+		if (paths != null) {
+			bytes += accounts * Footprints.ACCOUNT_PATH_BYTES;
+		}
+		if (tree != null) {
+			bytes += accounts * Footprints.ACCOUNT_TREE_BYTES;
+		}
+		return bytes;
+	}
+
+	private static void validate(Transaction transaction, AccountTree accountTree) {
+		if (transaction.splits().isEmpty()) {
+			throw new IllegalArgumentException("Transaction without splits: " + transaction.id());
+		}
+		BigDecimal balance = BigDecimal.ZERO;
+		for (Split split : transaction.splits()) {
+			if (!transaction.id().equals(split.transactionId())) {
+				throw new IllegalArgumentException("Split " + split.id() + " belongs to transaction " + split.transactionId()
+						+ ", not " + transaction.id());
+			}
+			if (accountTree.enter(split.accountId()) < 0) {
+				throw new IllegalArgumentException("Unknown account " + split.accountId() + " in transaction " + transaction.id());
+			}
+			balance = balance.add(split.value());
+		}
+		if (balance.signum() != 0) {
+			throw new IllegalArgumentException("Unbalanced transaction " + transaction.id() + ": " + balance);
+		}
+	}
+
+	/**
+	 * Indexes the transaction elements by ID on first use, the first element winning for a repeated ID.
+	 */
+	private Map<String, GncTransaction> transactionsById() {
+		Map<String, GncTransaction> current = transactionsById;
+		if (current == null) {
+			synchronized (this) {
+				current = transactionsById;
+				if (current == null) {
+					Map<String, GncTransaction> index = new HashMap<>();
+					bookElements(GncTransaction.class).forEach(transaction -> index.putIfAbsent(transaction.getTrnId().getValue(), transaction));
+					current = index;
+					transactionsById = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	private AccountPaths paths() {
+		AccountPaths current = paths;
+		if (current == null) {
+			current = AccountPaths.of(accounts());
+			paths = current;
+		}
+		return current;
+	}
+
+	/**
+	 * Value derived from the book elements, built on first use and rebuilt on first use after the revision changes.
+	 */
+	private final class Derived<T> {
+
+		private final Supplier<T> builder;
+		private volatile Versioned<T> current;
+
+		Derived(Supplier<T> builder) {
+			this.builder = builder;
+		}
+
+		T get() {
+			long rev = revision.get();
+			Versioned<T> value = current;
+			if (value != null && value.revision() == rev) {
+				return value.value();
+			}
+			synchronized (this) {
+				value = current;
+				if (value == null || value.revision() != rev) {
+					value = new Versioned<>(rev, builder.get());
+					current = value;
+				}
+				return value.value();
+			}
+		}
+
+		/**
+		 * @return the value last built, whatever its revision, null if never built
+		 */
+		T peek() {
+			Versioned<T> value = current;
+			return value == null ? null : value.value();
+		}
+	}
+
+	private record Versioned<T>(long revision, T value) {
+	}
+
+	/**
+	 * Transaction elements sorted by date posted, with their epoch days and the number of splits before each
+	 * transaction, one more than the transactions.
+	 */
+	private record DateIndex(GncTransaction[] transactions, long[] epochDays, int[] firstSplit) {
+
+		/**
+		 * @return position of the first transaction posted on or after the date, 0 without lower bound
+		 */
+		int start(LocalDate from) {
+			return from == null ? 0 : firstOnOrAfter(from.toEpochDay());
+		}
+
+		/**
+		 * @return position after the last transaction posted on or before the date, the length without upper bound
+		 */
+		int end(LocalDate to) {
+			return to == null ? transactions.length : firstOnOrAfter(to.toEpochDay() + 1);
+		}
+
+		private int firstOnOrAfter(long epochDay) {
+			int low = 0;
+			int high = epochDays.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (epochDays[mid] < epochDay) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+
+	/**
+	 * Split positions of the date index per account ID and per reconcile state ordinal, with the transaction of
+	 * each split position.
+	 */
+	private record SplitIndex(DateIndex dates, int[] splitTx, Map<String, int[]> accountSplits, int[][] stateSplits) {
+	}
+
+	/**
+	 * Split positions from start inclusive to end exclusive.
+	 */
+	private record SplitRange(int start, int end) {
+
+		int length() {
+			return end - start;
 		}
-		return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
 	}
 
 	@Override
@@ -0,0 +1,109 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import com.druvu.acc.gnucash.generated.GncV2;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shared JAXB infrastructure for the GnuCash XML model.
+ * <p>
+ * Creating a {@link JAXBContext} for the generated {@link GncV2} model is expensive, so a single context is
+ * created lazily on first use and shared by all readers and writers. {@link Marshaller} is not thread-safe; it is
+ * cached per thread and reused across saves. {@link Unmarshaller} is created per load because it keeps a reference
+ * to the last unmarshalled graph, which would pin a whole book in memory for the life of the thread.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+public final class GnucashJaxb {
+
+	private static final ThreadLocal<Marshaller> MARSHALLERS = ThreadLocal.withInitial(GnucashJaxb::createMarshaller);
+
+	private GnucashJaxb() {
+	}
+
+	/**
+	 * @return the shared JAXB context, created on first call
+	 */
+	public static JAXBContext context() {
+		return ContextHolder.CONTEXT;
+	}
+
+	/**
+	 * The startup cost paid once per JVM; each load then only pays for creating its own unmarshaller, which
+	 * {@link #unmarshaller()} logs at debug level.
+	 *
+	 * @return the time it took to create the shared JAXB context, in milliseconds
+	 */
+	public static long contextCreationMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(ContextHolder.CREATION_NANOS);
+	}
+
+	/**
+	 * Creates an unmarshaller from the shared context.
+	 * <p>
+	 * Unmarshallers are cheap once the context exists; use one per load and drop it afterwards.
+	 *
+	 * @return a new unmarshaller
+	 */
+	public static Unmarshaller unmarshaller() {
+		JAXBContext context = context();
+		long start = System.nanoTime();
+		try {
+			Unmarshaller unmarshaller = context.createUnmarshaller();
+			log.debug("Created JAXB unmarshaller in {} us", TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+			return unmarshaller;
+		}
+		catch (JAXBException e) {
+			throw new IllegalStateException("Failed to create JAXB unmarshaller", e);
+		}
+	}
+
+	/**
+	 * Returns the marshaller bound to the current thread.
+	 * <p>
+	 * The instance must not be handed over to another thread.
+	 *
+	 * @return the cached marshaller
+	 */
+	public static Marshaller marshaller() {
+		return MARSHALLERS.get();
+	}
+
+	private static Marshaller createMarshaller() {
+		try {
+			return context().createMarshaller();
+		}
+		catch (JAXBException e) {
+			throw new IllegalStateException("Failed to create JAXB marshaller", e);
+		}
+	}
+
+	/**
+	 * Lazy holder, the context is created when this class is first initialized.
+	 */
+	private static final class ContextHolder {
+
+		private static final long CREATION_NANOS;
+		private static final JAXBContext CONTEXT;
+
+		static {
+			long start = System.nanoTime();
+			try {
+				CONTEXT = JAXBContext.newInstance(GncV2.class);
+			}
+			catch (JAXBException e) {
+				throw new IllegalStateException("Failed to create JAXB context", e);
+			}
+			CREATION_NANOS = System.nanoTime() - start;
+			log.info("Created JAXB context for GnuCash model in {} ms", TimeUnit.NANOSECONDS.toMillis(CREATION_NANOS));
+		}
+	}
+}
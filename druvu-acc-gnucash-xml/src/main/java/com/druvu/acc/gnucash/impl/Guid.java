@@ -0,0 +1,73 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.util.HexFormat;
+
+/**
+ * A GnuCash GUID held as two {@code long}s instead of a 32-character string.
+ * <p>
+ * GnuCash writes GUIDs as 32 lowercase hex digits; {@link #toString()} restores exactly that form.
+ *
+ * @param high the first 16 hex digits
+ * @param low  the last 16 hex digits
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public record Guid(long high, long low) implements Comparable<Guid> {
+
+	/**
+	 * Number of hex digits in a GUID.
+	 */
+	public static final int LENGTH = 32;
+
+	private static final HexFormat HEX = HexFormat.of();
+
+	/**
+	 * Checks whether the value is a GUID in the canonical GnuCash form, so that it survives a round trip
+	 * through {@link #parse(String)} and {@link #toString()}.
+	 *
+	 * @param value the value to check
+	 * @return {@code true} for 32 lowercase hex digits
+	 */
+	public static boolean isCanonical(String value) {
+		if (value == null || value.length() != LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			char c = value.charAt(i);
+			if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Parses a GUID of 32 hex digits.
+	 *
+	 * @param value the GUID string
+	 * @return the parsed GUID
+	 * @throws IllegalArgumentException if the value is not 32 hex digits
+	 */
+	public static Guid parse(String value) {
+		if (value == null || value.length() != LENGTH) {
+			throw new IllegalArgumentException("Not a GUID: " + value);
+		}
+		try {
+			return new Guid(HexFormat.fromHexDigitsToLong(value, 0, 16), HexFormat.fromHexDigitsToLong(value, 16, LENGTH));
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Not a GUID: " + value, e);
+		}
+	}
+
+	@Override
+	public int compareTo(Guid other) {
+		int result = Long.compareUnsigned(high, other.high);
+		return result != 0 ? result : Long.compareUnsigned(low, other.low);
+	}
+
+	@Override
+	public String toString() {
+		return HEX.toHexDigits(high) + HEX.toHexDigits(low);
+	}
+}
@@ -0,0 +1,156 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed-size column of GUIDs stored as two {@code long} arrays, with a sorted index for lookups.
+ * <p>
+ * A GUID takes 16 bytes here instead of about 80 as a {@link String}. IDs that are not canonical GUIDs
+ * (hand-edited books, other producers) are kept as strings in a side table so they round-trip unchanged.
+ * Call {@link #index()} once all values are set to enable {@link #indexOf(String)}.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class GuidColumn {
+
+	/**
+	 * Approximate heap bytes per element, both halves and the lookup index included.
+	 */
+	public static final long BYTES_PER_VALUE = 2L * Long.BYTES + Integer.BYTES;
+
+	private static final int NOT_FOUND = -1;
+
+	private final long[] high;
+	private final long[] low;
+	private final Map<Integer, String> irregular = new HashMap<>();
+	private final Map<String, Integer> irregularOrdinals = new HashMap<>();
+	private int[] sorted;
+
+	public GuidColumn(int size) {
+		this.high = new long[size];
+		this.low = new long[size];
+	}
+
+	/**
+	 * @return number of elements
+	 */
+	public int size() {
+		return high.length;
+	}
+
+	public void set(int index, String id) {
+		if (Guid.isCanonical(id)) {
+			Guid guid = Guid.parse(id);
+			high[index] = guid.high();
+			low[index] = guid.low();
+		} else {
+			irregular.put(index, id);
+			irregularOrdinals.put(id, index);
+		}
+		sorted = null;
+	}
+
+	public String get(int index) {
+		if (!irregular.isEmpty()) {
+			String id = irregular.get(index);
+			if (id != null) {
+				return id;
+			}
+		}
+		return new Guid(high[index], low[index]).toString();
+	}
+
+	/**
+	 * Builds the lookup index over the current values.
+	 * <p>
+	 * Positions are sorted as primitives with a bottom-up merge sort, so indexing allocates two {@code int}
+	 * arrays and no wrapper per element.
+	 */
+	public void index() {
+		int[] positions = new int[high.length - irregular.size()];
+		int count = 0;
+		for (int i = 0; i < high.length; i++) {
+			if (irregular.isEmpty() || !irregular.containsKey(i)) {
+				positions[count++] = i;
+			}
+		}
+		sorted = sort(positions);
+	}
+
+	/**
+	 * Finds the position of an ID. Requires {@link #index()}.
+	 *
+	 * @param id the ID to look up
+	 * @return the position, or -1 if the ID is not in the column
+	 */
+	public int indexOf(String id) {
+		if (sorted == null) {
+			throw new IllegalStateException("Column is not indexed");
+		}
+		if (!Guid.isCanonical(id)) {
+			return irregularOrdinals.getOrDefault(id, NOT_FOUND);
+		}
+		Guid guid = Guid.parse(id);
+		int lowIndex = 0;
+		int highIndex = sorted.length - 1;
+		while (lowIndex <= highIndex) {
+			int mid = (lowIndex + highIndex) >>> 1;
+			int candidate = sorted[mid];
+			int result = Long.compareUnsigned(high[candidate], guid.high());
+			if (result == 0) {
+				result = Long.compareUnsigned(low[candidate], guid.low());
+			}
+			if (result < 0) {
+				lowIndex = mid + 1;
+			} else if (result > 0) {
+				highIndex = mid - 1;
+			} else {
+				return candidate;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * @return approximate retained heap bytes
+	 */
+	public long footprint() {
+		return high.length * BYTES_PER_VALUE + irregular.size() * 200L;
+	}
+
+	/**
+	 * Merges runs of doubling width between two buffers.
+	 *
+	 * @return the buffer holding the sorted positions
+	 */
+	private int[] sort(int[] positions) {
+		int[] source = positions;
+		int[] target = new int[positions.length];
+		for (int width = 1; width < source.length; width *= 2) {
+			for (int start = 0; start < source.length; start += 2 * width) {
+				int middle = Math.min(start + width, source.length);
+				int end = Math.min(start + 2 * width, source.length);
+				int left = start;
+				int right = middle;
+				for (int i = start; i < end; i++) {
+					if (left < middle && (right >= end || compare(source[left], source[right]) <= 0)) {
+						target[i] = source[left++];
+					} else {
+						target[i] = source[right++];
+					}
+				}
+			}
+			int[] swap = source;
+			source = target;
+			target = swap;
+		}
+		return source;
+	}
+
+	private int compare(int a, int b) {
+		int result = Long.compareUnsigned(high[a], high[b]);
+		return result != 0 ? result : Long.compareUnsigned(low[a], low[b]);
+	}
+}
@@ -0,0 +1,70 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.druvu.acc.api.entity.CommodityId;
+
+import lombok.NonNull;
+
+/**
+ * Canonical instances of the identifiers repeated throughout a book.
+ * <p>
+ * Every split repeats its account GUID and every transaction its currency. Mapping them through one table
+ * per loaded book makes each distinct ID and {@link CommodityId} exist once, however many entities refer to it.
+ * Unlike {@link String#intern()} the table goes away with the book.
+ * <p>
+ * The table is thread-safe.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class InternTable {
+
+	private final Map<String, String> ids = new ConcurrentHashMap<>();
+	private final Map<CommodityId, CommodityId> commodities = new ConcurrentHashMap<>();
+
+	/**
+	 * @param id an ID, may be {@code null}
+	 * @return the canonical instance equal to the given ID
+	 */
+	public String id(String id) {
+		if (id == null) {
+			return null;
+		}
+		String existing = ids.putIfAbsent(id, id);
+		return existing != null ? existing : id;
+	}
+
+	/**
+	 * @param namespace the commodity namespace
+	 * @param id        the commodity ID within the namespace
+	 * @return the canonical commodity instance
+	 */
+	public CommodityId commodity(@NonNull String namespace, @NonNull String id) {
+		return commodity(new CommodityId(namespace, id));
+	}
+
+	/**
+	 * @param commodity a commodity
+	 * @return the canonical instance equal to the given commodity
+	 */
+	public CommodityId commodity(@NonNull CommodityId commodity) {
+		CommodityId existing = commodities.putIfAbsent(commodity, commodity);
+		return existing != null ? existing : commodity;
+	}
+
+	/**
+	 * @return number of distinct IDs in the table
+	 */
+	public int idCount() {
+		return ids.size();
+	}
+
+	/**
+	 * @return number of distinct commodities in the table
+	 */
+	public int commodityCount() {
+		return commodities.size();
+	}
+}
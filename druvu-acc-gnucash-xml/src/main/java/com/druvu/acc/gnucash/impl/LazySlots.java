@@ -0,0 +1,293 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.druvu.acc.api.entity.SlotType;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.gnucash.generated.Slot;
+import com.druvu.acc.gnucash.generated.SlotValue;
+import com.druvu.acc.gnucash.generated.SlotsType;
+
+import jakarta.xml.bind.JAXBElement;
+
+/**
+ * {@link Slots} view over the JAXB slot elements of an entity or frame.
+ * <p>
+ * Nothing is converted on creation. Lookups walk the path one frame at a time and parse only the value at its
+ * end; frames with many keys get a key index on their first lookup. The views of nested frames are kept by their
+ * parent, so the key index of a large nested frame survives between lookups. Unlike {@link SlotUtils#toMap(SlotsType)}
+ * no maps are allocated for slots that are never read.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class LazySlots implements Slots {
+
+	private static final char PATH_SEPARATOR = '/';
+	// frames up to this size are scanned, larger ones are indexed by key
+	private static final int INDEX_THRESHOLD = 8;
+
+	// Slot elements, interleaved with whitespace text inside frames
+	private final List<?> items;
+	// this for a path view, the path view whose key index and frame views a literal-key view shares
+	private final LazySlots base;
+	private volatile Map<String, Slot> index;
+	// views of the nested frames looked up so far, created on first lookup
+	private volatile Map<Slot, LazySlots> children;
+
+	private LazySlots(List<?> items) {
+		this.items = items;
+		this.base = this;
+	}
+
+	private LazySlots(LazySlots base) {
+		this.items = base.items;
+		this.base = base;
+	}
+
+	/**
+	 * @param slots the slots container (maybe null)
+	 * @return a view of the slots, the shared empty view if there are none
+	 */
+	public static Slots of(SlotsType slots) {
+		if (slots == null || slots.getSlot() == null || slots.getSlot().isEmpty()) {
+			return Slots.empty();
+		}
+		return new LazySlots(slots.getSlot());
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (Object item : items) {
+			if (item instanceof Slot) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public List<String> keys() {
+		List<String> keys = new ArrayList<>();
+		for (Object item : items) {
+			if (item instanceof Slot slot) {
+				keys.add(slot.getSlotKey());
+			}
+		}
+		return keys;
+	}
+
+	@Override
+	public Slots literalKeys() {
+		return base == this ? new LazySlots(this) : this;
+	}
+
+	@Override
+	public Optional<SlotType> type(String path) {
+		return Optional.ofNullable(value(path)).map(LazySlots::typeOf);
+	}
+
+	@Override
+	public Optional<String> string(String path) {
+		SlotValue value = value(path);
+		if (value == null) {
+			return Optional.empty();
+		}
+		return switch (typeOf(value)) {
+			case FRAME, LIST -> throw mismatch(path, value, SlotType.STRING);
+			case GDATE -> Optional.ofNullable(gdate(value)).map(LocalDate::toString);
+			case TIMESPEC -> Optional.ofNullable(element(value, "ts_date")).map(String.class::cast);
+			default -> Optional.ofNullable(text(value));
+		};
+	}
+
+	@Override
+	public Optional<Long> integer(String path) {
+		SlotValue value = value(path);
+		if (value == null) {
+			return Optional.empty();
+		}
+		if (typeOf(value) != SlotType.INTEGER) {
+			throw mismatch(path, value, SlotType.INTEGER);
+		}
+		return Optional.ofNullable(text(value)).map(Long::valueOf);
+	}
+
+	@Override
+	public Optional<BigDecimal> numeric(String path) {
+		SlotValue value = value(path);
+		if (value == null) {
+			return Optional.empty();
+		}
+		return switch (typeOf(value)) {
+			case NUMERIC -> Optional.ofNullable(text(value)).map(Fractions::parse);
+			case INTEGER, DOUBLE -> Optional.ofNullable(text(value)).map(BigDecimal::new);
+			default -> throw mismatch(path, value, SlotType.NUMERIC);
+		};
+	}
+
+	@Override
+	public Optional<LocalDate> date(String path) {
+		SlotValue value = value(path);
+		if (value == null) {
+			return Optional.empty();
+		}
+		if (typeOf(value) != SlotType.GDATE) {
+			throw mismatch(path, value, SlotType.GDATE);
+		}
+		return Optional.ofNullable(gdate(value));
+	}
+
+	@Override
+	public Optional<LocalDateTime> timestamp(String path) {
+		SlotValue value = value(path);
+		if (value == null) {
+			return Optional.empty();
+		}
+		if (typeOf(value) != SlotType.TIMESPEC) {
+			throw mismatch(path, value, SlotType.TIMESPEC);
+		}
+		return Optional.ofNullable(element(value, "ts_date")).map(ts -> DateTimeUtils.parseTimestamp((String) ts));
+	}
+
+	@Override
+	public Optional<Slots> frame(String path) {
+		LazySlots parent = parent(path);
+		Slot slot = parent != null ? parent.find(key(path)) : null;
+		if (slot == null || slot.getSlotValue() == null) {
+			return Optional.empty();
+		}
+		if (typeOf(slot.getSlotValue()) != SlotType.FRAME) {
+			throw mismatch(path, slot.getSlotValue(), SlotType.FRAME);
+		}
+		return Optional.of(parent.child(slot));
+	}
+
+	// ========== Helper Methods ==========
+
+	private SlotValue value(String path) {
+		Slot slot = slot(path);
+		return slot != null ? slot.getSlotValue() : null;
+	}
+
+	private Slot slot(String path) {
+		LazySlots parent = parent(path);
+		return parent != null ? parent.find(key(path)) : null;
+	}
+
+	/**
+	 * @return the frame holding the last key of the path, null if a frame on the way is missing
+	 */
+	private LazySlots parent(String path) {
+		if (base != this) {
+			return base;
+		}
+		LazySlots frame = this;
+		int start = 0;
+		int end;
+		while ((end = path.indexOf(PATH_SEPARATOR, start)) >= 0) {
+			Slot slot = frame.find(path.substring(start, end));
+			if (slot == null || slot.getSlotValue() == null || typeOf(slot.getSlotValue()) != SlotType.FRAME) {
+				return null;
+			}
+			frame = frame.child(slot);
+			start = end + 1;
+		}
+		return frame;
+	}
+
+	private String key(String path) {
+		if (base != this) {
+			return path;
+		}
+		return path.substring(path.lastIndexOf(PATH_SEPARATOR) + 1);
+	}
+
+	/**
+	 * @return the view of a frame slot of this frame, the same instance on every call
+	 */
+	private LazySlots child(Slot slot) {
+		Map<Slot, LazySlots> views = children;
+		if (views == null) {
+			synchronized (this) {
+				views = children;
+				if (views == null) {
+					views = new ConcurrentHashMap<>();
+					children = views;
+				}
+			}
+		}
+		return views.computeIfAbsent(slot, frame -> new LazySlots(frame.getSlotValue().getContent()));
+	}
+
+	private Slot find(String key) {
+		Map<String, Slot> keys = index;
+		if (keys == null && items.size() > INDEX_THRESHOLD) {
+			keys = new HashMap<>();
+			for (Object item : items) {
+				if (item instanceof Slot slot) {
+					keys.putIfAbsent(slot.getSlotKey(), slot);
+				}
+			}
+			index = keys;
+		}
+		if (keys != null) {
+			return keys.get(key);
+		}
+		for (Object item : items) {
+			if (item instanceof Slot slot && key.equals(slot.getSlotKey())) {
+				return slot;
+			}
+		}
+		return null;
+	}
+
+	private static SlotType typeOf(SlotValue value) {
+		return SlotType.fromCode(value.getType());
+	}
+
+	private static String text(SlotValue value) {
+		StringBuilder builder = new StringBuilder();
+		for (Object item : value.getContent()) {
+			if (item instanceof String text) {
+				builder.append(text);
+			}
+		}
+		String result = builder.toString().trim();
+		return result.isEmpty() ? null : result;
+	}
+
+	private static Object element(SlotValue value, String name) {
+		for (Object item : value.getContent()) {
+			if (item instanceof JAXBElement<?> element && name.equals(element.getName().getLocalPart())) {
+				return element.getValue();
+			}
+		}
+		return null;
+	}
+
+	private static LocalDate gdate(SlotValue value) {
+		return element(value, "gdate") instanceof XMLGregorianCalendar calendar
+				? LocalDate.of(calendar.getYear(), calendar.getMonth(), calendar.getDay())
+				: null;
+	}
+
+	private static IllegalStateException mismatch(String path, SlotValue value, SlotType expected) {
+		return new IllegalStateException("Slot " + path + " holds " + value.getType() + ", not " + expected.code());
+	}
+
+	@Override
+	public String toString() {
+		return "Slots" + keys();
+	}
+}
@@ -0,0 +1,94 @@
+package com.druvu.acc.gnucash.impl;
+
+import com.druvu.acc.api.StoreFootprint;
+import com.druvu.acc.api.metrics.AccMetrics;
+import com.druvu.acc.api.metrics.MetricNames;
+import com.druvu.acc.api.metrics.Metrics;
+
+/**
+ * Collects the phase timings of one book load and reports them as a JFR event and metrics.
+ * <p>
+ * Created when the load starts; each phase adds its time, and the load ends with either
+ * {@link #completed} or {@link #failed}. Not thread-safe, a load runs on a single thread.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class LoadPhases {
+
+	private final BookLoadEvent event = new BookLoadEvent();
+	private final long start = System.nanoTime();
+
+	private long decompressNanos;
+	private long parseNanos;
+	private long mapNanos;
+	private long indexNanos;
+
+	public LoadPhases() {
+		event.begin();
+	}
+
+	public void decompressed(long nanos) {
+		decompressNanos += nanos;
+	}
+
+	public void parsed(long nanos) {
+		parseNanos += nanos;
+	}
+
+	public void mapped(long nanos) {
+		mapNanos += nanos;
+	}
+
+	public void indexed(long nanos) {
+		indexNanos += nanos;
+	}
+
+	/**
+	 * @return nanoseconds since the load started
+	 */
+	public long elapsedNanos() {
+		return System.nanoTime() - start;
+	}
+
+	/**
+	 * Reports a successful load.
+	 *
+	 * @param book      the book label, usually its file name
+	 * @param mode      the load mode
+	 * @param fileSize  the size of the file in bytes
+	 * @param footprint the footprint of the loaded store
+	 */
+	public void completed(String book, String mode, long fileSize, StoreFootprint footprint) {
+		long total = elapsedNanos();
+		event.end();
+		if (event.shouldCommit()) {
+			event.book = book;
+			event.mode = mode;
+			event.fileSize = fileSize;
+			event.estimatedHeap = footprint.total();
+			event.decompressTime = decompressNanos;
+			event.parseTime = parseNanos;
+			event.mapTime = mapNanos;
+			event.indexTime = indexNanos;
+			event.commit();
+		}
+
+		AccMetrics metrics = Metrics.get();
+		metrics.increment(MetricNames.LOAD_COUNT, book, 1);
+		metrics.recordTime(MetricNames.LOAD_TIME, book, total);
+		metrics.recordTime(MetricNames.LOAD_DECOMPRESS_TIME, book, decompressNanos);
+		metrics.recordTime(MetricNames.LOAD_PARSE_TIME, book, parseNanos);
+		metrics.recordTime(MetricNames.LOAD_MAP_TIME, book, mapNanos);
+		metrics.recordTime(MetricNames.LOAD_INDEX_TIME, book, indexNanos);
+	}
+
+	/**
+	 * Reports a failed load, no event is committed.
+	 *
+	 * @param book the book label, usually its file name
+	 */
+	public void failed(String book) {
+		Metrics.get().increment(MetricNames.LOAD_FAILURES, book, 1);
+	}
+}
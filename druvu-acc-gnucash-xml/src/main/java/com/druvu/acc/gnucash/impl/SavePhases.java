@@ -0,0 +1,47 @@
+package com.druvu.acc.gnucash.impl;
+
+import com.druvu.acc.api.metrics.AccMetrics;
+import com.druvu.acc.api.metrics.MetricNames;
+import com.druvu.acc.api.metrics.Metrics;
+
+/**
+ * Collects the timings of one book save and reports them as a JFR event and metrics.
+ * <p>
+ * Not thread-safe, a save runs on a single thread.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class SavePhases {
+
+	private final BookSaveEvent event = new BookSaveEvent();
+	private final long start = System.nanoTime();
+
+	public SavePhases() {
+		event.begin();
+	}
+
+	/**
+	 * Reports a completed save.
+	 *
+	 * @param book          the book label, usually its file name
+	 * @param fileSize      the size of the written file in bytes
+	 * @param compressNanos nanoseconds spent compressing and writing
+	 */
+	public void completed(String book, long fileSize, long compressNanos) {
+		long total = System.nanoTime() - start;
+		event.end();
+		if (event.shouldCommit()) {
+			event.book = book;
+			event.fileSize = fileSize;
+			event.compressTime = compressNanos;
+			event.marshalTime = total - compressNanos;
+			event.commit();
+		}
+
+		AccMetrics metrics = Metrics.get();
+		metrics.increment(MetricNames.SAVE_COUNT, book, 1);
+		metrics.recordTime(MetricNames.SAVE_TIME, book, total);
+		metrics.recordTime(MetricNames.SAVE_COMPRESS_TIME, book, compressNanos);
+	}
+}
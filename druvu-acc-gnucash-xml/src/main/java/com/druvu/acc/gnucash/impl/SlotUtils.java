@@ -1,5 +1,7 @@
 package com.druvu.acc.gnucash.impl;
 
+import com.druvu.acc.api.entity.SlotType;
+import com.druvu.acc.api.entity.Slots;
 import com.druvu.acc.gnucash.generated.Slot;
 import com.druvu.acc.gnucash.generated.SlotValue;
 import com.druvu.acc.gnucash.generated.SlotsType;
@@ -42,6 +44,46 @@ public final class SlotUtils {
 		return Collections.unmodifiableMap(result);
 	}
 
+	/**
+	 * Converts the slots of a new entity to a SlotsType.
+	 * <p>
+	 * Scalars stored as text and frames are supported; dates, timestamps, lists and binary values are not.
+	 *
+	 * @param slots the slots view
+	 * @return the slots container, or null if there are no slots
+	 * @throws IllegalArgumentException if a slot has an unsupported type
+	 */
+	public static SlotsType fromSlots(Slots slots) {
+		if (slots.isEmpty()) {
+			return null;
+		}
+		SlotsType result = new SlotsType();
+		result.getSlot().addAll(toSlotList(slots));
+		return result;
+	}
+
+	private static List<Slot> toSlotList(Slots slots) {
+		List<Slot> result = new ArrayList<>();
+		for (String key : slots.keys()) {
+			SlotType type = slots.type(key).orElseThrow();
+			SlotValue value = new SlotValue();
+			value.setType(type.code());
+			switch (type) {
+				case STRING, GUID -> value.getContent().add(slots.string(key).orElseThrow());
+				case INTEGER -> value.getContent().add(Long.toString(slots.integer(key).orElseThrow()));
+				case DOUBLE -> value.getContent().add(Double.toString(slots.numeric(key).orElseThrow().doubleValue()));
+				case NUMERIC -> value.getContent().add(Fractions.format(slots.numeric(key).orElseThrow()));
+				case FRAME -> value.getContent().addAll(toSlotList(slots.frame(key).orElseThrow()));
+				default -> throw new IllegalArgumentException("Unsupported slot type " + type.code() + " of slot " + key);
+			}
+			Slot slot = new Slot();
+			slot.setSlotKey(key);
+			slot.setSlotValue(value);
+			result.add(slot);
+		}
+		return result;
+	}
+
 	private static Object extractValue(SlotValue slotValue) {
 		if (slotValue == null) {
 			return null;
@@ -0,0 +1,63 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream accumulating the time spent reading from the wrapped stream.
+ * <p>
+ * Wrapped around a decompressing stream it measures decompression and file reading, separated from the
+ * time the consumer spends processing the data.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class TimedInputStream extends FilterInputStream {
+
+	private long nanos;
+
+	public TimedInputStream(InputStream in) {
+		super(in);
+	}
+
+	/**
+	 * @return nanoseconds spent in the wrapped stream so far
+	 */
+	public long nanos() {
+		return nanos;
+	}
+
+	@Override
+	public int read() throws IOException {
+		long start = System.nanoTime();
+		try {
+			return in.read();
+		}
+		finally {
+			nanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		long start = System.nanoTime();
+		try {
+			return in.read(b, off, len);
+		}
+		finally {
+			nanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long start = System.nanoTime();
+		try {
+			return in.skip(n);
+		}
+		finally {
+			nanos += System.nanoTime() - start;
+		}
+	}
+}
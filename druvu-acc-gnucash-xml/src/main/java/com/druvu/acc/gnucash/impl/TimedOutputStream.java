@@ -0,0 +1,74 @@
+package com.druvu.acc.gnucash.impl;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream accumulating the time spent writing to the wrapped stream.
+ * <p>
+ * Wrapped around a compressing stream it measures compression and file writing, separated from the
+ * time the producer spends generating the data.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+public final class TimedOutputStream extends FilterOutputStream {
+
+	private long nanos;
+
+	public TimedOutputStream(OutputStream out) {
+		super(out);
+	}
+
+	/**
+	 * @return nanoseconds spent in the wrapped stream so far
+	 */
+	public long nanos() {
+		return nanos;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		long start = System.nanoTime();
+		try {
+			out.write(b);
+		}
+		finally {
+			nanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		long start = System.nanoTime();
+		try {
+			out.write(b, off, len);
+		}
+		finally {
+			nanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		long start = System.nanoTime();
+		try {
+			out.flush();
+		}
+		finally {
+			nanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		long start = System.nanoTime();
+		try {
+			out.close();
+		}
+		finally {
+			nanos += System.nanoTime() - start;
+		}
+	}
+}
@@ -6,11 +6,15 @@ import com.druvu.acc.api.entity.Account;
 import com.druvu.acc.api.entity.AccountType;
 import com.druvu.acc.api.entity.CommodityId;
 import com.druvu.acc.gnucash.generated.GncAccount;
+import com.druvu.acc.gnucash.impl.InternTable;
+import com.druvu.acc.gnucash.impl.LazySlots;
 
 import lombok.experimental.UtilityClass;
 
 /**
  * Maps GnuCash XML GncAccount entity to AccAccount business object.
+ * <p>
+ * IDs and commodities are taken from the intern table of the book.
  *
  * @author Deniss Larka
  * <br/>on 12 Jan 2026
@@ -18,15 +22,15 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public final class AccountMapper {
 
-	public static Account map(GncAccount peer) {
+	public static Account map(GncAccount peer, InternTable interns) {
 		var commodity = peer.getActCommodity();
 		Optional<CommodityId> commodityId = commodity != null
-				? Optional.of(new CommodityId(commodity.getCmdtySpace(), commodity.getCmdtyId()))
+				? Optional.of(interns.commodity(commodity.getCmdtySpace(), commodity.getCmdtyId()))
 				: Optional.empty();
 
 		var parent = peer.getActParent();
 		Optional<String> parentId = parent != null
-				? Optional.of(parent.getValue())
+				? Optional.of(interns.id(parent.getValue()))
 				: Optional.empty();
 
 		AccountType type;
@@ -38,13 +42,14 @@ public final class AccountMapper {
 		}
 
 		return new Account(
-				peer.getActId().getValue(),
+				interns.id(peer.getActId().getValue()),
 				peer.getActName(),
 				type,
 				Optional.ofNullable(peer.getActCode()),
 				Optional.ofNullable(peer.getActDescription()),
 				commodityId,
-				parentId
+				parentId,
+				LazySlots.of(peer.getActSlots())
 		);
 	}
 }
@@ -0,0 +1,78 @@
+package com.druvu.acc.gnucash.mapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.BudgetAmount;
+import com.druvu.acc.api.entity.Recurrence;
+import com.druvu.acc.api.entity.RecurrencePeriod;
+import com.druvu.acc.api.entity.SlotType;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.api.entity.WeekendAdjust;
+import com.druvu.acc.gnucash.generated.GncBudget;
+import com.druvu.acc.gnucash.impl.InternTable;
+import com.druvu.acc.gnucash.impl.LazySlots;
+
+import jakarta.xml.bind.JAXBElement;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Maps GnuCash XML GncBudget entity to Budget business object.
+ * <p>
+ * GnuCash keeps budget amounts in the budget slots: one frame per account GUID holding one numeric slot per
+ * zero-based period number. Periods without a slot are not budgeted.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@UtilityClass
+public final class BudgetMapper {
+
+	public static Budget map(GncBudget peer, InternTable interns) {
+		var recurrence = peer.getBgtRecurrence();
+		return new Budget(
+				interns.id(peer.getBgtId().getValue()),
+				peer.getBgtName(),
+				Optional.ofNullable(peer.getBgtDescription()).map(JAXBElement::getValue),
+				peer.getBgtNumPeriods(),
+				new Recurrence(
+						recurrence.getRecurrenceMult(),
+						RecurrencePeriod.fromCode(recurrence.getRecurrencePeriodType()),
+						toLocalDate(recurrence.getRecurrenceStart().getGdate()),
+						WeekendAdjust.NONE),
+				amounts(LazySlots.of(peer.getBgtSlots()), interns)
+		);
+	}
+
+	private static List<BudgetAmount> amounts(Slots slots, InternTable interns) {
+		List<BudgetAmount> amounts = new ArrayList<>();
+		for (String accountId : slots.keys()) {
+			if (slots.type(accountId).orElse(null) != SlotType.FRAME) {
+				continue;
+			}
+			String internedId = interns.id(accountId);
+			Slots periods = slots.frame(accountId).orElseThrow();
+			for (String period : periods.keys()) {
+				if (isPeriod(period) && periods.type(period).orElse(null) == SlotType.NUMERIC) {
+					amounts.add(new BudgetAmount(internedId, Integer.parseInt(period), periods.numeric(period).orElseThrow()));
+				}
+			}
+		}
+		amounts.sort(Comparator.comparing(BudgetAmount::accountId).thenComparingInt(BudgetAmount::period));
+		return List.copyOf(amounts);
+	}
+
+	private static LocalDate toLocalDate(XMLGregorianCalendar calendar) {
+		return LocalDate.of(calendar.getYear(), calendar.getMonth(), calendar.getDay());
+	}
+
+	private static boolean isPeriod(String key) {
+		return !key.isEmpty() && key.chars().allMatch(Character::isDigit);
+	}
+}
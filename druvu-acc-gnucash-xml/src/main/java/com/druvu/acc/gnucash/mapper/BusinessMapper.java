@@ -0,0 +1,133 @@
+package com.druvu.acc.gnucash.mapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Owner;
+import com.druvu.acc.api.entity.OwnerType;
+import com.druvu.acc.api.entity.Vendor;
+import com.druvu.acc.gnucash.generated.GncV2;
+import com.druvu.acc.gnucash.generated.OwnerId;
+import com.druvu.acc.gnucash.impl.DateTimeUtils;
+import com.druvu.acc.gnucash.impl.Fractions;
+import com.druvu.acc.gnucash.impl.InternTable;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Maps GnuCash XML business objects (customers, vendors, jobs, invoices and their entries) to business objects.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@UtilityClass
+public final class BusinessMapper {
+
+	public static Customer map(GncV2.GncBook.GncGncCustomer peer, InternTable interns) {
+		var currency = peer.getCustCurrency();
+		return new Customer(
+				interns.id(peer.getCustGuid().getValue()),
+				peer.getCustId(),
+				peer.getCustName(),
+				peer.getCustActive() != 0,
+				interns.commodity(currency.getCmdtySpace(), currency.getCmdtyId()),
+				optional(peer.getCustNotes())
+		);
+	}
+
+	public static Vendor map(GncV2.GncBook.GncGncVendor peer, InternTable interns) {
+		var currency = peer.getVendorCurrency();
+		return new Vendor(
+				interns.id(peer.getVendorGuid().getValue()),
+				peer.getVendorId(),
+				peer.getVendorName(),
+				peer.getVendorActive() != 0,
+				interns.commodity(currency.getCmdtySpace(), currency.getCmdtyId())
+		);
+	}
+
+	public static Job map(GncV2.GncBook.GncGncJob peer, InternTable interns) {
+		var owner = peer.getJobOwner();
+		return new Job(
+				interns.id(peer.getJobGuid().getValue()),
+				peer.getJobId(),
+				peer.getJobName(),
+				optional(peer.getJobReference()),
+				owner(owner.getOwnerType(), owner.getOwnerId(), interns),
+				peer.getJobActive() != 0
+		);
+	}
+
+	public static Invoice map(GncV2.GncBook.GncGncInvoice peer, InternTable interns) {
+		var owner = peer.getInvoiceOwner();
+		var currency = peer.getInvoiceCurrency();
+		return new Invoice(
+				interns.id(peer.getInvoiceGuid().getValue()),
+				peer.getInvoiceId(),
+				owner(owner.getOwnerType(), owner.getOwnerId(), interns),
+				date(peer.getInvoiceOpened().getTsDate()),
+				Optional.ofNullable(peer.getInvoicePosted()).map(posted -> date(posted.getTsDate())),
+				Optional.ofNullable(peer.getInvoicePosttxn()).map(txn -> interns.id(txn.getValue())),
+				Optional.ofNullable(peer.getInvoicePostlot()).map(lot -> interns.id(lot.getValue())),
+				Optional.ofNullable(peer.getInvoicePostacc()).map(account -> interns.id(account.getValue())),
+				interns.commodity(currency.getCmdtySpace(), currency.getCmdtyId()),
+				optional(peer.getInvoiceNotes()),
+				peer.getInvoiceActive() != 0
+		);
+	}
+
+	/**
+	 * Maps an invoice or bill line.
+	 *
+	 * @return the entry, empty if the line belongs to neither an invoice nor a bill, e.g. an order line
+	 */
+	public static Optional<InvoiceEntry> map(GncV2.GncBook.GncGncEntry peer, InternTable interns) {
+		String invoiceId;
+		String price;
+		String accountId;
+		if (peer.getEntryInvoice() != null) {
+			invoiceId = peer.getEntryInvoice().getValue();
+			price = peer.getEntryIPrice();
+			accountId = peer.getEntryIAcct() != null ? peer.getEntryIAcct().getValue() : null;
+		}
+		else if (peer.getEntryBill() != null) {
+			invoiceId = peer.getEntryBill().getValue();
+			price = peer.getEntryBPrice();
+			accountId = peer.getEntryBAcct() != null ? peer.getEntryBAcct().getValue() : null;
+		}
+		else {
+			return Optional.empty();
+		}
+		return Optional.of(new InvoiceEntry(
+				interns.id(peer.getEntryGuid().getValue()),
+				interns.id(invoiceId),
+				date(peer.getEntryDate().getTsDate()),
+				optional(peer.getEntryDescription()),
+				optional(peer.getEntryAction()),
+				amount(peer.getEntryQty()),
+				amount(price),
+				Optional.ofNullable(accountId).map(interns::id)
+		));
+	}
+
+	private static Owner owner(String type, OwnerId id, InternTable interns) {
+		return new Owner(OwnerType.fromCode(type), interns.id(id.getValue()));
+	}
+
+	private static LocalDate date(String timestamp) {
+		return DateTimeUtils.parseTimestamp(timestamp).toLocalDate();
+	}
+
+	private static BigDecimal amount(String fraction) {
+		return fraction == null || fraction.isBlank() ? BigDecimal.ZERO : Fractions.parse(fraction);
+	}
+
+	private static Optional<String> optional(String value) {
+		return value == null || value.isEmpty() ? Optional.empty() : Optional.of(value);
+	}
+}
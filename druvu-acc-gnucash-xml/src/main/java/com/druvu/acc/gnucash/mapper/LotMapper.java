@@ -0,0 +1,31 @@
+package com.druvu.acc.gnucash.mapper;
+
+import com.druvu.acc.api.entity.Lot;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.gnucash.generated.GncAccount;
+import com.druvu.acc.gnucash.impl.InternTable;
+import com.druvu.acc.gnucash.impl.LazySlots;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Maps GnuCash XML GncLot entity to Lot business object.
+ * <p>
+ * Title and notes are read from the "title" and "notes" slots of the lot.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@UtilityClass
+public final class LotMapper {
+
+	public static Lot map(GncAccount.ActLots.GncLot peer, String accountId, InternTable interns) {
+		Slots slots = LazySlots.of(peer.getLotSlots());
+		return new Lot(
+				interns.id(peer.getLotId().getValue()),
+				accountId,
+				slots.string("title"),
+				slots.string("notes")
+		);
+	}
+}
@@ -3,9 +3,9 @@ package com.druvu.acc.gnucash.mapper;
 import java.util.Optional;
 
 import com.druvu.acc.api.entity.Price;
-import com.druvu.acc.api.entity.CommodityId;
 import com.druvu.acc.gnucash.impl.DateTimeUtils;
 import com.druvu.acc.gnucash.impl.Fractions;
+import com.druvu.acc.gnucash.impl.InternTable;
 
 /**
  * Maps GnuCash XML Price entity to AccPrice business object.
@@ -18,14 +18,14 @@ public final class PriceMapper {
 	private PriceMapper() {
 	}
 
-	public static Price map(com.druvu.acc.gnucash.generated.Price peer) {
+	public static Price map(com.druvu.acc.gnucash.generated.Price peer, InternTable interns) {
 		var commodity = peer.getPriceCommodity();
 		var currency = peer.getPriceCurrency();
 
 		return new Price(
 				peer.getPriceId().getValue(),
-				new CommodityId(commodity.getCmdtySpace(), commodity.getCmdtyId()),
-				new CommodityId(currency.getCmdtySpace(), currency.getCmdtyId()),
+				interns.commodity(commodity.getCmdtySpace(), commodity.getCmdtyId()),
+				interns.commodity(currency.getCmdtySpace(), currency.getCmdtyId()),
 				DateTimeUtils.parseTimestamp(peer.getPriceTime().getTsDate()),
 				peer.getPriceSource(),
 				Optional.ofNullable(peer.getPriceType()),
@@ -0,0 +1,147 @@
+package com.druvu.acc.gnucash.mapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import com.druvu.acc.api.entity.Recurrence;
+import com.druvu.acc.api.entity.RecurrencePeriod;
+import com.druvu.acc.api.entity.ScheduledSplit;
+import com.druvu.acc.api.entity.ScheduledTransaction;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.api.entity.WeekendAdjust;
+import com.druvu.acc.gnucash.generated.GncTransaction;
+import com.druvu.acc.gnucash.generated.GncV2;
+import com.druvu.acc.gnucash.impl.DateTimeUtils;
+import com.druvu.acc.gnucash.impl.Fractions;
+import com.druvu.acc.gnucash.impl.InternTable;
+import com.druvu.acc.gnucash.impl.LazySlots;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Maps GnuCash XML GncSchedxaction entity and its template transactions to ScheduledTransaction business object.
+ * <p>
+ * Template splits are booked to the template account of the schedule and keep the real account and amounts in
+ * their "sched-xaction" slot. Amounts are taken from the numeric slots, or from the formulas when they are plain
+ * numbers; formulas with variables count as zero.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@UtilityClass
+public final class ScheduledTransactionMapper {
+
+	private static final String SX_SLOT = "sched-xaction";
+
+	public static ScheduledTransaction map(GncV2.GncBook.GncSchedxaction peer, Map<String, List<GncTransaction>> templatesByAccount,
+			InternTable interns) {
+		List<GncTransaction> templates = templatesByAccount.getOrDefault(peer.getSxTemplAcct().getValue(), List.of());
+		LocalDate start = toLocalDate(peer.getSxStart().getGdate());
+		String description = templates.isEmpty() ? peer.getSxName() : templates.getFirst().getTrnDescription();
+
+		List<ScheduledSplit> splits = new ArrayList<>();
+		for (GncTransaction template : templates) {
+			if (template.getTrnSplits() != null && template.getTrnSplits().getTrnSplit() != null) {
+				template.getTrnSplits().getTrnSplit().forEach(split -> split(split, interns).ifPresent(splits::add));
+			}
+		}
+
+		return new ScheduledTransaction(
+				interns.id(peer.getSxId().getValue()),
+				peer.getSxName(),
+				!"n".equals(peer.getSxEnabled()),
+				start,
+				Optional.ofNullable(peer.getSxEnd()).map(end -> toLocalDate(end.getGdate())),
+				Optional.ofNullable(peer.getSxLast()).map(last -> toLocalDate(last.getGdate())),
+				Optional.ofNullable(peer.getSxRemOccur()),
+				recurrences(peer, start),
+				description,
+				List.copyOf(splits)
+		);
+	}
+
+	/**
+	 * Groups template transactions by the template account their splits are booked to.
+	 *
+	 * @param bookElements the elements of the book
+	 * @return template transactions per template account ID
+	 */
+	public static Map<String, List<GncTransaction>> templatesByAccount(List<Object> bookElements) {
+		Map<String, List<GncTransaction>> templates = new HashMap<>();
+		for (Object element : bookElements) {
+			if (element instanceof GncV2.GncBook.GncTemplateTransactions templateTransactions) {
+				for (GncTransaction template : templateTransactions.getGncTransaction()) {
+					var splits = template.getTrnSplits();
+					if (splits != null && splits.getTrnSplit() != null && !splits.getTrnSplit().isEmpty()) {
+						String account = splits.getTrnSplit().getFirst().getSplitAccount().getValue();
+						templates.computeIfAbsent(account, _ -> new ArrayList<>()).add(template);
+					}
+				}
+			}
+		}
+		return templates;
+	}
+
+	private static List<Recurrence> recurrences(GncV2.GncBook.GncSchedxaction peer, LocalDate start) {
+		var schedule = peer.getSxSchedule();
+		if (schedule != null && schedule.getGncRecurrence() != null && !schedule.getGncRecurrence().isEmpty()) {
+			return schedule.getGncRecurrence().stream()
+					.map(recurrence -> new Recurrence(
+							recurrence.getRecurrenceMult(),
+							RecurrencePeriod.fromCode(recurrence.getRecurrencePeriodType()),
+							DateTimeUtils.parseDate(recurrence.getRecurrenceStart().getGdate()),
+							WeekendAdjust.fromCode(recurrence.getRecurrenceWeekendAdj())))
+					.toList();
+		}
+		// files written before GnuCash 2.2 describe monthly schedules with a frequency spec
+		var freqspec = peer.getSxFreqspec();
+		if (freqspec != null && freqspec.getGncFreqspec() != null && freqspec.getGncFreqspec().getFsMonthly() != null) {
+			var monthly = freqspec.getGncFreqspec().getFsMonthly();
+			LocalDate anchor = start.withDayOfMonth(Math.min(Math.max(1, monthly.getFsDay()), start.lengthOfMonth()));
+			return List.of(new Recurrence(monthly.getFsInterval(), RecurrencePeriod.MONTH, anchor, WeekendAdjust.NONE));
+		}
+		return List.of();
+	}
+
+	private static Optional<ScheduledSplit> split(GncTransaction.TrnSplits.TrnSplit peer, InternTable interns) {
+		Optional<Slots> frame = LazySlots.of(peer.getSplitSlots()).frame(SX_SLOT);
+		Optional<String> accountId = frame.flatMap(slot -> slot.string("account"));
+		if (accountId.isEmpty()) {
+			return Optional.empty();
+		}
+		Slots slot = frame.get();
+		BigDecimal debit = amount(slot, "debit");
+		BigDecimal credit = amount(slot, "credit");
+		return Optional.of(new ScheduledSplit(
+				interns.id(accountId.get()),
+				Optional.ofNullable(peer.getSplitMemo()),
+				debit.subtract(credit)
+		));
+	}
+
+	private static BigDecimal amount(Slots slot, String side) {
+		for (String key : List.of(side + "-numeric", side + "-formula")) {
+			Optional<String> value = slot.string(key);
+			if (value.isPresent()) {
+				try {
+					return Fractions.parse(value.get());
+				}
+				catch (NumberFormatException _) {
+					// formula with variables, try the next representation
+				}
+			}
+		}
+		return BigDecimal.ZERO;
+	}
+
+	private static LocalDate toLocalDate(XMLGregorianCalendar calendar) {
+		return LocalDate.of(calendar.getYear(), calendar.getMonth(), calendar.getDay());
+	}
+}
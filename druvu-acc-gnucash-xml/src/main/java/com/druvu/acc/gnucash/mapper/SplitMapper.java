@@ -8,6 +8,9 @@ import com.druvu.acc.api.entity.ReconcileState;
 import com.druvu.acc.gnucash.generated.GncTransaction;
 import com.druvu.acc.gnucash.impl.DateTimeUtils;
 import com.druvu.acc.gnucash.impl.Fractions;
+import com.druvu.acc.gnucash.impl.InternTable;
+import com.druvu.acc.gnucash.impl.LazySlots;
+import com.druvu.acc.gnucash.impl.SlotUtils;
 
 import lombok.experimental.UtilityClass;
 
@@ -20,23 +23,67 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public final class SplitMapper {
 
-	public static Split map(GncTransaction.TrnSplits.TrnSplit peer, String transactionId, LocalDate datePosted) {
+	public static Split map(GncTransaction.TrnSplits.TrnSplit peer, String transactionId, LocalDate datePosted, InternTable interns) {
 		var reconcileDate = peer.getSplitReconcileDate();
 		Optional<LocalDate> reconciledDate = Optional.empty();
 		if (reconcileDate != null) {
 			var ldt = DateTimeUtils.parseTimestamp(reconcileDate.getTsDate());
 			reconciledDate = Optional.of(ldt.toLocalDate());
 		}
+		var lot = peer.getSplitLot();
 
 		return new Split(
 				peer.getSplitId().getValue(),
 				transactionId,
-				peer.getSplitAccount().getValue(),
+				interns.id(peer.getSplitAccount().getValue()),
 				datePosted,
 				ReconcileState.fromCode(peer.getSplitReconciledState()),
 				reconciledDate,
 				Fractions.parse(peer.getSplitValue()),
-				Fractions.parse(peer.getSplitQuantity())
+				Fractions.parse(peer.getSplitQuantity()),
+				Optional.ofNullable(peer.getSplitMemo()).filter(memo -> !memo.isEmpty()),
+				lot != null ? Optional.of(interns.id(lot.getValue())) : Optional.empty(),
+				LazySlots.of(peer.getSplitSlots())
 		);
 	}
+
+	/**
+	 * Maps a new split to its GnuCash XML element.
+	 */
+	public static GncTransaction.TrnSplits.TrnSplit toGnc(Split split) {
+		GncTransaction.TrnSplits.TrnSplit peer = new GncTransaction.TrnSplits.TrnSplit();
+		GncTransaction.TrnSplits.TrnSplit.SplitId id = new GncTransaction.TrnSplits.TrnSplit.SplitId();
+		id.setType(TransactionMapper.GUID);
+		id.setValue(split.id());
+		peer.setSplitId(id);
+		split.memo().ifPresent(peer::setSplitMemo);
+		reconcile(peer, split.reconcileState(), split.reconcileDate().orElse(null));
+		peer.setSplitValue(Fractions.format(split.value()));
+		peer.setSplitQuantity(Fractions.format(split.quantity()));
+		GncTransaction.TrnSplits.TrnSplit.SplitAccount account = new GncTransaction.TrnSplits.TrnSplit.SplitAccount();
+		account.setType(TransactionMapper.GUID);
+		account.setValue(split.accountId());
+		peer.setSplitAccount(account);
+		split.lotId().ifPresent(lotId -> {
+			GncTransaction.TrnSplits.TrnSplit.SplitLot lot = new GncTransaction.TrnSplits.TrnSplit.SplitLot();
+			lot.setType(TransactionMapper.GUID);
+			lot.setValue(lotId);
+			peer.setSplitLot(lot);
+		});
+		peer.setSplitSlots(SlotUtils.fromSlots(split.slots()));
+		return peer;
+	}
+
+	/**
+	 * Sets the reconcile state and date of a split element, a null date removing it.
+	 */
+	public static void reconcile(GncTransaction.TrnSplits.TrnSplit peer, ReconcileState state, LocalDate date) {
+		peer.setSplitReconciledState(state.code());
+		GncTransaction.TrnSplits.TrnSplit.SplitReconcileDate reconcileDate = null;
+		if (date != null) {
+			reconcileDate = new GncTransaction.TrnSplits.TrnSplit.SplitReconcileDate();
+			reconcileDate.setTsDate(DateTimeUtils.formatTimestamp(date.atTime(TransactionMapper.POSTED_TIME)));
+		}
+		peer.setSplitReconcileDate(reconcileDate);
+	}
 }
@@ -1,14 +1,17 @@
 package com.druvu.acc.gnucash.mapper;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
 import com.druvu.acc.api.entity.Split;
 import com.druvu.acc.api.entity.Transaction;
-import com.druvu.acc.api.entity.CommodityId;
 import com.druvu.acc.gnucash.generated.GncTransaction;
 import com.druvu.acc.gnucash.impl.DateTimeUtils;
+import com.druvu.acc.gnucash.impl.InternTable;
+import com.druvu.acc.gnucash.impl.LazySlots;
+import com.druvu.acc.gnucash.impl.SlotUtils;
 
 import lombok.experimental.UtilityClass;
 
@@ -21,33 +24,82 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public final class TransactionMapper {
 
-	public static Transaction map(GncTransaction peer) {
+	static final String GUID = "guid";
+	static final LocalTime POSTED_TIME = LocalTime.of(10, 59);
+	private static final String VERSION = "2.0.0";
+
+	public static Transaction map(GncTransaction peer, InternTable interns) {
 		String transactionId = peer.getTrnId().getValue();
 		var currency = peer.getTrnCurrency();
 
-		LocalDate datePosted;
-		var dp = peer.getTrnDatePosted();
-		if (dp != null) {
-			datePosted = DateTimeUtils.parseTimestamp(dp.getTsDate()).toLocalDate();
-		} else {
-			datePosted = DateTimeUtils.parseTimestamp(peer.getTrnDateEntered().getTsDate()).toLocalDate();
-		}
+		LocalDate datePosted = datePosted(peer);
 
 		List<Split> splits = List.of();
 		var trnSplits = peer.getTrnSplits();
 		if (trnSplits != null && trnSplits.getTrnSplit() != null) {
 			splits = trnSplits.getTrnSplit().stream()
-					.map(split -> SplitMapper.map(split, transactionId, datePosted))
+					.map(split -> SplitMapper.map(split, transactionId, datePosted, interns))
 					.toList();
 		}
 
 		return new Transaction(
 				transactionId,
-				new CommodityId(currency.getCmdtySpace(), currency.getCmdtyId()),
+				interns.commodity(currency.getCmdtySpace(), currency.getCmdtyId()),
 				Optional.ofNullable(peer.getTrnNum()),
 				datePosted,
 				peer.getTrnDescription(),
-				splits
+				splits,
+				LazySlots.of(peer.getTrnSlots())
 		);
 	}
+
+	/**
+	 * Reads the date posted without mapping the transaction, falling back to the date entered.
+	 *
+	 * @param peer the transaction element
+	 * @return the date posted
+	 */
+	public static LocalDate datePosted(GncTransaction peer) {
+		var dp = peer.getTrnDatePosted();
+		if (dp != null) {
+			return DateTimeUtils.parseTimestamp(dp.getTsDate()).toLocalDate();
+		}
+		return DateTimeUtils.parseTimestamp(peer.getTrnDateEntered().getTsDate()).toLocalDate();
+	}
+
+	/**
+	 * Maps a new transaction to its GnuCash XML element, posted at the neutral time GnuCash uses for dates.
+	 */
+	public static GncTransaction toGnc(Transaction transaction) {
+		GncTransaction peer = new GncTransaction();
+		peer.setVersion(VERSION);
+
+		GncTransaction.TrnId id = new GncTransaction.TrnId();
+		id.setType(GUID);
+		id.setValue(transaction.id());
+		peer.setTrnId(id);
+
+		GncTransaction.TrnCurrency currency = new GncTransaction.TrnCurrency();
+		currency.setCmdtySpace(transaction.currency().namespace());
+		currency.setCmdtyId(transaction.currency().id());
+		peer.setTrnCurrency(currency);
+		transaction.number().ifPresent(peer::setTrnNum);
+
+		String posted = DateTimeUtils.formatTimestamp(transaction.datePosted().atTime(POSTED_TIME));
+		GncTransaction.TrnDatePosted datePosted = new GncTransaction.TrnDatePosted();
+		datePosted.setTsDate(posted);
+		peer.setTrnDatePosted(datePosted);
+		GncTransaction.TrnDateEntered dateEntered = new GncTransaction.TrnDateEntered();
+		dateEntered.setTsDate(posted);
+		peer.setTrnDateEntered(dateEntered);
+
+		peer.setTrnDescription(transaction.description());
+		peer.setTrnSlots(SlotUtils.fromSlots(transaction.slots()));
+		GncTransaction.TrnSplits splits = new GncTransaction.TrnSplits();
+		for (Split split : transaction.splits()) {
+			splits.getTrnSplit().add(SplitMapper.toGnc(split));
+		}
+		peer.setTrnSplits(splits);
+		return peer;
+	}
 }
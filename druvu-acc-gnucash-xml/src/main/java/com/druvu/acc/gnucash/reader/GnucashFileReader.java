@@ -13,8 +13,10 @@ import java.util.zip.GZIPInputStream;
 import org.xml.sax.InputSource;
 
 import com.druvu.acc.gnucash.generated.GncV2;
+import com.druvu.acc.gnucash.impl.GnucashJaxb;
+import com.druvu.acc.gnucash.impl.LoadPhases;
+import com.druvu.acc.gnucash.impl.TimedInputStream;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Unmarshaller;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,9 @@ import lombok.extern.slf4j.Slf4j;
  * Reads GnuCash XML files and parses them into GncV2 objects.
  * <p>
  * Supports both plain XML and gzip-compressed files (typically .gnucash extension).
+ * <p>
+ * Readers are cheap to create: the JAXB context is shared and only a light unmarshaller is created per read,
+ * see {@link GnucashJaxb}.
  *
  * @author Deniss Larka
  *         <br/>on 10 Jan 2026
@@ -33,17 +38,6 @@ public class GnucashFileReader {
 	private static final int GZIP_MAGIC_1 = 0x1f;
 	private static final int GZIP_MAGIC_2 = 0x8b;
 
-	private final JAXBContext jaxbContext;
-
-	public GnucashFileReader() {
-		try {
-			this.jaxbContext = JAXBContext.newInstance(GncV2.class);
-		}
-		catch (JAXBException e) {
-			throw new IllegalStateException("Failed to create JAXB context", e);
-		}
-	}
-
 	/**
 	 * Reads a GnuCash file from the specified path.
 	 *
@@ -52,10 +46,22 @@ public class GnucashFileReader {
 	 * @throws IOException if the file cannot be read
 	 */
 	public GncV2 read(Path path) throws IOException {
+		return read(path, new LoadPhases());
+	}
+
+	/**
+	 * Reads a GnuCash file from the specified path, recording the decompress and parse times.
+	 *
+	 * @param path   the path to the GnuCash file
+	 * @param phases receives the phase timings
+	 * @return the parsed GncV2
+	 * @throws IOException if the file cannot be read
+	 */
+	public GncV2 read(Path path, LoadPhases phases) throws IOException {
 		log.debug("Reading GnuCash file: {}", path);
 
 		try (InputStream is = Files.newInputStream(path); BufferedInputStream bis = new BufferedInputStream(is)) {
-			return read(bis);
+			return read(bis, phases);
 		}
 	}
 
@@ -69,6 +75,19 @@ public class GnucashFileReader {
 	 * @throws IOException if the stream cannot be read
 	 */
 	public GncV2 read(InputStream inputStream) throws IOException {
+		return read(inputStream, new LoadPhases());
+	}
+
+	/**
+	 * Reads a GnuCash file from an input stream, recording the decompress and parse times.
+	 *
+	 * @param inputStream the input stream (must support mark/reset)
+	 * @param phases      receives the phase timings
+	 * @return the parsed GncV2
+	 * @throws IOException if the stream cannot be read
+	 */
+	public GncV2 read(InputStream inputStream, LoadPhases phases) throws IOException {
+		long start = System.nanoTime();
 		InputStream effectiveStream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
 
 		effectiveStream.mark(2);
@@ -80,15 +99,16 @@ public class GnucashFileReader {
 			log.debug("Detected gzip-compressed file");
 			effectiveStream = new GZIPInputStream(effectiveStream);
 		}
+		TimedInputStream timedStream = new TimedInputStream(effectiveStream);
 
 		try {
 			// Wrap the stream in a reader that transforms namespace prefixes
 			// GnuCash XML uses <gnc:book> but our XSD expects <gnc_book>
-			InputStreamReader isr = new InputStreamReader(effectiveStream, StandardCharsets.UTF_8);
+			InputStreamReader isr = new InputStreamReader(timedStream, StandardCharsets.UTF_8);
 			NamespaceRemovingReader namespaceReader = new NamespaceRemovingReader(isr);
 			BufferedReader bufferedReader = new BufferedReader(namespaceReader);
 
-			Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+			Unmarshaller unmarshaller = GnucashJaxb.unmarshaller();
 			GncV2 gncV2 = (GncV2) unmarshaller.unmarshal(new InputSource(bufferedReader));
 
 			if (gncV2.getGncBook() == null) {
@@ -96,6 +116,8 @@ public class GnucashFileReader {
 			}
 
 			log.debug("Successfully parsed GnuCash file with book ID: {}", gncV2.getGncBook().getBookId().getValue());
+			phases.decompressed(timedStream.nanos());
+			phases.parsed(System.nanoTime() - start - timedStream.nanos());
 
 			return gncV2;
 
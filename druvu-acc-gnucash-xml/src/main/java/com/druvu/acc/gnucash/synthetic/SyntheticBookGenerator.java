@@ -0,0 +1,345 @@
+package com.druvu.acc.gnucash.synthetic;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.zip.GZIPOutputStream;
+
+import com.druvu.acc.api.entity.AccountType;
+import com.druvu.acc.api.entity.CommodityId;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates large, valid GnuCash XML books for scale tests and benchmarks.
+ * <p>
+ * The book is streamed element by element, so generating millions of transactions needs no more memory
+ * than the account tree. Output is deterministic: the same {@link SyntheticBookSpec} always produces
+ * the same bytes.
+ * <p>
+ * Every transaction balances to zero. When the spec asks for commodities, each security gets a stock
+ * account under {@code Assets} and roughly one transaction in ten buys or sells shares of one of them.
+ *
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Slf4j
+@UtilityClass
+public final class SyntheticBookGenerator {
+
+	/**
+	 * Account types of the accounts directly below the root, in the order they are created.
+	 */
+	static final List<AccountType> TOP_LEVEL_TYPES = List.of(
+			AccountType.ASSET, AccountType.LIABILITY, AccountType.INCOME, AccountType.EXPENSE, AccountType.EQUITY);
+
+	private static final List<String> TOP_LEVEL_NAMES = List.of("Assets", "Liabilities", "Income", "Expenses", "Equity");
+
+	/**
+	 * Namespace of the generated securities.
+	 */
+	public static final String SECURITY_NAMESPACE = "SYNTH";
+
+	private static final String POSTED_TIME = " 10:59:00 +0000";
+	private static final String ENTERED_TIME = " 12:00:00 +0000";
+	private static final int STOCK_TRANSACTION_RATIO = 10;
+	private static final long MAX_CENTS = 1_000_000;
+	private static final HexFormat HEX = HexFormat.of();
+
+	/**
+	 * Writes a generated book to a file.
+	 * <p>
+	 * If the path ends with ".gz" or ".gnucash", the output will be gzip-compressed.
+	 *
+	 * @param spec the shape of the book
+	 * @param path the path to write to
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(@NonNull SyntheticBookSpec spec, @NonNull Path path) throws IOException {
+		String fileName = path.getFileName().toString();
+		boolean compress = fileName.endsWith(".gz") || fileName.endsWith(".gnucash");
+		long start = System.nanoTime();
+		try (OutputStream os = Files.newOutputStream(path);
+			 BufferedOutputStream bos = new BufferedOutputStream(os);
+			 OutputStream effectiveOs = compress ? new GZIPOutputStream(bos) : bos) {
+			write(spec, effectiveOs);
+		}
+		log.info("Generated {} with {} transactions in {} ms", path, spec.transactions(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	/**
+	 * Writes a generated book to an output stream.
+	 * <p>
+	 * The stream is not closed by this method.
+	 *
+	 * @param spec         the shape of the book
+	 * @param outputStream the output stream to write to
+	 * @throws IOException if the stream cannot be written to
+	 */
+	public static void write(@NonNull SyntheticBookSpec spec, @NonNull OutputStream outputStream) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 1 << 16);
+		new Generation(spec, writer).run();
+		writer.flush();
+	}
+
+	/**
+	 * @param spec  the shape of the book
+	 * @param index zero-based index of the security, below {@link SyntheticBookSpec#commodities()}
+	 * @return the commodity of the generated security
+	 */
+	public static CommodityId security(SyntheticBookSpec spec, int index) {
+		if (index < 0 || index >= spec.commodities()) {
+			throw new IllegalArgumentException("No security " + index + " in a book with " + spec.commodities() + " commodities");
+		}
+		return new CommodityId(SECURITY_NAMESPACE, String.format("SEC%04d", index + 1));
+	}
+
+	/**
+	 * One generation run, holding the account tree and the random state.
+	 */
+	private static final class Generation {
+
+		private final SyntheticBookSpec spec;
+		private final Writer out;
+		private final SplittableRandom random;
+
+		private final List<Node> accounts = new ArrayList<>();
+		// indexes into accounts
+		private final List<Integer> currencyAccounts = new ArrayList<>();
+		private final List<Integer> stockAccounts = new ArrayList<>();
+
+		Generation(SyntheticBookSpec spec, Writer out) {
+			this.spec = spec;
+			this.out = out;
+			this.random = new SplittableRandom(spec.seed());
+		}
+
+		void run() throws IOException {
+			String bookId = guid();
+			buildAccounts();
+
+			out.write("<?xml version=\"1.0\" encoding=\"utf-8\" ?>\n");
+			out.write("<gnc-v2\n");
+			for (String prefix : List.of("gnc", "act", "book", "cd", "cmdty", "price", "slot", "split", "trn", "ts")) {
+				out.write("     xmlns:" + prefix + "=\"http://www.gnucash.org/XML/" + prefix + "\"\n");
+			}
+			out.write(">\n");
+			out.write("<gnc:count-data cd:type=\"book\">1</gnc:count-data>\n");
+			out.write("<gnc:book version=\"2.0.0\">\n");
+			out.write("<book:id type=\"guid\">" + bookId + "</book:id>\n");
+			out.write("<gnc:count-data cd:type=\"commodity\">" + (spec.commodities() + 1) + "</gnc:count-data>\n");
+			out.write("<gnc:count-data cd:type=\"account\">" + accounts.size() + "</gnc:count-data>\n");
+			out.write("<gnc:count-data cd:type=\"transaction\">" + spec.transactions() + "</gnc:count-data>\n");
+
+			writeCommodities();
+			if (spec.prices() > 0) {
+				writePrices();
+			}
+			for (Node account : accounts) {
+				writeAccount(account);
+			}
+			for (int i = 0; i < spec.transactions(); i++) {
+				writeTransaction(i);
+			}
+
+			out.write("</gnc:book>\n");
+			out.write("</gnc-v2>\n");
+		}
+
+		// ========== Accounts ==========
+
+		private void buildAccounts() {
+			accounts.add(new Node(guid(), "Root Account", "ROOT", -1, 0, null));
+			for (int i = 0; i < TOP_LEVEL_TYPES.size(); i++) {
+				addCurrencyAccount(TOP_LEVEL_NAMES.get(i), TOP_LEVEL_TYPES.get(i).name(), 0);
+			}
+			// parents are picked among accounts that still have room below them
+			List<Integer> openParents = new ArrayList<>(currencyAccounts);
+			for (int i = TOP_LEVEL_TYPES.size(); i < spec.accounts(); i++) {
+				int parent = openParents.get(random.nextInt(openParents.size()));
+				Node parentNode = accounts.get(parent);
+				String prefix = TOP_LEVEL_NAMES.get(TOP_LEVEL_TYPES.indexOf(AccountType.valueOf(parentNode.type())));
+				int index = addCurrencyAccount(prefix + " " + (i + 1), parentNode.type(), parent);
+				if (accounts.get(index).level() < spec.depth()) {
+					openParents.add(index);
+				}
+			}
+			for (int i = 0; i < spec.commodities(); i++) {
+				CommodityId security = security(spec, i);
+				// below Assets, the first top-level account
+				accounts.add(new Node(guid(), "Stock " + security.id(), AccountType.STOCK.name(), 1, 2, security));
+				stockAccounts.add(accounts.size() - 1);
+			}
+		}
+
+		private int addCurrencyAccount(String name, String type, int parent) {
+			accounts.add(new Node(guid(), name, type, parent, accounts.get(parent).level() + 1, null));
+			currencyAccounts.add(accounts.size() - 1);
+			return accounts.size() - 1;
+		}
+
+		private void writeAccount(Node account) throws IOException {
+			out.write("<gnc:account version=\"2.0.0\">\n");
+			out.write("  <act:name>" + escape(account.name()) + "</act:name>\n");
+			out.write("  <act:id type=\"guid\">" + account.id() + "</act:id>\n");
+			out.write("  <act:type>" + account.type() + "</act:type>\n");
+			if (account.security() != null) {
+				writeCommodityRef("act:commodity", account.security());
+				out.write("  <act:commodity-scu>1</act:commodity-scu>\n");
+			} else {
+				writeCommodityRef("act:commodity", CommodityId.currency(spec.currency()));
+				out.write("  <act:commodity-scu>100</act:commodity-scu>\n");
+			}
+			if (account.parent() >= 0) {
+				out.write("  <act:parent type=\"guid\">" + accounts.get(account.parent()).id() + "</act:parent>\n");
+			}
+			out.write("</gnc:account>\n");
+		}
+
+		// ========== Commodities and Prices ==========
+
+		private void writeCommodities() throws IOException {
+			out.write("<gnc:commodity version=\"2.0.0\">\n");
+			out.write("  <cmdty:space>" + CommodityId.NAMESPACE_CURRENCY + "</cmdty:space>\n");
+			out.write("  <cmdty:id>" + escape(spec.currency()) + "</cmdty:id>\n");
+			out.write("  <cmdty:get_quotes/>\n");
+			out.write("  <cmdty:quote_source>currency</cmdty:quote_source>\n");
+			out.write("  <cmdty:quote_tz/>\n");
+			out.write("</gnc:commodity>\n");
+			for (int i = 0; i < spec.commodities(); i++) {
+				CommodityId security = security(spec, i);
+				out.write("<gnc:commodity version=\"2.0.0\">\n");
+				out.write("  <cmdty:space>" + security.namespace() + "</cmdty:space>\n");
+				out.write("  <cmdty:id>" + security.id() + "</cmdty:id>\n");
+				out.write("  <cmdty:name>Security " + (i + 1) + "</cmdty:name>\n");
+				out.write("  <cmdty:fraction>1</cmdty:fraction>\n");
+				out.write("</gnc:commodity>\n");
+			}
+		}
+
+		private void writePrices() throws IOException {
+			out.write("<gnc:pricedb version=\"1\">\n");
+			for (int i = 0; i < spec.prices(); i++) {
+				CommodityId security = security(spec, random.nextInt(spec.commodities()));
+				LocalDate date = spec.startDate().plusDays((long) i * spec.days() / spec.prices());
+				out.write("  <price>\n");
+				out.write("    <price:id type=\"guid\">" + guid() + "</price:id>\n");
+				writeCommodityRef("price:commodity", security);
+				writeCommodityRef("price:currency", CommodityId.currency(spec.currency()));
+				out.write("    <price:time>\n      <ts:date>" + date + POSTED_TIME + "</ts:date>\n    </price:time>\n");
+				out.write("    <price:source>Finance::Quote</price:source>\n");
+				out.write("    <price:type>last</price:type>\n");
+				out.write("    <price:value>" + random.nextLong(100, MAX_CENTS) + "/100</price:value>\n");
+				out.write("  </price>\n");
+			}
+			out.write("</gnc:pricedb>\n");
+		}
+
+		private void writeCommodityRef(String element, CommodityId commodity) throws IOException {
+			out.write("  <" + element + ">\n");
+			out.write("    <cmdty:space>" + escape(commodity.namespace()) + "</cmdty:space>\n");
+			out.write("    <cmdty:id>" + escape(commodity.id()) + "</cmdty:id>\n");
+			out.write("  </" + element + ">\n");
+		}
+
+		// ========== Transactions ==========
+
+		private void writeTransaction(int index) throws IOException {
+			LocalDate posted = spec.startDate().plusDays((long) index * spec.days() / Math.max(1, spec.transactions()));
+			int splits = spec.splitsPerTransaction();
+			boolean stock = !stockAccounts.isEmpty() && random.nextInt(STOCK_TRANSACTION_RATIO) == 0;
+
+			out.write("<gnc:transaction version=\"2.0.0\">\n");
+			out.write("  <trn:id type=\"guid\">" + guid() + "</trn:id>\n");
+			writeCommodityRef("trn:currency", CommodityId.currency(spec.currency()));
+			out.write("  <trn:num>" + (index + 1) + "</trn:num>\n");
+			out.write("  <trn:date-posted>\n    <ts:date>" + posted + POSTED_TIME + "</ts:date>\n  </trn:date-posted>\n");
+			out.write("  <trn:date-entered>\n    <ts:date>" + posted + ENTERED_TIME + "</ts:date>\n  </trn:date-entered>\n");
+			out.write("  <trn:description>Transaction " + (index + 1) + "</trn:description>\n");
+			out.write("  <trn:splits>\n");
+			long remaining = 0;
+			for (int i = 0; i < splits; i++) {
+				long cents = i < splits - 1 ? signed(random.nextLong(1, MAX_CENTS)) : -remaining;
+				remaining += cents;
+				if (stock && i == 0) {
+					long shares = Long.signum(cents) * random.nextLong(1, 100);
+					writeSplit(stockAccounts.get(random.nextInt(stockAccounts.size())), cents, shares + "/1", posted);
+				} else {
+					writeSplit(currencyAccounts.get(random.nextInt(currencyAccounts.size())), cents, cents + "/100", posted);
+				}
+			}
+			out.write("  </trn:splits>\n");
+			out.write("</gnc:transaction>\n");
+		}
+
+		private void writeSplit(int account, long cents, String quantity, LocalDate posted) throws IOException {
+			int state = random.nextInt(10);
+			out.write("    <trn:split>\n");
+			out.write("      <split:id type=\"guid\">" + guid() + "</split:id>\n");
+			if (state < 6) {
+				out.write("      <split:reconciled-state>n</split:reconciled-state>\n");
+			} else if (state < 9) {
+				out.write("      <split:reconciled-state>c</split:reconciled-state>\n");
+			} else {
+				out.write("      <split:reconciled-state>y</split:reconciled-state>\n");
+				out.write("      <split:reconcile-date>\n        <ts:date>" + posted.plusDays(30) + POSTED_TIME + "</ts:date>\n      </split:reconcile-date>\n");
+			}
+			out.write("      <split:value>" + cents + "/100</split:value>\n");
+			out.write("      <split:quantity>" + quantity + "</split:quantity>\n");
+			out.write("      <split:account type=\"guid\">" + accounts.get(account).id() + "</split:account>\n");
+			out.write("    </trn:split>\n");
+		}
+
+		// ========== Helper Methods ==========
+
+		private long signed(long value) {
+			return random.nextBoolean() ? value : -value;
+		}
+
+		private String guid() {
+			return HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(random.nextLong());
+		}
+
+		private static String escape(String text) {
+			StringBuilder builder = null;
+			for (int i = 0; i < text.length(); i++) {
+				String replacement = switch (text.charAt(i)) {
+					case '<' -> "&lt;";
+					case '>' -> "&gt;";
+					case '&' -> "&amp;";
+					default -> null;
+				};
+				if (replacement != null && builder == null) {
+					builder = new StringBuilder(text.length() + 16).append(text, 0, i);
+				}
+				if (builder != null) {
+					builder.append(replacement != null ? replacement : String.valueOf(text.charAt(i)));
+				}
+			}
+			return builder == null ? text : builder.toString();
+		}
+	}
+
+	/**
+	 * Account of the generated tree.
+	 *
+	 * @param parent   index of the parent account, -1 for the root
+	 * @param level    distance from the root
+	 * @param security held security, {@code null} for accounts in the book currency
+	 */
+	private record Node(String id, String name, String type, int parent, int level, CommodityId security) {
+	}
+}
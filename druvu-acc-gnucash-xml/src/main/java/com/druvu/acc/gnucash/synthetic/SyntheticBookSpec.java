@@ -0,0 +1,71 @@
+package com.druvu.acc.gnucash.synthetic;
+
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/**
+ * Shape of a generated book.
+ * <p>
+ * Start from {@link #DEFAULT} and adjust with {@code DEFAULT.toBuilder()}.
+ *
+ * @param seed                 random seed, equal specs produce byte-identical books
+ * @param accounts             number of accounts below the root, at least one per top-level type
+ * @param depth                maximum depth of the account tree below the root
+ * @param transactions         number of transactions
+ * @param splitsPerTransaction number of splits in each transaction, at least 2
+ * @param commodities          number of securities besides the book currency, each held in its own stock account below {@code Assets}
+ * @param prices               number of price quotes for the securities
+ * @param currency             ISO 4217 code of the book currency
+ * @param startDate            date of the first transaction
+ * @param days                 number of days the transactions are spread over
+ * @author Deniss Larka
+ * <br/>on 19 Oct 2026
+ */
+@Builder(toBuilder = true)
+public record SyntheticBookSpec(
+		long seed,
+		int accounts,
+		int depth,
+		int transactions,
+		int splitsPerTransaction,
+		int commodities,
+		int prices,
+		@NonNull
+		String currency,
+		@NonNull
+		LocalDate startDate,
+		int days
+) {
+
+	/**
+	 * A small household-sized book.
+	 */
+	public static final SyntheticBookSpec DEFAULT = new SyntheticBookSpec(
+			42, 50, 4, 1_000, 2, 0, 0, "EUR", LocalDate.of(2020, 1, 1), 5 * 365);
+
+	public SyntheticBookSpec {
+		if (accounts < SyntheticBookGenerator.TOP_LEVEL_TYPES.size()) {
+			throw new IllegalArgumentException("At least " + SyntheticBookGenerator.TOP_LEVEL_TYPES.size() + " accounts required: " + accounts);
+		}
+		if (depth < 1) {
+			throw new IllegalArgumentException("Depth must be positive: " + depth);
+		}
+		if (transactions < 0 || commodities < 0 || prices < 0) {
+			throw new IllegalArgumentException("Counts must not be negative");
+		}
+		if (splitsPerTransaction < 2) {
+			throw new IllegalArgumentException("A transaction needs at least 2 splits: " + splitsPerTransaction);
+		}
+		if (commodities > 0 && depth < 2) {
+			throw new IllegalArgumentException("Stock accounts of commodities require a depth of at least 2");
+		}
+		if (prices > 0 && commodities == 0) {
+			throw new IllegalArgumentException("Prices require at least one commodity");
+		}
+		if (days < 1) {
+			throw new IllegalArgumentException("Days must be positive: " + days);
+		}
+	}
+}
@@ -11,8 +11,10 @@ import java.nio.file.Path;
 import java.util.zip.GZIPOutputStream;
 
 import com.druvu.acc.gnucash.generated.GncV2;
+import com.druvu.acc.gnucash.impl.GnucashJaxb;
+import com.druvu.acc.gnucash.impl.SavePhases;
+import com.druvu.acc.gnucash.impl.TimedOutputStream;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,9 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * Supports both plain XML and gzip-compressed files.
  * The output format is compatible with the GnuCash application.
+ * <p>
+ * Writers are cheap to create: the JAXB context is shared and marshallers are reused per thread,
+ * see {@link GnucashJaxb}.
  *
  * @author Deniss Larka
  * <br/>on 13 Jan 2026
@@ -29,17 +34,6 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GnucashFileWriter {
 
-	private final JAXBContext jaxbContext;
-
-	public GnucashFileWriter() {
-		try {
-			this.jaxbContext = JAXBContext.newInstance(GncV2.class);
-		}
-		catch (JAXBException e) {
-			throw new IllegalStateException("Failed to create JAXB context", e);
-		}
-	}
-
 	/**
 	 * Writes a GnuCash file to the specified path.
 	 * <p>
@@ -53,14 +47,18 @@ public class GnucashFileWriter {
 		log.debug("Writing GnuCash file: {}", path);
 
 		boolean compress = shouldCompress(path);
+		SavePhases phases = new SavePhases();
+		TimedOutputStream timedOs;
 
 		try (OutputStream os = Files.newOutputStream(path);
 			 BufferedOutputStream bos = new BufferedOutputStream(os);
-			 OutputStream effectiveOs = compress ? new GZIPOutputStream(bos) : bos) {
+			 TimedOutputStream effectiveOs = new TimedOutputStream(compress ? new GZIPOutputStream(bos) : bos)) {
 
+			timedOs = effectiveOs;
 			write(gncV2, effectiveOs);
 		}
 
+		phases.completed(String.valueOf(path.getFileName()), Files.size(path), timedOs.nanos());
 		log.debug("Successfully wrote GnuCash file: {}", path);
 	}
 
@@ -78,7 +76,7 @@ public class GnucashFileWriter {
 		Writer namespaceWriter = new NamespaceAddingWriter(osWriter);
 
 		try {
-			Marshaller marshaller = jaxbContext.createMarshaller();
+			Marshaller marshaller = GnucashJaxb.marshaller();
 			GnucashContentHandler contentHandler = new GnucashContentHandler(namespaceWriter);
 			marshaller.marshal(gncV2, contentHandler);
 			namespaceWriter.flush();
@@ -7,12 +7,14 @@ module com.druvu.acc.gnucash.xml {
 	requires druvu.lib.loader;
 	requires jakarta.xml.bind;
 	requires org.slf4j;
+	requires jdk.jfr;
 
 	// Open the generated package to JAXB for reflection
 	opens com.druvu.acc.gnucash.generated to jakarta.xml.bind;
 
 	// Export public API
 	exports com.druvu.acc.gnucash.api;
+	exports com.druvu.acc.gnucash.synthetic;
 
 	// Register factory with ServiceLoader
 	provides com.druvu.lib.loader.ComponentFactory with com.druvu.acc.gnucash.api.GnucashBookFactory;
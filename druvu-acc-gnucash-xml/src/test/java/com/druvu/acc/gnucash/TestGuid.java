@@ -0,0 +1,92 @@
+package com.druvu.acc.gnucash;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.gnucash.impl.Guid;
+import com.druvu.acc.gnucash.impl.GuidColumn;
+import com.druvu.acc.gnucash.impl.InternTable;
+
+/**
+ * Tests for Guid, GuidColumn and InternTable.
+ */
+public class TestGuid {
+
+	private static final String GUID = "f0e1d2c3b4a5968778695a4b3c2d1e0f";
+
+	@Test
+	public void testRoundTrip() {
+		Guid guid = Guid.parse(GUID);
+		assertEquals(guid.toString(), GUID);
+		assertEquals(Guid.parse("00000000000000000000000000000001").toString(), "00000000000000000000000000000001");
+	}
+
+	@Test
+	public void testCanonicalForm() {
+		assertTrue(Guid.isCanonical(GUID));
+		assertFalse(Guid.isCanonical(GUID.toUpperCase()));
+		assertFalse(Guid.isCanonical("f0e1d2c3"));
+		assertFalse(Guid.isCanonical(null));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testParseRejectsNonHex() {
+		Guid.parse("zze1d2c3b4a5968778695a4b3c2d1e0f");
+	}
+
+	@Test
+	public void testUnsignedOrder() {
+		Guid small = Guid.parse("00000000000000000000000000000000");
+		Guid large = Guid.parse("ff000000000000000000000000000000");
+		assertTrue(small.compareTo(large) < 0);
+	}
+
+	@Test
+	public void testColumnLookup() {
+		GuidColumn column = new GuidColumn(3);
+		column.set(0, GUID);
+		column.set(1, "00000000000000000000000000000abc");
+		column.set(2, "hand-edited-id");
+		column.index();
+
+		assertEquals(column.get(0), GUID);
+		assertEquals(column.get(2), "hand-edited-id");
+		assertEquals(column.indexOf(GUID), 0);
+		assertEquals(column.indexOf("00000000000000000000000000000abc"), 1);
+		assertEquals(column.indexOf("hand-edited-id"), 2);
+		assertEquals(column.indexOf("00000000000000000000000000000abd"), -1);
+	}
+
+	@Test
+	public void testColumnIndexFindsEveryValue() {
+		Random random = new Random(7);
+		GuidColumn column = new GuidColumn(1_001);
+		for (int i = 0; i < column.size(); i++) {
+			column.set(i, i == 500 ? "hand-edited-id" : new Guid(random.nextLong(), random.nextLong()).toString());
+		}
+		column.index();
+
+		for (int i = 0; i < column.size(); i++) {
+			assertEquals(column.indexOf(column.get(i)), i);
+		}
+	}
+
+	@Test
+	public void testInternTableSharesInstances() {
+		InternTable interns = new InternTable();
+		String id = interns.id(new String(GUID));
+		assertSame(interns.id(new String(GUID)), id);
+
+		CommodityId chf = interns.commodity("CURRENCY", "CHF");
+		assertSame(interns.commodity(CommodityId.currency("CHF")), chf);
+		assertEquals(interns.idCount(), 1);
+		assertEquals(interns.commodityCount(), 1);
+	}
+}
@@ -0,0 +1,35 @@
+package com.druvu.acc.gnucash;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+
+import com.druvu.acc.gnucash.api.LoadMode;
+
+/**
+ * Tests for LoadMode.
+ */
+public class TestLoadMode {
+
+	@Test
+	public void testFromSystemPropertyIgnoresDefaultLocale() {
+		Locale locale = Locale.getDefault();
+		String previous = System.getProperty(LoadMode.PROPERTY);
+		try {
+			Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+			System.setProperty(LoadMode.PROPERTY, " read_only ");
+			assertEquals(LoadMode.fromSystemProperty(), LoadMode.READ_ONLY);
+		}
+		finally {
+			Locale.setDefault(locale);
+			if (previous == null) {
+				System.clearProperty(LoadMode.PROPERTY);
+			}
+			else {
+				System.setProperty(LoadMode.PROPERTY, previous);
+			}
+		}
+	}
+}
@@ -3,6 +3,7 @@ open module com.druvu.acc.examples {
     requires com.druvu.acc.gnucash.xml;
     requires druvu.lib.loader;
     requires org.slf4j;
+    requires jdk.jfr;
     requires static lombok;
     requires static com.github.spotbugs.annotations;
 
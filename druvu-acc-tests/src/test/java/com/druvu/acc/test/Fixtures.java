@@ -0,0 +1,43 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds unreconciled EUR transactions for tests that add them to a store.
+ */
+final class Fixtures {
+
+	static final CommodityId EUR = CommodityId.currency("EUR");
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Moves an amount between two accounts. The splits are {@code <id>-0} taking the amount from the first account
+	 * and {@code <id>-1} adding it to the second.
+	 */
+	static Transaction transfer(String id, LocalDate date, String description, String fromAccountId, String toAccountId, String amount) {
+		BigDecimal value = new BigDecimal(amount);
+		return transaction(id, date, description,
+				split(id + "-0", id, fromAccountId, date, value.negate(), value.negate(), null),
+				split(id + "-1", id, toAccountId, date, value, value, null));
+	}
+
+	static Transaction transaction(String id, LocalDate date, String description, Split... splits) {
+		return new Transaction(id, EUR, Optional.empty(), date, description, List.of(splits), Slots.empty());
+	}
+
+	static Split split(String id, String transactionId, String accountId, LocalDate date, BigDecimal value, BigDecimal quantity, String lotId) {
+		return new Split(id, transactionId, accountId, date, ReconcileState.NOT_RECONCILED, Optional.empty(),
+				value, quantity, Optional.empty(), Optional.ofNullable(lotId), Slots.empty());
+	}
+}
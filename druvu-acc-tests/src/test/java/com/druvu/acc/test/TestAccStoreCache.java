@@ -0,0 +1,266 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.loader.AccStoreCache;
+import com.druvu.acc.loader.AccStoreCache.Lease;
+import com.druvu.acc.loader.CacheStats;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for the tenant store cache.
+ */
+public class TestAccStoreCache {
+
+	private final GnucashBookFactory factory = new GnucashBookFactory();
+
+	private Path source;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/common.gnucash");
+		assertNotNull(resourceUrl, "common.gnucash resource not found");
+		source = Paths.get(resourceUrl.toURI());
+	}
+
+	@Test
+	public void testHitAndMiss() {
+		AtomicInteger loads = new AtomicInteger();
+		AccStoreCache cache = AccStoreCache.create(Long.MAX_VALUE, countingLoader(loads), (_, _) -> 1);
+
+		try (Lease first = cache.get(source); Lease second = cache.get(source)) {
+			assertSame(second.store(), first.store());
+		}
+		assertEquals(loads.get(), 1);
+		CacheStats stats = cache.stats();
+		assertEquals(stats.hitCount(), 1);
+		assertEquals(stats.missCount(), 1);
+		assertEquals(stats.loadCount(), 1);
+		assertEquals(stats.size(), 1);
+	}
+
+	@Test
+	public void testReloadWhenModified() throws IOException {
+		Path copy = copyOfSource();
+		AtomicInteger loads = new AtomicInteger();
+		AccStoreCache cache = AccStoreCache.create(Long.MAX_VALUE, countingLoader(loads), (_, _) -> 1);
+
+		AccStore first = store(cache, copy);
+		Files.setLastModifiedTime(copy, FileTime.fromMillis(Files.getLastModifiedTime(copy).toMillis() + 10_000));
+		AccStore second = store(cache, copy);
+
+		assertNotSame(second, first);
+		assertEquals(loads.get(), 2);
+		assertEquals(cache.stats().size(), 1);
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() throws IOException {
+		Path a = copyOfSource();
+		Path b = copyOfSource();
+		Path c = copyOfSource();
+		AccStoreCache cache = AccStoreCache.create(200, countingLoader(new AtomicInteger()), (_, _) -> 100);
+
+		store(cache, a);
+		store(cache, b);
+		store(cache, a);
+		store(cache, c);
+
+		CacheStats stats = cache.stats();
+		assertEquals(stats.evictionCount(), 1);
+		assertEquals(stats.size(), 2);
+		assertEquals(stats.weightedSize(), 200);
+
+		long missesBefore = cache.stats().missCount();
+		store(cache, a);
+		assertEquals(cache.stats().missCount(), missesBefore, "recently used store should have been kept");
+		store(cache, b);
+		assertEquals(cache.stats().missCount(), missesBefore + 1, "least recently used store should have been evicted");
+	}
+
+	@Test
+	public void testStoresAreClosedWhenLeavingTheCache() throws IOException {
+		Path a = copyOfSource();
+		Path b = copyOfSource();
+		Path c = copyOfSource();
+		Set<Path> closed = ConcurrentHashMap.newKeySet();
+		AccStoreCache cache = AccStoreCache.create(200, closingLoader(closed), (_, _) -> 100);
+
+		store(cache, a);
+		store(cache, b);
+		store(cache, c);
+		assertEquals(closed, Set.of(a), "evicted store should be closed");
+
+		Files.setLastModifiedTime(b, FileTime.fromMillis(Files.getLastModifiedTime(b).toMillis() + 10_000));
+		store(cache, b);
+		assertEquals(closed, Set.of(a, b), "replaced store should be closed");
+
+		closed.clear();
+		cache.invalidate(c);
+		assertEquals(closed, Set.of(c));
+		cache.invalidateAll();
+		assertEquals(closed, Set.of(b, c));
+		assertEquals(cache.stats().size(), 0);
+	}
+
+	@Test
+	public void testConcurrentLoadsAreShared() throws Exception {
+		Path copy = copyOfSource();
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Function<Path, AccStore> slowLoader = path -> {
+			try {
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			return countingLoader(loads).apply(path);
+		};
+		AccStoreCache cache = AccStoreCache.create(Long.MAX_VALUE, slowLoader, (_, _) -> 1);
+
+		int threads = 8;
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			List<Future<AccStore>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> store(cache, copy)));
+			}
+			Thread.sleep(200);
+			release.countDown();
+
+			AccStore expected = futures.getFirst().get();
+			for (Future<AccStore> future : futures) {
+				assertSame(future.get(), expected);
+			}
+		}
+		assertEquals(loads.get(), 1);
+	}
+
+	@Test
+	public void testLeasedStoreIsClosedAfterLastLease() throws IOException {
+		Path a = copyOfSource();
+		Path b = copyOfSource();
+		Set<Path> closed = ConcurrentHashMap.newKeySet();
+		AccStoreCache cache = AccStoreCache.create(100, closingLoader(closed), (_, _) -> 100);
+
+		Lease first = cache.get(a);
+		Lease second = cache.get(a);
+		store(cache, b);
+		cache.invalidateAll();
+		assertEquals(closed, Set.of(b), "leased store should stay open after leaving the cache");
+		assertEquals(first.store().accounts(), second.store().accounts());
+
+		first.close();
+		first.close();
+		assertEquals(closed, Set.of(b));
+		assertThrows(IllegalStateException.class, first::store);
+		second.close();
+		assertEquals(closed, Set.of(a, b));
+	}
+
+	@Test
+	public void testOversizedStoreIsLeasedToWaitersAndNotCached() throws Exception {
+		Path copy = copyOfSource();
+		Set<Path> closed = ConcurrentHashMap.newKeySet();
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Function<Path, AccStore> closing = closingLoader(closed);
+		Function<Path, AccStore> slowLoader = path -> {
+			try {
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			loads.incrementAndGet();
+			return closing.apply(path);
+		};
+		AccStoreCache cache = AccStoreCache.create(10, slowLoader, (_, _) -> 100);
+
+		int threads = 4;
+		List<Lease> leases = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			List<Future<Lease>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> cache.get(copy)));
+			}
+			Thread.sleep(200);
+			release.countDown();
+			for (Future<Lease> future : futures) {
+				leases.add(future.get());
+			}
+		}
+		assertEquals(cache.stats().size(), 0);
+		assertTrue(closed.isEmpty(), "no store should be closed while leased");
+
+		for (Lease lease : leases) {
+			assertFalse(lease.store().accounts().isEmpty());
+			lease.close();
+		}
+		assertEquals(closed, Set.of(copy));
+		assertEquals(loads.get(), 1);
+		store(cache, copy);
+		assertEquals(cache.stats().size(), 0, "oversized store should not be cached");
+	}
+
+	/**
+	 * Leases a store and releases the lease at once, for tests that only check which store is returned.
+	 */
+	private static AccStore store(AccStoreCache cache, Path path) {
+		try (Lease lease = cache.get(path)) {
+			return lease.store();
+		}
+	}
+
+	private Function<Path, AccStore> closingLoader(Set<Path> closed) {
+		return path -> {
+			AccStore store = factory.createComponent(Dependencies.of(Path.class, path));
+			return (AccStore) Proxy.newProxyInstance(AccStore.class.getClassLoader(), new Class<?>[]{AccStore.class}, (_, method, args) -> {
+				if (method.getName().equals("close")) {
+					closed.add(path.toAbsolutePath().normalize());
+					return null;
+				}
+				return method.invoke(store, args);
+			});
+		};
+	}
+
+	private Function<Path, AccStore> countingLoader(AtomicInteger loads) {
+		return path -> {
+			loads.incrementAndGet();
+			return factory.createComponent(Dependencies.of(Path.class, path));
+		};
+	}
+
+	private Path copyOfSource() throws IOException {
+		Path copy = Files.createTempFile("cache", ".gnucash");
+		copy.toFile().deleteOnExit();
+		return Files.copy(source, copy, StandardCopyOption.REPLACE_EXISTING);
+	}
+}
@@ -0,0 +1,80 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.AccountPaths;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.AccountType;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests resolving qualified account names in both directions.
+ */
+public class TestAccountPaths {
+
+	private static final String SOLDES_INITIAUX = "Root Account:Capitaux propres:Soldes initiaux";
+
+	@DataProvider
+	public Object[][] stores() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/common.gnucash");
+		assertNotNull(resourceUrl, "common.gnucash resource not found");
+		Path path = Paths.get(resourceUrl.toURI());
+		return new Object[][]{
+				{new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path))},
+				{new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path))}};
+	}
+
+	@Test(dataProvider = "stores")
+	public void testRoundTrip(AccStore store) {
+		for (Account account : store.accounts()) {
+			String qualifiedName = store.qualifiedName(account.id()).orElseThrow();
+			assertEquals(store.accountByName(qualifiedName), Optional.of(account), qualifiedName);
+		}
+	}
+
+	@Test(dataProvider = "stores")
+	public void testQualifiedName(AccStore store) {
+		Account account = store.accountByName(SOLDES_INITIAUX).orElseThrow();
+
+		assertEquals(store.qualifiedName(account.id()), Optional.of(SOLDES_INITIAUX));
+		assertEquals(store.accountByName(SOLDES_INITIAUX + ":"), Optional.of(account));
+		assertEquals(store.qualifiedName("missing"), Optional.empty());
+		assertEquals(store.accountByName("Root Account:Capitaux"), Optional.empty());
+		assertEquals(store.accountByName("Root Account:Capitaux propres:Soldes initiaux:Missing"), Optional.empty());
+		assertEquals(store.accountByName(""), Optional.empty());
+	}
+
+	@Test
+	public void testAmbiguousAndOrphanAccounts() {
+		AccountPaths paths = AccountPaths.of(List.of(
+				account("root", "Root", null),
+				account("a1", "Bank", "root"),
+				account("a2", "Bank", "root"),
+				account("a3", "Cash", "root"),
+				account("a4", "Lost", "missing")));
+
+		assertEquals(paths.qualifiedName("a3"), Optional.of("Root:Cash"));
+		assertEquals(paths.qualifiedName("a1"), Optional.of("Root:Bank"));
+		assertEquals(paths.qualifiedName("a4"), Optional.empty());
+		assertEquals(paths.resolve("Root:Cash").orElseThrow().id(), "a3");
+		assertThrows(IllegalStateException.class, () -> paths.resolve("Root:Bank"));
+	}
+
+	private static Account account(String id, String name, String parentId) {
+		return new Account(id, name, AccountType.ASSET, Optional.empty(), Optional.empty(), Optional.empty(),
+				Optional.ofNullable(parentId), Slots.empty());
+	}
+}
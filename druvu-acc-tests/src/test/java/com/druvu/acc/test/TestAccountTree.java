@@ -0,0 +1,145 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.AccountTree;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.AccountType;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookGenerator;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookSpec;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests preorder numbering of accounts and subtree split queries.
+ */
+public class TestAccountTree {
+
+	private static final SyntheticBookSpec SPEC = SyntheticBookSpec.DEFAULT.toBuilder()
+			.accounts(40)
+			.depth(4)
+			.transactions(2000)
+			.build();
+
+	private Path path;
+
+	@BeforeClass
+	public void setUp() throws IOException {
+		path = Files.createTempFile("tree", ".gnucash");
+		path.toFile().deleteOnExit();
+		SyntheticBookGenerator.write(SPEC, path);
+	}
+
+	@DataProvider
+	public Object[][] stores() {
+		return new Object[][]{
+				{new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path))},
+				{new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path))}};
+	}
+
+	@Test(dataProvider = "stores")
+	public void testIntervalsMatchParents(AccStore store) {
+		AccountTree tree = store.accountTree();
+
+		assertEquals(tree.preorder().size(), store.accounts().size());
+		for (Account account : store.accounts()) {
+			assertEquals(Set.copyOf(tree.subtree(account.id())), descendants(store, account.id()), account.name());
+			assertEquals(tree.children(account.id()), store.fetchChildIds(account.id()));
+			account.parentId().ifPresent(parentId -> {
+				assertTrue(tree.inSubtree(parentId, account.id()));
+				assertFalse(tree.inSubtree(account.id(), parentId));
+			});
+		}
+	}
+
+	@Test(dataProvider = "stores")
+	public void testSplitsForSubtree(AccStore store) {
+		LocalDate from = store.transactions().get(SPEC.transactions() / 4).datePosted();
+		LocalDate to = store.transactions().get(SPEC.transactions() / 2).datePosted();
+		for (Account account : store.accounts()) {
+			Set<String> accounts = descendants(store, account.id());
+			List<Split> expected = new ArrayList<>();
+			for (String accountId : accounts) {
+				store.splitsForAccount(accountId).stream()
+						.filter(split -> !split.datePosted().isBefore(from) && !split.datePosted().isAfter(to))
+						.forEach(expected::add);
+			}
+
+			List<Split> splits = store.splitsForSubtree(account.id(), from, to);
+
+			assertEquals(ids(splits), ids(expected), account.name());
+			assertEquals(splits.size(), expected.size());
+			for (int i = 1; i < splits.size(); i++) {
+				assertFalse(splits.get(i).datePosted().isBefore(splits.get(i - 1).datePosted()));
+			}
+		}
+		Account root = store.rootAccounts().getFirst();
+		assertEquals(store.splitsForSubtree(root.id(), null, null).size(),
+				store.transactions().stream().mapToInt(transaction -> transaction.splits().size()).sum());
+		assertEquals(store.splitsForSubtree("missing", null, null), List.of());
+	}
+
+	@Test
+	public void testOrphansAndCycles() {
+		AccountTree tree = AccountTree.of(List.of(
+				account("root", null),
+				account("a", "root"),
+				account("b", "a"),
+				account("c", "root"),
+				account("orphan", "missing"),
+				account("x", "y"),
+				account("y", "x")));
+
+		assertEquals(tree.preorder().subList(0, 5), List.of("root", "a", "b", "c", "orphan"));
+		assertEquals(Set.copyOf(tree.preorder()), Set.of("root", "a", "b", "c", "orphan", "x", "y"));
+		assertEquals(tree.subtree("a"), List.of("a", "b"));
+		assertEquals(tree.children("root"), List.of("a", "c"));
+		assertEquals(tree.enter("b"), 2);
+		assertEquals(tree.exit("root"), 4);
+		assertTrue(tree.inSubtree("root", "b"));
+		assertFalse(tree.inSubtree("c", "b"));
+		assertFalse(tree.inSubtree("root", "orphan"));
+		assertEquals(tree.subtree("x").size() + tree.subtree("y").size(), 3);
+		assertEquals(tree.enter("missing"), -1);
+		assertEquals(tree.subtree("missing"), List.of());
+	}
+
+	private static Set<String> descendants(AccStore store, String accountId) {
+		Set<String> result = new HashSet<>();
+		List<String> pending = new ArrayList<>(List.of(accountId));
+		while (!pending.isEmpty()) {
+			String current = pending.removeLast();
+			if (result.add(current)) {
+				pending.addAll(store.fetchChildIds(current));
+			}
+		}
+		return result;
+	}
+
+	private static Set<String> ids(List<Split> splits) {
+		return Set.copyOf(splits.stream().map(Split::id).toList());
+	}
+
+	private static Account account(String id, String parentId) {
+		return new Account(id, id, AccountType.ASSET, Optional.empty(), Optional.empty(), Optional.empty(),
+				Optional.ofNullable(parentId), Slots.empty());
+	}
+}
@@ -0,0 +1,168 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.QueryPlan;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.service.AccountService;
+import com.druvu.acc.api.service.BalanceCheckpoints;
+import com.druvu.acc.api.service.BalancePoint;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookGenerator;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookSpec;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.druvu.acc.test.Fixtures.transfer;
+import static org.testng.Assert.*;
+
+/**
+ * Tests balances starting from persisted year-end checkpoints.
+ */
+public class TestBalanceCheckpoints {
+
+	private static final SyntheticBookSpec SPEC = SyntheticBookSpec.DEFAULT.toBuilder()
+			.accounts(20)
+			.transactions(3000)
+			.build();
+
+	private Path book;
+
+	@BeforeMethod
+	public void setUp() throws IOException {
+		Path directory = Files.createTempDirectory("checkpoints");
+		directory.toFile().deleteOnExit();
+		book = directory.resolve("book.gnucash");
+		SyntheticBookGenerator.write(SPEC, book);
+		book.toFile().deleteOnExit();
+		sidecar().toFile().deleteOnExit();
+	}
+
+	@DataProvider
+	public Object[][] modes() {
+		return new Object[][]{{LoadMode.READ_WRITE}, {LoadMode.READ_ONLY}};
+	}
+
+	@Test(dataProvider = "modes")
+	public void testBalancesMatchReplay(LoadMode mode) {
+		AccStore store = load(mode);
+		BalanceCheckpoints checkpoints = BalanceCheckpoints.create(store, book);
+		AccountService replay = AccountService.create(store);
+		AccountService checkpointed = AccountService.create(store, null, checkpoints);
+
+		assertEquals(checkpoints.dates(), List.of(LocalDate.of(2020, 12, 31), LocalDate.of(2021, 12, 31),
+				LocalDate.of(2022, 12, 31), LocalDate.of(2023, 12, 31)));
+		assertTrue(Files.exists(sidecar()));
+		for (Account account : store.accounts()) {
+			for (LocalDate date : dates()) {
+				assertEquals(checkpointed.balance(account.id(), date), replay.balance(account.id(), date), account.name() + " " + date);
+			}
+			assertEquals(checkpointed.balance(account.id()), replay.balance(account.id()), account.name());
+		}
+		assertEquals(checkpoints.checkpoint(store.accounts().getFirst().id(), LocalDate.of(2020, 12, 30)), Optional.empty());
+		assertEquals(checkpoints.checkpoint("missing", LocalDate.of(2022, 6, 1)),
+				Optional.of(new BalancePoint(LocalDate.of(2021, 12, 31), BigDecimal.ZERO)));
+	}
+
+	@Test
+	public void testSidecarIsReused() throws IOException {
+		AccStore store = load(LoadMode.READ_ONLY);
+		BalanceCheckpoints.create(store, book).dates();
+		byte[] written = Files.readAllBytes(sidecar());
+		Account account = store.accounts().get(1);
+		LocalDate date = LocalDate.of(2023, 12, 31);
+		BalancePoint expected = BalanceCheckpoints.create(store).checkpoint(account.id(), date).orElseThrow();
+
+		assertEquals(BalanceCheckpoints.create(load(LoadMode.READ_ONLY), book).checkpoint(account.id(), date), Optional.of(expected));
+		assertEquals(Files.readAllBytes(sidecar()), written);
+
+		// a corrupt sidecar is rebuilt
+		Files.write(sidecar(), new byte[]{1, 2, 3});
+		assertEquals(BalanceCheckpoints.create(load(LoadMode.READ_ONLY), book).checkpoint(account.id(), date), Optional.of(expected));
+		assertEquals(Files.readAllBytes(sidecar()), written);
+	}
+
+	@Test
+	public void testStaleSidecarIsRebuilt() throws IOException {
+		BalanceCheckpoints.create(load(LoadMode.READ_ONLY), book).dates();
+
+		SyntheticBookGenerator.write(SPEC.toBuilder().seed(7).build(), book);
+		AccStore store = load(LoadMode.READ_ONLY);
+		AccountService replay = AccountService.create(store);
+		AccountService checkpointed = AccountService.create(store, null, BalanceCheckpoints.create(store, book));
+
+		for (Account account : store.accounts()) {
+			LocalDate date = LocalDate.of(2024, 3, 1);
+			assertEquals(checkpointed.balance(account.id(), date), replay.balance(account.id(), date), account.name());
+		}
+	}
+
+	@Test(dataProvider = "modes")
+	public void testBalanceReadsSplitsAfterCheckpoint(LoadMode mode) {
+		AccStore store = load(mode);
+		BalanceCheckpoints checkpoints = BalanceCheckpoints.create(store);
+		Account account = store.accounts().get(1);
+		LocalDate date = LocalDate.of(2023, 6, 1);
+		LocalDate from = checkpoints.checkpoint(account.id(), date).orElseThrow().date().plusDays(1);
+		int splits = store.transactions().stream().mapToInt(transaction -> transaction.splits().size()).sum();
+		int splitsAfterCheckpoint = store.transactions(from, date).stream().mapToInt(transaction -> transaction.splits().size()).sum();
+
+		QueryPlan plan = store.query().accounts(account.id()).between(from, date).plan();
+
+		assertTrue(plan.access().estimatedRows() >= 0, plan.explain());
+		assertTrue(plan.access().estimatedRows() <= splitsAfterCheckpoint, plan.explain());
+		assertTrue(splitsAfterCheckpoint < splits / 4, splitsAfterCheckpoint + " of " + splits);
+		assertEquals(AccountService.create(store, null, checkpoints).balance(account.id(), date),
+				AccountService.create(store).balance(account.id(), date));
+	}
+
+	@Test
+	public void testRevisionChangeRebuilds() throws IOException {
+		AccStore store = load(LoadMode.READ_WRITE);
+		BalanceCheckpoints checkpoints = BalanceCheckpoints.create(store, book);
+		AccountService replay = AccountService.create(store);
+		AccountService checkpointed = AccountService.create(store, null, checkpoints);
+		Account account = store.accounts().get(1);
+		Account other = store.accounts().get(2);
+		LocalDate date = LocalDate.of(2023, 6, 1);
+		BigDecimal before = checkpointed.balance(account.id(), date);
+		byte[] written = Files.readAllBytes(sidecar());
+
+		store.addTransactions(List.of(transfer("x", LocalDate.of(2021, 3, 1), "Adjustment", other.id(), account.id(), "100.00")));
+
+		assertEquals(checkpointed.balance(account.id(), date), before.add(new BigDecimal("100.00")));
+		assertEquals(checkpointed.balance(account.id(), date), replay.balance(account.id(), date));
+		assertEquals(Files.readAllBytes(sidecar()), written);
+	}
+
+	private static List<LocalDate> dates() {
+		List<LocalDate> dates = new ArrayList<>();
+		for (int year = 2019; year <= 2025; year++) {
+			dates.add(LocalDate.of(year, 12, 30));
+			dates.add(LocalDate.of(year, 12, 31));
+			dates.add(LocalDate.of(year + 1, 1, 1));
+			dates.add(LocalDate.of(year, 7, 15));
+		}
+		return dates;
+	}
+
+	private Path sidecar() {
+		return book.resolveSibling(book.getFileName() + BalanceCheckpoints.SIDECAR_SUFFIX);
+	}
+
+	private AccStore load(LoadMode mode) {
+		return new GnucashBookFactory(mode).createComponent(Dependencies.of(Path.class, book));
+	}
+}
@@ -0,0 +1,129 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Budget;
+import com.druvu.acc.api.entity.BudgetAmount;
+import com.druvu.acc.api.entity.Recurrence;
+import com.druvu.acc.api.entity.RecurrencePeriod;
+import com.druvu.acc.api.entity.WeekendAdjust;
+import com.druvu.acc.api.service.BudgetMatrix;
+import com.druvu.acc.api.service.BudgetService;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests budgets and the budget-vs-actual matrix.
+ * <p>
+ * The book holds a monthly budget for the first quarter of 2026 covering groceries, rent and salary, and
+ * transactions on the period edges and just outside the budget range.
+ */
+public class TestBudget {
+
+	private static final String GROCERIES = "a0000000000000000000000000000003";
+	private static final String RENT = "a0000000000000000000000000000004";
+	private static final String SALARY = "a0000000000000000000000000000005";
+	private static final String LEISURE = "a0000000000000000000000000000006";
+
+	private AccStore readWrite;
+	private AccStore readOnly;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/budget.gnucash");
+		assertNotNull(resourceUrl, "budget.gnucash resource not found");
+		Path path = Paths.get(resourceUrl.toURI());
+		readWrite = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+		readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@DataProvider
+	public Object[][] stores() {
+		return new Object[][]{{readWrite}, {readOnly}};
+	}
+
+	@Test(dataProvider = "stores")
+	public void testBudgets(AccStore store) {
+		List<Budget> budgets = store.budgets();
+		assertEquals(budgets.size(), 1);
+
+		Budget budget = budgets.getFirst();
+		assertEquals(budget.name(), "Household");
+		assertEquals(budget.description(), Optional.of("First quarter"));
+		assertEquals(budget.periods(), 3);
+		assertEquals(budget.recurrence(), new Recurrence(1, RecurrencePeriod.MONTH, LocalDate.of(2026, 1, 1), WeekendAdjust.NONE));
+		assertEquals(budget.amounts().size(), 8);
+		BudgetAmount first = budget.amounts().getFirst();
+		assertEquals(first.accountId(), GROCERIES);
+		assertEquals(first.period(), 0);
+		assertEquals(first.amount().compareTo(new BigDecimal("300")), 0);
+	}
+
+	@Test(dataProvider = "stores")
+	public void testPeriodBoundaries(AccStore store) {
+		BudgetMatrix matrix = BudgetService.create(store).budgetVsActual(store.budgets().getFirst());
+
+		assertEquals(matrix.periods(), 3);
+		assertEquals(matrix.periodStart(0), LocalDate.of(2026, 1, 1));
+		assertEquals(matrix.periodEnd(0), LocalDate.of(2026, 1, 31));
+		assertEquals(matrix.periodStart(2), LocalDate.of(2026, 3, 1));
+		assertEquals(matrix.periodEnd(2), LocalDate.of(2026, 3, 31));
+	}
+
+	@Test(dataProvider = "stores")
+	public void testBudgetVsActual(AccStore store) {
+		BudgetService service = BudgetService.create(store);
+		BudgetMatrix matrix = service.budgetVsActual(service.budgetByName("Household"));
+
+		assertEquals(matrix.accountIds(), List.of(GROCERIES, RENT, SALARY));
+		assertAmount(matrix.actual(GROCERIES, 0), "320");
+		assertAmount(matrix.actual(GROCERIES, 1), "250");
+		assertAmount(matrix.actual(GROCERIES, 2), "0");
+		assertAmount(matrix.variance(GROCERIES, 0), "-20");
+		assertAmount(matrix.variance(GROCERIES, 1), "50");
+		assertAmount(matrix.totalActual(GROCERIES), "570");
+		assertAmount(matrix.totalBudgeted(GROCERIES), "900");
+
+		assertAmount(matrix.actual(RENT, 0), "0");
+		assertAmount(matrix.actual(RENT, 1), "1000");
+		assertAmount(matrix.budgeted(RENT, 2), "0");
+
+		assertAmount(matrix.actual(SALARY, 0), "-3000");
+		assertAmount(matrix.variance(SALARY, 1), "-3000");
+	}
+
+	@Test(dataProvider = "stores")
+	public void testExplicitRows(AccStore store) {
+		BudgetMatrix matrix = BudgetService.create(store).budgetVsActual(store.budgets().getFirst(), List.of(LEISURE, GROCERIES));
+
+		assertEquals(matrix.accountIds(), List.of(LEISURE, GROCERIES));
+		assertAmount(matrix.budgeted(LEISURE, 2), "0");
+		assertAmount(matrix.actual(LEISURE, 2), "50");
+		assertAmount(matrix.actual(GROCERIES, 0), "320");
+		assertThrows(IllegalArgumentException.class, () -> matrix.actual(RENT, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> matrix.actual(GROCERIES, 3));
+	}
+
+	@Test
+	public void testUnknownBudget() {
+		assertThrows(IllegalArgumentException.class, () -> BudgetService.create(readOnly).budgetByName("Holiday"));
+	}
+
+	private static void assertAmount(BigDecimal actual, String expected) {
+		assertEquals(actual.compareTo(new BigDecimal(expected)), 0, actual + " != " + expected);
+	}
+}
@@ -0,0 +1,176 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Customer;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.InvoiceEntry;
+import com.druvu.acc.api.entity.Job;
+import com.druvu.acc.api.entity.Owner;
+import com.druvu.acc.api.entity.OwnerType;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.service.AgingRow;
+import com.druvu.acc.api.service.AgingService;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests business objects and the aging report.
+ * <p>
+ * The book holds two customers, one of them billed through a job, and a vendor. Customer Acme has a partly
+ * paid invoice, an invoice paid in April, a draft and an invoice posted in April; the job has an old unpaid
+ * invoice and the vendor an unpaid bill.
+ */
+public class TestBusiness {
+
+	private static final String ACME = "f0000000000000000000000000000001";
+	private static final String GLOBEX = "f0000000000000000000000000000002";
+	private static final String INITECH = "f0000000000000000000000000000003";
+	private static final String WEBSITE = "f0000000000000000000000000000004";
+	private static final String FIRST_INVOICE = "90000000000000000000000000000001";
+	private static final String BILL_TRANSACTION = "d0000000000000000000000000000005";
+
+	private AccStore readWrite;
+	private AccStore readOnly;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/business.gnucash");
+		assertNotNull(resourceUrl, "business.gnucash resource not found");
+		Path path = Paths.get(resourceUrl.toURI());
+		readWrite = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+		readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@DataProvider
+	public Object[][] stores() {
+		return new Object[][]{{readWrite}, {readOnly}};
+	}
+
+	@Test(dataProvider = "stores")
+	public void testParties(AccStore store) {
+		assertEquals(store.customers().stream().map(Customer::name).toList(), List.of("Acme", "Globex"));
+		Customer acme = store.customers().getFirst();
+		assertEquals(acme.number(), "C001");
+		assertTrue(acme.active());
+		assertEquals(acme.notes(), Optional.of("Key account"));
+		assertEquals(store.customers().get(1).notes(), Optional.empty());
+
+		assertEquals(store.vendors().size(), 1);
+		assertEquals(store.vendors().getFirst().name(), "Initech");
+
+		Job job = store.jobs().getFirst();
+		assertEquals(job.name(), "Website");
+		assertEquals(job.reference(), Optional.of("PO-77"));
+		assertEquals(job.owner(), new Owner(OwnerType.CUSTOMER, GLOBEX));
+	}
+
+	@Test(dataProvider = "stores")
+	public void testInvoices(AccStore store) {
+		assertEquals(store.invoices().size(), 6);
+		Invoice first = store.invoices().getFirst();
+		assertEquals(first.number(), "0001");
+		assertEquals(first.opened(), LocalDate.of(2026, 1, 5));
+		assertEquals(first.posted(), Optional.of(LocalDate.of(2026, 1, 10)));
+		assertEquals(first.postLotId(), Optional.of("c0000000000000000000000000000001"));
+		assertFalse(store.invoices().get(3).isPosted());
+
+		assertEquals(store.invoicesForOwner(ACME).stream().map(Invoice::number).toList(), List.of("0001", "0002", "0004", "0005"));
+		assertEquals(store.invoicesForOwner(GLOBEX).stream().map(Invoice::number).toList(), List.of("0003"));
+		assertEquals(store.invoicesForOwner(WEBSITE).stream().map(Invoice::number).toList(), List.of("0003"));
+		assertEquals(store.invoicesForOwner("unknown"), List.of());
+
+		assertEquals(store.invoiceForTransaction(BILL_TRANSACTION).map(Invoice::number), Optional.of("B001"));
+		assertEquals(store.invoiceForTransaction("unknown"), Optional.empty());
+	}
+
+	@Test(dataProvider = "stores")
+	public void testEntries(AccStore store) {
+		List<InvoiceEntry> entries = store.entriesForInvoice(FIRST_INVOICE);
+		assertEquals(entries.stream().map(InvoiceEntry::description).toList(), List.of(Optional.of("Consulting"), Optional.of("Travel")));
+		assertAmount(entries.getFirst().amount(), "800");
+		assertEquals(entries.getFirst().accountId(), Optional.of("a0000000000000000000000000000004"));
+
+		Invoice bill = store.invoiceForTransaction(BILL_TRANSACTION).orElseThrow();
+		List<InvoiceEntry> billEntries = store.entriesForInvoice(bill.id());
+		assertEquals(billEntries.size(), 1);
+		assertAmount(billEntries.getFirst().amount(), "200");
+		assertEquals(billEntries.getFirst().accountId(), Optional.of("a0000000000000000000000000000006"));
+	}
+
+	@Test(dataProvider = "stores")
+	public void testReceivables(AccStore store) {
+		List<AgingRow> rows = AgingService.create(store).receivables(LocalDate.of(2026, 3, 31));
+
+		assertEquals(rows.stream().map(AgingRow::ownerName).toList(), List.of("Acme", "Globex"));
+		assertBuckets(rows.getFirst(), "500", "0", "600", "0");
+		assertAmount(rows.getFirst().total(), "1100");
+		assertBuckets(rows.get(1), "0", "0", "0", "300");
+	}
+
+	@Test(dataProvider = "stores")
+	public void testReceivablesAfterPayment(AccStore store) {
+		List<AgingRow> rows = AgingService.create(store).receivables(LocalDate.of(2026, 4, 30));
+
+		assertEquals(rows.getFirst().ownerId(), ACME);
+		assertBuckets(rows.getFirst(), "50", "0", "0", "600");
+	}
+
+	@Test(dataProvider = "stores")
+	public void testPayables(AccStore store) {
+		List<AgingRow> rows = AgingService.create(store).payables(LocalDate.of(2026, 3, 31));
+
+		assertEquals(rows.size(), 1);
+		assertEquals(rows.getFirst().ownerId(), INITECH);
+		assertBuckets(rows.getFirst(), "0", "200", "0", "0");
+	}
+
+	@Test
+	public void testReadWriteIndexKeptUntilRevisionChanges() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/business.gnucash");
+		AccStore store = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, Paths.get(resourceUrl.toURI())));
+		List<Invoice> invoices = store.invoices();
+		assertSame(store.invoices(), invoices);
+
+		String splitId = store.transactions().getFirst().splits().getFirst().id();
+		store.reconcileSplits(List.of(splitId), ReconcileState.CLEARED, null);
+
+		assertNotSame(store.invoices(), invoices);
+		assertEquals(store.invoices(), invoices);
+	}
+
+	@Test
+	public void testCustomBuckets() {
+		AgingService aging = AgingService.create(readOnly);
+		List<AgingRow> rows = aging.aging(OwnerType.CUSTOMER, LocalDate.of(2026, 3, 31), List.of(90));
+		assertBuckets(rows.getFirst(), "1100", "0");
+
+		assertThrows(IllegalArgumentException.class, () -> aging.aging(OwnerType.CUSTOMER, LocalDate.of(2026, 3, 31), List.of(60, 30)));
+		assertThrows(IllegalArgumentException.class, () -> aging.aging(OwnerType.JOB, LocalDate.of(2026, 3, 31), List.of(30)));
+	}
+
+	private static void assertBuckets(AgingRow row, String... expected) {
+		assertEquals(row.buckets().size(), expected.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertAmount(row.buckets().get(i), expected[i]);
+		}
+	}
+
+	private static void assertAmount(BigDecimal actual, String expected) {
+		assertEquals(actual.compareTo(new BigDecimal(expected)), 0, actual + " != " + expected);
+	}
+}
@@ -0,0 +1,180 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Lot;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.service.CostBasisMethod;
+import com.druvu.acc.api.service.GainsService;
+import com.druvu.acc.api.service.Position;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.druvu.acc.test.Fixtures.split;
+import static com.druvu.acc.test.Fixtures.transaction;
+import static org.testng.Assert.*;
+
+/**
+ * Tests lots and the capital gains engine against a book buying 10 shares at 100, 10 at 120 and selling 15 at 150.
+ */
+public class TestCapitalGains {
+
+	private static final String STOCK = "a0000000000000000000000000000004";
+	private static final String CASH = "a0000000000000000000000000000003";
+	private static final String JANUARY_LOT = "c0000000000000000000000000000001";
+	private static final String FEBRUARY_LOT = "c0000000000000000000000000000002";
+
+	private AccStore readWrite;
+	private AccStore readOnly;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/lots.gnucash");
+		assertNotNull(resourceUrl, "lots.gnucash resource not found");
+		Path path = Paths.get(resourceUrl.toURI());
+		readWrite = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+		readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@DataProvider
+	public Object[][] stores() {
+		return new Object[][]{{readWrite}, {readOnly}};
+	}
+
+	@Test(dataProvider = "stores")
+	public void testLots(AccStore store) {
+		assertEquals(store.lots().size(), 2);
+		assertEquals(store.lotsForAccount(STOCK), store.lots());
+		assertTrue(store.lotsForAccount(CASH).isEmpty());
+
+		Lot january = store.lotsForAccount(STOCK).getFirst();
+		assertEquals(january.id(), JANUARY_LOT);
+		assertEquals(january.accountId(), STOCK);
+		assertEquals(january.title(), Optional.of("January buy"));
+		assertEquals(january.notes(), Optional.of("Partially sold in March"));
+		assertEquals(store.lotsForAccount(STOCK).get(1).notes(), Optional.empty());
+	}
+
+	@Test(dataProvider = "stores")
+	public void testSplitsForLot(AccStore store) {
+		List<Split> splits = store.splitsForLot(FEBRUARY_LOT);
+		assertEquals(splits.stream().map(Split::id).toList(), List.of(
+				"e0000000000000000000000000000003", "e0000000000000000000000000000005", "e0000000000000000000000000000008"));
+		splits.forEach(split -> assertEquals(split.lotId(), Optional.of(FEBRUARY_LOT)));
+		assertTrue(store.splitsForLot("unknown").isEmpty());
+		store.splitsForAccount(CASH).forEach(split -> assertTrue(split.lotId().isEmpty()));
+	}
+
+	@Test(dataProvider = "stores")
+	public void testRealizedGains(AccStore store) {
+		GainsService gains = GainsService.create(store);
+		assertPosition(gains.position(STOCK, CostBasisMethod.FIFO), "5", "600", "650");
+		assertPosition(gains.position(STOCK, CostBasisMethod.LIFO), "5", "500", "550");
+		assertPosition(gains.position(STOCK, CostBasisMethod.AVERAGE), "5", "550", "600");
+		assertPosition(gains.position(STOCK, CostBasisMethod.SPECIFIC), "5", "500", "550");
+	}
+
+	@Test
+	public void testRealizations() {
+		Position fifo = GainsService.create(readOnly).position(STOCK, CostBasisMethod.FIFO);
+
+		assertEquals(fifo.realizations().size(), 2);
+		assertEquals(fifo.realizations().getFirst().quantity().compareTo(new BigDecimal("-10")), 0);
+		assertEquals(fifo.realizations().getFirst().gain().compareTo(new BigDecimal("500")), 0);
+		assertEquals(fifo.realizedGain(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).compareTo(new BigDecimal("650")), 0);
+		assertEquals(fifo.realizedGain(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 12, 31)).signum(), 0);
+	}
+
+	@Test
+	public void testUnrealizedGain() {
+		GainsService gains = GainsService.create(readWrite);
+		Position fifo = gains.position(STOCK, CostBasisMethod.FIFO);
+
+		assertEquals(gains.unrealizedGain(fifo, LocalDate.of(2024, 5, 1)).orElseThrow().compareTo(new BigDecimal("200")), 0);
+		assertEquals(gains.unrealizedGain(fifo, LocalDate.of(2024, 2, 1)).orElseThrow().compareTo(new BigDecimal("-150")), 0);
+		assertTrue(gains.unrealizedGain(fifo, LocalDate.of(2023, 12, 31)).isEmpty());
+	}
+
+	@Test
+	public void testPositionsCoverSecurityAccounts() {
+		GainsService gains = GainsService.create(readWrite);
+		List<Position> positions = gains.positions(CostBasisMethod.FIFO);
+
+		assertEquals(positions.size(), 1);
+		assertSame(positions.getFirst(), gains.position(STOCK, CostBasisMethod.FIFO));
+		assertThrows(IllegalArgumentException.class, () -> gains.position("unknown", CostBasisMethod.FIFO));
+	}
+
+	@Test
+	public void testShortPosition() {
+		Position position = GainsService.create(readWrite).position(CASH, CostBasisMethod.FIFO);
+
+		// cash is paid out before it is received, the sale closes the resulting short position and opens a long one
+		assertEquals(position.quantity().compareTo(new BigDecimal("50")), 0);
+		assertEquals(position.costBasis().compareTo(new BigDecimal("50")), 0);
+		assertEquals(position.realizedGain().signum(), 0);
+	}
+
+	@Test
+	public void testLotIndexFollowsWrites() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/lots.gnucash");
+		AccStore store = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, Paths.get(resourceUrl.toURI())));
+		assertEquals(store.splitsForLot(FEBRUARY_LOT).size(), 3);
+
+		LocalDate date = LocalDate.of(2026, 4, 1);
+		BigDecimal value = new BigDecimal("-300");
+		Split sale = split("f1-0", "f1", STOCK, date, value, new BigDecimal("-2"), FEBRUARY_LOT);
+		Split cash = split("f1-1", "f1", CASH, date, value.negate(), value.negate(), null);
+		store.addTransactions(List.of(transaction("f1", date, "Sale", sale, cash)));
+
+		assertEquals(store.splitsForLot(FEBRUARY_LOT).size(), 4);
+		assertEquals(store.splitsForLot(FEBRUARY_LOT).getLast().id(), "f1-0");
+		assertEquals(store.lotsForAccount(STOCK).size(), 2);
+	}
+
+	@Test
+	public void testCachedUntilRevisionChanges() {
+		AtomicLong revision = new AtomicLong();
+		AccStore store = (AccStore) Proxy.newProxyInstance(AccStore.class.getClassLoader(), new Class<?>[]{AccStore.class},
+				(proxy, method, args) -> {
+					if (method.getName().equals("revision")) {
+						return revision.get();
+					}
+					try {
+						return method.invoke(readOnly, args);
+					}
+					catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+		GainsService gains = GainsService.create(store);
+
+		Position first = gains.position(STOCK, CostBasisMethod.LIFO);
+		assertSame(gains.position(STOCK, CostBasisMethod.LIFO), first);
+		revision.incrementAndGet();
+		Position second = gains.position(STOCK, CostBasisMethod.LIFO);
+		assertNotSame(second, first);
+		assertEquals(second, first);
+	}
+
+	private static void assertPosition(Position position, String quantity, String costBasis, String realized) {
+		assertEquals(position.quantity().compareTo(new BigDecimal(quantity)), 0, "quantity " + position.quantity());
+		assertEquals(position.costBasis().compareTo(new BigDecimal(costBasis)), 0, "cost basis " + position.costBasis());
+		assertEquals(position.realizedGain().compareTo(new BigDecimal(realized)), 0, "realized " + position.realizedGain());
+	}
+}
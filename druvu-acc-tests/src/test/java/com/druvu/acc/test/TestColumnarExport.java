@@ -0,0 +1,130 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.Price;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.export.Column;
+import com.druvu.acc.api.export.ColumnType;
+import com.druvu.acc.api.export.ColumnarExport;
+import com.druvu.acc.api.export.ColumnarTable;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.druvu.acc.test.Fixtures.transfer;
+import static org.testng.Assert.*;
+
+/**
+ * Exports a book into columnar table files and reads them back.
+ * <p>
+ * Row groups of three rows split every table into several groups.
+ */
+public class TestColumnarExport {
+
+	private AccStore store;
+	private Path directory;
+	private Map<String, Long> rows;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException, IOException {
+		var resourceUrl = getClass().getResource("/lots.gnucash");
+		assertNotNull(resourceUrl, "lots.gnucash resource not found");
+		store = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, Paths.get(resourceUrl.toURI())));
+		directory = Files.createTempDirectory("export");
+		rows = ColumnarExport.create(store, 3).export(directory);
+	}
+
+	@Test
+	public void testRowCounts() {
+		List<Transaction> transactions = store.transactions();
+		assertEquals(rows.get(ColumnarExport.ACCOUNTS), (long) store.accounts().size());
+		assertEquals(rows.get(ColumnarExport.TRANSACTIONS), (long) transactions.size());
+		assertEquals(rows.get(ColumnarExport.SPLITS), transactions.stream().mapToLong(transaction -> transaction.splits().size()).sum());
+		assertEquals(rows.get(ColumnarExport.PRICES), (long) store.prices().size());
+		assertTrue(rows.get(ColumnarExport.SPLITS) > 3, "splits span several row groups");
+	}
+
+	@Test
+	public void testSplitsRoundTrip() {
+		ColumnarTable table = ColumnarTable.read(ColumnarExport.file(directory, ColumnarExport.SPLITS));
+		assertEquals(table.name(), ColumnarExport.SPLITS);
+		assertEquals(table.columns().get(6), new Column("value", ColumnType.DECIMAL));
+
+		List<Split> splits = store.transactions().stream().flatMap(transaction -> transaction.splits().stream()).toList();
+		assertEquals(table.rowCount(), splits.size());
+		for (int row = 0; row < splits.size(); row++) {
+			Split split = splits.get(row);
+			assertEquals(table.values("id").get(row), split.id());
+			assertEquals(table.values("transaction_id").get(row), split.transactionId());
+			assertEquals(table.values("account_id").get(row), split.accountId());
+			assertEquals(table.values("date_posted").get(row), split.datePosted());
+			assertEquals(table.values("reconcile_state").get(row), split.reconcileState().code());
+			assertEquals(table.values("reconcile_date").get(row), split.reconcileDate().orElse(null));
+			assertEquals(((BigDecimal) table.values("value").get(row)).compareTo(split.value()), 0, split.id());
+			assertEquals(((BigDecimal) table.values("quantity").get(row)).compareTo(split.quantity()), 0, split.id());
+			assertEquals(table.values("memo").get(row), split.memo().orElse(null));
+			assertEquals(table.values("lot_id").get(row), split.lotId().orElse(null));
+		}
+	}
+
+	@Test
+	public void testAccountsAndPrices() {
+		ColumnarTable accounts = ColumnarTable.read(ColumnarExport.file(directory, ColumnarExport.ACCOUNTS));
+		List<Account> expected = store.accounts();
+		for (int row = 0; row < expected.size(); row++) {
+			Account account = expected.get(row);
+			assertEquals(accounts.values("name").get(row), account.name());
+			assertEquals(accounts.values("type").get(row), account.type().name());
+			assertEquals(accounts.values("parent_id").get(row), account.parentId().orElse(null));
+		}
+
+		ColumnarTable prices = ColumnarTable.read(ColumnarExport.file(directory, ColumnarExport.PRICES));
+		Price price = store.prices().getFirst();
+		assertEquals(prices.values("time").getFirst(), price.time());
+		assertEquals(prices.values("commodity").getFirst(), price.commodity().namespace() + ":" + price.commodity().id());
+		assertEquals(((BigDecimal) prices.values("value").getFirst()).compareTo(price.value()), 0);
+	}
+
+	@Test
+	public void testAmountsOutOfLongRangeAreKeptExactly() throws URISyntaxException, IOException {
+		AccStore wide = new GnucashBookFactory(LoadMode.READ_WRITE)
+				.createComponent(Dependencies.of(Path.class, Paths.get(getClass().getResource("/lots.gnucash").toURI())));
+		String from = wide.accounts().get(1).id();
+		String to = wide.accounts().get(2).id();
+		wide.addTransactions(List.of(
+				transfer("tiny", LocalDate.of(2026, 3, 1), "Rounding", from, to, "0.000000001"),
+				transfer("huge", LocalDate.of(2026, 3, 2), "Transfer", from, to, "99999999999.99")));
+		Path exported = Files.createTempDirectory("export");
+		ColumnarExport.create(wide).export(exported);
+
+		List<Object> values = ColumnarTable.read(ColumnarExport.file(exported, ColumnarExport.SPLITS), Set.of("value")).values("value");
+		assertTrue(values.contains(new BigDecimal("0.000000001")), values.toString());
+		assertTrue(values.contains(new BigDecimal("-99999999999.99")), values.toString());
+	}
+
+	@Test
+	public void testReadsSelectedColumns() {
+		ColumnarTable table = ColumnarTable.read(ColumnarExport.file(directory, ColumnarExport.TRANSACTIONS), Set.of("date_posted", "split_count"));
+		assertEquals(table.columns().stream().map(Column::name).toList(), List.of("date_posted", "split_count"));
+		List<Transaction> transactions = store.transactions();
+		assertEquals(table.values("date_posted"), transactions.stream().map(Transaction::datePosted).map(Object.class::cast).toList());
+		assertEquals(table.values("split_count").getFirst(), (long) transactions.getFirst().splits().size());
+		assertThrows(IllegalArgumentException.class, () -> table.values("description"));
+	}
+}
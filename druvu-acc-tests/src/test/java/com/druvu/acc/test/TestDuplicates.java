@@ -0,0 +1,194 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.service.Duplicate;
+import com.druvu.acc.api.service.DuplicateService;
+import com.druvu.acc.api.statement.CsvFormat;
+import com.druvu.acc.api.statement.StatementImporter;
+import com.druvu.acc.api.statement.StatementParser;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.druvu.acc.test.Fixtures.transfer;
+import static org.testng.Assert.*;
+
+/**
+ * Tests finding duplicate transactions by split fingerprints.
+ */
+public class TestDuplicates {
+
+	private static final String CHECKING = "a0000000000000000000000000000002";
+	private static final String GROCERIES = "a0000000000000000000000000000003";
+	private static final String FARM_MARKET = "d0000000000000000000000000000001";
+	private static final LocalDate POSTED = LocalDate.of(2026, 1, 5);
+
+	private AccStore store;
+
+	@BeforeMethod
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/slots.gnucash");
+		assertNotNull(resourceUrl, "slots.gnucash resource not found");
+		store = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, Paths.get(resourceUrl.toURI())));
+	}
+
+	@Test
+	public void testNoDuplicatesInBook() {
+		assertEquals(DuplicateService.create(store).duplicates(), List.of());
+	}
+
+	@Test
+	public void testFindsDuplicateWithinTolerance() {
+		DuplicateService service = DuplicateService.create(store);
+		store.addTransactions(List.of(
+				transfer("f1", POSTED.plusDays(2), "FARM  market!", CHECKING, GROCERIES, "42.50"),
+				transfer("f2", POSTED.plusDays(20), "Farm market", CHECKING, GROCERIES, "42.50"),
+				transfer("f3", POSTED, "Farm market", CHECKING, GROCERIES, "42.51"),
+				transfer("f4", POSTED, "Bakery", CHECKING, GROCERIES, "42.50")));
+
+		List<Duplicate> duplicates = service.duplicates();
+
+		assertEquals(duplicates.size(), 1);
+		Duplicate duplicate = duplicates.getFirst();
+		assertEquals(duplicate.original().id(), FARM_MARKET);
+		assertEquals(duplicate.duplicate().id(), "f1");
+		assertEquals(duplicate.daysApart(), 2);
+		assertTrue(List.of(CHECKING, GROCERIES).contains(duplicate.accountId()));
+	}
+
+	@Test
+	public void testTolerance() {
+		store.addTransactions(List.of(transfer("f1", POSTED.plusDays(1), "Farm market", CHECKING, GROCERIES, "42.50")));
+
+		assertEquals(DuplicateService.create(store, 0).duplicates(), List.of());
+		assertEquals(DuplicateService.create(store, 1).duplicates().size(), 1);
+		assertThrows(IllegalArgumentException.class, () -> DuplicateService.create(store, -1));
+	}
+
+	@Test
+	public void testIncrementalRefresh() {
+		DuplicateService service = DuplicateService.create(store);
+		assertEquals(service.duplicates(), List.of());
+
+		store.addTransactions(List.of(transfer("f1", POSTED.minusDays(1), "Farm market", CHECKING, GROCERIES, "42.50")));
+		assertEquals(service.duplicates().size(), 1);
+
+		store.addTransactions(List.of(transfer("f2", POSTED.plusDays(1), "Farm market", CHECKING, GROCERIES, "42.50")));
+		List<Duplicate> duplicates = service.duplicates();
+		assertEquals(duplicates.size(), 3);
+		assertEquals(duplicates.stream().filter(duplicate -> duplicate.duplicate().id().equals("f2")).count(), 2);
+	}
+
+	@Test
+	public void testReportsTransactionsAsCurrentlyStored() {
+		DuplicateService service = DuplicateService.create(store);
+		store.addTransactions(List.of(transfer("f1", POSTED, "Farm market", CHECKING, GROCERIES, "42.50")));
+		assertEquals(service.duplicates().getFirst().duplicate().splits().getFirst().reconcileState(), ReconcileState.NOT_RECONCILED);
+
+		store.reconcileSplits(List.of("f1-0"), ReconcileState.CLEARED, POSTED);
+
+		List<Duplicate> duplicates = service.duplicates();
+		assertEquals(duplicates.size(), 1);
+		assertEquals(duplicates.getFirst().duplicate().splits().getFirst().reconcileState(), ReconcileState.CLEARED);
+	}
+
+	@Test
+	public void testRecordedWritesAreIndexedWithoutRebuild() {
+		AtomicInteger scans = new AtomicInteger();
+		AccStore counting = countingScans(scans);
+		DuplicateService service = DuplicateService.create(counting);
+		assertEquals(service.duplicates(), List.of());
+
+		// more writes than the index keeps as layers before merging them
+		for (int day = 1; day <= 10; day++) {
+			List<Transaction> added = List.of(transfer("f" + day, POSTED.plusDays(day), "Farm market", CHECKING, GROCERIES, "42.50"));
+			counting.addTransactions(added);
+			service.record(added);
+		}
+
+		assertEquals(service.duplicates().size(), 27);
+		assertEquals(scans.get(), 1);
+		assertEquals(DuplicateService.create(store).duplicates().size(), 27);
+	}
+
+	@Test
+	public void testRecordAfterUnrecordedWriteRebuilds() {
+		AtomicInteger scans = new AtomicInteger();
+		AccStore counting = countingScans(scans);
+		DuplicateService service = DuplicateService.create(counting);
+		assertEquals(service.duplicates(), List.of());
+
+		counting.addTransactions(List.of(transfer("f1", POSTED.plusDays(1), "Farm market", CHECKING, GROCERIES, "42.50")));
+		List<Transaction> added = List.of(transfer("f2", POSTED.plusDays(2), "Farm market", CHECKING, GROCERIES, "42.50"));
+		counting.addTransactions(added);
+		service.record(added);
+
+		assertEquals(service.duplicates().size(), 3);
+		assertEquals(scans.get(), 2);
+	}
+
+	@Test
+	public void testImporterRecordsAddedBatches() {
+		DuplicateService service = DuplicateService.create(store);
+		assertEquals(service.duplicates(), List.of());
+		String csv = """
+				Date,Description,Amount,Memo
+				2026-01-06,Farm market,-42.50,
+				2026-01-07,Farm market,-42.50,
+				""";
+
+		StatementImporter.create(store, 1, service)
+				.importStatement(new StringReader(csv), StatementParser.csv(CsvFormat.of(0, 1, 2)), CHECKING, GROCERIES);
+
+		assertEquals(service.duplicates(), DuplicateService.create(store).duplicates());
+		assertEquals(service.duplicates().size(), 3);
+	}
+
+	@Test
+	public void testDuplicatesOfArrivingTransactions() {
+		DuplicateService service = DuplicateService.create(store);
+		List<Transaction> arriving = List.of(
+				transfer("f1", POSTED, "Farm market", CHECKING, GROCERIES, "42.50"),
+				transfer("f2", POSTED.plusDays(10), "Weekly bakery", CHECKING, GROCERIES, "5.00"),
+				transfer("f3", POSTED.plusDays(11), "weekly  BAKERY", CHECKING, GROCERIES, "5.00"));
+
+		List<Duplicate> duplicates = service.duplicatesOf(arriving);
+
+		assertEquals(duplicates.size(), 2);
+		assertEquals(duplicates.get(0).original().id(), FARM_MARKET);
+		assertEquals(duplicates.get(0).duplicate().id(), "f1");
+		assertEquals(duplicates.get(1).original().id(), "f2");
+		assertEquals(duplicates.get(1).duplicate().id(), "f3");
+		assertEquals(service.duplicates(), List.of());
+	}
+
+	private AccStore countingScans(AtomicInteger scans) {
+		return (AccStore) Proxy.newProxyInstance(AccStore.class.getClassLoader(), new Class<?>[]{AccStore.class},
+				(proxy, method, args) -> {
+					if (method.getName().equals("streamTransactions")) {
+						scans.incrementAndGet();
+					}
+					try {
+						return method.invoke(store, args);
+					}
+					catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+	}
+}
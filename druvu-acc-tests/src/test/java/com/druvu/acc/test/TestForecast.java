@@ -0,0 +1,163 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Recurrence;
+import com.druvu.acc.api.entity.RecurrencePeriod;
+import com.druvu.acc.api.entity.ScheduledSplit;
+import com.druvu.acc.api.entity.ScheduledTransaction;
+import com.druvu.acc.api.entity.WeekendAdjust;
+import com.druvu.acc.api.service.BalancePoint;
+import com.druvu.acc.api.service.ForecastService;
+import com.druvu.acc.api.service.Occurrence;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests scheduled transactions and the forecast built from them.
+ * <p>
+ * The book holds a monthly rent already created for January, a salary paid on the last business day of the month
+ * three times starting in February (January 31 falls on a Saturday and moves before the schedule start), a quarterly tax given by formula and a disabled insurance.
+ */
+public class TestForecast {
+
+	private static final String CHECKING = "a0000000000000000000000000000002";
+	private static final String RENT = "a0000000000000000000000000000003";
+
+	private AccStore readWrite;
+	private AccStore readOnly;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/scheduled.gnucash");
+		assertNotNull(resourceUrl, "scheduled.gnucash resource not found");
+		Path path = Paths.get(resourceUrl.toURI());
+		readWrite = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+		readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@DataProvider
+	public Object[][] stores() {
+		return new Object[][]{{readWrite}, {readOnly}};
+	}
+
+	@Test(dataProvider = "stores")
+	public void testScheduledTransactions(AccStore store) {
+		List<ScheduledTransaction> schedules = store.scheduledTransactions();
+		assertEquals(schedules.stream().map(ScheduledTransaction::name).toList(), List.of("Rent", "Salary", "Quarterly tax", "Insurance"));
+
+		ScheduledTransaction rent = schedules.getFirst();
+		assertTrue(rent.enabled());
+		assertEquals(rent.start(), LocalDate.of(2026, 1, 31));
+		assertEquals(rent.lastOccurrence(), Optional.of(LocalDate.of(2026, 1, 31)));
+		assertEquals(rent.recurrences(), List.of(new Recurrence(1, RecurrencePeriod.MONTH, LocalDate.of(2026, 1, 31), WeekendAdjust.NONE)));
+		assertEquals(rent.splits().size(), 2);
+		ScheduledSplit debit = rent.splits().getFirst();
+		assertEquals(debit.accountId(), RENT);
+		assertEquals(debit.amount().compareTo(new BigDecimal("1000")), 0);
+		assertEquals(rent.splits().get(1).amount().compareTo(new BigDecimal("-1000")), 0);
+
+		assertEquals(schedules.get(1).remainingOccurrences(), Optional.of(3));
+		assertEquals(schedules.get(2).end(), Optional.of(LocalDate.of(2026, 9, 30)));
+		assertEquals(schedules.get(2).splits().getFirst().amount().compareTo(new BigDecimal("250")), 0);
+		assertFalse(schedules.get(3).enabled());
+	}
+
+	@Test
+	public void testOccurrencesInDateOrder() {
+		List<String> occurrences = ForecastService.create(readOnly)
+				.occurrences(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 6, 30))
+				.map(occurrence -> occurrence.date() + " " + occurrence.schedule().name())
+				.toList();
+
+		assertEquals(occurrences, List.of(
+				"2026-02-27 Salary",
+				"2026-02-28 Rent",
+				"2026-03-16 Quarterly tax",
+				"2026-03-31 Rent",
+				"2026-03-31 Salary",
+				"2026-04-30 Rent",
+				"2026-04-30 Salary",
+				"2026-05-31 Rent",
+				"2026-06-15 Quarterly tax",
+				"2026-06-30 Rent"));
+	}
+
+	@Test
+	public void testOccurrencesRespectEndDate() {
+		List<LocalDate> taxes = ForecastService.create(readWrite)
+				.occurrences(LocalDate.of(2026, 4, 1), LocalDate.of(2030, 12, 31))
+				.filter(occurrence -> occurrence.schedule().name().equals("Quarterly tax"))
+				.map(Occurrence::date)
+				.toList();
+		assertEquals(taxes, List.of(LocalDate.of(2026, 6, 15), LocalDate.of(2026, 9, 15)));
+	}
+
+	@Test
+	public void testOccurrencesAreLazy() {
+		// the rent never ends, a long horizon only costs what is consumed
+		List<Occurrence> first = ForecastService.create(readOnly)
+				.occurrences(LocalDate.of(2026, 1, 1), LocalDate.of(9999, 12, 31))
+				.limit(3)
+				.toList();
+		assertEquals(first.size(), 3);
+	}
+
+	@Test(dataProvider = "stores")
+	public void testProjectedBalances(AccStore store) {
+		Map<String, List<BalancePoint>> series = ForecastService.create(store)
+				.projectedBalances(List.of(CHECKING, RENT), LocalDate.of(2026, 1, 31), LocalDate.of(2026, 6, 30), Period.ofMonths(1));
+
+		assertBalances(series.get(CHECKING), "2026-01-31", "4000", "6000", "7750", "9750", "8750", "7500");
+		assertBalances(series.get(RENT), "2026-01-31", "1000", "2000", "3000", "4000", "5000", "6000");
+	}
+
+	@Test
+	public void testOverdueOccurrencesCountIntoOpeningBalance() {
+		List<BalancePoint> series = ForecastService.create(readOnly)
+				.projectedBalances(CHECKING, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30), Period.ofMonths(1));
+
+		assertBalances(series, "2026-04-01", "7750");
+	}
+
+	@Test
+	public void testProjectionOverMultipleYears() {
+		List<BalancePoint> series = ForecastService.create(readOnly)
+				.projectedBalances(RENT, LocalDate.of(2026, 1, 31), LocalDate.of(2046, 1, 31), Period.ofYears(1));
+
+		assertEquals(series.size(), 21);
+		assertEquals(series.getLast().balance().compareTo(new BigDecimal(1000 + 20 * 12 * 1000)), 0);
+	}
+
+	@Test
+	public void testInvalidStep() {
+		ForecastService forecast = ForecastService.create(readOnly);
+		assertThrows(IllegalArgumentException.class,
+				() -> forecast.projectedBalances(RENT, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), Period.ZERO));
+	}
+
+	private static void assertBalances(List<BalancePoint> series, String firstDate, String... balances) {
+		assertEquals(series.size(), balances.length);
+		assertEquals(series.getFirst().date(), LocalDate.parse(firstDate));
+		for (int i = 0; i < balances.length; i++) {
+			assertEquals(series.get(i).balance().compareTo(new BigDecimal(balances[i])), 0,
+					series.get(i).date() + " balance " + series.get(i).balance());
+		}
+	}
+}
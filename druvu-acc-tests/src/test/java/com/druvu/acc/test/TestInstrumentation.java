@@ -0,0 +1,157 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.metrics.AccMetrics;
+import com.druvu.acc.api.metrics.InstrumentedAccStore;
+import com.druvu.acc.api.metrics.MetricNames;
+import com.druvu.acc.api.metrics.Metrics;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.acc.loader.AccStoreFactory;
+import com.druvu.acc.loader.BookFormat;
+import com.druvu.lib.loader.Dependencies;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests that loads and queries are reported as metrics and JFR events.
+ */
+public class TestInstrumentation {
+
+	private static final String BOOK = "common.gnucash";
+
+	private Path path;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/" + BOOK);
+		assertNotNull(resourceUrl, "common.gnucash resource not found");
+		path = Paths.get(resourceUrl.toURI());
+	}
+
+	@AfterMethod
+	public void tearDown() {
+		Metrics.install(AccMetrics.NOOP);
+	}
+
+	@Test
+	public void testLoadAndQueryMetrics() {
+		RecordingMetrics metrics = new RecordingMetrics();
+		Metrics.install(metrics);
+
+		AccStore store = InstrumentedAccStore.wrap(load(LoadMode.READ_ONLY), BOOK);
+		store.transactions();
+		store.accountByName("Root Account:Actif");
+
+		assertEquals(metrics.counters.get(MetricNames.LOAD_COUNT + "/" + BOOK), Long.valueOf(1));
+		assertTrue(metrics.values.containsKey(MetricNames.LOAD_PARSE_TIME + "/" + BOOK));
+		assertTrue(metrics.values.containsKey(MetricNames.LOAD_INDEX_TIME + "/" + BOOK));
+		assertEquals(metrics.values.get(MetricNames.QUERY_RESULTS_PREFIX + "transactions/" + BOOK), Long.valueOf(5));
+		assertEquals(metrics.values.get(MetricNames.QUERY_RESULTS_PREFIX + "accountByName/" + BOOK), Long.valueOf(1));
+		assertTrue(metrics.values.containsKey(MetricNames.QUERY_TIME_PREFIX + "transactions/" + BOOK));
+	}
+
+	@Test
+	public void testFailedLoadIsCounted() {
+		RecordingMetrics metrics = new RecordingMetrics();
+		Metrics.install(metrics);
+		Path missing = path.resolveSibling("missing.gnucash");
+
+		assertThrows(RuntimeException.class, () -> new GnucashBookFactory().createComponent(Dependencies.of(Path.class, missing)));
+		assertEquals(metrics.counters.get(MetricNames.LOAD_FAILURES + "/missing.gnucash"), Long.valueOf(1));
+	}
+
+	@Test
+	public void testLoaderPicksFactoryOfBookFormat() throws IOException {
+		try (AccStore store = AccStoreFactory.load(path)) {
+			assertTrue(store instanceof InstrumentedAccStore);
+			assertEquals(store.transactions().size(), 5);
+		}
+
+		Path sqlite = Files.createTempFile("instrumentation", ".gnucash");
+		sqlite.toFile().deleteOnExit();
+		Files.write(sqlite, "SQLite format 3\0".getBytes(StandardCharsets.US_ASCII));
+		assertEquals(BookFormat.of(sqlite), BookFormat.SQLITE);
+		assertEquals(BookFormat.of(path), BookFormat.XML);
+		assertThrows(IllegalArgumentException.class, () -> new GnucashBookFactory().createComponent(Dependencies.of(Path.class, sqlite)));
+	}
+
+	@Test
+	public void testJfrEvents() throws IOException {
+		Path file = Files.createTempFile("instrumentation", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("com.druvu.acc.gnucash.BookLoad");
+			recording.enable("com.druvu.acc.StoreQuery");
+			recording.start();
+
+			AccStore store = InstrumentedAccStore.wrap(load(LoadMode.READ_WRITE), BOOK);
+			store.splitsForAccount(store.accountByName("Root Account:Actif").orElseThrow().id());
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		Files.delete(file);
+		RecordedEvent load = events.stream()
+				.filter(event -> event.getEventType().getName().equals("com.druvu.acc.gnucash.BookLoad"))
+				.findFirst()
+				.orElseThrow();
+		assertEquals(load.getString("book"), BOOK);
+		assertEquals(load.getString("mode"), "READ_WRITE");
+		assertTrue(load.getLong("fileSize") > 0);
+		assertTrue(load.getDuration("parseTime").toNanos() > 0);
+
+		List<String> methods = events.stream()
+				.filter(event -> event.getEventType().getName().equals("com.druvu.acc.StoreQuery"))
+				.map(event -> event.getString("method"))
+				.toList();
+		assertEquals(methods, List.of("accountByName", "splitsForAccount"));
+	}
+
+	private AccStore load(LoadMode mode) {
+		return new GnucashBookFactory(mode).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	/**
+	 * Keeps the last value of each metric, keyed by name and book.
+	 */
+	private static final class RecordingMetrics implements AccMetrics {
+
+		private final Map<String, Long> counters = new ConcurrentHashMap<>();
+		private final Map<String, Long> values = new ConcurrentHashMap<>();
+
+		@Override
+		public void increment(String name, String book, long delta) {
+			counters.merge(name + "/" + book, delta, Long::sum);
+		}
+
+		@Override
+		public void recordTime(String name, String book, long nanos) {
+			values.put(name + "/" + book, nanos);
+		}
+
+		@Override
+		public void recordValue(String name, String book, long value) {
+			values.put(name + "/" + book, value);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.service.IntegrityCheck;
+import com.druvu.acc.api.service.IntegrityIssue;
+import com.druvu.acc.api.service.IntegrityReport;
+import com.druvu.acc.api.service.IntegrityService;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookGenerator;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookSpec;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests the book integrity checks.
+ */
+public class TestIntegrity {
+
+	@DataProvider
+	public Object[][] modes() {
+		return new Object[][]{{LoadMode.READ_WRITE}, {LoadMode.READ_ONLY}};
+	}
+
+	@Test(dataProvider = "modes")
+	public void testBrokenBook(LoadMode mode) throws URISyntaxException {
+		IntegrityReport report = IntegrityService.create(load("integrity.gnucash", mode)).validate();
+
+		assertFalse(report.valid());
+		assertEquals(report.accounts(), 5);
+		assertEquals(report.transactions(), 6);
+		assertEquals(report.splits(), 10);
+		assertEquals(ids(report, IntegrityCheck.ORPHAN_ACCOUNT), List.of("a0000000000000000000000000000004"));
+		assertEquals(ids(report, IntegrityCheck.UNKNOWN_COMMODITY), List.of("a0000000000000000000000000000005"));
+		assertEquals(ids(report, IntegrityCheck.UNBALANCED_TRANSACTION), List.of("d0000000000000000000000000000002"));
+		assertEquals(ids(report, IntegrityCheck.DANGLING_ACCOUNT), List.of("e0000000000000000000000000000005"));
+		assertEquals(ids(report, IntegrityCheck.COMMODITY_MISMATCH), List.of("e0000000000000000000000000000007"));
+		assertEquals(ids(report, IntegrityCheck.DUPLICATE_ID), List.of("e0000000000000000000000000000001"));
+		assertEquals(ids(report, IntegrityCheck.EMPTY_TRANSACTION), List.of("d0000000000000000000000000000006"));
+		assertEquals(report.issues().size(), 7);
+	}
+
+	@Test
+	public void testFixturesAreValid() throws URISyntaxException {
+		for (String book : List.of("common.gnucash", "lots.gnucash", "slots.gnucash", "search.gnucash", "budget.gnucash", "business.gnucash")) {
+			IntegrityReport report = IntegrityService.create(load(book, LoadMode.READ_WRITE)).validate();
+			assertTrue(report.valid(), book + ": " + report.issues());
+		}
+	}
+
+	@Test
+	public void testSyntheticBookIsValid() throws IOException {
+		SyntheticBookSpec spec = SyntheticBookSpec.DEFAULT.toBuilder().accounts(30).transactions(5000).build();
+		Path path = Files.createTempFile("integrity", ".gnucash");
+		path.toFile().deleteOnExit();
+		SyntheticBookGenerator.write(spec, path);
+		AccStore store = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+
+		IntegrityReport report = IntegrityService.create(store).validate();
+
+		assertTrue(report.valid(), report.issues().toString());
+		assertEquals(report.transactions(), 5000);
+		assertEquals(report.splits(), store.transactions().stream().mapToLong(transaction -> transaction.splits().size()).sum());
+	}
+
+	private static List<String> ids(IntegrityReport report, IntegrityCheck check) {
+		return report.issues(check).stream().map(IntegrityIssue::objectId).toList();
+	}
+
+	private AccStore load(String book, LoadMode mode) throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/" + book);
+		assertNotNull(resourceUrl, book + " resource not found");
+		return new GnucashBookFactory(mode).createComponent(Dependencies.of(Path.class, Paths.get(resourceUrl.toURI())));
+	}
+}
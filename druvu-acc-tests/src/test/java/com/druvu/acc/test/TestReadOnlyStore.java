@@ -0,0 +1,96 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.testng.Assert.*;
+
+/**
+ * Verifies the read-only store answers every query like the read-write store.
+ */
+public class TestReadOnlyStore {
+
+	private AccStore readWrite;
+	private AccStore readOnly;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/common.gnucash");
+		assertNotNull(resourceUrl, "common.gnucash resource not found");
+
+		Path path = Paths.get(resourceUrl.toURI());
+		readWrite = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+		readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@Test
+	public void testBookContent() {
+		assertEquals(readOnly.id(), readWrite.id());
+		assertEquals(readOnly.commodities(), readWrite.commodities());
+		assertEquals(readOnly.prices(), readWrite.prices());
+		assertEquals(readOnly.accounts(), readWrite.accounts());
+		assertEquals(readOnly.rootAccounts(), readWrite.rootAccounts());
+		assertEquals(readOnly.transactions(), readWrite.transactions());
+	}
+
+	@Test
+	public void testAccountQueries() {
+		for (Account account : readWrite.accounts()) {
+			assertEquals(readOnly.accountById(account.id()), readWrite.accountById(account.id()));
+			assertEquals(readOnly.fetchChildIds(account.id()), readWrite.fetchChildIds(account.id()));
+			assertEquals(readOnly.transactionsForAccount(account.id()), readWrite.transactionsForAccount(account.id()));
+			assertEquals(readOnly.splitsForAccount(account.id()), readWrite.splitsForAccount(account.id()));
+			assertEquals(readOnly.accountFraction(account.id()), readWrite.accountFraction(account.id()));
+		}
+		for (CommodityId commodity : readWrite.commodities()) {
+			assertEquals(readOnly.commodityFraction(commodity), readWrite.commodityFraction(commodity));
+		}
+		assertEquals(readOnly.commodityFraction(new CommodityId("template", "template")), Optional.of(1));
+		assertEquals(readOnly.accountByName("Root Account:Actif"), readWrite.accountByName("Root Account:Actif"));
+		assertEquals(readOnly.accountByName("Root Account:Capitaux propres:Soldes initiaux"),
+				readWrite.accountByName("Root Account:Capitaux propres:Soldes initiaux"));
+		assertTrue(readOnly.accountByName("Root Account:Missing").isEmpty());
+		assertTrue(readOnly.accountById("missing").isEmpty());
+	}
+
+	@Test
+	public void testTransactionQueries() {
+		for (Transaction transaction : readWrite.transactions()) {
+			assertEquals(readOnly.transactionById(transaction.id()), readWrite.transactionById(transaction.id()));
+			assertEquals(readOnly.dateEntered(transaction.id()), readWrite.dateEntered(transaction.id()));
+			assertTrue(readOnly.dateEntered(transaction.id()).isPresent());
+		}
+		assertTrue(readOnly.dateEntered("missing").isEmpty());
+		LocalDate from = LocalDate.of(2026, 1, 13);
+		LocalDate to = LocalDate.of(2026, 1, 14);
+		assertEquals(readOnly.transactions(from, to), readWrite.transactions(from, to));
+		assertEquals(readOnly.transactions(to, from), readWrite.transactions(to, from));
+	}
+
+	@Test
+	public void testStreamedTransactions() {
+		LocalDate from = LocalDate.of(2026, 1, 13);
+		LocalDate to = LocalDate.of(2026, 1, 14);
+		for (AccStore store : new AccStore[]{readWrite, readOnly}) {
+			assertEquals(store.streamTransactions(from, to).toList(), store.transactions(from, to));
+			assertEquals(store.streamTransactions(LocalDate.MIN, LocalDate.MAX).toList(), store.transactions());
+			assertEquals(store.transactions(LocalDate.MIN, LocalDate.MAX), store.transactions());
+			assertEquals(store.streamTransactions(LocalDate.MIN, LocalDate.MAX).limit(2).toList(), store.transactions().subList(0, 2));
+			assertEquals(store.streamTransactions(to, from).count(), 0);
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.statement.ReconcileMatch;
+import com.druvu.acc.api.statement.Reconciler;
+import com.druvu.acc.api.statement.Reconciliation;
+import com.druvu.acc.api.statement.StatementLine;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.druvu.acc.test.Fixtures.transfer;
+import static org.testng.Assert.*;
+
+/**
+ * Tests matching statement lines with open splits and marking them reconciled.
+ */
+public class TestReconciler {
+
+	private static final String ROOT = "a0000000000000000000000000000001";
+	private static final String CHECKING = "a0000000000000000000000000000002";
+	private static final String FARM_MARKET_SPLIT = "e0000000000000000000000000000002";
+
+	private static final List<StatementLine> STATEMENT = List.of(
+			line("L1", LocalDate.of(2026, 1, 6), "-42.50"),
+			line("L2", LocalDate.of(2026, 2, 12), "300.00"),
+			line("L3", LocalDate.of(2026, 3, 14), "-30.00"),
+			line("L4", LocalDate.of(2026, 4, 1), "-99.00"));
+
+	private Path path;
+	private AccStore store;
+
+	@BeforeMethod
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/slots.gnucash");
+		assertNotNull(resourceUrl, "slots.gnucash resource not found");
+		path = Paths.get(resourceUrl.toURI());
+		store = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+		store.addTransactions(List.of(
+				transfer("t1", LocalDate.of(2026, 2, 10), "Transaction t1", ROOT, CHECKING, "100.00"),
+				transfer("t2", LocalDate.of(2026, 2, 10), "Transaction t2", ROOT, CHECKING, "250.25"),
+				transfer("t3", LocalDate.of(2026, 2, 11), "Transaction t3", ROOT, CHECKING, "49.75"),
+				transfer("t4", LocalDate.of(2026, 2, 15), "Transaction t4", ROOT, CHECKING, "-30.00"),
+				transfer("t5", LocalDate.of(2026, 3, 15), "Transaction t5", ROOT, CHECKING, "-30.00")));
+	}
+
+	@Test
+	public void testMatch() {
+		Reconciliation reconciliation = Reconciler.create(store).match(CHECKING, STATEMENT);
+
+		assertEquals(reconciliation.matches().size(), 3);
+		ReconcileMatch exact = reconciliation.matches().get(0);
+		assertEquals(exact.line().onlineId(), "L1");
+		assertEquals(ids(exact.splits()), Set.of(FARM_MARKET_SPLIT));
+
+		ReconcileMatch grouped = reconciliation.matches().get(1);
+		assertTrue(grouped.grouped());
+		assertEquals(ids(grouped.splits()), Set.of("t2-1", "t3-1"));
+
+		assertEquals(ids(reconciliation.matches().get(2).splits()), Set.of("t5-1"));
+		assertEquals(reconciliation.unmatchedLines().stream().map(StatementLine::onlineId).toList(), List.of("L4"));
+		assertEquals(reconciliation.unmatchedSplits().stream().map(Split::id).toList(), List.of("t1-1", "t4-1"));
+	}
+
+	@Test
+	public void testSingleSplitsOnly() {
+		Reconciliation reconciliation = Reconciler.create(store, 3, 1).match(CHECKING, STATEMENT);
+
+		assertEquals(reconciliation.matches().size(), 2);
+		assertEquals(reconciliation.unmatchedLines().stream().map(StatementLine::onlineId).toList(), List.of("L2", "L4"));
+	}
+
+	@Test
+	public void testDateWindow() {
+		Reconciliation reconciliation = Reconciler.create(store, 0, 4).match(CHECKING, STATEMENT);
+
+		assertEquals(reconciliation.matches(), List.of());
+	}
+
+	@Test
+	public void testApply() {
+		Reconciler reconciler = Reconciler.create(store);
+		Reconciliation reconciliation = reconciler.match(CHECKING, STATEMENT);
+		long revision = store.revision();
+		LocalDate statementDate = LocalDate.of(2026, 4, 2);
+
+		reconciler.apply(reconciliation, ReconcileState.RECONCILED, statementDate);
+
+		assertEquals(store.revision(), revision + 1);
+		for (Split split : store.splitsForAccount(CHECKING)) {
+			boolean matched = reconciliation.splitIds().contains(split.id());
+			assertEquals(split.reconcileState(), matched ? ReconcileState.RECONCILED : ReconcileState.NOT_RECONCILED, split.id());
+			assertEquals(split.reconcileDate(), matched ? Optional.of(statementDate) : Optional.empty(), split.id());
+		}
+		Reconciliation again = reconciler.match(CHECKING, STATEMENT);
+		assertEquals(again.matches(), List.of());
+		assertEquals(again.unmatchedSplits().stream().map(Split::id).toList(), List.of("t1-1", "t4-1"));
+	}
+
+	@Test
+	public void testReconcileSplitsIsAtomic() {
+		long revision = store.revision();
+
+		assertThrows(IllegalArgumentException.class,
+				() -> store.reconcileSplits(List.of(FARM_MARKET_SPLIT, "missing"), ReconcileState.CLEARED, null));
+
+		assertEquals(store.revision(), revision);
+		assertTrue(store.splitsForAccount(CHECKING).stream().allMatch(split -> split.reconcileState() == ReconcileState.NOT_RECONCILED));
+	}
+
+	@Test
+	public void testReadOnlyStoreRejectsApply() {
+		AccStore readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+		Reconciler reconciler = Reconciler.create(readOnly);
+		Reconciliation reconciliation = reconciler.match(CHECKING, STATEMENT);
+
+		assertEquals(ids(reconciliation.matches().getFirst().splits()), Set.of(FARM_MARKET_SPLIT));
+		assertThrows(UnsupportedOperationException.class, () -> reconciler.apply(reconciliation, ReconcileState.CLEARED, null));
+		assertThrows(IllegalArgumentException.class, () -> reconciler.apply(reconciliation, ReconcileState.VOIDED, null));
+	}
+
+	private static Set<String> ids(List<Split> splits) {
+		return Set.copyOf(splits.stream().map(Split::id).toList());
+	}
+
+	private static StatementLine line(String id, LocalDate date, String amount) {
+		return new StatementLine(id, date, new BigDecimal(amount), "Line " + id, Optional.empty(), Optional.empty());
+	}
+}
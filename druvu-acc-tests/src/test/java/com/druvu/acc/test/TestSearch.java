@@ -0,0 +1,112 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.service.SearchQuery;
+import com.druvu.acc.api.service.SearchService;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests split memos and full-text transaction search.
+ * <p>
+ * The book holds two months of shopping, grocery and salary transactions, some with numbers and split memos.
+ */
+public class TestSearch {
+
+	private static final String GROCERIES = "a0000000000000000000000000000003";
+	private static final String SHOPPING = "a0000000000000000000000000000004";
+
+	private AccStore readWrite;
+	private AccStore readOnly;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/search.gnucash");
+		assertNotNull(resourceUrl, "search.gnucash resource not found");
+		Path path = Paths.get(resourceUrl.toURI());
+		readWrite = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+		readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@DataProvider
+	public Object[][] stores() {
+		return new Object[][]{{readWrite}, {readOnly}};
+	}
+
+	@Test(dataProvider = "stores")
+	public void testSplitMemo(AccStore store) {
+		List<Split> splits = store.splitsForAccount(SHOPPING);
+		assertEquals(splits.get(0).memo(), Optional.of("USB cable"));
+		assertEquals(splits.get(1).memo(), Optional.of("Prime membership"));
+		assertTrue(store.splitsForAccount("a0000000000000000000000000000005").stream().allMatch(split -> split.memo().isEmpty()));
+	}
+
+	@Test(dataProvider = "stores")
+	public void testWordsMatchCaseInsensitively(AccStore store) {
+		SearchService search = SearchService.create(store);
+		assertEquals(descriptions(search.search("amazon")), List.of("Amazon Marketplace order", "AMAZON.DE Prime"));
+		assertEquals(descriptions(search.search("REWE")), List.of("REWE Supermarkt", "Rewe market"));
+		assertEquals(descriptions(search.search("cable")), List.of("Amazon Marketplace order"));
+		assertEquals(descriptions(search.search("1002")), List.of("AMAZON.DE Prime"));
+		assertTrue(search.search("paypal").isEmpty());
+	}
+
+	@Test(dataProvider = "stores")
+	public void testAllWordsMustMatch(AccStore store) {
+		SearchService search = SearchService.create(store);
+		assertEquals(descriptions(search.search("amazon prime")), List.of("AMAZON.DE Prime"));
+		assertEquals(descriptions(search.search("Salary  february")), List.of("Salary February"));
+		assertTrue(search.search("rewe amazon").isEmpty());
+	}
+
+	@Test(dataProvider = "stores")
+	public void testPrefix(AccStore store) {
+		SearchService search = SearchService.create(store);
+		assertEquals(descriptions(search.search("mar*")), List.of("Amazon Marketplace order", "Rewe market"));
+		assertEquals(descriptions(search.search("rewe super*")), List.of("REWE Supermarkt"));
+		assertEquals(search.search("sal*").size(), 2);
+		assertTrue(search.search("zz*").isEmpty());
+	}
+
+	@Test(dataProvider = "stores")
+	public void testFilters(AccStore store) {
+		SearchService search = SearchService.create(store);
+		SearchQuery february = SearchQuery.builder()
+				.text("")
+				.from(LocalDate.of(2026, 2, 1))
+				.to(LocalDate.of(2026, 2, 28))
+				.build();
+		assertEquals(search.search(february).size(), 3);
+		assertEquals(descriptions(search.search(february.toBuilder().text("rewe").build())), List.of("Rewe market"));
+		assertEquals(descriptions(search.search(february.toBuilder().accountId(SHOPPING).build())), List.of("AMAZON.DE Prime"));
+		assertEquals(descriptions(search.search(SearchQuery.builder().text("").accountId(GROCERIES).limit(1).build())),
+				List.of("REWE Supermarkt"));
+		assertEquals(search.search(SearchQuery.of("")).size(), 6);
+		assertTrue(search.search(SearchQuery.builder().text("rewe").accountId("unknown").build()).isEmpty());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNegativeLimitFails() {
+		SearchQuery.builder().text("").limit(-1).build();
+	}
+
+	private static List<String> descriptions(List<Transaction> transactions) {
+		return transactions.stream().map(Transaction::description).toList();
+	}
+}
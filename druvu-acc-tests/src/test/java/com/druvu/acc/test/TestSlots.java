@@ -0,0 +1,154 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.AccountType;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.SlotType;
+import com.druvu.acc.api.entity.Slots;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests typed slot access on accounts, transactions and splits.
+ */
+public class TestSlots {
+
+	private static final String CHECKING = "a0000000000000000000000000000002";
+	private static final String GROCERIES = "a0000000000000000000000000000003";
+
+	private AccStore readWrite;
+	private AccStore readOnly;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/slots.gnucash");
+		assertNotNull(resourceUrl, "slots.gnucash resource not found");
+		Path path = Paths.get(resourceUrl.toURI());
+		readWrite = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+		readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@DataProvider
+	public Object[][] stores() {
+		return new Object[][]{{readWrite}, {readOnly}};
+	}
+
+	@Test(dataProvider = "stores")
+	public void testTypedAccess(AccStore store) {
+		Slots slots = store.accountById(CHECKING).orElseThrow().slots();
+
+		assertEquals(slots.keys(), List.of("notes", "last-num", "reconcile-rate", "opened", "last-statement", "import-map-bayes", "balance-limit"));
+		assertEquals(slots.string("notes"), Optional.of("Main account"));
+		assertEquals(slots.integer("last-num"), Optional.of(42L));
+		assertEquals(slots.numeric("reconcile-rate").orElseThrow().compareTo(new BigDecimal("1.25")), 0);
+		assertEquals(slots.numeric("last-num").orElseThrow().intValue(), 42);
+		assertEquals(slots.date("opened"), Optional.of(LocalDate.of(2025, 6, 1)));
+		assertEquals(slots.string("opened"), Optional.of("2025-06-01"));
+		assertEquals(slots.timestamp("last-statement"), Optional.of(LocalDateTime.of(2026, 1, 31, 10, 59)));
+		assertEquals(slots.type("import-map-bayes"), Optional.of(SlotType.FRAME));
+		assertTrue(slots.frame("balance-limit").orElseThrow().isEmpty());
+		assertEquals(slots.string("missing"), Optional.empty());
+	}
+
+	@Test(dataProvider = "stores")
+	public void testPaths(AccStore store) {
+		Slots slots = store.accountById(CHECKING).orElseThrow().slots();
+
+		assertEquals(slots.integer("import-map-bayes/ORGANIC/" + GROCERIES), Optional.of(10L));
+		assertEquals(slots.integer("import-map-bayes/BAKERY/" + GROCERIES), Optional.of(1L));
+		assertTrue(slots.contains("import-map-bayes/FARM"));
+		assertFalse(slots.contains("import-map-bayes/UNKNOWN/" + GROCERIES));
+		assertFalse(slots.contains("notes/nested"));
+
+		Slots bayes = slots.frame("import-map-bayes").orElseThrow();
+		assertEquals(bayes.keys().size(), 10);
+		assertEquals(bayes.integer("MARKET/" + GROCERIES), Optional.of(2L));
+	}
+
+	@Test
+	public void testNestedFramesAreViewedOnce() {
+		Slots slots = readWrite.accountById(CHECKING).orElseThrow().slots();
+		Slots bayes = slots.frame("import-map-bayes").orElseThrow();
+
+		assertSame(slots.frame("import-map-bayes").orElseThrow(), bayes);
+		assertSame(slots.frame("import-map-bayes/ORGANIC").orElseThrow(), bayes.frame("ORGANIC").orElseThrow());
+		assertEquals(slots.integer("import-map-bayes/ORGANIC/" + GROCERIES), Optional.of(10L));
+	}
+
+	@Test(dataProvider = "stores")
+	public void testTypeMismatch(AccStore store) {
+		Slots slots = store.accountById(CHECKING).orElseThrow().slots();
+
+		assertThrows(IllegalStateException.class, () -> slots.integer("notes"));
+		assertThrows(IllegalStateException.class, () -> slots.date("last-statement"));
+		assertThrows(IllegalStateException.class, () -> slots.string("import-map-bayes"));
+		assertThrows(IllegalStateException.class, () -> slots.frame("notes"));
+	}
+
+	@Test(dataProvider = "stores")
+	public void testAccountWithoutSlots(AccStore store) {
+		Slots slots = store.accountById(GROCERIES).orElseThrow().slots();
+
+		assertTrue(slots.isEmpty());
+		assertSame(slots, Slots.empty());
+		assertEquals(slots.string("notes"), Optional.empty());
+	}
+
+	@Test
+	public void testTransactionSlots() {
+		Transaction transaction = readWrite.transactions().getFirst();
+		assertEquals(transaction.slots().string("notes"), Optional.of("Weekly shopping"));
+		assertEquals(transaction.slots().date("date-posted"), Optional.of(LocalDate.of(2026, 1, 5)));
+
+		Split split = transaction.splits().get(1);
+		assertEquals(split.slots().string("online_id"), Optional.of("TX-9001"));
+		assertTrue(transaction.splits().getFirst().slots().isEmpty());
+	}
+
+	@Test
+	public void testReadOnlyDropsTransactionSlots() {
+		Transaction transaction = readOnly.transactions().getFirst();
+		assertTrue(transaction.slots().isEmpty());
+		assertTrue(transaction.splits().get(1).slots().isEmpty());
+		// slots are not part of entity equality
+		assertEquals(transaction, readWrite.transactions().getFirst());
+	}
+
+	@Test
+	public void testEqualityWithNullComponents() {
+		Split split = new Split("s1", "t1", null, null, ReconcileState.NOT_RECONCILED, Optional.empty(),
+				BigDecimal.ONE, null, Optional.empty(), Optional.empty(), Slots.empty());
+		Split same = new Split("s1", "t1", null, null, ReconcileState.NOT_RECONCILED, Optional.empty(),
+				BigDecimal.ONE, null, Optional.empty(), Optional.empty(), Slots.empty());
+		assertEquals(split, same);
+		assertEquals(split.hashCode(), same.hashCode());
+		assertNotEquals(split, new Split("s1", "t1", "a1", null, ReconcileState.NOT_RECONCILED, Optional.empty(),
+				BigDecimal.ONE, null, Optional.empty(), Optional.empty(), Slots.empty()));
+
+		Transaction transaction = new Transaction(null, null, null, null, null, List.of(split), Slots.empty());
+		assertEquals(transaction, new Transaction(null, null, null, null, null, List.of(same), Slots.empty()));
+
+		Account account = new Account(null, "Cash", AccountType.ASSET, null, null, null, null, Slots.empty());
+		assertEquals(account, new Account(null, "Cash", AccountType.ASSET, null, null, null, null, Slots.empty()));
+		assertNotEquals(account, new Account("a1", "Cash", AccountType.ASSET, null, null, null, null, Slots.empty()));
+	}
+}
@@ -0,0 +1,153 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.QueryPlan;
+import com.druvu.acc.api.SplitFilter;
+import com.druvu.acc.api.entity.ReconcileState;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.metrics.InstrumentedAccStore;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests split queries and their plans.
+ * <p>
+ * The book holds two months of shopping, grocery and salary transactions against a checking account whose
+ * January splits are reconciled and one February split is cleared.
+ */
+public class TestSplitQuery {
+
+	private static final String CHECKING = "a0000000000000000000000000000002";
+	private static final String GROCERIES = "a0000000000000000000000000000003";
+	private static final String SHOPPING = "a0000000000000000000000000000004";
+
+	private static final LocalDate FEBRUARY = LocalDate.of(2026, 2, 1);
+	private static final LocalDate FEBRUARY_END = LocalDate.of(2026, 2, 28);
+
+	private AccStore readWrite;
+	private AccStore readOnly;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/search.gnucash");
+		assertNotNull(resourceUrl, "search.gnucash resource not found");
+		Path path = Paths.get(resourceUrl.toURI());
+		readWrite = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+		readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@DataProvider
+	public Object[][] stores() {
+		return new Object[][]{{readWrite}, {readOnly}, {InstrumentedAccStore.wrap(readOnly, "search.gnucash")}};
+	}
+
+	@Test(dataProvider = "stores")
+	public void testCombinedPredicates(AccStore store) {
+		List<Split> open = store.query()
+				.accounts(CHECKING)
+				.reconcileState(ReconcileState.NOT_RECONCILED)
+				.list();
+		assertEquals(open.stream().map(Split::datePosted).toList(), List.of(LocalDate.of(2026, 2, 12), LocalDate.of(2026, 2, 25)));
+
+		List<Split> large = store.query()
+				.accounts(CHECKING)
+				.reconcileState(ReconcileState.NOT_RECONCILED)
+				.amountAbove(new BigDecimal("1000"))
+				.list();
+		assertEquals(large.size(), 1);
+		assertEquals(large.getFirst().value(), new BigDecimal("2500.00"));
+	}
+
+	@Test(dataProvider = "stores")
+	public void testSingleDimensions(AccStore store) {
+		assertEquals(store.query().list().size(), 12);
+		assertEquals(store.query().between(FEBRUARY, FEBRUARY_END).list().size(), 6);
+		assertEquals(store.query().between(FEBRUARY, null).list().size(), 6);
+		assertEquals(store.query().between(null, LocalDate.of(2026, 1, 10)).list().size(), 4);
+		assertEquals(store.query().reconcileState(ReconcileState.RECONCILED).list().size(), 3);
+		assertEquals(store.query().reconcileState(ReconcileState.RECONCILED, ReconcileState.CLEARED).list().size(), 4);
+		assertEquals(store.query().accounts(GROCERIES, SHOPPING).list().size(), 4);
+		assertTrue(store.query().accounts("unknown").list().isEmpty());
+		assertTrue(store.query().between(LocalDate.MIN, LocalDate.of(2025, 1, 1)).list().isEmpty());
+	}
+
+	@Test(dataProvider = "stores")
+	public void testResultsInDateOrder(AccStore store) {
+		List<Split> splits = store.query().accounts(GROCERIES, SHOPPING).between(null, LocalDate.MAX).list();
+		assertEquals(splits.stream().map(Split::datePosted).toList(), List.of(LocalDate.of(2026, 1, 3),
+				LocalDate.of(2026, 1, 10), LocalDate.of(2026, 2, 3), LocalDate.of(2026, 2, 12)));
+	}
+
+	@Test
+	public void testStoresAgree() {
+		SplitFilter filter = SplitFilter.builder()
+				.accountIds(Set.of(CHECKING, SHOPPING))
+				.from(LocalDate.of(2026, 1, 5))
+				.reconcileStates(Set.of(ReconcileState.RECONCILED, ReconcileState.NOT_RECONCILED))
+				.amountAbove(new BigDecimal("20"))
+				.build();
+		List<Split> expected = readWrite.plan(filter).execute();
+		assertEquals(expected.size(), 4);
+		assertEquals(Set.copyOf(readOnly.plan(filter).execute()), Set.copyOf(expected));
+		assertTrue(expected.stream().allMatch(filter::matches));
+	}
+
+	@DataProvider
+	public Object[][] indexedStores() {
+		return new Object[][]{{readWrite}, {readOnly}};
+	}
+
+	@Test(dataProvider = "indexedStores")
+	public void testIndexedPlanPicksMostSelectivePath(AccStore store) {
+		QueryPlan byAccount = store.query().accounts(SHOPPING).between(FEBRUARY, FEBRUARY_END).plan();
+		assertEquals(byAccount.access().name(), "account index");
+		assertEquals(byAccount.access().estimatedRows(), 1);
+		assertEquals(byAccount.considered().size(), 2);
+
+		QueryPlan byState = store.query()
+				.accounts(CHECKING)
+				.reconcileState(ReconcileState.CLEARED)
+				.plan();
+		assertEquals(byState.access().name(), "reconcile state index");
+		assertEquals(byState.access().estimatedRows(), 1);
+		assertEquals(byState.execute().size(), 1);
+
+		QueryPlan byDate = store.query().between(FEBRUARY, FEBRUARY_END).plan();
+		assertEquals(byDate.access().name(), "date range");
+		assertEquals(byDate.access().estimatedRows(), 6);
+	}
+
+	@Test
+	public void testExplain() {
+		String explain = readOnly.query().accounts(SHOPPING).reconcileState(ReconcileState.NOT_RECONCILED).explain();
+		assertTrue(explain.startsWith("filter[accounts=[" + SHOPPING + "], reconcileStates=[NOT_RECONCILED]]"), explain);
+		assertTrue(explain.contains("-> account index (~2 splits)"), explain);
+		assertTrue(explain.contains("full scan (~12 splits)"), explain);
+		assertTrue(explain.contains("reconcile state index (~8 splits)"), explain);
+
+		assertEquals(readWrite.query().accounts(SHOPPING).reconcileState(ReconcileState.NOT_RECONCILED).explain(), explain);
+		assertTrue(readWrite.query().between(FEBRUARY, FEBRUARY_END).explain().contains("-> date range (~6 splits)"));
+		assertTrue(readWrite.query().between(FEBRUARY, FEBRUARY_END).reconcileState(ReconcileState.VOIDED).explain()
+				.contains("-> reconcile state index (~0 splits)"));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testReversedRangeFails() {
+		readOnly.query().between(FEBRUARY_END, FEBRUARY).list();
+	}
+}
@@ -0,0 +1,121 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.CommodityId;
+import com.druvu.acc.api.entity.Invoice;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.acc.gnucash.sql.api.ConversionReport;
+import com.druvu.acc.gnucash.sql.api.GnucashSqlConverter;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookGenerator;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookSpec;
+import com.druvu.acc.loader.AccStoreFactory;
+import com.druvu.acc.loader.BookFormat;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.testng.Assert.*;
+
+/**
+ * Converts XML books loaded read-only into SQLite books and reads them back with the SQLite store.
+ */
+public class TestSqlRoundTrip {
+
+	private static final SyntheticBookSpec SPEC = SyntheticBookSpec.DEFAULT.toBuilder()
+			.accounts(30)
+			.transactions(2000)
+			.commodities(3)
+			.prices(200)
+			.build();
+
+	@DataProvider
+	public Object[][] books() throws IOException, URISyntaxException {
+		Path synthetic = Files.createTempFile("roundtrip", ".gnucash");
+		synthetic.toFile().deleteOnExit();
+		SyntheticBookGenerator.write(SPEC, synthetic);
+		return new Object[][]{
+				{resource("/common.gnucash")},
+				{resource("/lots.gnucash")},
+				{resource("/budget.gnucash")},
+				{resource("/slots.gnucash")},
+				{resource("/scheduled.gnucash")},
+				{resource("/business.gnucash")},
+				{synthetic}};
+	}
+
+	@Test(dataProvider = "books")
+	public void testRoundTrip(Path book) throws IOException {
+		AccStore xml = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, book));
+		Path target = Files.createTempDirectory("roundtrip").resolve("book.sqlite.gnucash");
+		target.toFile().deleteOnExit();
+
+		ConversionReport report = new GnucashSqlConverter().convert(xml, target);
+
+		assertEquals(BookFormat.of(target), BookFormat.SQLITE);
+		try (AccStore sql = AccStoreFactory.load(target)) {
+			assertEquals(report.rows().get("transactions").intValue(), xml.transactions().size() + xml.scheduledTransactions().size(),
+					"transactions and one template transaction per schedule");
+			assertEquals(sql.id(), xml.id());
+			assertEquals(sql.accounts(), xml.accounts());
+			assertEquals(sql.transactions(), xml.transactions());
+			assertEquals(sql.lots(), xml.lots());
+			assertEquals(sql.prices(), xml.prices());
+			assertEquals(sql.budgets(), xml.budgets());
+			assertEquals(sql.scheduledTransactions(), xml.scheduledTransactions());
+			assertEquals(sql.customers(), xml.customers());
+			assertEquals(sql.vendors(), xml.vendors());
+			assertEquals(sql.jobs(), xml.jobs());
+			assertEquals(sql.invoices(), xml.invoices());
+			for (Invoice invoice : xml.invoices()) {
+				assertEquals(sql.entriesForInvoice(invoice.id()), xml.entriesForInvoice(invoice.id()));
+			}
+			for (Account account : xml.accounts()) {
+				xml.accountFraction(account.id()).ifPresent(scu -> assertEquals(sql.accountFraction(account.id()), Optional.of(scu)));
+			}
+			for (CommodityId commodity : xml.commodities()) {
+				xml.commodityFraction(commodity).ifPresent(fraction -> assertEquals(sql.commodityFraction(commodity), Optional.of(fraction)));
+			}
+			for (Transaction transaction : xml.transactions()) {
+				assertEquals(sql.dateEntered(transaction.id()), xml.dateEntered(transaction.id()));
+			}
+		}
+	}
+
+	@Test
+	public void testLotsAreClosedWhenBalanced() throws IOException, URISyntaxException, SQLException {
+		AccStore xml = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, resource("/lots.gnucash")));
+		Path target = Files.createTempDirectory("roundtrip").resolve("lots.sqlite.gnucash");
+		target.toFile().deleteOnExit();
+		new GnucashSqlConverter().convert(xml, target);
+
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + target.toAbsolutePath());
+				var statement = connection.createStatement();
+				var rs = statement.executeQuery("SELECT guid, is_closed FROM lots ORDER BY guid")) {
+			assertTrue(rs.next());
+			assertEquals(rs.getInt(2), 0, rs.getString(1));
+			assertTrue(rs.next());
+			assertEquals(rs.getInt(2), 1, rs.getString(1));
+			assertFalse(rs.next());
+		}
+	}
+
+	private Path resource(String name) throws URISyntaxException {
+		var resourceUrl = getClass().getResource(name);
+		assertNotNull(resourceUrl, name + " resource not found");
+		return Paths.get(resourceUrl.toURI());
+	}
+}
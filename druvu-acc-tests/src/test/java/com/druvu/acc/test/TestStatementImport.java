@@ -0,0 +1,208 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.api.statement.CsvFormat;
+import com.druvu.acc.api.statement.ImportReport;
+import com.druvu.acc.api.statement.StatementImporter;
+import com.druvu.acc.api.statement.StatementParser;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests importing CSV and OFX bank statements into a read-write store.
+ */
+public class TestStatementImport {
+
+	private static final String ROOT = "a0000000000000000000000000000001";
+	private static final String CHECKING = "a0000000000000000000000000000002";
+	private static final String GROCERIES = "a0000000000000000000000000000003";
+
+	private static final String CSV = """
+			Date,Description,Amount,Memo
+			2026-02-01,Organic bakery,-12.40,
+			2026-02-02,Salary,"2,500.00",February
+			2026-02-03,Deli corner,-7.90,card 1234
+			""";
+
+	private static final String OFX = """
+			OFXHEADER:100
+			DATA:OFXSGML
+			<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+			<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20260105<TRNAMT>-42.50<FITID>TX-9001<NAME>Farm market</STMTTRN>
+			<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20260210120000<TRNAMT>-18.25<FITID>TX-9002<NAME>Fresh foods &amp; more<CHECKNUM>107</STMTTRN>
+			</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+			""";
+
+	private static final StatementParser CSV_PARSER = StatementParser.csv(CsvFormat.of(0, 1, 2).toBuilder().memoColumn(3).build());
+
+	private Path path;
+	private AccStore store;
+
+	@BeforeMethod
+	public void setUp() throws URISyntaxException {
+		var resourceUrl = getClass().getResource("/slots.gnucash");
+		assertNotNull(resourceUrl, "slots.gnucash resource not found");
+		path = Paths.get(resourceUrl.toURI());
+		store = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@Test
+	public void testCsvImport() {
+		long revision = store.revision();
+
+		ImportReport report = StatementImporter.create(store).importStatement(new StringReader(CSV), CSV_PARSER, CHECKING, ROOT);
+
+		assertEquals(report.lines(), 3);
+		assertEquals(report.imported(), 3);
+		assertEquals(report.duplicates(), 0);
+		assertEquals(report.unmatched(), 1);
+		assertEquals(store.revision(), revision + 1);
+
+		List<Split> groceries = store.splitsForAccount(GROCERIES);
+		assertEquals(groceries.size(), 3);
+		assertTrue(groceries.stream().anyMatch(split -> split.value().compareTo(new BigDecimal("12.40")) == 0));
+		assertTrue(groceries.stream().anyMatch(split -> split.value().compareTo(new BigDecimal("7.90")) == 0));
+
+		Split salary = store.splitsForAccount(ROOT).getFirst();
+		assertEquals(salary.value().compareTo(new BigDecimal("-2500.00")), 0);
+		assertEquals(salary.datePosted(), LocalDate.of(2026, 2, 2));
+
+		Transaction transaction = store.transactionById(salary.transactionId()).orElseThrow();
+		assertEquals(transaction.description(), "Salary");
+		assertEquals(transaction.splits().stream().map(Split::value).reduce(BigDecimal.ZERO, BigDecimal::add).signum(), 0);
+		Split checking = transaction.splits().stream().filter(split -> split.accountId().equals(CHECKING)).findFirst().orElseThrow();
+		assertEquals(checking.memo(), Optional.of("February"));
+		assertTrue(checking.slots().string(StatementImporter.ONLINE_ID).isPresent());
+	}
+
+	@Test
+	public void testOfxImportSkipsKnownOnlineIds() {
+		ImportReport report = StatementImporter.create(store).importStatement(new StringReader(OFX), StatementParser.ofx(), CHECKING, ROOT);
+
+		assertEquals(report.lines(), 2);
+		assertEquals(report.imported(), 1);
+		assertEquals(report.duplicates(), 1);
+		assertEquals(report.unmatched(), 0);
+
+		Split split = store.splitsForAccount(CHECKING).stream()
+				.filter(s -> s.slots().string(StatementImporter.ONLINE_ID).equals(Optional.of("TX-9002")))
+				.findFirst().orElseThrow();
+		Transaction transaction = store.transactionById(split.transactionId()).orElseThrow();
+		assertEquals(transaction.description(), "Fresh foods & more");
+		assertEquals(transaction.number(), Optional.of("107"));
+		assertEquals(transaction.datePosted(), LocalDate.of(2026, 2, 10));
+		assertEquals(transaction.splits().size(), 2);
+		assertTrue(transaction.splits().stream().anyMatch(s -> s.accountId().equals(GROCERIES) && s.value().compareTo(new BigDecimal("18.25")) == 0));
+	}
+
+	@Test
+	public void testReimportIsIdempotent() {
+		StatementImporter importer = StatementImporter.create(store, 1);
+		long revision = store.revision();
+
+		ImportReport first = importer.importStatement(new StringReader(CSV), CSV_PARSER, CHECKING, ROOT);
+		assertEquals(first.imported(), 3);
+		assertEquals(store.revision(), revision + 3);
+
+		ImportReport second = importer.importStatement(new StringReader(CSV), CSV_PARSER, CHECKING, ROOT);
+		assertEquals(second.lines(), 3);
+		assertEquals(second.imported(), 0);
+		assertEquals(second.duplicates(), 3);
+		assertEquals(store.revision(), revision + 3);
+		assertEquals(store.splitsForAccount(CHECKING).size(), 4);
+	}
+
+	@Test
+	public void testReimportInReverseOrderSkipsKnownLines() {
+		StatementImporter.create(store).importStatement(new StringReader(CSV), CSV_PARSER, CHECKING, ROOT);
+		String reversed = CSV.lines().findFirst().orElseThrow() + "\n" + String.join("\n", CSV.lines().skip(1).toList().reversed()) + "\n";
+
+		ImportReport report = StatementImporter.create(store, 1).importStatement(new StringReader(reversed), CSV_PARSER, CHECKING, ROOT);
+
+		assertEquals(report.lines(), 3);
+		assertEquals(report.duplicates(), 3);
+		assertEquals(report.imported(), 0);
+	}
+
+	@Test(timeOut = 10_000)
+	public void testParserErrorEndsImport() {
+		StatementParser failing = (reader, sink) -> {
+			throw new NoClassDefFoundError("Parser failed");
+		};
+
+		assertThrows(NoClassDefFoundError.class,
+				() -> StatementImporter.create(store).importStatement(new StringReader(CSV), failing, CHECKING, ROOT));
+	}
+
+	@Test
+	public void testMalformedStatementFails() {
+		String csv = CSV + "2026-02-04,Bakery,not-a-number,\n";
+
+		assertThrows(IllegalArgumentException.class,
+				() -> StatementImporter.create(store).importStatement(new StringReader(csv), CSV_PARSER, CHECKING, ROOT));
+	}
+
+	@Test
+	public void testDescriptionWithSlashMatchesImportMap() throws IOException {
+		String xml = Files.readString(path, StandardCharsets.UTF_8).replaceFirst("(?=<slot>\\s*<slot:key>import-map-bayes)", """
+				<slot>
+				  <slot:key>import-map</slot:key>
+				  <slot:value type="frame">
+				    <slot>
+				      <slot:key>desc</slot:key>
+				      <slot:value type="frame">
+				        <slot>
+				          <slot:key>Rent 02/2026</slot:key>
+				          <slot:value type="guid">%s</slot:value>
+				        </slot>
+				      </slot:value>
+				    </slot>
+				  </slot:value>
+				</slot>
+				""".formatted(GROCERIES));
+		Path copy = Files.createTempFile("import-map", ".gnucash");
+		copy.toFile().deleteOnExit();
+		AccStore mapped = new GnucashBookFactory(LoadMode.READ_WRITE).createComponent(Dependencies.of(Path.class, Files.writeString(copy, xml, StandardCharsets.UTF_8)));
+
+		ImportReport report = StatementImporter.create(mapped)
+				.importStatement(new StringReader("Date,Description,Amount,Memo\n2026-02-05,Rent 02/2026,-700.00,\n"), CSV_PARSER, CHECKING, ROOT);
+
+		assertEquals(report.imported(), 1);
+		assertEquals(report.unmatched(), 0);
+		assertTrue(mapped.splitsForAccount(GROCERIES).stream().anyMatch(split -> split.value().compareTo(new BigDecimal("700.00")) == 0));
+	}
+
+	@Test
+	public void testReadOnlyStoreRejectsImport() {
+		AccStore readOnly = new GnucashBookFactory(LoadMode.READ_ONLY).createComponent(Dependencies.of(Path.class, path));
+
+		assertThrows(UnsupportedOperationException.class,
+				() -> StatementImporter.create(readOnly).importStatement(new StringReader(CSV), CSV_PARSER, CHECKING, ROOT));
+	}
+
+	@Test
+	public void testUnknownAccount() {
+		assertThrows(IllegalArgumentException.class,
+				() -> StatementImporter.create(store).importStatement(new StringReader(CSV), CSV_PARSER, "missing", ROOT));
+	}
+}
@@ -0,0 +1,212 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.StoreFootprint;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.api.LoadMode;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookGenerator;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookSpec;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validates the estimated store footprint against the counted entities of a book and against measured heap usage.
+ * <p>
+ * The heap measurements load a large synthetic book several times and are in the {@code heap} group.
+ */
+@Slf4j
+public class TestStoreFootprint {
+
+	private static final Pattern TRANSACTION_ID = Pattern.compile("(<(?:trn|split):id type=\"guid\">)[0-9a-f]{32}(<)");
+
+	private static final int COPIES = 4_000;
+	private static final int HEAP_SAMPLES = 5;
+	private static final SyntheticBookSpec HEAP_SPEC = SyntheticBookSpec.DEFAULT.toBuilder()
+			.accounts(200)
+			.transactions(40_000)
+			.splitsPerTransaction(3)
+			.commodities(5)
+			.prices(2_000)
+			.build();
+
+	private final GnucashBookFactory factory = new GnucashBookFactory(LoadMode.READ_WRITE);
+	private final GnucashBookFactory readOnlyFactory = new GnucashBookFactory(LoadMode.READ_ONLY);
+
+	private Path source;
+	private Path scaled;
+	private Path synthetic;
+
+	@BeforeClass
+	public void setUp() throws URISyntaxException, IOException {
+		var resourceUrl = getClass().getResource("/common.gnucash");
+		assertNotNull(resourceUrl, "common.gnucash resource not found");
+		source = Paths.get(resourceUrl.toURI());
+		scaled = scaledCopy(COPIES);
+		synthetic = Files.createTempFile("heap", ".gnucash");
+		synthetic.toFile().deleteOnExit();
+		SyntheticBookGenerator.write(HEAP_SPEC, synthetic);
+	}
+
+	@Test
+	public void testBreakdownFollowsCounts() {
+		StoreFootprint footprint = load(source).footprint();
+
+		assertTrue(footprint.accounts() > 0);
+		assertTrue(footprint.transactions() > 0);
+		assertTrue(footprint.splits() > 0);
+		assertEquals(footprint.total(), footprint.accounts() + footprint.transactions() + footprint.splits()
+				+ footprint.prices() + footprint.indexes() + footprint.other());
+	}
+
+	@Test
+	public void testEstimateFollowsCountedEntities() {
+		assertEstimateFollowsCounts(factory, source, scaled);
+	}
+
+	@Test
+	public void testReadOnlyEstimateFollowsCountedEntities() {
+		assertEstimateFollowsCounts(readOnlyFactory, source, scaled);
+	}
+
+	@Test(groups = "heap")
+	public void testEstimateMatchesMeasuredHeap() {
+		assertEstimateMatchesMeasuredHeap(factory);
+	}
+
+	@Test(groups = "heap")
+	public void testReadOnlyEstimateMatchesMeasuredHeap() {
+		assertEstimateMatchesMeasuredHeap(readOnlyFactory);
+	}
+
+	@Test
+	public void testReadOnlyStoreIsSmaller() {
+		long readWrite = load(scaled).footprint().total();
+		long readOnly = readOnlyFactory.createComponent(Dependencies.of(Path.class, scaled)).footprint().total();
+		assertTrue(readOnly * 3 < readWrite, "read-only " + readOnly + " should be far below read-write " + readWrite);
+	}
+
+	/**
+	 * The scaled book repeats the fixture's transactions, so the bytes estimated per transaction and per split
+	 * must stay within a narrow band of those of the fixture while the accounts stay the same.
+	 */
+	private static void assertEstimateFollowsCounts(GnucashBookFactory bookFactory, Path small, Path large) {
+		AccStore smallStore = bookFactory.createComponent(Dependencies.of(Path.class, small));
+		AccStore largeStore = bookFactory.createComponent(Dependencies.of(Path.class, large));
+		StoreFootprint smallFootprint = smallStore.footprint();
+		StoreFootprint largeFootprint = largeStore.footprint();
+		log.info("Scaled book: {}", largeFootprint);
+
+		assertEquals(largeStore.accounts().size(), smallStore.accounts().size());
+		assertEquals(largeFootprint.accounts(), smallFootprint.accounts());
+		assertEquals(largeStore.transactions().size(), smallStore.transactions().size() * (COPIES + 1));
+		assertPerEntity(largeFootprint.transactions(), largeStore.transactions().size(),
+				smallFootprint.transactions(), smallStore.transactions().size());
+		assertPerEntity(largeFootprint.splits(), splits(largeStore), smallFootprint.splits(), splits(smallStore));
+	}
+
+	/**
+	 * Compares the estimate with the median heap growth of several loads, each measured between settled heaps.
+	 * The band is wide: the estimate is meant for budgeting and the measurement depends on the collector.
+	 */
+	private void assertEstimateMatchesMeasuredHeap(GnucashBookFactory bookFactory) {
+		long[] measured = new long[HEAP_SAMPLES];
+		long estimated = 0;
+		for (int i = 0; i < HEAP_SAMPLES; i++) {
+			long before = settledHeap();
+			AccStore store = bookFactory.createComponent(Dependencies.of(Path.class, synthetic));
+			measured[i] = settledHeap() - before;
+			estimated = store.footprint().total();
+			Reference.reachabilityFence(store);
+		}
+		Arrays.sort(measured);
+		long median = measured[HEAP_SAMPLES / 2];
+
+		log.info("Synthetic book: measured {} bytes (samples {}), estimated {}", median, Arrays.toString(measured), estimated);
+		assertTrue(estimated > median / 2, "estimate " + estimated + " too low for measured " + median);
+		assertTrue(estimated < median * 2, "estimate " + estimated + " too high for measured " + median);
+	}
+
+	/**
+	 * Collects until the used heap changes by less than a percent between two collections.
+	 */
+	private static long settledHeap() {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		memory.gc();
+		long used = memory.getHeapMemoryUsage().getUsed();
+		for (int i = 0; i < 10; i++) {
+			memory.gc();
+			long current = memory.getHeapMemoryUsage().getUsed();
+			if (Math.abs(current - used) < used / 100) {
+				return current;
+			}
+			used = current;
+		}
+		return used;
+	}
+
+	private static void assertPerEntity(long largeBytes, long largeCount, long smallBytes, long smallCount) {
+		double large = (double) largeBytes / largeCount;
+		double small = (double) smallBytes / smallCount;
+		assertTrue(large > 0, "no bytes estimated per entity");
+		assertTrue(large > small * 0.8 && large < small * 1.25, large + " bytes per entity, fixture has " + small);
+	}
+
+	private static long splits(AccStore store) {
+		return store.transactions().stream().mapToLong(transaction -> transaction.splits().size()).sum();
+	}
+
+	private AccStore load(Path path) {
+		return factory.createComponent(Dependencies.of(Path.class, path));
+	}
+
+	/**
+	 * Copies the fixture and repeats its transactions with fresh IDs.
+	 */
+	private Path scaledCopy(int copies) throws IOException {
+		String xml = Files.readString(source, StandardCharsets.UTF_8);
+		int start = xml.indexOf("<gnc:transaction");
+		int end = xml.lastIndexOf("</gnc:transaction>") + "</gnc:transaction>".length();
+		String transactions = xml.substring(start, end);
+
+		Random random = new Random(42);
+		byte[] guid = new byte[16];
+		StringBuilder builder = new StringBuilder(xml.length() + transactions.length() * copies);
+		builder.append(xml, 0, end);
+		for (int i = 0; i < copies; i++) {
+			Matcher matcher = TRANSACTION_ID.matcher(transactions);
+			StringBuilder copy = new StringBuilder(transactions.length());
+			while (matcher.find()) {
+				random.nextBytes(guid);
+				matcher.appendReplacement(copy, "$1" + HexFormat.of().formatHex(guid) + "$2");
+			}
+			matcher.appendTail(copy);
+			builder.append('\n').append(copy);
+		}
+		builder.append(xml, end, xml.length());
+
+		Path scaled = Files.createTempFile("scaled", ".gnucash");
+		scaled.toFile().deleteOnExit();
+		return Files.writeString(scaled, builder, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,105 @@
+package com.druvu.acc.test;
+
+import com.druvu.acc.api.AccStore;
+import com.druvu.acc.api.entity.Account;
+import com.druvu.acc.api.entity.AccountType;
+import com.druvu.acc.api.entity.Split;
+import com.druvu.acc.api.entity.Transaction;
+import com.druvu.acc.gnucash.api.GnucashBookFactory;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookGenerator;
+import com.druvu.acc.gnucash.synthetic.SyntheticBookSpec;
+import com.druvu.lib.loader.Dependencies;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests that generated books are deterministic and load back with the requested shape.
+ */
+public class TestSyntheticBook {
+
+	private static final SyntheticBookSpec SPEC = SyntheticBookSpec.DEFAULT.toBuilder()
+			.accounts(40)
+			.depth(3)
+			.transactions(500)
+			.splitsPerTransaction(3)
+			.commodities(4)
+			.prices(25)
+			.build();
+
+	private AccStore store;
+
+	@BeforeClass
+	public void setUp() throws IOException {
+		Path path = Files.createTempFile("synthetic", ".gnucash");
+		path.toFile().deleteOnExit();
+		SyntheticBookGenerator.write(SPEC, path);
+		store = new GnucashBookFactory().createComponent(Dependencies.of(Path.class, path));
+	}
+
+	@Test
+	public void testSameSpecProducesSameBytes() throws IOException {
+		assertEquals(generate(SPEC), generate(SPEC));
+		assertNotEquals(generate(SPEC), generate(SPEC.toBuilder().seed(7).build()));
+	}
+
+	@Test
+	public void testCounts() {
+		// root and stock accounts come on top of the requested accounts
+		assertEquals(store.accounts().size(), 1 + SPEC.accounts() + SPEC.commodities());
+		assertEquals(store.transactions().size(), SPEC.transactions());
+		assertEquals(store.commodities().size(), 1 + SPEC.commodities());
+		assertEquals(store.prices().size(), SPEC.prices());
+		store.transactions().forEach(tx -> assertEquals(tx.splits().size(), SPEC.splitsPerTransaction()));
+	}
+
+	@Test
+	public void testTransactionsBalance() {
+		for (Transaction tx : store.transactions()) {
+			BigDecimal sum = tx.splits().stream().map(Split::value).reduce(BigDecimal.ZERO, BigDecimal::add);
+			assertEquals(sum.signum(), 0, "unbalanced " + tx.id());
+		}
+	}
+
+	@Test
+	public void testHierarchyRespectsDepth() {
+		Map<String, Account> byId = store.accounts().stream().collect(Collectors.toMap(Account::id, Function.identity()));
+		for (Account account : store.accounts()) {
+			int level = 0;
+			for (Account current = account; current.parentId().isPresent(); current = byId.get(current.parentId().get())) {
+				level++;
+			}
+			assertTrue(level <= SPEC.depth(), account.name() + " at level " + level);
+		}
+		assertEquals(store.rootAccounts().size(), 1);
+		assertEquals(store.accountByName("Root Account:Assets").orElseThrow().type(), AccountType.ASSET);
+	}
+
+	@Test
+	public void testDatesSpanRequestedRange() {
+		assertEquals(store.transactions().getFirst().datePosted(), SPEC.startDate());
+		assertTrue(store.transactions().getLast().datePosted().isBefore(SPEC.startDate().plusDays(SPEC.days())));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testRejectsSingleSplitTransactions() {
+		SyntheticBookSpec.DEFAULT.toBuilder().splitsPerTransaction(1).build();
+	}
+
+	private static String generate(SyntheticBookSpec spec) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SyntheticBookGenerator.write(spec, out);
+		return out.toString();
+	}
+}